@@ -69,6 +69,34 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
 
   public static final String DEFAULT_JDBC_URL = "jdbc:hive2://127.0.0.1:8081";
 
+  /** Whether to find the managed policies in a local mirror of the Ranger service policies */
+  public static final String RANGER_POLICY_MIRROR_ENABLED =
+      "authorization.ranger.policy-sync.mirror-enabled";
+
+  /** Whether to apply the policy changes to Ranger in background, requires the policy mirror */
+  public static final String RANGER_POLICY_SYNC_ASYNC = "authorization.ranger.policy-sync.async";
+
+  public static final String RANGER_POLICY_SYNC_FLUSH_INTERVAL_MS =
+      "authorization.ranger.policy-sync.flush-interval-ms";
+  public static final long DEFAULT_RANGER_POLICY_SYNC_FLUSH_INTERVAL_MS = 1000L;
+
+  public static final String RANGER_POLICY_SYNC_MAX_RETRIES =
+      "authorization.ranger.policy-sync.max-retries";
+  public static final long DEFAULT_RANGER_POLICY_SYNC_MAX_RETRIES = 3L;
+
+  public static final String RANGER_POLICY_SYNC_RETRY_BACKOFF_MS =
+      "authorization.ranger.policy-sync.retry-backoff-ms";
+  public static final long DEFAULT_RANGER_POLICY_SYNC_RETRY_BACKOFF_MS = 200L;
+
+  public static final String RANGER_POLICY_SYNC_PARALLELISM =
+      "authorization.ranger.policy-sync.parallelism";
+  public static final long DEFAULT_RANGER_POLICY_SYNC_PARALLELISM = 4L;
+
+  /** The interval to reload the policy mirror from Ranger, 0 means only reload on demand */
+  public static final String RANGER_POLICY_RECONCILE_INTERVAL_MS =
+      "authorization.ranger.policy-sync.reconcile-interval-ms";
+  public static final long DEFAULT_RANGER_POLICY_RECONCILE_INTERVAL_MS = 0L;
+
   public RangerAuthorizationProperties(Map<String, String> properties) {
     super(properties);
   }
@@ -111,5 +139,11 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
     Preconditions.checkArgument(
         properties.get(RANGER_SERVICE_NAME) != null,
         String.format(ErrorMessages.MISSING_REQUIRED_ARGUMENT, RANGER_SERVICE_NAME));
+
+    Preconditions.checkArgument(
+        !Boolean.parseBoolean(properties.get(RANGER_POLICY_SYNC_ASYNC))
+            || Boolean.parseBoolean(properties.get(RANGER_POLICY_MIRROR_ENABLED)),
+        String.format(
+            "%s requires %s to be true", RANGER_POLICY_SYNC_ASYNC, RANGER_POLICY_MIRROR_ENABLED));
   }
 }
@@ -142,4 +142,31 @@ public class TestRangerAuthorizationProperties {
           rangerAuthProperties.validate();
         });
   }
+
+  @Test
+  void testRangerPropertiesAsyncPolicySyncWithoutMirror() {
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put("authorization.ranger.auth.type", "simple");
+    properties.put("authorization.ranger.admin.url", "http://localhost:6080");
+    properties.put("authorization.ranger.username", "admin");
+    properties.put("authorization.ranger.password", "admin");
+    properties.put("authorization.ranger.service.type", "hive");
+    properties.put("authorization.ranger.service.name", "hiveDev");
+    properties.put("authorization.ranger.policy-sync.async", "true");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          RangerAuthorizationProperties rangerAuthProperties =
+              new RangerAuthorizationProperties(properties);
+          rangerAuthProperties.validate();
+        });
+
+    properties.put("authorization.ranger.policy-sync.mirror-enabled", "true");
+    Assertions.assertDoesNotThrow(
+        () -> {
+          RangerAuthorizationProperties rangerAuthProperties =
+              new RangerAuthorizationProperties(properties);
+          rangerAuthProperties.validate();
+        });
+  }
 }
@@ -692,7 +692,7 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
   }
 
   @Override
-  public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+  protected Boolean updateMetadata(MetadataObjectChange... changes) {
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObjectChange.RenameMetadataObject renameChange =
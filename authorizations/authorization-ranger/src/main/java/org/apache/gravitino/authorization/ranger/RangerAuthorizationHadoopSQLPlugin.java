@@ -738,7 +738,7 @@ public class RangerAuthorizationHadoopSQLPlugin extends RangerAuthorizationPlugi
   }
 
   @Override
-  public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+  protected Boolean updateMetadata(MetadataObjectChange... changes) {
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -86,6 +86,7 @@ public abstract class RangerAuthorizationPlugin
   protected final String rangerServiceName;
   protected RangerClientExtension rangerClient;
   protected RangerHelper rangerHelper;
+  protected RangerPolicySyncer policySyncer;
   @VisibleForTesting public final String rangerAdminName;
 
   protected RangerAuthorizationPlugin(String metalake, Map<String, String> config) {
@@ -114,6 +115,7 @@ public abstract class RangerAuthorizationPlugin
             rangerServiceName,
             ownerMappingRule(),
             policyResourceDefinesRule());
+    policySyncer = new RangerPolicySyncer(rangerClient, rangerServiceName, config);
   }
 
   @VisibleForTesting
@@ -139,6 +141,24 @@ public abstract class RangerAuthorizationPlugin
   @VisibleForTesting
   public void setRangerClient(RangerClientExtension rangerClient) {
     this.rangerClient = rangerClient;
+    policySyncer.setRangerClient(rangerClient);
+  }
+
+  /**
+   * Get the status of the Ranger policy synchronization, such as the pending and failed changes.
+   *
+   * @return The policy synchronization status.
+   */
+  public RangerPolicySyncer.Status policySyncStatus() {
+    return policySyncer.status();
+  }
+
+  /**
+   * Apply the pending policy changes, and reload the local policy mirror from Ranger to pick up
+   * the policies changed outside Gravitino.
+   */
+  public void reconcilePolicies() {
+    policySyncer.reconcile();
   }
 
   /**
@@ -196,6 +216,10 @@ public abstract class RangerAuthorizationPlugin
   protected RangerPolicy preciseFindPolicy(
       AuthorizationMetadataObject authzMetadataObject, Map<String, String> preciseFilters)
       throws AuthorizationPluginException {
+    if (policySyncer.useMirror()) {
+      return checkManagedPolicy(policySyncer.findPolicies(preciseFilters));
+    }
+
     List<RangerPolicy> policies = wildcardSearchPolicies(authzMetadataObject);
     if (!policies.isEmpty()) {
       policies =
@@ -213,6 +237,11 @@ public abstract class RangerAuthorizationPlugin
                                           .contains(preciseFilters.get(entry.getKey()))))
               .collect(Collectors.toList());
     }
+    return checkManagedPolicy(policies);
+  }
+
+  private RangerPolicy checkManagedPolicy(List<RangerPolicy> policies)
+      throws AuthorizationPluginException {
     // Only return the policies that are managed by Gravitino.
     if (policies.size() > 1) {
       throw new AuthorizationPluginException("Each metadata object can have at most one policy.");
@@ -333,6 +362,10 @@ public abstract class RangerAuthorizationPlugin
   @Override
   public Boolean onRoleUpdated(Role role, RoleChange... changes)
       throws AuthorizationPluginException {
+    return policySyncer.runOperation(() -> doUpdateRole(role, changes));
+  }
+
+  private Boolean doUpdateRole(Role role, RoleChange... changes) {
     for (RoleChange change : changes) {
       if (change instanceof RoleChange.AddSecurableObject) {
         SecurableObject securableObject =
@@ -407,6 +440,17 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    // Renaming and removing metadata objects change the Ranger policies directly
+    return policySyncer.runDirect(() -> updateMetadata(changes));
+  }
+
+  /**
+   * Rename or remove the metadata objects in the Ranger policies.
+   *
+   * @param changes The metadata object changes.
+   * @return True if the changes are applied.
+   */
+  protected Boolean updateMetadata(MetadataObjectChange... changes) {
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -474,7 +518,10 @@ public abstract class RangerAuthorizationPlugin
   public Boolean onOwnerSet(MetadataObject metadataObject, Owner preOwner, Owner newOwner)
       throws AuthorizationPluginException {
     Preconditions.checkArgument(newOwner != null, "The newOwner must be not null");
+    return policySyncer.runOperation(() -> doSetOwner(metadataObject, preOwner, newOwner));
+  }
 
+  private Boolean doSetOwner(MetadataObject metadataObject, Owner preOwner, Owner newOwner) {
     // Add the user or group to the Ranger
     String preOwnerUserName = null,
         preOwnerGroupName = null,
@@ -553,11 +600,10 @@ public abstract class RangerAuthorizationPlugin
               try {
                 if (policy == null) {
                   policy = addOwnerRoleToNewPolicy(rangerSecurableObject, ownerRoleName);
-                  rangerClient.createPolicy(policy);
                 } else {
                   rangerHelper.updatePolicyOwnerRole(policy, ownerRoleName);
-                  rangerClient.updatePolicy(policy.getId(), policy);
                 }
+                policySyncer.submitPolicy(policy);
               } catch (RangerServiceException e) {
                 throw new AuthorizationPluginException(e, "Failed to add the owner to the Ranger!");
               }
@@ -574,11 +620,10 @@ public abstract class RangerAuthorizationPlugin
                   try {
                     if (policy == null) {
                       policy = addOwnerToNewPolicy(AuthorizationSecurableObject, newOwner);
-                      rangerClient.createPolicy(policy);
                     } else {
                       rangerHelper.updatePolicyOwner(policy, preOwner, newOwner);
-                      rangerClient.updatePolicy(policy.getId(), policy);
                     }
+                    policySyncer.submitPolicy(policy);
                   } catch (RangerServiceException e) {
                     throw new AuthorizationPluginException(
                         e, "Failed to add the owner to the Ranger!");
@@ -891,11 +936,7 @@ public abstract class RangerAuthorizationPlugin
 
     rangerHelper.addPolicyItem(policy, roleName, securableObject);
     try {
-      if (policy.getId() == null) {
-        rangerClient.createPolicy(policy);
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
+      policySyncer.submitPolicy(policy);
     } catch (RangerServiceException e) {
       throw new AuthorizationPluginException(
           e, "Failed to add the securable object to the Ranger!");
@@ -962,9 +1003,9 @@ public abstract class RangerAuthorizationPlugin
 
     try {
       if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
-        rangerClient.deletePolicy(policy.getId());
+        policySyncer.deletePolicy(policy);
       } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
+        policySyncer.submitPolicy(policy);
       }
     } catch (RangerServiceException e) {
       LOG.error("Failed to remove the policy item from the Ranger policy {}!", policy);
@@ -1040,7 +1081,9 @@ public abstract class RangerAuthorizationPlugin
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    policySyncer.close();
+  }
 
   /**
    * Generate authorization securable object.
@@ -0,0 +1,823 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.gravitino.authorization.common.RangerAuthorizationProperties;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Synchronizes the policy changes of the Ranger authorization plugin to Ranger. <br>
+ * 1. If the policy mirror is enabled, the Ranger policies of the service are loaded once and
+ * indexed by their resource values, so finding the managed policy of a metadata object doesn't
+ * search Ranger. <br>
+ * 2. Policy changes are queued per resource. Changes to the same resource are coalesced, so only
+ * the latest state of a policy is sent to Ranger. <br>
+ * 3. The queued changes are applied in bulk, at the end of each authorization operation or by a
+ * background thread in asynchronous mode. Failed requests are retried with a backoff. In
+ * synchronous mode a change failing after retries fails the operation which submitted it and is
+ * dropped, otherwise it's applied again by the next few flushes before it's dropped. <br>
+ * 4. The mirror is reloaded from Ranger after a failed change, after metadata objects are renamed
+ * or removed, and periodically in reconciliation mode. <br>
+ * The policy operations are serialized while the mirror is enabled, because they share the
+ * mirrored policy objects. If the mirror is disabled, every change is sent to Ranger immediately.
+ */
+public class RangerPolicySyncer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerPolicySyncer.class);
+  private static final Joiner.MapJoiner RESOURCE_KEY_JOINER =
+      Joiner.on('\u0000').withKeyValueSeparator("\u0001");
+  // The number of flushes a change not owned by an operation may fail before it's dropped.
+  @VisibleForTesting static final int MAX_FLUSH_ATTEMPTS = 3;
+  private static final long NO_OPERATION = 0L;
+
+  private RangerClientExtension rangerClient;
+  private final String rangerServiceName;
+  private final boolean mirrorEnabled;
+  private final boolean async;
+  private final int maxRetries;
+  private final long retryBackoffMs;
+
+  private final ReentrantLock operationLock = new ReentrantLock();
+  private final Map<String, RangerPolicy> mirror = new HashMap<>();
+  private final Map<String, PolicyChange> pendingChanges = new LinkedHashMap<>();
+  private boolean mirrorStale = true;
+  private boolean mirrorSuspended = false;
+  // The synchronous operation running under the operation lock, which owns the changes it submits.
+  private long lastOperation = NO_OPERATION;
+  private long currentOperation = NO_OPERATION;
+
+  private final ExecutorService applyExecutor;
+  private final ScheduledExecutorService syncScheduler;
+
+  private final AtomicLong submittedChanges = new AtomicLong();
+  private final AtomicLong coalescedChanges = new AtomicLong();
+  private final AtomicLong appliedChanges = new AtomicLong();
+  private final AtomicLong failedChanges = new AtomicLong();
+  private final AtomicLong droppedChanges = new AtomicLong();
+  private final AtomicLong retriedRequests = new AtomicLong();
+  private final AtomicLong reconciliations = new AtomicLong();
+  private volatile String lastError;
+  private volatile long lastFlushTime;
+  private volatile long lastReconcileTime;
+
+  public RangerPolicySyncer(
+      RangerClientExtension rangerClient, String rangerServiceName, Map<String, String> config) {
+    this(
+        rangerClient,
+        rangerServiceName,
+        Boolean.parseBoolean(
+            config.getOrDefault(
+                RangerAuthorizationProperties.RANGER_POLICY_MIRROR_ENABLED, "false")),
+        Boolean.parseBoolean(
+            config.getOrDefault(RangerAuthorizationProperties.RANGER_POLICY_SYNC_ASYNC, "false")),
+        longConf(
+            config,
+            RangerAuthorizationProperties.RANGER_POLICY_SYNC_FLUSH_INTERVAL_MS,
+            RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_FLUSH_INTERVAL_MS),
+        (int)
+            longConf(
+                config,
+                RangerAuthorizationProperties.RANGER_POLICY_SYNC_MAX_RETRIES,
+                RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_MAX_RETRIES),
+        longConf(
+            config,
+            RangerAuthorizationProperties.RANGER_POLICY_SYNC_RETRY_BACKOFF_MS,
+            RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_RETRY_BACKOFF_MS),
+        (int)
+            longConf(
+                config,
+                RangerAuthorizationProperties.RANGER_POLICY_SYNC_PARALLELISM,
+                RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_SYNC_PARALLELISM),
+        longConf(
+            config,
+            RangerAuthorizationProperties.RANGER_POLICY_RECONCILE_INTERVAL_MS,
+            RangerAuthorizationProperties.DEFAULT_RANGER_POLICY_RECONCILE_INTERVAL_MS));
+  }
+
+  @VisibleForTesting
+  RangerPolicySyncer(
+      RangerClientExtension rangerClient,
+      String rangerServiceName,
+      boolean mirrorEnabled,
+      boolean async,
+      long flushIntervalMs,
+      int maxRetries,
+      long retryBackoffMs,
+      int parallelism,
+      long reconcileIntervalMs) {
+    Preconditions.checkArgument(
+        mirrorEnabled || !async, "The asynchronous policy sync requires the policy mirror");
+    Preconditions.checkArgument(flushIntervalMs > 0, "The flush interval must be positive");
+    Preconditions.checkArgument(maxRetries >= 0, "The max retries must not be negative");
+    Preconditions.checkArgument(retryBackoffMs >= 0, "The retry backoff must not be negative");
+    Preconditions.checkArgument(parallelism > 0, "The sync parallelism must be positive");
+    this.rangerClient = rangerClient;
+    this.rangerServiceName = rangerServiceName;
+    this.mirrorEnabled = mirrorEnabled;
+    this.async = async;
+    this.maxRetries = maxRetries;
+    this.retryBackoffMs = retryBackoffMs;
+
+    this.applyExecutor =
+        mirrorEnabled && parallelism > 1
+            ? Executors.newFixedThreadPool(parallelism, threadFactory("ranger-policy-apply-%d"))
+            : null;
+    if (mirrorEnabled && (async || reconcileIntervalMs > 0)) {
+      this.syncScheduler =
+          Executors.newSingleThreadScheduledExecutor(threadFactory("ranger-policy-sync-%d"));
+      if (async) {
+        syncScheduler.scheduleWithFixedDelay(
+            this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+      }
+      if (reconcileIntervalMs > 0) {
+        syncScheduler.scheduleWithFixedDelay(
+            this::reconcileQuietly,
+            reconcileIntervalMs,
+            reconcileIntervalMs,
+            TimeUnit.MILLISECONDS);
+      }
+    } else {
+      this.syncScheduler = null;
+    }
+  }
+
+  void setRangerClient(RangerClientExtension rangerClient) {
+    this.rangerClient = rangerClient;
+  }
+
+  /** @return Whether the managed policies should be found in the local mirror. */
+  public boolean useMirror() {
+    return mirrorEnabled && !mirrorSuspended;
+  }
+
+  /**
+   * Run an operation that reads and changes Ranger policies through this syncer. In synchronous
+   * mode the queued changes are applied to Ranger before this method returns, and the operation
+   * fails if the changes it submitted fail to apply. Those changes are dropped, so a failed
+   * operation isn't applied by a later flush.
+   *
+   * @param operation The authorization operation.
+   * @return The result of the operation.
+   */
+  public <T> T runOperation(Supplier<T> operation) {
+    if (!mirrorEnabled) {
+      return operation.get();
+    }
+
+    operationLock.lock();
+    long outerOperation = currentOperation;
+    long operationId = async ? NO_OPERATION : ++lastOperation;
+    currentOperation = operationId;
+    try {
+      T result;
+      try {
+        result = operation.get();
+      } catch (RuntimeException e) {
+        // The mirrored policies may have been changed without being submitted
+        if (!async) {
+          try {
+            flush(operationId);
+          } catch (RuntimeException flushError) {
+            LOG.warn("Failed to flush the Ranger policy changes", flushError);
+          }
+        }
+        mirrorStale = true;
+        throw e;
+      }
+      if (!async) {
+        flush(operationId);
+      }
+      return result;
+    } finally {
+      currentOperation = outerOperation;
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Run an operation that changes Ranger policies directly, such as renaming or removing metadata
+   * objects. The queued changes are applied before the operation, the mirror isn't used during the
+   * operation and is reloaded afterward.
+   *
+   * @param operation The authorization operation.
+   * @return The result of the operation.
+   */
+  public <T> T runDirect(Supplier<T> operation) {
+    if (!mirrorEnabled) {
+      return operation.get();
+    }
+
+    operationLock.lock();
+    try {
+      // The changes of other operations failing to apply don't fail this operation
+      flushQuietly();
+      mirrorSuspended = true;
+      return operation.get();
+    } finally {
+      mirrorSuspended = false;
+      mirrorStale = true;
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Find the mirrored policies whose resources all have a single value which equals the value of
+   * the same resource in the filters. It's the same matching rule as the precise search of the
+   * Ranger authorization plugin.
+   *
+   * @param preciseFilters The resource values of the metadata object.
+   * @return The matched policies.
+   */
+  public List<RangerPolicy> findPolicies(Map<String, String> preciseFilters) {
+    Preconditions.checkState(useMirror(), "The Ranger policy mirror is not in use");
+    Preconditions.checkArgument(
+        preciseFilters.size() < Integer.SIZE, "Too many resources in the precise filters");
+    operationLock.lock();
+    try {
+      loadMirrorIfStale();
+      List<String> resourceNames = new ArrayList<>(preciseFilters.keySet());
+      List<RangerPolicy> policies = new ArrayList<>();
+      // A matched policy's resources are a subset of the filters, and there are only a few
+      // resource defines, so we look up each subset.
+      for (int mask = 1; mask < (1 << resourceNames.size()); mask++) {
+        Map<String, String> resources = new TreeMap<>();
+        for (int i = 0; i < resourceNames.size(); i++) {
+          if ((mask & (1 << i)) != 0) {
+            resources.put(resourceNames.get(i), preciseFilters.get(resourceNames.get(i)));
+          }
+        }
+        RangerPolicy policy = mirror.get(RESOURCE_KEY_JOINER.join(resources));
+        if (policy != null) {
+          policies.add(policy);
+        }
+      }
+      return policies;
+    } finally {
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Create or update the policy in Ranger. The change is queued if the mirror is enabled, otherwise
+   * it's sent to Ranger immediately.
+   *
+   * @param policy The policy to create if it doesn't have an ID, or to update.
+   * @throws RangerServiceException If the change is sent immediately and fails.
+   */
+  public void submitPolicy(RangerPolicy policy) throws RangerServiceException {
+    submittedChanges.incrementAndGet();
+    String key = resourceKey(policy);
+    if (!mirrorEnabled || key == null) {
+      applyWithRetry(PolicyChange.upsert(key, policy));
+      return;
+    }
+
+    operationLock.lock();
+    try {
+      enqueue(PolicyChange.upsert(key, policy));
+      mirror.put(key, policy);
+    } finally {
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Delete the policy in Ranger. The change is queued if the mirror is enabled, otherwise it's sent
+   * to Ranger immediately.
+   *
+   * @param policy The policy to delete.
+   * @throws RangerServiceException If the change is sent immediately and fails.
+   */
+  public void deletePolicy(RangerPolicy policy) throws RangerServiceException {
+    submittedChanges.incrementAndGet();
+    String key = resourceKey(policy);
+    if (!mirrorEnabled || key == null) {
+      applyWithRetry(PolicyChange.delete(key, policy));
+      return;
+    }
+
+    operationLock.lock();
+    try {
+      mirror.remove(key);
+      if (policy.getId() == null) {
+        // The policy is created and deleted before it's sent to Ranger
+        if (pendingChanges.remove(key) != null) {
+          coalescedChanges.incrementAndGet();
+        }
+        return;
+      }
+      enqueue(PolicyChange.delete(key, policy));
+    } finally {
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Apply the queued policy changes to Ranger. The changes failing after retries stay in the queue
+   * and are applied again by the next flush, until they have failed {@code MAX_FLUSH_ATTEMPTS}
+   * flushes.
+   *
+   * @throws AuthorizationPluginException If some changes still fail after retries.
+   */
+  public void flush() throws AuthorizationPluginException {
+    flush(NO_OPERATION);
+  }
+
+  /**
+   * Apply the queued policy changes to Ranger on behalf of an operation. The failed changes owned
+   * by the operation are dropped and reported to it, the failed changes of others are kept in the
+   * queue until they have failed {@code MAX_FLUSH_ATTEMPTS} flushes.
+   *
+   * @param operationId The operation, or {@code NO_OPERATION} to report every failed change.
+   * @throws AuthorizationPluginException If some changes to report still fail after retries.
+   */
+  private void flush(long operationId) throws AuthorizationPluginException {
+    if (!mirrorEnabled) {
+      return;
+    }
+
+    operationLock.lock();
+    try {
+      if (pendingChanges.isEmpty()) {
+        return;
+      }
+      List<PolicyChange> changes = new ArrayList<>(pendingChanges.values());
+
+      // The queue can't change during the flush since it's guarded by the operation lock, so the
+      // applied changes are removed by key.
+      List<PolicyChange> failures = new ArrayList<>();
+      if (applyExecutor == null || changes.size() == 1) {
+        for (PolicyChange change : changes) {
+          if (applyQuietly(change)) {
+            pendingChanges.remove(change.key);
+          } else {
+            failures.add(change);
+          }
+        }
+      } else {
+        List<Future<Boolean>> futures = new ArrayList<>(changes.size());
+        for (PolicyChange change : changes) {
+          futures.add(applyExecutor.submit(() -> applyQuietly(change)));
+        }
+        for (int i = 0; i < changes.size(); i++) {
+          if (waitFor(futures.get(i))) {
+            pendingChanges.remove(changes.get(i).key);
+          } else {
+            failures.add(changes.get(i));
+          }
+        }
+      }
+      lastFlushTime = System.currentTimeMillis();
+      if (failures.isEmpty()) {
+        return;
+      }
+
+      // Reload the mirror to get the state of the failed policies in Ranger
+      mirrorStale = true;
+      int reportedFailures = 0;
+      for (PolicyChange change : failures) {
+        if (operationId == NO_OPERATION || change.owner == operationId) {
+          reportedFailures++;
+        }
+        if (operationId != NO_OPERATION && change.owner == operationId) {
+          // The failure is reported to the operation which submitted the change
+          pendingChanges.remove(change.key);
+        } else if (++change.failedFlushes >= MAX_FLUSH_ATTEMPTS) {
+          pendingChanges.remove(change.key);
+          droppedChanges.incrementAndGet();
+          LOG.error(
+              "Dropped the change of policy {} after {} failed flushes",
+              change.policy.getName(),
+              change.failedFlushes);
+        }
+      }
+      if (reportedFailures > 0) {
+        throw new AuthorizationPluginException(
+            "Failed to sync %d of %d policies to Ranger, last error: %s",
+            reportedFailures, changes.size(), lastError);
+      }
+    } finally {
+      operationLock.unlock();
+    }
+  }
+
+  /**
+   * Apply the queued policy changes and reload the mirror from Ranger, so the changes made outside
+   * Gravitino are visible to the plugin.
+   */
+  public void reconcile() {
+    if (!mirrorEnabled) {
+      return;
+    }
+
+    operationLock.lock();
+    try {
+      mirrorStale = true;
+      loadMirrorIfStale();
+    } finally {
+      operationLock.unlock();
+    }
+  }
+
+  /** @return The status of the policy synchronization. */
+  public Status status() {
+    int pending;
+    int mirrored;
+    operationLock.lock();
+    try {
+      pending = pendingChanges.size();
+      mirrored = mirror.size();
+    } finally {
+      operationLock.unlock();
+    }
+    return new Status(
+        mirrorEnabled,
+        async,
+        pending,
+        mirrored,
+        submittedChanges.get(),
+        coalescedChanges.get(),
+        appliedChanges.get(),
+        failedChanges.get(),
+        droppedChanges.get(),
+        retriedRequests.get(),
+        reconciliations.get(),
+        lastFlushTime,
+        lastReconcileTime,
+        lastError);
+  }
+
+  @Override
+  public void close() {
+    if (syncScheduler != null) {
+      syncScheduler.shutdownNow();
+    }
+    flushQuietly();
+    if (applyExecutor != null) {
+      applyExecutor.shutdownNow();
+    }
+  }
+
+  @VisibleForTesting
+  static String resourceKey(RangerPolicy policy) {
+    if (policy.getResources() == null || policy.getResources().isEmpty()) {
+      return null;
+    }
+    Map<String, String> resources = new TreeMap<>();
+    for (Map.Entry<String, RangerPolicy.RangerPolicyResource> entry :
+        policy.getResources().entrySet()) {
+      List<String> values = entry.getValue().getValues();
+      if (values == null || values.size() != 1) {
+        // The policy can't be found by precise filters, so it isn't indexed
+        return null;
+      }
+      resources.put(entry.getKey(), values.get(0));
+    }
+    return RESOURCE_KEY_JOINER.join(resources);
+  }
+
+  private void enqueue(PolicyChange change) {
+    PolicyChange previous = pendingChanges.get(change.key);
+    if (previous != null) {
+      coalescedChanges.incrementAndGet();
+      if (previous.delete && !change.delete && change.policy.getId() == null) {
+        // The policy of the resource is deleted and created again. Ranger rejects the creation
+        // while the old policy exists, so the old policy is updated to the new one instead.
+        change.policy.setId(previous.policy.getId());
+      }
+    }
+    change.owner = currentOperation;
+    // The coalesced change keeps the queue position of the first change of the policy
+    pendingChanges.put(change.key, change);
+  }
+
+  private void loadMirrorIfStale() {
+    if (!mirrorStale) {
+      return;
+    }
+
+    // The changes failing to apply are kept in the queue and laid over the reloaded policies, so
+    // they don't block reloading the mirror.
+    flushQuietly();
+    List<RangerPolicy> policies;
+    try {
+      policies = rangerClient.getPoliciesInService(rangerServiceName);
+    } catch (RangerServiceException e) {
+      throw new AuthorizationPluginException(
+          e, "Failed to load the policies of Ranger service %s", rangerServiceName);
+    }
+    mirror.clear();
+    for (RangerPolicy policy : policies) {
+      String key = resourceKey(policy);
+      if (key != null) {
+        mirror.put(key, policy);
+      }
+    }
+    for (PolicyChange change : pendingChanges.values()) {
+      if (change.delete) {
+        mirror.remove(change.key);
+      } else {
+        mirror.put(change.key, change.policy);
+      }
+    }
+    mirrorStale = false;
+    reconciliations.incrementAndGet();
+    lastReconcileTime = System.currentTimeMillis();
+    LOG.info("Loaded {} policies of Ranger service {}", mirror.size(), rangerServiceName);
+  }
+
+  private boolean applyQuietly(PolicyChange change) {
+    try {
+      applyWithRetry(change);
+      return true;
+    } catch (RangerServiceException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  private void applyWithRetry(PolicyChange change) throws RangerServiceException {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        apply(change);
+        appliedChanges.incrementAndGet();
+        return;
+      } catch (RangerServiceException | RuntimeException e) {
+        if (attempt >= maxRetries) {
+          failedChanges.incrementAndGet();
+          lastError = e.getMessage();
+          LOG.error("Failed to sync the policy {} to Ranger!", change.policy.getName(), e);
+          throw e;
+        }
+        retriedRequests.incrementAndGet();
+        LOG.warn(
+            "Failed to sync the policy {} to Ranger, retry {} of {}",
+            change.policy.getName(),
+            attempt + 1,
+            maxRetries,
+            e);
+        sleep(retryBackoffMs * (attempt + 1));
+      }
+    }
+  }
+
+  private void apply(PolicyChange change) throws RangerServiceException {
+    RangerPolicy policy = change.policy;
+    if (change.delete) {
+      rangerClient.deletePolicy(policy.getId());
+    } else if (policy.getId() == null) {
+      RangerPolicy created = rangerClient.createPolicy(policy);
+      if (created != null) {
+        // Later changes of the mirrored policy are updates
+        policy.setId(created.getId());
+      }
+    } else {
+      rangerClient.updatePolicy(policy.getId(), policy);
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to flush the Ranger policy changes", e);
+    }
+  }
+
+  private void reconcileQuietly() {
+    try {
+      reconcile();
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to reconcile the policies of Ranger service {}", rangerServiceName, e);
+    }
+  }
+
+  private static boolean waitFor(Future<Boolean> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException e) {
+      return false;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static long longConf(Map<String, String> config, String key, long defaultValue) {
+    String value = config.get(key);
+    return value == null ? defaultValue : Long.parseLong(value.trim());
+  }
+
+  private static ThreadFactory threadFactory(String nameFormat) {
+    return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(nameFormat).build();
+  }
+
+  private static class PolicyChange {
+    private final String key;
+    private final RangerPolicy policy;
+    private final boolean delete;
+    // The synchronous operation which submitted the change, or NO_OPERATION.
+    private long owner = NO_OPERATION;
+    private int failedFlushes;
+
+    private PolicyChange(String key, RangerPolicy policy, boolean delete) {
+      this.key = key;
+      this.policy = policy;
+      this.delete = delete;
+    }
+
+    static PolicyChange upsert(String key, RangerPolicy policy) {
+      return new PolicyChange(key, policy, false);
+    }
+
+    static PolicyChange delete(String key, RangerPolicy policy) {
+      return new PolicyChange(key, policy, true);
+    }
+  }
+
+  /** The status of the Ranger policy synchronization. */
+  public static class Status {
+    private final boolean mirrorEnabled;
+    private final boolean async;
+    private final int pendingChanges;
+    private final int mirroredPolicies;
+    private final long submittedChanges;
+    private final long coalescedChanges;
+    private final long appliedChanges;
+    private final long failedChanges;
+    private final long droppedChanges;
+    private final long retriedRequests;
+    private final long reconciliations;
+    private final long lastFlushTime;
+    private final long lastReconcileTime;
+    private final String lastError;
+
+    Status(
+        boolean mirrorEnabled,
+        boolean async,
+        int pendingChanges,
+        int mirroredPolicies,
+        long submittedChanges,
+        long coalescedChanges,
+        long appliedChanges,
+        long failedChanges,
+        long droppedChanges,
+        long retriedRequests,
+        long reconciliations,
+        long lastFlushTime,
+        long lastReconcileTime,
+        String lastError) {
+      this.mirrorEnabled = mirrorEnabled;
+      this.async = async;
+      this.pendingChanges = pendingChanges;
+      this.mirroredPolicies = mirroredPolicies;
+      this.submittedChanges = submittedChanges;
+      this.coalescedChanges = coalescedChanges;
+      this.appliedChanges = appliedChanges;
+      this.failedChanges = failedChanges;
+      this.droppedChanges = droppedChanges;
+      this.retriedRequests = retriedRequests;
+      this.reconciliations = reconciliations;
+      this.lastFlushTime = lastFlushTime;
+      this.lastReconcileTime = lastReconcileTime;
+      this.lastError = lastError;
+    }
+
+    public boolean mirrorEnabled() {
+      return mirrorEnabled;
+    }
+
+    public boolean async() {
+      return async;
+    }
+
+    /** @return The number of queued policy changes that are not sent to Ranger yet. */
+    public int pendingChanges() {
+      return pendingChanges;
+    }
+
+    /** @return The number of policies in the local mirror. */
+    public int mirroredPolicies() {
+      return mirroredPolicies;
+    }
+
+    public long submittedChanges() {
+      return submittedChanges;
+    }
+
+    /** @return The number of changes replaced by a later change of the same policy. */
+    public long coalescedChanges() {
+      return coalescedChanges;
+    }
+
+    public long appliedChanges() {
+      return appliedChanges;
+    }
+
+    public long failedChanges() {
+      return failedChanges;
+    }
+
+    /** @return The number of failed changes dropped without being applied to Ranger. */
+    public long droppedChanges() {
+      return droppedChanges;
+    }
+
+    public long retriedRequests() {
+      return retriedRequests;
+    }
+
+    /** @return The number of times the mirror was loaded from Ranger. */
+    public long reconciliations() {
+      return reconciliations;
+    }
+
+    public long lastFlushTime() {
+      return lastFlushTime;
+    }
+
+    public long lastReconcileTime() {
+      return lastReconcileTime;
+    }
+
+    public String lastError() {
+      return lastError;
+    }
+
+    @Override
+    public String toString() {
+      return "RangerPolicySyncStatus{mirrorEnabled="
+          + mirrorEnabled
+          + ", async="
+          + async
+          + ", pendingChanges="
+          + pendingChanges
+          + ", mirroredPolicies="
+          + mirroredPolicies
+          + ", submittedChanges="
+          + submittedChanges
+          + ", coalescedChanges="
+          + coalescedChanges
+          + ", appliedChanges="
+          + appliedChanges
+          + ", failedChanges="
+          + failedChanges
+          + ", droppedChanges="
+          + droppedChanges
+          + ", retriedRequests="
+          + retriedRequests
+          + ", reconciliations="
+          + reconciliations
+          + ", lastError="
+          + lastError
+          + "}";
+    }
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestRangerPolicySyncer {
+  private static final String SERVICE_NAME = "hiveDev";
+
+  private RangerClientExtension rangerClient;
+  private AtomicLong nextPolicyId;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    rangerClient = mock(RangerClientExtension.class);
+    nextPolicyId = new AtomicLong(100L);
+    when(rangerClient.getPoliciesInService(SERVICE_NAME)).thenReturn(Collections.emptyList());
+    when(rangerClient.createPolicy(any()))
+        .thenAnswer(
+            invocation -> {
+              RangerPolicy created = new RangerPolicy();
+              created.setId(nextPolicyId.getAndIncrement());
+              return created;
+            });
+  }
+
+  @Test
+  public void testCoalesceChanges() throws Exception {
+    RangerPolicySyncer syncer = newSyncer(true, 0);
+    RangerPolicy db1 = newPolicy(null, ImmutableMap.of("database", "db1"));
+    RangerPolicy db2 = newPolicy(null, ImmutableMap.of("database", "db2"));
+
+    syncer.runOperation(
+        () -> {
+          try {
+            syncer.submitPolicy(db1);
+            syncer.submitPolicy(db2);
+            syncer.submitPolicy(db1);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          Assertions.assertEquals(2, syncer.status().pendingChanges());
+          return true;
+        });
+
+    verify(rangerClient, times(2)).createPolicy(any());
+    Assertions.assertEquals(100L, db1.getId());
+    Assertions.assertEquals(101L, db2.getId());
+
+    RangerPolicySyncer.Status status = syncer.status();
+    Assertions.assertEquals(0, status.pendingChanges());
+    Assertions.assertEquals(3, status.submittedChanges());
+    Assertions.assertEquals(1, status.coalescedChanges());
+    Assertions.assertEquals(2, status.appliedChanges());
+
+    // The created policy is updated by the next change
+    syncer.runOperation(
+        () -> {
+          try {
+            syncer.submitPolicy(db1);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          return true;
+        });
+    verify(rangerClient).updatePolicy(eq(100L), eq(db1));
+    syncer.close();
+  }
+
+  @Test
+  public void testFindPoliciesInMirror() throws Exception {
+    RangerPolicy schemaPolicy = newPolicy(1L, ImmutableMap.of("database", "db1"));
+    RangerPolicy tablePolicy = newPolicy(2L, ImmutableMap.of("database", "db1", "table", "tab1"));
+    RangerPolicy otherPolicy = newPolicy(3L, ImmutableMap.of("database", "db1", "table", "tab2"));
+    when(rangerClient.getPoliciesInService(SERVICE_NAME))
+        .thenReturn(Lists.newArrayList(schemaPolicy, tablePolicy, otherPolicy));
+
+    RangerPolicySyncer syncer = newSyncer(true, 0);
+    Map<String, String> filters = new HashMap<>();
+    filters.put("database", "db1");
+    filters.put("table", "tab1");
+    List<RangerPolicy> policies = syncer.findPolicies(filters);
+    Assertions.assertEquals(2, policies.size());
+    Assertions.assertTrue(policies.contains(schemaPolicy));
+    Assertions.assertTrue(policies.contains(tablePolicy));
+
+    Assertions.assertTrue(syncer.findPolicies(ImmutableMap.of("database", "db2")).isEmpty());
+    // The mirror is loaded once
+    verify(rangerClient, times(1)).getPoliciesInService(SERVICE_NAME);
+    Assertions.assertEquals(3, syncer.status().mirroredPolicies());
+
+    syncer.reconcile();
+    verify(rangerClient, times(2)).getPoliciesInService(SERVICE_NAME);
+    Assertions.assertEquals(2, syncer.status().reconciliations());
+    syncer.close();
+  }
+
+  @Test
+  public void testDeleteUnsentPolicy() throws Exception {
+    RangerPolicySyncer syncer = newSyncer(true, 0);
+    RangerPolicy policy = newPolicy(null, ImmutableMap.of("database", "db1"));
+    syncer.runOperation(
+        () -> {
+          try {
+            syncer.submitPolicy(policy);
+            syncer.deletePolicy(policy);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          return true;
+        });
+
+    verify(rangerClient, never()).createPolicy(any());
+    verify(rangerClient, never()).deletePolicy(anyLong());
+    Assertions.assertTrue(syncer.findPolicies(ImmutableMap.of("database", "db1")).isEmpty());
+    syncer.close();
+  }
+
+  @Test
+  public void testDeleteAndRecreatePolicy() throws Exception {
+    RangerPolicy oldPolicy = newPolicy(1L, ImmutableMap.of("database", "db1"));
+    RangerPolicy newPolicy = newPolicy(null, ImmutableMap.of("database", "db1"));
+    when(rangerClient.getPoliciesInService(SERVICE_NAME))
+        .thenReturn(Lists.newArrayList(oldPolicy));
+
+    RangerPolicySyncer syncer = newSyncer(true, 0);
+    syncer.runOperation(
+        () -> {
+          try {
+            Assertions.assertEquals(
+                Lists.newArrayList(oldPolicy),
+                syncer.findPolicies(ImmutableMap.of("database", "db1")));
+            syncer.deletePolicy(oldPolicy);
+            syncer.submitPolicy(newPolicy);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          return true;
+        });
+
+    // The old policy is replaced by an update, since Ranger rejects creating a second policy
+    verify(rangerClient).updatePolicy(eq(1L), eq(newPolicy));
+    verify(rangerClient, never()).createPolicy(any());
+    verify(rangerClient, never()).deletePolicy(anyLong());
+    Assertions.assertEquals(1L, newPolicy.getId());
+    Assertions.assertEquals(0, syncer.status().pendingChanges());
+    syncer.close();
+  }
+
+  @Test
+  public void testRetryAndFailure() throws Exception {
+    RangerPolicy policy = newPolicy(1L, ImmutableMap.of("database", "db1"));
+    when(rangerClient.updatePolicy(anyLong(), any()))
+        .thenThrow(new IllegalStateException("Ranger is unavailable"))
+        .thenReturn(policy);
+
+    RangerPolicySyncer syncer = newSyncer(true, 2);
+    Assertions.assertTrue(syncer.findPolicies(ImmutableMap.of("database", "db1")).isEmpty());
+    syncer.runOperation(
+        () -> {
+          try {
+            syncer.submitPolicy(policy);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          return true;
+        });
+    Assertions.assertEquals(1, syncer.status().retriedRequests());
+    Assertions.assertEquals(1, syncer.status().appliedChanges());
+
+    when(rangerClient.updatePolicy(anyLong(), any()))
+        .thenThrow(new IllegalStateException("Ranger is unavailable"));
+    Assertions.assertThrows(
+        AuthorizationPluginException.class,
+        () ->
+            syncer.runOperation(
+                () -> {
+                  try {
+                    syncer.submitPolicy(policy);
+                  } catch (Exception e) {
+                    throw new RuntimeException(e);
+                  }
+                  return true;
+                }));
+    RangerPolicySyncer.Status status = syncer.status();
+    Assertions.assertEquals(1, status.failedChanges());
+    Assertions.assertEquals(3, status.retriedRequests());
+    Assertions.assertEquals("Ranger is unavailable", status.lastError());
+    // The failure is reported to the operation, so its change isn't applied by a later flush
+    Assertions.assertEquals(0, status.pendingChanges());
+    Assertions.assertEquals(0, status.droppedChanges());
+
+    // The mirror is reloaded after the failure and reflects the policies in Ranger
+    Assertions.assertTrue(syncer.findPolicies(ImmutableMap.of("database", "db1")).isEmpty());
+    verify(rangerClient, times(2)).getPoliciesInService(anyString());
+    syncer.close();
+  }
+
+  @Test
+  public void testFailedChangeOfOthersIsDroppedAfterMaxAttempts() throws Exception {
+    RangerPolicy failing = newPolicy(1L, ImmutableMap.of("database", "db1"));
+    RangerPolicy other = newPolicy(null, ImmutableMap.of("database", "db2"));
+    when(rangerClient.updatePolicy(anyLong(), any()))
+        .thenThrow(new IllegalStateException("Ranger is unavailable"));
+
+    // The change isn't submitted by an operation, so no operation owns its failure
+    RangerPolicySyncer syncer = newSyncer(true, 0);
+    syncer.submitPolicy(failing);
+    syncer.runOperation(
+        () -> {
+          try {
+            syncer.submitPolicy(other);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+          return true;
+        });
+    verify(rangerClient).createPolicy(other);
+    Assertions.assertEquals(1, syncer.status().pendingChanges());
+
+    for (int i = 1; i < RangerPolicySyncer.MAX_FLUSH_ATTEMPTS; i++) {
+      Assertions.assertThrows(AuthorizationPluginException.class, syncer::flush);
+    }
+    RangerPolicySyncer.Status status = syncer.status();
+    Assertions.assertEquals(0, status.pendingChanges());
+    Assertions.assertEquals(1, status.droppedChanges());
+    verify(rangerClient, times(RangerPolicySyncer.MAX_FLUSH_ATTEMPTS)).updatePolicy(eq(1L), any());
+
+    syncer.flush();
+    syncer.close();
+  }
+
+  @Test
+  public void testMirrorDisabled() throws Exception {
+    RangerPolicySyncer syncer =
+        new RangerPolicySyncer(rangerClient, SERVICE_NAME, false, false, 1000L, 0, 0L, 1, 0L);
+    RangerPolicy policy = newPolicy(1L, ImmutableMap.of("database", "db1"));
+    syncer.submitPolicy(policy);
+    verify(rangerClient).updatePolicy(eq(1L), eq(policy));
+    Assertions.assertFalse(syncer.useMirror());
+    Assertions.assertEquals(1, syncer.status().appliedChanges());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new RangerPolicySyncer(rangerClient, SERVICE_NAME, false, true, 1000L, 0, 0L, 1, 0L));
+    syncer.close();
+  }
+
+  private RangerPolicySyncer newSyncer(boolean mirrorEnabled, int maxRetries) {
+    return new RangerPolicySyncer(
+        rangerClient, SERVICE_NAME, mirrorEnabled, false, 1000L, maxRetries, 0L, 1, 0L);
+  }
+
+  private static RangerPolicy newPolicy(Long id, Map<String, String> resources) {
+    RangerPolicy policy = new RangerPolicy();
+    policy.setId(id);
+    policy.setService(SERVICE_NAME);
+    policy.setName(String.join(".", resources.values()));
+    Map<String, RangerPolicy.RangerPolicyResource> policyResources = new HashMap<>();
+    resources.forEach(
+        (name, value) -> policyResources.put(name, new RangerPolicy.RangerPolicyResource(value)));
+    policy.setResources(policyResources);
+    return policy;
+  }
+}
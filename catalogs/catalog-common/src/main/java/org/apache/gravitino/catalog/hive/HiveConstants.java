@@ -25,6 +25,7 @@ public class HiveConstants {
   public static final String CLIENT_POOL_SIZE = "client.pool-size";
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       "client.pool-cache.eviction-interval-ms";
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUT_MS = "client.pool-acquire-timeout-ms";
   public static final String IMPERSONATION_ENABLE = "impersonation-enable";
   public static final String KEY_TAB_URI = "kerberos.keytab-uri";
   public static final String PRINCIPAL = "kerberos.principal";
@@ -73,6 +73,8 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_BATCH_SIZE = "metricsBatchSize";
+  public static final String ICEBERG_METRICS_BATCH_INTERVAL_MS = "metricsBatchIntervalMs";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
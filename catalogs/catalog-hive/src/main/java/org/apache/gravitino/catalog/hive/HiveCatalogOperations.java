@@ -51,6 +51,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
@@ -70,6 +71,8 @@ import org.apache.gravitino.hive.CachedClientPool;
 import org.apache.gravitino.hive.HiveSchema;
 import org.apache.gravitino.hive.HiveTable;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.HiveCatalogMetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -101,6 +104,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private String catalogName;
 
+  private HiveCatalogMetricsSource catalogMetricsSource;
+
   private boolean listAllTables = true;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
@@ -134,7 +139,14 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     Properties prop = mergeProperties(conf);
     String catalogKey =
         String.format("hive-%s", info == null || info.id() == null ? "0" : info.id());
-    this.clientPool = new CachedClientPool(catalogKey, prop, conf);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null && info != null) {
+      this.catalogMetricsSource =
+          new HiveCatalogMetricsSource(info.namespace().toString(), info.name());
+      metricsSystem.register(catalogMetricsSource);
+    }
+    this.clientPool = new CachedClientPool(catalogKey, prop, conf, catalogMetricsSource);
     this.listAllTables = enableListAllTables(conf);
 
     // Initialize the HMS catalog name from catalog properties (default to DEFAULT_HMS_CATALOG)
@@ -185,6 +197,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       clientPool.close();
       clientPool = null;
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && catalogMetricsSource != null) {
+      metricsSystem.unregister(catalogMetricsSource);
+      catalogMetricsSource = null;
+    }
   }
 
   /**
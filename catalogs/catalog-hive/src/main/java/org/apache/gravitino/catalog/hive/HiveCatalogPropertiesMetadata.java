@@ -36,6 +36,9 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       HiveConstants.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS;
 
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUT_MS =
+      HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS;
+
   public static final String IMPERSONATION_ENABLE = HiveConstants.IMPERSONATION_ENABLE;
 
   public static final boolean DEFAULT_IMPERSONATION_ENABLE = false;
@@ -26,7 +26,10 @@ import static org.apache.gravitino.storage.RandomIdGenerator.MAX_ID;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
@@ -37,7 +40,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -77,11 +83,11 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
@@ -97,6 +103,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private static final Logger LOG = LoggerFactory.getLogger(KafkaCatalogOperations.class);
   private static final String DEFAULT_SCHEMA_NAME = "default";
   @VisibleForTesting static final String CLIENT_ID_TEMPLATE = "%s-%s.%s";
+  private static final String TOPIC_NAMES_CACHE_KEY = "";
 
   private final EntityStore store;
   private final IdGenerator idGenerator;
@@ -105,6 +112,12 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
   private CatalogInfo info;
   private AdminClient adminClient;
   private HasPropertyMetadata propertiesMetadata;
+  // The caches are null if the topic metadata cache is disabled.
+  @VisibleForTesting Cache<String, TopicMetadata> topicMetadataCache;
+  private Cache<String, Set<String>> topicNamesCache;
+  // Bumped on every invalidation, so that a fetch racing with an alter or drop operation doesn't
+  // put stale metadata back into the cache.
+  private final AtomicLong cacheVersion = new AtomicLong(0);
 
   @VisibleForTesting
   KafkaCatalogOperations(EntityStore store, IdGenerator idGenerator) {
@@ -159,6 +172,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
       throw new RuntimeException("Failed to create Kafka AdminClient", e);
     }
+    initializeTopicMetadataCache(config);
     createDefaultSchemaIfNecessary();
   }
 
@@ -168,8 +182,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     checkSchemaExists(schemaIdent);
 
     try {
-      ListTopicsResult result = adminClient.listTopics();
-      Set<String> topicNames = result.names().get();
+      Set<String> topicNames = listTopicNames();
       return topicNames.stream()
           .map(name -> NameIdentifier.of(namespace, name))
           .toArray(NameIdentifier[]::new);
@@ -204,49 +217,13 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
-    DescribeTopicsResult result = adminClient.describeTopics(Collections.singleton(ident.name()));
-    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, ident.name());
-    DescribeConfigsResult configsResult =
-        adminClient.describeConfigs(Collections.singleton(configResource));
-
-    int partitions;
-    int replicationFactor;
-    Uuid topicId;
-    Map<String, String> properties = Maps.newHashMap();
-    try {
-      TopicDescription topicDescription = result.topicNameValues().get(ident.name()).get();
-      partitions = topicDescription.partitions().size();
-      replicationFactor = topicDescription.partitions().get(0).replicas().size();
-      topicId = topicDescription.topicId();
-
-      Config topicConfigs = configsResult.all().get().get(configResource);
-      topicConfigs.entries().forEach(e -> properties.put(e.name(), e.value()));
-      properties.put(KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(partitions));
-      properties.put(
-          KafkaTopicPropertiesMetadata.REPLICATION_FACTOR, String.valueOf(replicationFactor));
-    } catch (ExecutionException e) {
-      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-        throw new NoSuchTopicException(e, "Topic %s does not exist", ident);
-      } else {
-        throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException("Failed to load topic " + ident.name() + " from Kafka", e);
+    TopicMetadata metadata = describeTopic(ident.name());
+    if (metadata == null) {
+      throw new NoSuchTopicException("Topic %s does not exist", ident);
     }
 
     LOG.info("Loaded topic {} from Kafka", ident);
-
-    return KafkaTopic.builder()
-        .withName(ident.name())
-        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
-        // as the Gravitino ID
-        .withProperties(newPropertiesWithId(convertToGravitinoId(topicId), properties))
-        .withAuditInfo(
-            AuditInfo.builder()
-                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-                .withCreateTime(Instant.now())
-                .build())
-        .build();
+    return toKafkaTopic(ident.name(), metadata);
   }
 
   @Override
@@ -256,6 +233,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    invalidateTopicCache(ident.name());
     try {
       CreateTopicsResult createTopicsResult =
           adminClient.createTopics(Collections.singleton(buildNewTopic(ident, properties)));
@@ -311,6 +289,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to create topic in Kafka" + ident, e);
+    } finally {
+      invalidateTopicCache(ident.name());
     }
   }
 
@@ -320,6 +300,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     checkSchemaExists(schemaIdent);
 
+    // Always alter the topic based on the latest metadata in Kafka.
+    invalidateTopicCache(ident.name());
     KafkaTopic topic = (KafkaTopic) loadTopic(ident);
     String newComment = topic.comment();
     int oldPartitionCount =
@@ -356,6 +338,7 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     if (!alterConfigOps.isEmpty()) {
       doAlterTopicConfig(ident.name(), alterConfigOps);
     }
+    invalidateTopicCache(ident.name());
 
     return KafkaTopic.builder()
         .withName(ident.name())
@@ -387,6 +370,8 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       }
     } catch (InterruptedException e) {
       throw new RuntimeException("Failed to drop topic " + ident.name() + " from Kafka", e);
+    } finally {
+      invalidateTopicCache(ident.name());
     }
   }
 
@@ -555,6 +540,144 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  private void initializeTopicMetadataCache(Map<String, String> config) {
+    long cacheTtlMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(config, KafkaCatalogPropertiesMetadata.TOPIC_METADATA_CACHE_TTL_MS);
+    if (cacheTtlMs <= 0) {
+      return;
+    }
+
+    int cacheMaxSize =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(
+                    config, KafkaCatalogPropertiesMetadata.TOPIC_METADATA_CACHE_MAX_SIZE);
+    this.topicMetadataCache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(cacheMaxSize)
+            .build();
+    this.topicNamesCache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(1)
+            .build();
+    LOG.info(
+        "Enabled topic metadata cache with ttl {} ms and max size {}", cacheTtlMs, cacheMaxSize);
+  }
+
+  private void invalidateTopicCache(String topicName) {
+    if (topicMetadataCache == null) {
+      return;
+    }
+
+    cacheVersion.incrementAndGet();
+    topicMetadataCache.invalidate(topicName);
+    topicNamesCache.invalidateAll();
+  }
+
+  private Set<String> listTopicNames() throws ExecutionException, InterruptedException {
+    if (topicNamesCache == null) {
+      return adminClient.listTopics().names().get();
+    }
+
+    Set<String> cachedNames = topicNamesCache.getIfPresent(TOPIC_NAMES_CACHE_KEY);
+    if (cachedNames != null) {
+      return cachedNames;
+    }
+
+    long version = cacheVersion.get();
+    Set<String> topicNames = ImmutableSet.copyOf(adminClient.listTopics().names().get());
+    if (version == cacheVersion.get()) {
+      topicNamesCache.put(TOPIC_NAMES_CACHE_KEY, topicNames);
+    }
+    return topicNames;
+  }
+
+  /**
+   * Describe the topic and its configuration. A topic missing in the cache is described with a
+   * {@code describeTopics} and a {@code describeConfigs} request sent concurrently, and the caller
+   * blocks once on their combined future.
+   *
+   * @param topicName The name of the topic to describe.
+   * @return The metadata of the topic, or null if the topic does not exist.
+   */
+  private TopicMetadata describeTopic(String topicName) {
+    TopicMetadata cached =
+        topicMetadataCache == null ? null : topicMetadataCache.getIfPresent(topicName);
+    if (cached != null) {
+      return cached;
+    }
+
+    long version = cacheVersion.get();
+    DescribeTopicsResult topicsResult =
+        adminClient.describeTopics(Collections.singletonList(topicName));
+    ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, topicName);
+    DescribeConfigsResult configsResult =
+        adminClient.describeConfigs(Collections.singletonList(configResource));
+    CompletableFuture<TopicMetadata> future =
+        toCompletableFuture(topicsResult.topicNameValues().get(topicName))
+            .thenCombine(
+                toCompletableFuture(configsResult.values().get(configResource)),
+                TopicMetadata::new);
+
+    TopicMetadata metadata;
+    try {
+      metadata = future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+        return null;
+      }
+      throw new RuntimeException("Failed to load topic " + topicName + " from Kafka", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Failed to load topic " + topicName + " from Kafka", e);
+    }
+
+    if (topicMetadataCache != null && version == cacheVersion.get()) {
+      topicMetadataCache.put(topicName, metadata);
+    }
+    return metadata;
+  }
+
+  private static <T> CompletableFuture<T> toCompletableFuture(KafkaFuture<T> kafkaFuture) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    kafkaFuture.whenComplete(
+        (value, error) -> {
+          if (error != null) {
+            future.completeExceptionally(error);
+          } else {
+            future.complete(value);
+          }
+        });
+    return future;
+  }
+
+  private KafkaTopic toKafkaTopic(String topicName, TopicMetadata metadata) {
+    Map<String, String> properties = Maps.newHashMap(metadata.configs);
+    properties.put(
+        KafkaTopicPropertiesMetadata.PARTITION_COUNT, String.valueOf(metadata.partitions));
+    properties.put(
+        KafkaTopicPropertiesMetadata.REPLICATION_FACTOR,
+        String.valueOf(metadata.replicationFactor));
+
+    return KafkaTopic.builder()
+        .withName(topicName)
+        // Because there is no way to store the Gravitino ID in Kafka, therefor we use the topic ID
+        // as the Gravitino ID
+        .withProperties(newPropertiesWithId(convertToGravitinoId(metadata.topicId), properties))
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build())
+        .build();
+  }
+
   private StringIdentifier convertToGravitinoId(Uuid topicId) {
     return StringIdentifier.fromId(topicId.getLeastSignificantBits() & MAX_ID);
   }
@@ -622,4 +745,22 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
       throw new RuntimeException("Failed to create default schema for Kafka catalog", ioe);
     }
   }
+
+  /** The metadata of a topic described from Kafka, which is immutable and safe to cache. */
+  @VisibleForTesting
+  static final class TopicMetadata {
+    private final Uuid topicId;
+    private final int partitions;
+    private final int replicationFactor;
+    private final Map<String, String> configs;
+
+    private TopicMetadata(TopicDescription description, Config config) {
+      this.topicId = description.topicId();
+      this.partitions = description.partitions().size();
+      this.replicationFactor = description.partitions().get(0).replicas().size();
+      Map<String, String> topicConfigs = Maps.newHashMap();
+      config.entries().forEach(e -> topicConfigs.put(e.name(), e.value()));
+      this.configs = Collections.unmodifiableMap(topicConfigs);
+    }
+  }
 }
@@ -29,6 +29,13 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
   // multiple brokers by comma-separating them.
   public static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
 
+  // The time-to-live of the cached topic metadata, 0 disables the cache.
+  public static final String TOPIC_METADATA_CACHE_TTL_MS = "topic-metadata-cache.ttl-ms";
+  public static final long DEFAULT_TOPIC_METADATA_CACHE_TTL_MS = 0L;
+
+  public static final String TOPIC_METADATA_CACHE_MAX_SIZE = "topic-metadata-cache.max-size";
+  public static final int DEFAULT_TOPIC_METADATA_CACHE_MAX_SIZE = 100_000;
+
   private static final Map<String, PropertyEntry<?>> KAFKA_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -39,6 +46,23 @@ public class KafkaCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadat
                       + "comma-separating them",
                   false /* immutable */,
                   false /* hidden */))
+          .put(
+              TOPIC_METADATA_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  TOPIC_METADATA_CACHE_TTL_MS,
+                  "The time-to-live in milliseconds of the cached topic metadata, 0 disables the "
+                      + "cache",
+                  false /* immutable */,
+                  DEFAULT_TOPIC_METADATA_CACHE_TTL_MS,
+                  false /* hidden */))
+          .put(
+              TOPIC_METADATA_CACHE_MAX_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  TOPIC_METADATA_CACHE_MAX_SIZE,
+                  "The maximum number of topics whose metadata is cached",
+                  false /* immutable */,
+                  DEFAULT_TOPIC_METADATA_CACHE_MAX_SIZE,
+                  false /* hidden */))
           .build();
 
   @Override
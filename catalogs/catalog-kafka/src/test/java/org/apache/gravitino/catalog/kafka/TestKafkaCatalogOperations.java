@@ -39,6 +39,7 @@ import static org.apache.gravitino.catalog.kafka.KafkaCatalog.SCHEMA_PROPERTIES_
 import static org.apache.gravitino.catalog.kafka.KafkaCatalog.TOPIC_PROPERTIES_METADATA;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogOperations.CLIENT_ID_TEMPLATE;
 import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.BOOTSTRAP_SERVERS;
+import static org.apache.gravitino.catalog.kafka.KafkaCatalogPropertiesMetadata.TOPIC_METADATA_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.PARTITION_COUNT;
 import static org.apache.gravitino.catalog.kafka.KafkaTopicPropertiesMetadata.REPLICATION_FACTOR;
 import static org.mockito.Mockito.doReturn;
@@ -48,6 +49,7 @@ import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -579,4 +581,36 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
                 "comment",
                 ImmutableMap.of()));
   }
+
+  @Test
+  public void testTopicMetadataCache() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .putAll(MOCK_CATALOG_PROPERTIES)
+            .put(TOPIC_METADATA_CACHE_TTL_MS, "60000")
+            .build();
+    KafkaCatalogOperations ops = new KafkaCatalogOperations(store, idGenerator);
+    ops.initialize(properties, kafkaCatalogEntity.toCatalogInfo(), KAFKA_PROPERTIES_METADATA);
+    try {
+      Assertions.assertNotNull(ops.topicMetadataCache);
+      NameIdentifier ident =
+          NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, DEFAULT_SCHEMA_NAME, "test_cache_topic");
+      ops.createTopic(ident, null, null, ImmutableMap.of(PARTITION_COUNT, "2"));
+
+      Topic topic = ops.loadTopic(ident);
+      Assertions.assertEquals("2", topic.properties().get(PARTITION_COUNT));
+      Assertions.assertNotNull(ops.topicMetadataCache.getIfPresent(ident.name()));
+
+      // Altering the topic invalidates the cached metadata.
+      ops.alterTopic(ident, TopicChange.setProperty(PARTITION_COUNT, "3"));
+      Assertions.assertNull(ops.topicMetadataCache.getIfPresent(ident.name()));
+      Assertions.assertEquals("3", ops.loadTopic(ident).properties().get(PARTITION_COUNT));
+
+      Assertions.assertTrue(Arrays.asList(ops.listTopics(ident.namespace())).contains(ident));
+      Assertions.assertTrue(ops.dropTopic(ident));
+      Assertions.assertNull(ops.topicMetadataCache.getIfPresent(ident.name()));
+    } finally {
+      ops.close();
+    }
+  }
 }
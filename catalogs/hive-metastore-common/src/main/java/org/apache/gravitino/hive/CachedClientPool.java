@@ -34,6 +34,7 @@ import javax.annotation.Nullable;
 import org.apache.gravitino.catalog.hive.HiveConstants;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.hive.client.HiveClient;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.utils.ClientPool;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.immutables.value.Value;
@@ -56,18 +57,41 @@ public class CachedClientPool implements ClientPool<HiveClient, GravitinoRuntime
 
   private final Properties conf;
   private final int clientPoolSize;
+  private final long clientPoolAcquireTimeoutMs;
   private final ScheduledThreadPoolExecutor scheduler;
   private final String name;
+  @Nullable private final MetricsSource metricsSource;
 
   public CachedClientPool(String name, Properties hiveConf, Map<String, String> properties) {
+    this(name, hiveConf, properties, null);
+  }
+
+  /**
+   * Creates a CachedClientPool that exports the metrics of every cached pool.
+   *
+   * @param name The name of the pool.
+   * @param hiveConf The configuration used to initialize the Hive Metastore clients.
+   * @param properties The catalog properties.
+   * @param metricsSource The metrics source to register the pool metrics to, or null to skip them.
+   */
+  public CachedClientPool(
+      String name,
+      Properties hiveConf,
+      Map<String, String> properties,
+      @Nullable MetricsSource metricsSource) {
     int clientPoolSize =
         (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_SIZE);
     long evictionInterval =
         (long)
             PROPERTIES_METADATA.getOrDefault(
                 properties, HiveConstants.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS);
+    this.clientPoolAcquireTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS);
 
     this.name = name;
+    this.metricsSource = metricsSource;
     this.conf = hiveConf;
     this.clientPoolSize = clientPoolSize;
     // Since Caffeine does not ensure that removalListener will be involved after expiration
@@ -76,7 +100,13 @@ public class CachedClientPool implements ClientPool<HiveClient, GravitinoRuntime
     this.clientPoolCache =
         Caffeine.newBuilder()
             .expireAfterAccess(evictionInterval, TimeUnit.MILLISECONDS)
-            .removalListener((ignored, value, cause) -> ((HiveClientPool) value).close())
+            .removalListener(
+                (key, value, cause) -> {
+                  if (metricsSource != null) {
+                    value.unregisterMetrics(metricsSource, metricsPrefix(key));
+                  }
+                  value.close();
+                })
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
   }
@@ -84,7 +114,21 @@ public class CachedClientPool implements ClientPool<HiveClient, GravitinoRuntime
   @VisibleForTesting
   public HiveClientPool clientPool() {
     Key key = extractKey();
-    return clientPoolCache.get(key, k -> new HiveClientPool(name, clientPoolSize, conf));
+    return clientPoolCache.get(
+        key,
+        k -> {
+          HiveClientPool pool =
+              new HiveClientPool(name, clientPoolSize, conf, clientPoolAcquireTimeoutMs);
+          if (metricsSource != null) {
+            pool.registerMetrics(metricsSource, metricsPrefix(k));
+          }
+          return pool;
+        });
+  }
+
+  private static String metricsPrefix(Key key) {
+    // The pools are cached per user, so the user name keeps the metric names unique.
+    return "hive-client-pool." + key.elements().get(0);
   }
 
   @VisibleForTesting
@@ -147,7 +191,15 @@ public class CachedClientPool implements ClientPool<HiveClient, GravitinoRuntime
     // Caller may call this `close` method and then close the class loader that is needed by the
     // `close` method. We must ensure that all the HiveClientPool instances are closed before the
     // class loader is closed.
-    clientPoolCache.asMap().forEach((key, value) -> value.close());
+    clientPoolCache
+        .asMap()
+        .forEach(
+            (key, value) -> {
+              if (metricsSource != null) {
+                value.unregisterMetrics(metricsSource, metricsPrefix(key));
+              }
+              value.close();
+            });
     clientPoolCache.invalidateAll();
     scheduler.shutdownNow();
   }
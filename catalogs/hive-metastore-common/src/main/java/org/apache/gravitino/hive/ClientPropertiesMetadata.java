@@ -24,11 +24,14 @@ import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.hive.HiveConstants;
 import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.PropertyEntry;
+import org.apache.gravitino.utils.ClientPoolImpl;
 
 public class ClientPropertiesMetadata implements PropertiesMetadata {
   private static final int DEFAULT_CLIENT_POOL_SIZE = 1;
   private static final long DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       TimeUnit.MINUTES.toMillis(5);
+  private static final long DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS =
+      ClientPoolImpl.NO_ACQUIRE_TIMEOUT;
   private static final Map<String, PropertyEntry<?>> PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -47,6 +50,15 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
                   false /* immutable */,
                   DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
                   false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  "The maximum time to wait for a Hive metastore client from the pool, -1 means"
+                      + " waiting indefinitely",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -18,7 +18,16 @@
  */
 package org.apache.gravitino.hive;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.gravitino.catalog.hive.HiveConstants;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.hive.client.HiveClient;
 import org.apache.gravitino.hive.client.HiveClientFactory;
@@ -32,7 +41,19 @@ import org.slf4j.LoggerFactory;
 public class HiveClientPool extends ClientPoolImpl<HiveClient, GravitinoRuntimeException> {
 
   private static final Logger LOG = LoggerFactory.getLogger(HiveClientPool.class);
+
+  // An idle client is pinged at most once per interval, the ping gives up after the timeout.
+  private static final long HEALTH_CHECK_INTERVAL_MS = 30_000L;
+  private static final long HEALTH_CHECK_TIMEOUT_MS = 5_000L;
+
   private final HiveClientFactory clientFactory;
+  private final Map<HiveClient, Long> lastCheckedMs = new ConcurrentHashMap<>();
+  private final ExecutorService healthCheckExecutor =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("hive-client-pool-health-check-%d")
+              .build());
 
   /**
    * Creates a new HiveClientPool with the specified pool size and configuration.
@@ -41,8 +62,19 @@ public class HiveClientPool extends ClientPoolImpl<HiveClient, GravitinoRuntimeE
    * @param properties The configuration used to initialize the Hive Metastore clients.
    */
   public HiveClientPool(String name, int poolSize, Properties properties) {
+    this(name, poolSize, properties, NO_ACQUIRE_TIMEOUT);
+  }
+
+  /**
+   * Creates a new HiveClientPool with the specified pool size, configuration and acquire timeout.
+   *
+   * @param poolSize The number of clients in the pool.
+   * @param properties The configuration used to initialize the Hive Metastore clients.
+   * @param acquireTimeoutMs The maximum time to wait for a client, -1 means waiting indefinitely.
+   */
+  public HiveClientPool(String name, int poolSize, Properties properties, long acquireTimeoutMs) {
     // Do not allow retry by default as we rely on RetryingMetaStoreClient
-    super(poolSize, GravitinoRuntimeException.class, false);
+    super(poolSize, GravitinoRuntimeException.class, false, acquireTimeoutMs);
     this.clientFactory = new HiveClientFactory(properties, name);
   }
 
@@ -69,9 +101,45 @@ public class HiveClientPool extends ClientPoolImpl<HiveClient, GravitinoRuntimeE
     return false;
   }
 
+  @Override
+  protected boolean isHealthy(HiveClient client) {
+    long now = System.currentTimeMillis();
+    Long lastChecked = lastCheckedMs.get(client);
+    if (lastChecked != null && now - lastChecked < HEALTH_CHECK_INTERVAL_MS) {
+      return true;
+    }
+
+    Future<?> ping =
+        healthCheckExecutor.submit(
+            () -> client.getAllDatabases(HiveConstants.HIVE_DEFAULT_CATALOG));
+    try {
+      ping.get(HEALTH_CHECK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      lastCheckedMs.put(client, now);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      ping.cancel(true);
+      return false;
+    } catch (TimeoutException e) {
+      LOG.warn("Hive Metastore client did not answer a ping in {} ms", HEALTH_CHECK_TIMEOUT_MS);
+      ping.cancel(true);
+      return false;
+    } catch (Exception e) {
+      LOG.warn("Hive Metastore client failed a ping", e);
+      return false;
+    }
+  }
+
   @Override
   protected void close(HiveClient client) {
     LOG.info("Closing Hive Metastore client");
+    lastCheckedMs.remove(client);
     client.close();
   }
+
+  @Override
+  public void close() {
+    super.close();
+    healthCheckExecutor.shutdownNow();
+  }
 }
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import static org.apache.gravitino.client.BaseSchemaCatalog.formatSchemaRequestPath;
+import static org.apache.gravitino.client.FilesetCatalog.formatFilesetRequestPath;
+import static org.apache.gravitino.client.GenericModelCatalog.formatModelRequestPath;
+import static org.apache.gravitino.client.RelationalCatalog.formatTableRequestPath;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.dto.responses.CatalogResponse;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.FilesetResponse;
+import org.apache.gravitino.dto.responses.ModelResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.model.Model;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rest.RESTUtils;
+
+/**
+ * The non-blocking counterpart of the most frequently used load and list operations of a metalake.
+ *
+ * <p>Every method issues a single request without loading the parent catalog first, and returns a
+ * {@link CompletableFuture} that completes on an I/O thread of the async HTTP client. The future
+ * completes exceptionally with the same exceptions the blocking API throws, for example {@link
+ * org.apache.gravitino.exceptions.NoSuchTableException}. Callbacks attached to the future should
+ * not block; use the {@code *Async} variants of {@link CompletableFuture} with an executor for
+ * heavy work.
+ *
+ * <p>Schemas, tables, filesets and models are addressed relative to the metalake, i.e. a table is
+ * identified by "catalog.schema.table".
+ */
+public class AsyncMetalakeOperations {
+
+  private static final String API_METALAKES_CATALOGS_PATH = "api/metalakes/%s/catalogs";
+
+  private final String metalakeName;
+
+  private final RESTClient restClient;
+
+  private final AsyncRESTClient asyncClient;
+
+  AsyncMetalakeOperations(String metalakeName, RESTClient restClient) {
+    this.metalakeName = metalakeName;
+    this.restClient = restClient;
+    this.asyncClient = AsyncRESTClient.of(restClient);
+  }
+
+  /**
+   * List the names of all catalogs in the metalake asynchronously.
+   *
+   * @return A future of the catalog names.
+   */
+  public CompletableFuture<String[]> listCatalogs() {
+    return asyncClient
+        .getAsync(
+            catalogsPath(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return Arrays.stream(resp.identifiers())
+                  .map(NameIdentifier::name)
+                  .toArray(String[]::new);
+            });
+  }
+
+  /**
+   * Load a catalog asynchronously.
+   *
+   * @param catalogName The name of the catalog.
+   * @return A future of the loaded {@link Catalog}.
+   */
+  public CompletableFuture<Catalog> loadCatalog(String catalogName) {
+    return asyncClient
+        .getAsync(
+            catalogsPath() + "/" + RESTUtils.encodeString(catalogName),
+            CatalogResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return DTOConverters.toCatalog(metalakeName, resp.getCatalog(), restClient);
+            });
+  }
+
+  /**
+   * List the names of all schemas in a catalog asynchronously.
+   *
+   * @param catalogName The name of the catalog.
+   * @return A future of the schema names.
+   */
+  public CompletableFuture<String[]> listSchemas(String catalogName) {
+    return asyncClient
+        .getAsync(
+            formatSchemaRequestPath(Namespace.of(metalakeName, catalogName)),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return Arrays.stream(resp.identifiers())
+                  .map(NameIdentifier::name)
+                  .toArray(String[]::new);
+            });
+  }
+
+  /**
+   * Load a schema asynchronously.
+   *
+   * @param catalogName The name of the catalog.
+   * @param schemaName The name of the schema.
+   * @return A future of the loaded {@link Schema}.
+   */
+  public CompletableFuture<Schema> loadSchema(String catalogName, String schemaName) {
+    return asyncClient
+        .getAsync(
+            formatSchemaRequestPath(Namespace.of(metalakeName, catalogName))
+                + "/"
+                + RESTUtils.encodeString(schemaName),
+            SchemaResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return new GenericSchema(resp.getSchema(), restClient, metalakeName, catalogName);
+            });
+  }
+
+  /**
+   * List the tables in a schema asynchronously.
+   *
+   * @param namespace The namespace of the schema, which should be "catalog.schema" format.
+   * @return A future of the table identifiers, which are in "schema.table" format.
+   */
+  public CompletableFuture<NameIdentifier[]> listTables(Namespace namespace) {
+    checkSchemaNamespace(namespace);
+    return asyncClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace(namespace)),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(AsyncMetalakeOperations::toSchemaRelativeIdentifiers);
+  }
+
+  /**
+   * Load a table asynchronously.
+   *
+   * @param ident The identifier of the table, which should be "catalog.schema.table" format.
+   * @return A future of the loaded {@link Table}.
+   */
+  public CompletableFuture<Table> loadTable(NameIdentifier ident) {
+    checkIdentifier(ident);
+    Namespace fullNamespace = fullNamespace(ident.namespace());
+    return asyncClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            TableResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+            });
+  }
+
+  /**
+   * List the filesets in a schema asynchronously.
+   *
+   * @param namespace The namespace of the schema, which should be "catalog.schema" format.
+   * @return A future of the fileset identifiers, which are in "schema.fileset" format.
+   */
+  public CompletableFuture<NameIdentifier[]> listFilesets(Namespace namespace) {
+    checkSchemaNamespace(namespace);
+    return asyncClient
+        .getAsync(
+            formatFilesetRequestPath(fullNamespace(namespace)),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(AsyncMetalakeOperations::toSchemaRelativeIdentifiers);
+  }
+
+  /**
+   * Load a fileset asynchronously.
+   *
+   * @param ident The identifier of the fileset, which should be "catalog.schema.fileset" format.
+   * @return A future of the loaded {@link Fileset}.
+   */
+  public CompletableFuture<Fileset> loadFileset(NameIdentifier ident) {
+    checkIdentifier(ident);
+    Namespace fullNamespace = fullNamespace(ident.namespace());
+    return asyncClient
+        .getAsync(
+            formatFilesetRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            FilesetResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
+            });
+  }
+
+  /**
+   * List the models in a schema asynchronously.
+   *
+   * @param namespace The namespace of the schema, which should be "catalog.schema" format.
+   * @return A future of the model identifiers, which are in "schema.model" format.
+   */
+  public CompletableFuture<NameIdentifier[]> listModels(Namespace namespace) {
+    checkSchemaNamespace(namespace);
+    return asyncClient
+        .getAsync(
+            formatModelRequestPath(fullNamespace(namespace)),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.modelErrorHandler())
+        .thenApply(AsyncMetalakeOperations::toSchemaRelativeIdentifiers);
+  }
+
+  /**
+   * Get a model asynchronously.
+   *
+   * @param ident The identifier of the model, which should be "catalog.schema.model" format.
+   * @return A future of the {@link Model}.
+   */
+  public CompletableFuture<Model> getModel(NameIdentifier ident) {
+    checkIdentifier(ident);
+    Namespace fullNamespace = fullNamespace(ident.namespace());
+    return asyncClient
+        .getAsync(
+            formatModelRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            ModelResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.modelErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return new GenericModel(resp.getModel(), restClient, fullNamespace);
+            });
+  }
+
+  private String catalogsPath() {
+    return String.format(API_METALAKES_CATALOGS_PATH, RESTUtils.encodeString(metalakeName));
+  }
+
+  private Namespace fullNamespace(Namespace namespace) {
+    return Namespace.of(metalakeName, namespace.level(0), namespace.level(1));
+  }
+
+  private static NameIdentifier[] toSchemaRelativeIdentifiers(EntityListResponse resp) {
+    resp.validate();
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  private static void checkSchemaNamespace(Namespace namespace) {
+    Namespace.check(
+        namespace != null && namespace.length() == 2,
+        "Namespace must be non-null and have 2 levels (catalog.schema), the input namespace is %s",
+        namespace);
+  }
+
+  private static void checkIdentifier(NameIdentifier ident) {
+    NameIdentifier.check(ident != null, "NameIdentifier must not be null");
+    NameIdentifier.check(
+        ident.name() != null && !ident.name().isEmpty(), "NameIdentifier name must not be empty");
+    checkSchemaNamespace(ident.namespace());
+  }
+}
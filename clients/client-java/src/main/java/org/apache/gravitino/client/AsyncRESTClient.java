@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.rest.RESTResponse;
+
+/**
+ * The non-blocking variant of {@link RESTClient}. The requests are sent without blocking the
+ * calling thread, and the returned futures are completed with the parsed responses, or
+ * exceptionally with the exceptions thrown by the error handlers.
+ *
+ * <p>The futures are never completed on the I/O threads which send the requests. Implementations
+ * complete them on their own callback threads, or on the calling thread if the response is already
+ * available, so the dependent stages of the callers may run on either and shouldn't block for long.
+ */
+public interface AsyncRESTClient {
+
+  /**
+   * Perform a GET request on the specified path with given information and no query parameters.
+   *
+   * @param path The path to be requested.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the GET request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return getAsync(path, ImmutableMap.of(), responseType, headers, errorHandler);
+  }
+
+  /**
+   * Perform a GET request on the specified path with given information.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the GET request.
+   */
+  <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler);
+
+  /**
+   * Returns the asynchronous view of a REST client. The client itself is returned if it supports
+   * asynchronous requests, otherwise the requests are sent by the blocking client on the calling
+   * thread and the returned futures are already completed.
+   *
+   * @param client The REST client.
+   * @return The asynchronous REST client.
+   */
+  static AsyncRESTClient of(RESTClient client) {
+    if (client instanceof AsyncRESTClient) {
+      return (AsyncRESTClient) client;
+    }
+
+    return new AsyncRESTClient() {
+      @Override
+      public <T extends RESTResponse> CompletableFuture<T> getAsync(
+          String path,
+          Map<String, String> queryParams,
+          Class<T> responseType,
+          Map<String, String> headers,
+          Consumer<ErrorResponse> errorHandler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+          future.complete(client.get(path, queryParams, responseType, headers, errorHandler));
+        } catch (RuntimeException e) {
+          future.completeExceptionally(e);
+        }
+        return future;
+      }
+    };
+  }
+}
@@ -131,6 +131,15 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().loadCatalog(catalogName);
   }
 
+  /**
+   * Get the asynchronous view of the metalake this client is bound to.
+   *
+   * @return The {@link AsyncMetalakeOperations} of the metalake.
+   */
+  public AsyncMetalakeOperations async() {
+    return getMetalake().async();
+  }
+
   @Override
   public Catalog createCatalog(
       String catalogName,
@@ -56,6 +56,10 @@ public abstract class GravitinoClientBase implements Closeable {
   /** The REST API path prefix for load a specific metalake */
   protected static final String API_METALAKES_IDENTIFIER_PATH = API_METALAKES_LIST_PATH + "/";
 
+  private final String uri;
+
+  private final long versionCacheTtlMs;
+
   /**
    * Constructs a new GravitinoClient with the given URI, authenticator and AuthDataProvider.
    *
@@ -72,6 +76,9 @@ public abstract class GravitinoClientBase implements Closeable {
       Map<String, String> headers,
       Map<String, String> properties) {
     ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    this.uri = uri;
+    this.versionCacheTtlMs =
+        GravitinoClientConfiguration.buildFromProperties(properties).getClientVersionCacheTtlMs();
 
     if (checkVersion) {
       this.restClient =
@@ -79,7 +86,7 @@ public abstract class GravitinoClientBase implements Closeable {
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
-              .withPreConnectHandler(this::checkVersion)
+              .withPreConnectHandler(this::checkCachedVersion)
               .withHeaders(headers)
               .build();
 
@@ -100,7 +107,19 @@ public abstract class GravitinoClientBase implements Closeable {
    * @throws GravitinoRuntimeException If the client version is greater than the server version.
    */
   public void checkVersion() {
-    GravitinoVersion serverVersion = serverVersion();
+    checkCompatibility(serverVersion());
+  }
+
+  /**
+   * Check the compatibility of the client with the target server like {@link #checkVersion()}, but
+   * reuse the server version fetched by other clients of the same server within the version cache
+   * TTL.
+   */
+  private void checkCachedVersion() {
+    checkCompatibility(ServerVersionCache.get(uri, versionCacheTtlMs, this::serverVersion));
+  }
+
+  private void checkCompatibility(GravitinoVersion serverVersion) {
     GravitinoVersion clientVersion = clientVersion();
     if (!clientVersion.compatibleWithServerVersion(serverVersion)) {
       throw new GravitinoRuntimeException(
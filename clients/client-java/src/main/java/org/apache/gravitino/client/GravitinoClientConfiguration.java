@@ -63,12 +63,45 @@ public class GravitinoClientConfiguration {
   public static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE =
       "gravitino.client.maxConnectionsPerRoute";
 
+  /** A default value for the request compression threshold, which disables request compression. */
+  public static final int CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES_DEFAULT = 0;
+
+  /**
+   * An optional size in bytes from which request bodies are sent gzip compressed. A value of 0
+   * disables request compression. The server must support gzip encoded requests.
+   */
+  public static final String CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES =
+      "gravitino.client.requestCompressionThresholdBytes";
+
+  /** A default value for the time to live of a cached server version in milliseconds. */
+  public static final long CLIENT_VERSION_CACHE_TTL_MS_DEFAULT = 300_000L;
+
+  /**
+   * An optional time to live in milliseconds of the server version fetched by the version check,
+   * which is shared by all the clients of the same server in the process. A value of 0 makes every
+   * client fetch the version by itself.
+   */
+  public static final String CLIENT_VERSION_CACHE_TTL_MS = "gravitino.client.versionCacheTtlMs";
+
+  /** A default value for whether to deduplicate identical in-flight GET requests. */
+  public static final boolean CLIENT_DEDUPLICATE_GET_REQUESTS_DEFAULT = true;
+
+  /**
+   * An optional flag to let concurrent identical GET requests of a client share a single request to
+   * the server.
+   */
+  public static final String CLIENT_DEDUPLICATE_GET_REQUESTS =
+      "gravitino.client.deduplicateGetRequests";
+
   private static final Set<String> SUPPORT_CLIENT_CONFIG_KEYS =
       ImmutableSet.of(
           CLIENT_CONNECTION_TIMEOUT_MS,
           CLIENT_SOCKET_TIMEOUT_MS,
           CLIENT_MAX_CONNECTIONS,
-          CLIENT_MAX_CONNECTIONS_PER_ROUTE);
+          CLIENT_MAX_CONNECTIONS_PER_ROUTE,
+          CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES,
+          CLIENT_VERSION_CACHE_TTL_MS,
+          CLIENT_DEDUPLICATE_GET_REQUESTS);
 
   private Map<String, String> properties;
 
@@ -157,6 +190,49 @@ public class GravitinoClientConfiguration {
     return maxConnectionsPerRoute;
   }
 
+  /**
+   * Extract the request compression threshold from the properties map
+   *
+   * @return the minimum size in bytes of a request body to be compressed, or 0 if request
+   *     compression is disabled
+   */
+  public int getClientRequestCompressionThresholdBytes() {
+    int threshold =
+        MapUtils.propertyAsInt(
+            properties,
+            CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES,
+            CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES_DEFAULT);
+    checkValue(
+        value -> value >= 0,
+        CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES,
+        threshold,
+        POSITIVE_NUMBER_ERROR_MSG);
+    return threshold;
+  }
+
+  /**
+   * Extract the time to live of the cached server version from the properties map
+   *
+   * @return the time to live in milliseconds, or 0 if the version is not cached
+   */
+  public long getClientVersionCacheTtlMs() {
+    long ttlMs =
+        MapUtils.propertyAsLong(
+            properties, CLIENT_VERSION_CACHE_TTL_MS, CLIENT_VERSION_CACHE_TTL_MS_DEFAULT);
+    checkValue(value -> value >= 0, CLIENT_VERSION_CACHE_TTL_MS, ttlMs, POSITIVE_NUMBER_ERROR_MSG);
+    return ttlMs;
+  }
+
+  /**
+   * Extract whether to deduplicate identical in-flight GET requests from the properties map
+   *
+   * @return true if identical in-flight GET requests share one request to the server
+   */
+  public boolean isClientDeduplicateGetRequests() {
+    return MapUtils.propertyAsBoolean(
+        properties, CLIENT_DEDUPLICATE_GET_REQUESTS, CLIENT_DEDUPLICATE_GET_REQUESTS_DEFAULT);
+  }
+
   private static <T> void checkValue(
       Function<T, Boolean> checkValueFunc, String key, T value, String errorMsg) {
     if (!checkValueFunc.apply(value)) {
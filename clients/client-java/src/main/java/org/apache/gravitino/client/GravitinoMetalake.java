@@ -211,6 +211,47 @@ public class GravitinoMetalake extends MetalakeDTO
         .toArray(Catalog[]::new);
   }
 
+  /**
+   * List the catalogs with their information under this metalake that were created or modified
+   * after the given time. Callers polling the catalogs can pass the latest modified time they have
+   * seen, and only fetch the catalogs changed since then. Since the dropped catalogs are not
+   * returned, they have to be detected with {@link #listCatalogs()}.
+   *
+   * <p>Servers that don't support the filter return all the catalogs, so callers should still
+   * compare the modified time of the returned catalogs.
+   *
+   * @param modifiedSince The watermark in epoch milliseconds, a negative value lists all catalogs.
+   * @return A list of {@link Catalog} changed after the watermark.
+   * @throws NoSuchMetalakeException if the metalake with specified namespace does not exist.
+   */
+  public Catalog[] listCatalogsInfo(long modifiedSince) throws NoSuchMetalakeException {
+
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    params.put("modifiedSince", String.valueOf(modifiedSince));
+    CatalogListResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalogs", RESTUtils.encodeString(this.name())),
+            params,
+            CatalogListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+
+    return Arrays.stream(resp.getCatalogs())
+        .map(c -> DTOConverters.toCatalog(this.name(), c, restClient))
+        .toArray(Catalog[]::new);
+  }
+
+  /**
+   * Get the asynchronous view of this metalake. The returned operations share the connection
+   * settings, authentication and error handling of this client.
+   *
+   * @return The {@link AsyncMetalakeOperations} of this metalake.
+   */
+  public AsyncMetalakeOperations async() {
+    return new AsyncMetalakeOperations(this.name(), restClient);
+  }
+
   /**
    * Load the catalog with specified identifier.
    *
@@ -23,13 +23,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -41,22 +52,35 @@ import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
-import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.entity.GzipCompressingEntity;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
@@ -72,7 +96,7 @@ import org.apache.hc.core5.net.URIBuilder;
  *
  * <p>Referred from core/src/main/java/org/apache/iceberg/rest/HTTPClient.java
  */
-public class HTTPClient implements RESTClient {
+public class HTTPClient implements RESTClient, AsyncRESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
 
@@ -80,6 +104,20 @@ public class HTTPClient implements RESTClient {
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
+  private final GravitinoClientConfiguration clientConfiguration;
+  private final List<Header> defaultHeaders;
+  private final int requestCompressionThreshold;
+  private final boolean deduplicateGetRequests;
+  // The GET requests being executed, which identical concurrent GET requests wait for instead of
+  // sending their own.
+  private final ConcurrentMap<GetRequestKey, CompletableFuture<Object>> inflightGetRequests =
+      new ConcurrentHashMap<>();
+  // Created on the first asynchronous request, so blocking users don't start its I/O threads.
+  private volatile CloseableHttpAsyncClient asyncHttpClient;
+  // Completes the futures of the asynchronous requests, so the dependent stages of the callers
+  // never run on the I/O threads of the asynchronous HTTP client.
+  private volatile ExecutorService asyncCallbackExecutor;
+  private boolean closed;
 
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
@@ -115,17 +153,22 @@ public class HTTPClient implements RESTClient {
       Map<String, String> properties) {
     this.uri = uri;
     this.mapper = objectMapper;
-    GravitinoClientConfiguration clientConfiguration =
-        GravitinoClientConfiguration.buildFromProperties(properties);
+    this.clientConfiguration = GravitinoClientConfiguration.buildFromProperties(properties);
+    this.requestCompressionThreshold =
+        clientConfiguration.getClientRequestCompressionThresholdBytes();
+    this.deduplicateGetRequests = clientConfiguration.isClientDeduplicateGetRequests();
 
     HttpClientBuilder clientBuilder = HttpClients.custom();
     clientBuilder.setConnectionManager(configureConnectionManager(clientConfiguration));
 
-    if (baseHeaders != null) {
-      clientBuilder.setDefaultHeaders(
-          baseHeaders.entrySet().stream()
-              .map(e -> new BasicHeader(e.getKey(), e.getValue()))
-              .collect(Collectors.toList()));
+    this.defaultHeaders =
+        baseHeaders == null
+            ? null
+            : baseHeaders.entrySet().stream()
+                .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    if (defaultHeaders != null) {
+      clientBuilder.setDefaultHeaders(defaultHeaders);
     }
 
     this.httpClient = clientBuilder.build();
@@ -165,7 +208,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response to check for success.
    * @return True if the response is successful, false otherwise.
    */
-  private boolean isSuccessful(CloseableHttpResponse response) {
+  private boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
@@ -182,7 +225,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response from which the ErrorResponse is built.
    * @return An ErrorResponse object representing the REST error response.
    */
-  private ErrorResponse buildRestErrorResponse(CloseableHttpResponse response) {
+  private ErrorResponse buildRestErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -204,7 +247,7 @@ public class HTTPClient implements RESTClient {
    *     during parsing.
    */
   private void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
     if (responseBody != null) {
       try {
@@ -338,14 +381,7 @@ public class HTTPClient implements RESTClient {
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
 
-    if (handlerStatus != HandlerStatus.Finished) {
-      performPreConnectHandler();
-    }
-
-    if (path.startsWith("/")) {
-      throw new RESTException(
-          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
-    }
+    checkBeforeRequest(path);
 
     HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
 
@@ -360,11 +396,7 @@ public class HTTPClient implements RESTClient {
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
-    if (authDataProvider != null) {
-      request.setHeader(
-          AuthConstants.HTTP_HEADER_AUTHORIZATION,
-          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
-    }
+    addAuthorizationHeader(request);
 
     try (CloseableHttpResponse response = httpClient.execute(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
@@ -380,35 +412,205 @@ public class HTTPClient implements RESTClient {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
+      return parseResponse(
+          method,
+          path,
+          response,
+          extractResponseBodyAsString(response),
+          responseType,
+          errorHandler);
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", method);
+    }
+  }
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException.java is thrown if
-        // not.
-        throwFailure(response, responseBody, errorHandler);
-      }
+  /**
+   * Executes an HTTP request without blocking the calling thread. The response is processed in the
+   * same way as {@link #execute(Method, String, Map, Object, Class, Map, Consumer, Consumer)}, on a
+   * callback thread of this client rather than on the I/O thread of the asynchronous HTTP client.
+   *
+   * @param method The HTTP method to use.
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters to include in the request URL (can be null).
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers to include in the request (can be null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity, which is completed exceptionally with the
+   *     exception thrown by the error handler if the request fails.
+   */
+  private <T> CompletableFuture<T> executeAsync(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    SimpleHttpRequest request;
+    try {
+      checkBeforeRequest(path);
+      request = SimpleRequestBuilder.create(method).setUri(buildUri(path, queryParams)).build();
+      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
+      addAuthorizationHeader(request);
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
 
-      if (responseBody == null) {
-        throw new RESTException(
-            "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
-            responseType != null ? responseType.getSimpleName() : "unknown",
-            method.name(),
-            path,
-            response.getCode());
-      }
+    CloseableHttpAsyncClient client = asyncHttpClient();
+    Executor callbackExecutor = asyncCallbackExecutor;
+    client.execute(
+        request,
+        new FutureCallback<SimpleHttpResponse>() {
+          @Override
+          public void completed(SimpleHttpResponse response) {
+            runCallback(
+                callbackExecutor,
+                future,
+                () -> {
+                  try {
+                    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+                        || (responseType == null && isSuccessful(response))) {
+                      future.complete(null);
+                      return;
+                    }
+                    future.complete(
+                        parseResponse(
+                            method,
+                            path,
+                            response,
+                            response.getBodyText(),
+                            responseType,
+                            errorHandler));
+                  } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                  }
+                });
+          }
+
+          @Override
+          public void failed(Exception e) {
+            runCallback(
+                callbackExecutor,
+                future,
+                () ->
+                    future.completeExceptionally(
+                        new RESTException(
+                            e, "Error occurred while processing %s request", method)));
+          }
+
+          @Override
+          public void cancelled() {
+            runCallback(callbackExecutor, future, () -> future.cancel(false));
+          }
+        });
+    return future;
+  }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType != null ? responseType.getSimpleName() : "unknown");
+  private static void runCallback(
+      Executor callbackExecutor, CompletableFuture<?> future, Runnable callback) {
+    try {
+      callbackExecutor.execute(callback);
+    } catch (RejectedExecutionException e) {
+      // The client is closed while the request is in flight
+      future.completeExceptionally(new RESTException(e, "The HTTP client is closed"));
+    }
+  }
+
+  /**
+   * Parses the body of a response, or hands a failed response to the error handler.
+   *
+   * @param method The HTTP method of the request.
+   * @param path The URL path of the request.
+   * @param response The response of the request.
+   * @param responseBody The response body as a string (can be null).
+   * @param responseType The class type of the response for deserialization.
+   * @param errorHandler The error handler delegated for HTTP responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The response entity parsed and converted to its type T.
+   */
+  private <T> T parseResponse(
+      Method method,
+      String path,
+      HttpResponse response,
+      String responseBody,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler) {
+    if (!isSuccessful(response)) {
+      // The provided error handler is expected to throw, but a RESTException.java is thrown if
+      // not.
+      throwFailure(response, responseBody, errorHandler);
+    }
+
+    if (responseBody == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType != null ? responseType.getSimpleName() : "unknown",
+          method.name(),
+          path,
+          response.getCode());
+    }
+
+    try {
+      return mapper.readValue(responseBody, responseType);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType != null ? responseType.getSimpleName() : "unknown");
+    }
+  }
+
+  private void checkBeforeRequest(String path) {
+    if (handlerStatus != HandlerStatus.Finished) {
+      performPreConnectHandler();
+    }
+
+    if (path.startsWith("/")) {
+      throw new RESTException(
+          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
+    }
+  }
+
+  private void addAuthorizationHeader(HttpRequest request) {
+    if (authDataProvider != null) {
+      request.setHeader(
+          AuthConstants.HTTP_HEADER_AUTHORIZATION,
+          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private CloseableHttpAsyncClient asyncHttpClient() {
+    CloseableHttpAsyncClient client = asyncHttpClient;
+    if (client == null) {
+      synchronized (this) {
+        client = asyncHttpClient;
+        if (client == null) {
+          if (closed) {
+            throw new RESTException("The HTTP client is closed");
+          }
+          HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom();
+          clientBuilder.setConnectionManager(configureAsyncConnectionManager(clientConfiguration));
+          if (defaultHeaders != null) {
+            clientBuilder.setDefaultHeaders(defaultHeaders);
+          }
+          client = clientBuilder.build();
+          client.start();
+          asyncCallbackExecutor =
+              Executors.newCachedThreadPool(
+                  runnable -> {
+                    Thread thread = new Thread(runnable, "gravitino-client-async-callback");
+                    thread.setDaemon(true);
+                    return thread;
+                  });
+          asyncHttpClient = client;
+        }
       }
-    } catch (IOException e) {
-      throw new RESTException(e, "Error occurred while processing %s request", method);
     }
+    return client;
   }
 
   private synchronized void performPreConnectHandler() {
@@ -462,7 +664,89 @@ public class HTTPClient implements RESTClient {
       Class<T> responseType,
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler) {
-    return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+    if (!deduplicateGetRequests) {
+      return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+    }
+
+    GetRequestKey key = new GetRequestKey(path, queryParams, responseType, headers, errorHandler);
+    CompletableFuture<Object> inflight = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inflightGetRequests.putIfAbsent(key, inflight);
+    if (existing != null) {
+      return responseType.cast(awaitInflightRequest(existing));
+    }
+
+    try {
+      T response =
+          execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+      inflight.complete(response);
+      return response;
+    } catch (RuntimeException | Error e) {
+      inflight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inflightGetRequests.remove(key, inflight);
+    }
+  }
+
+  /**
+   * Sends an HTTP GET request to the specified path without blocking the calling thread.
+   *
+   * @param path The URL path to send the GET request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity parsed and converted to its type T.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    if (!deduplicateGetRequests) {
+      return executeAsync(Method.GET, path, queryParams, responseType, headers, errorHandler);
+    }
+
+    GetRequestKey key = new GetRequestKey(path, queryParams, responseType, headers, errorHandler);
+    CompletableFuture<Object> inflight = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inflightGetRequests.putIfAbsent(key, inflight);
+    if (existing != null) {
+      return existing.thenApply(responseType::cast);
+    }
+
+    executeAsync(Method.GET, path, queryParams, responseType, headers, errorHandler)
+        .whenComplete(
+            (response, e) -> {
+              inflightGetRequests.remove(key, inflight);
+              if (e != null) {
+                inflight.completeExceptionally(e);
+              } else {
+                inflight.complete(response);
+              }
+            });
+    // Callers get their own dependent future, so cancelling it won't affect the other callers.
+    return inflight.thenApply(responseType::cast);
+  }
+
+  private static Object awaitInflightRequest(CompletableFuture<Object> inflight) {
+    try {
+      return inflight.join();
+    } catch (CompletionException e) {
+      // Rethrow the exception of the request as is, e.g. the exception from the error handler.
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
   }
 
   /**
@@ -678,7 +962,7 @@ public class HTTPClient implements RESTClient {
    * @param bodyMimeType The MIME type of the request body.
    */
   private void addRequestHeaders(
-      HttpUriRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
+      HttpRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
     // Some systems require the Content-Type header to be set even for empty-bodied requests to
     // avoid failures.
     request.setHeader(HttpHeaders.CONTENT_TYPE, bodyMimeType);
@@ -706,6 +990,58 @@ public class HTTPClient implements RESTClient {
       authDataProvider.close();
     }
     httpClient.close(CloseMode.GRACEFUL);
+    synchronized (this) {
+      closed = true;
+      if (asyncHttpClient != null) {
+        asyncHttpClient.close(CloseMode.GRACEFUL);
+        asyncCallbackExecutor.shutdown();
+      }
+    }
+  }
+
+  /** Identifies the GET requests which are safe to share a single response. */
+  private static final class GetRequestKey {
+    private final String path;
+    private final Map<String, String> queryParams;
+    private final Class<?> responseType;
+    private final Map<String, String> headers;
+    // The error handler decides the exception to throw, so only the requests with the same handler
+    // can share a failure. The handlers in ErrorHandlers are singletons.
+    private final Consumer<ErrorResponse> errorHandler;
+
+    private GetRequestKey(
+        String path,
+        Map<String, String> queryParams,
+        Class<?> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler) {
+      this.path = path;
+      this.queryParams = queryParams == null ? ImmutableMap.of() : queryParams;
+      this.responseType = responseType;
+      this.headers = headers == null ? ImmutableMap.of() : headers;
+      this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof GetRequestKey)) {
+        return false;
+      }
+      GetRequestKey that = (GetRequestKey) o;
+      return path.equals(that.path)
+          && queryParams.equals(that.queryParams)
+          && Objects.equals(responseType, that.responseType)
+          && headers.equals(that.headers)
+          && Objects.equals(errorHandler, that.errorHandler);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, queryParams, responseType, headers, errorHandler);
+    }
   }
 
   /**
@@ -733,6 +1069,16 @@ public class HTTPClient implements RESTClient {
     return connectionManagerBuilder.build();
   }
 
+  private static AsyncClientConnectionManager configureAsyncConnectionManager(
+      GravitinoClientConfiguration clientConfiguration) {
+    // The asynchronous client has its own pool, sized and configured like the blocking one.
+    return PoolingAsyncClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(clientConfiguration.getClientMaxConnections())
+        .setMaxConnPerRoute(clientConfiguration.getClientMaxConnectionsPerRoute())
+        .setDefaultConnectionConfig(configureConnectionConfig(clientConfiguration))
+        .build();
+  }
+
   @VisibleForTesting
   static ConnectionConfig configureConnectionConfig(
       GravitinoClientConfiguration clientConfiguration) {
@@ -845,12 +1191,20 @@ public class HTTPClient implements RESTClient {
     }
   }
 
-  private StringEntity toJson(Object requestBody) {
+  private HttpEntity toJson(Object requestBody) {
+    byte[] json;
     try {
-      return new StringEntity(mapper.writeValueAsString(requestBody), StandardCharsets.UTF_8);
+      json = mapper.writeValueAsBytes(requestBody);
     } catch (JsonProcessingException e) {
       throw new RESTException(e, "Failed to write request body: %s", requestBody);
     }
+
+    ByteArrayEntity entity = new ByteArrayEntity(json, ContentType.APPLICATION_JSON);
+    // Small bodies are not worth the CPU time, and may even grow when compressed.
+    if (requestCompressionThreshold > 0 && json.length >= requestCompressionThreshold) {
+      return new GzipCompressingEntity(entity);
+    }
+    return entity;
   }
 
   private StringEntity toFormEncoding(Map<?, ?> formData) {
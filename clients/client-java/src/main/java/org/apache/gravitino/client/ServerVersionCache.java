@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A process-wide cache of the server versions fetched by the version check of {@link
+ * GravitinoClientBase}, shared by all the clients pointing at the same server URI.
+ *
+ * <p>Short-lived clients, such as the ones created by every Spark executor or Flink task, would
+ * otherwise each pay a version round trip before their first request. Concurrent clients of the
+ * same URI wait for a single in-flight version request instead of sending their own. Failed
+ * requests are not cached.
+ */
+final class ServerVersionCache {
+
+  private static final ConcurrentMap<String, CompletableFuture<CachedVersion>> VERSIONS =
+      new ConcurrentHashMap<>();
+
+  private ServerVersionCache() {}
+
+  /**
+   * Returns the cached version of the server at the given URI, or loads it if it's absent or older
+   * than the given TTL.
+   *
+   * @param uri The base URI of the server.
+   * @param ttlMs The time to live of a cached version in milliseconds, 0 disables the cache.
+   * @param loader The function to fetch the version from the server.
+   * @return The version of the server.
+   */
+  static GravitinoVersion get(String uri, long ttlMs, Supplier<GravitinoVersion> loader) {
+    if (ttlMs <= 0) {
+      return loader.get();
+    }
+
+    String key = StringUtils.removeEnd(uri, "/");
+    long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    while (true) {
+      CompletableFuture<CachedVersion> current = VERSIONS.get(key);
+      if (current != null && !current.isDone()) {
+        // Another client is fetching the version, share its result or its failure.
+        return join(current).version;
+      }
+
+      if (current != null && !current.isCompletedExceptionally()) {
+        CachedVersion cached = current.join();
+        if (System.nanoTime() - cached.loadedAtNanos < ttlNanos) {
+          return cached.version;
+        }
+      }
+
+      CompletableFuture<CachedVersion> loading = new CompletableFuture<>();
+      boolean owner =
+          current == null
+              ? VERSIONS.putIfAbsent(key, loading) == null
+              : VERSIONS.replace(key, current, loading);
+      if (!owner) {
+        // Lost the race to another client, retry with its entry.
+        continue;
+      }
+
+      try {
+        GravitinoVersion version = loader.get();
+        loading.complete(new CachedVersion(version, System.nanoTime()));
+        return version;
+      } catch (RuntimeException | Error e) {
+        VERSIONS.remove(key, loading);
+        loading.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static void clear() {
+    VERSIONS.clear();
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static final class CachedVersion {
+    private final GravitinoVersion version;
+    private final long loadedAtNanos;
+
+    private CachedVersion(GravitinoVersion version, long loadedAtNanos) {
+      this.version = version;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+  }
+}
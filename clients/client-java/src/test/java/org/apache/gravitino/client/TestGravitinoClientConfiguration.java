@@ -51,6 +51,25 @@ public class TestGravitinoClientConfiguration {
         "Invalid property for client: gravitino.client.xxxx", throwable.getMessage());
   }
 
+  @Test
+  void testRequestCompressionThreshold() {
+    GravitinoClientConfiguration defaultConfiguration =
+        GravitinoClientConfiguration.buildFromProperties(ImmutableMap.of());
+    Assertions.assertEquals(0, defaultConfiguration.getClientRequestCompressionThresholdBytes());
+
+    GravitinoClientConfiguration clientConfiguration =
+        GravitinoClientConfiguration.buildFromProperties(
+            ImmutableMap.of("gravitino.client.requestCompressionThresholdBytes", "4096"));
+    Assertions.assertEquals(4096, clientConfiguration.getClientRequestCompressionThresholdBytes());
+
+    GravitinoClientConfiguration invalidConfiguration =
+        GravitinoClientConfiguration.buildFromProperties(
+            ImmutableMap.of("gravitino.client.requestCompressionThresholdBytes", "-1"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        invalidConfiguration::getClientRequestCompressionThresholdBytes);
+  }
+
   @Test
   void testConnectionPoolDefaults() {
     // Test default values when properties are not provided
@@ -33,9 +33,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -52,6 +57,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -353,6 +359,63 @@ public class TestHTTPClient {
     }
   }
 
+  @Test
+  public void testRequestCompression() throws IOException {
+    String path = "test_request_compression";
+    Item body = new Item(0L, "hank");
+    Map<String, String> properties =
+        ImmutableMap.of(
+            GravitinoClientConfiguration.CLIENT_REQUEST_COMPRESSION_THRESHOLD_BYTES, "1");
+    try (HTTPClient client =
+        HTTPClient.builder(properties)
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      HttpRequest mockRequest =
+          request()
+              .withPath("/" + path)
+              .withMethod(Method.POST.name())
+              .withHeader("Content-Encoding", "gzip");
+      HttpResponse mockResponse =
+          response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body));
+      mockServer.when(mockRequest).respond(mockResponse);
+
+      Item result = client.post(path, body, Item.class, ImmutableMap.of(), error -> {});
+      Assertions.assertEquals(body, result);
+    }
+  }
+
+  @Test
+  public void testDeduplicateInflightGetRequests() throws Exception {
+    String path = "test_deduplicate_get";
+    Item body = new Item(0L, "hank");
+    HttpRequest mockRequest = request().withPath("/" + path).withMethod(Method.GET.name());
+    HttpResponse mockResponse =
+        response()
+            .withStatusCode(200)
+            .withBody(MAPPER.writeValueAsString(body))
+            .withDelay(TimeUnit.MILLISECONDS, 1000);
+    mockServer.when(mockRequest).respond(mockResponse);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Item>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(() -> restClient.get(path, Item.class, ImmutableMap.of(), e -> {})));
+      }
+      for (Future<Item> future : futures) {
+        Assertions.assertEquals(body, future.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    mockServer.verify(mockRequest, VerificationTimes.once());
+
+    // Requests after the in-flight one completes are sent again
+    Assertions.assertEquals(body, restClient.get(path, Item.class, ImmutableMap.of(), e -> {}));
+    mockServer.verify(mockRequest, VerificationTimes.exactly(2));
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
@@ -36,6 +36,9 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -72,6 +75,7 @@ import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.exceptions.IllegalNamespaceException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -779,6 +783,66 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testListTablesAsync() throws Exception {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {table1, table2});
+    buildMockResource(Method.GET, tablePath, null, resp, SC_OK);
+    NameIdentifier[] tables =
+        metalake.async().listTables(Namespace.of(catalogName, "schema1")).get(10, TimeUnit.SECONDS);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {
+          NameIdentifier.of("schema1", "table1"), NameIdentifier.of("schema1", "table2")
+        },
+        tables);
+
+    // Test invalid namespace
+    AsyncMetalakeOperations asyncOperations = metalake.async();
+    Namespace namespace = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalNamespaceException.class, () -> asyncOperations.listTables(namespace));
+  }
+
+  @Test
+  public void testLoadTableAsync() throws Exception {
+    NameIdentifier tableId = NameIdentifier.of(catalogName, "schema1", "table1");
+    Namespace fullNamespace = Namespace.of(metalakeName, catalogName, "schema1");
+    String tablePath =
+        withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace) + "/" + tableId.name());
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+
+    TableResponse resp = new TableResponse(expectedTable);
+    buildMockResource(Method.GET, tablePath, null, resp, SC_OK);
+
+    Table table = metalake.async().loadTable(tableId).get(10, TimeUnit.SECONDS);
+    assertTableEquals(fromDTO(expectedTable), table);
+
+    // Test the future completes with NoSuchTableException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
+    buildMockResource(Method.GET, tablePath, null, errorResp, SC_NOT_FOUND);
+
+    CompletableFuture<Table> future = metalake.async().loadTable(tableId);
+    ExecutionException ex =
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(NoSuchTableException.class, ex.getCause());
+    Assertions.assertTrue(ex.getCause().getMessage().contains("table not found"));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
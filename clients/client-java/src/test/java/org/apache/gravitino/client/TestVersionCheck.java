@@ -20,7 +20,9 @@
 package org.apache.gravitino.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
+import java.util.Map;
 import org.apache.gravitino.Version;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.VersionDTO;
@@ -107,6 +109,7 @@ public class TestVersionCheck extends TestBase {
   @AfterEach
   public void resetEnvValue() {
     envValue = null;
+    ServerVersionCache.clear();
   }
 
   @Test
@@ -225,6 +228,40 @@ public class TestVersionCheck extends TestBase {
         VerificationTimes.exactly(0));
   }
 
+  @Test
+  public void testVersionCheckSharedByClients() throws JsonProcessingException {
+    mockServer.clear(HttpRequest.request("/api/version"));
+    mockServer.clear(HttpRequest.request("/api/metalakes"));
+
+    String uri = "http://127.0.0.1:" + mockServer.getLocalPort();
+    VersionResponse resp = new VersionResponse(Version.getCurrentVersionDTO());
+    buildMockResource(Method.GET, "/api/version", null, resp, HttpStatus.SC_OK);
+    MetalakeListResponse listResponse = new MetalakeListResponse(new MetalakeDTO[] {});
+    buildMockResource(Method.GET, "/api/metalakes", null, listResponse, HttpStatus.SC_OK);
+
+    for (int i = 0; i < 3; i++) {
+      try (GravitinoAdminClient testClient = GravitinoAdminClient.builder(uri).build()) {
+        Assertions.assertEquals(0, testClient.listMetalakes().length);
+      }
+    }
+    mockServer.verify(
+        HttpRequest.request("/api/version").withMethod(Method.GET.name()),
+        VerificationTimes.once());
+
+    // A TTL of 0 makes every client check the version by itself
+    Map<String, String> properties =
+        ImmutableMap.of(GravitinoClientConfiguration.CLIENT_VERSION_CACHE_TTL_MS, "0");
+    for (int i = 0; i < 2; i++) {
+      try (GravitinoAdminClient testClient =
+          GravitinoAdminClient.builder(uri).withClientConfig(properties).build()) {
+        Assertions.assertEquals(0, testClient.listMetalakes().length);
+      }
+    }
+    mockServer.verify(
+        HttpRequest.request("/api/version").withMethod(Method.GET.name()),
+        VerificationTimes.exactly(3));
+  }
+
   @Test
   public void testCheckVersionSuccess() throws JsonProcessingException {
     VersionResponse resp = new VersionResponse(Version.getCurrentVersionDTO());
@@ -158,4 +158,29 @@ public class MapUtils {
     }
     return defaultValue;
   }
+
+  /**
+   * Extract a boolean value from the properties map with provided key. If provided key not exist in
+   * the properties map, it will return default value.
+   *
+   * @param properties input map
+   * @param property provided key
+   * @param defaultValue default value
+   * @return boolean value from the properties map with provided key.
+   */
+  public static boolean propertyAsBoolean(
+      Map<String, String> properties, String property, boolean defaultValue) {
+    String value = properties.get(property);
+    if (value != null) {
+      if ("true".equalsIgnoreCase(value.trim())) {
+        return true;
+      } else if ("false".equalsIgnoreCase(value.trim())) {
+        return false;
+      }
+      throw new IllegalArgumentException(
+          String.format(
+              "%s in %s is invalid. %s", value, property, "The value must be a boolean value"));
+    }
+    return defaultValue;
+  }
 }
@@ -74,4 +74,14 @@ public class TestMapUtils {
     Assertions.assertThrowsExactly(
         IllegalArgumentException.class, () -> MapUtils.getMapWithoutPrefix(properties, null));
   }
+
+  @Test
+  void testPropertyAsBoolean() {
+    Map<String, String> properties = ImmutableMap.of("a", "true", "b", " FALSE ", "c", "yes");
+    Assertions.assertTrue(MapUtils.propertyAsBoolean(properties, "a", false));
+    Assertions.assertFalse(MapUtils.propertyAsBoolean(properties, "b", true));
+    Assertions.assertTrue(MapUtils.propertyAsBoolean(properties, "d", true));
+    Assertions.assertThrowsExactly(
+        IllegalArgumentException.class, () -> MapUtils.propertyAsBoolean(properties, "c", true));
+  }
 }
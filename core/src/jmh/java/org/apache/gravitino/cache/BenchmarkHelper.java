@@ -22,6 +22,7 @@ package org.apache.gravitino.cache;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -29,8 +30,13 @@ import java.util.Random;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.utils.TestUtil;
 
 public class BenchmarkHelper {
@@ -76,6 +82,49 @@ public class BenchmarkHelper {
     return entities;
   }
 
+  /**
+   * Generates a table entity with the specified number of columns. Like the entities read from the
+   * entity store, every column has its own strings and audit info.
+   *
+   * @param name the name of the table.
+   * @param columnCnt the count of columns to generate.
+   * @return a table entity.
+   */
+  public static TableEntity getTableEntity(String name, int columnCnt) {
+    List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+    for (int i = 0; i < columnCnt; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(random.nextLong())
+              .withName("column_" + i)
+              .withPosition(i)
+              .withComment("comment of column " + i)
+              .withDataType(Types.StringType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(
+                  AuditInfo.builder()
+                      .withCreator("creator_" + i)
+                      .withCreateTime(Instant.now())
+                      .build())
+              .build());
+    }
+
+    Map<String, String> properties = Maps.newHashMap();
+    for (int i = 0; i < 10; i++) {
+      properties.put("key_" + i, "value_" + i);
+    }
+    return TableEntity.builder()
+        .withId(random.nextLong())
+        .withName(name)
+        .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+        .withColumns(columns)
+        .withProperties(properties)
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+        .build();
+  }
+
   /**
    * Returns a randomly selected key from the given map.
    *
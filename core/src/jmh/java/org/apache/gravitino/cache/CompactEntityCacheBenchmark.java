@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.meta.TableEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CompactEntityCacheBenchmark benchmarks the second tier of {@link CaffeineEntityCache}, which
+ * keeps tables encoded by {@link CompactEntityCodec}.
+ *
+ * <p>The benchmark includes the following methods:
+ *
+ * <ul>
+ *   <li>{@code encodeTable}: Measures the cost of encoding a table with {@code columnCnt} columns
+ *       when it's evicted from the first tier.
+ *   <li>{@code decodeTable}: Measures the cost of decoding a table on a first-tier miss.
+ * </ul>
+ *
+ * @see org.apache.gravitino.cache.CompactEntityCache
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CompactEntityCacheBenchmark {
+  private static final int TABLE_COUNT = 1000;
+  private static final long DICTIONARY_BYTES = 64L * 1024 * 1024;
+
+  @Param({"10", "100", "1000"})
+  public int columnCnt;
+
+  private final Random random = new Random();
+  private CompactEntityCodec codec;
+  private List<TableEntity> tables;
+  private List<byte[]> encodedTables;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.codec = new CompactEntityCodec(new EntityStringDictionary(DICTIONARY_BYTES));
+
+    this.tables = new ArrayList<>(TABLE_COUNT);
+    for (int i = 0; i < TABLE_COUNT; i++) {
+      tables.add(BenchmarkHelper.getTableEntity("table" + i, columnCnt));
+    }
+
+    this.encodedTables = new ArrayList<>(TABLE_COUNT);
+    for (TableEntity table : tables) {
+      encodedTables.add(codec.encode(table));
+    }
+  }
+
+  @Benchmark
+  public byte[] encodeTable() {
+    return codec.encode(tables.get(random.nextInt(TABLE_COUNT)));
+  }
+
+  @Benchmark
+  public Entity decodeTable() {
+    return codec.decode(encodedTables.get(random.nextInt(TABLE_COUNT)));
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
 import org.openjdk.jmh.annotations.Benchmark;
 
 /**
@@ -36,11 +37,13 @@ import org.openjdk.jmh.annotations.Benchmark;
  * using the configured entity count. This ensures that the {@code size()} method operates on a
  * fully populated cache with realistic structure and distribution.
  *
- * <p>The benchmark includes a single method:
+ * <p>The benchmark includes the following methods:
  *
  * <ul>
  *   <li>{@code entityCacheSize}: Measures the execution time of retrieving the total number of
  *       cached entries.
+ *   <li>{@code estimateTableSize}: Measures the cost of {@link EntityCacheByteWeigher} estimating
+ *       the bytes of a table with {@code totalCnt} columns.
  * </ul>
  *
  * @param <E> the type of related entity, extending {@link Entity} and implementing {@link
@@ -50,6 +53,7 @@ import org.openjdk.jmh.annotations.Benchmark;
  */
 public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
     extends AbstractEntityBenchmark {
+  private TableEntity wideTable;
 
   @Override
   @SuppressWarnings("unchecked")
@@ -58,6 +62,7 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
     this.cache = new CaffeineEntityCache(config);
     this.entities = BenchmarkHelper.getEntities(totalCnt);
     this.entitiesWithRelations = BenchmarkHelper.getRelationEntities(totalCnt);
+    this.wideTable = BenchmarkHelper.getTableEntity("wide", totalCnt);
 
     entities.forEach(e -> cache.put((ModelEntity) e));
     entitiesWithRelations.forEach(
@@ -73,4 +78,9 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
   public long entityCacheSize() {
     return cache.size();
   }
+
+  @Benchmark
+  public long estimateTableSize() {
+    return EntityCacheByteWeigher.estimateSize(wideTable);
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * WireCompressionBenchmark compares the plain JSON wire format between the Gravitino server and
+ * clients with gzip compressed JSON, for a table response with {@code columnCnt} columns.
+ *
+ * <p>The benchmark includes the following methods:
+ *
+ * <ul>
+ *   <li>{@code writeJson} / {@code writeGzipJson}: Measures the server side cost of serializing
+ *       the response, with and without compression, and reports the payload size as the {@code
+ *       payloadBytes} secondary result.
+ *   <li>{@code readJson} / {@code readGzipJson}: Measures the client side cost of deserializing the
+ *       response, with and without decompression.
+ * </ul>
+ *
+ * <p>The end-to-end latency of a request is the sum of the write and read costs above plus the
+ * transfer time of the payload, so the reported sizes give the break-even bandwidth for
+ * compression.
+ *
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WireCompressionBenchmark {
+  private static final Type[] COLUMN_TYPES = {
+    Types.LongType.get(),
+    Types.StringType.get(),
+    Types.TimestampType.withoutTimeZone(),
+    Types.DecimalType.of(20, 4),
+    Types.BooleanType.get()
+  };
+
+  @Param({"10", "1000", "5000"})
+  public int columnCnt;
+
+  private final ObjectMapper mapper = JsonUtils.objectMapper();
+  private TableResponse response;
+  private byte[] json;
+  private byte[] gzipJson;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    ColumnDTO[] columns = new ColumnDTO[columnCnt];
+    for (int i = 0; i < columnCnt; i++) {
+      columns[i] =
+          ColumnDTO.builder()
+              .withName("column_" + i)
+              .withDataType(COLUMN_TYPES[i % COLUMN_TYPES.length])
+              .withComment("The comment of column " + i)
+              .build();
+    }
+    TableDTO table =
+        TableDTO.builder()
+            .withName("table")
+            .withComment("comment")
+            .withColumns(columns)
+            .withProperties(Collections.singletonMap("format", "parquet"))
+            .withAudit(
+                AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    this.response = new TableResponse(table);
+    this.json = toJson();
+    this.gzipJson = toGzipJson();
+  }
+
+  @Benchmark
+  public byte[] writeJson(PayloadSize payloadSize) throws IOException {
+    byte[] payload = toJson();
+    payloadSize.payloadBytes = payload.length;
+    return payload;
+  }
+
+  @Benchmark
+  public byte[] writeGzipJson(PayloadSize payloadSize) throws IOException {
+    byte[] payload = toGzipJson();
+    payloadSize.payloadBytes = payload.length;
+    return payload;
+  }
+
+  @Benchmark
+  public TableResponse readJson() throws IOException {
+    return mapper.readValue(json, TableResponse.class);
+  }
+
+  @Benchmark
+  public TableResponse readGzipJson() throws IOException {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipJson))) {
+      return mapper.readValue(in, TableResponse.class);
+    }
+  }
+
+  private byte[] toJson() throws IOException {
+    return mapper.writeValueAsBytes(response);
+  }
+
+  private byte[] toGzipJson() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      mapper.writeValue(gzip, response);
+    }
+    return out.toByteArray();
+  }
+
+  /** The size of the payload written by a benchmark, reported as is in its secondary results. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadSize {
+    public long payloadBytes;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ClientPoolBenchmark measures the acquire/release throughput of {@link ClientPoolImpl} under
+ * contention.
+ *
+ * <p>The benchmark runs with the thread count configured in the jmh block of the build script
+ * (10 by default), so a pool size smaller than the thread count forces callers to queue for a
+ * client. The {@code workTokens} parameter simulates the time a client is held by the caller.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ClientPoolBenchmark {
+  @Param({"1", "4", "16"})
+  public int poolSize;
+
+  @Param({"0", "100"})
+  public int workTokens;
+
+  private ClientPoolImpl<Object, RuntimeException> clientPool;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.clientPool = new NoopClientPool(poolSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    clientPool.close();
+  }
+
+  @Benchmark
+  public Object benchmarkRun() throws InterruptedException {
+    return clientPool.run(
+        client -> {
+          Blackhole.consumeCPU(workTokens);
+          return client;
+        });
+  }
+
+  private static final class NoopClientPool extends ClientPoolImpl<Object, RuntimeException> {
+    private NoopClientPool(int poolSize) {
+      super(poolSize, RuntimeException.class, false);
+    }
+
+    @Override
+    protected Object newClient() {
+      return new Object();
+    }
+
+    @Override
+    protected Object reconnect(Object client) {
+      return client;
+    }
+
+    @Override
+    protected void close(Object client) {}
+  }
+}
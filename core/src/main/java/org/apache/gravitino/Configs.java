@@ -349,6 +349,105 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final long DEFAULT_METRICS_SLOW_REQUEST_THRESHOLD_MS = 1000L;
+  public static final ConfigEntry<Long> METRICS_SLOW_REQUEST_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.metrics.slowRequest.thresholdMs")
+          .doc(
+              "The latency in milliseconds above which an HTTP request is counted as slow and may "
+                  + "be logged with its phase breakdown, 0 disables the slow request log")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_METRICS_SLOW_REQUEST_THRESHOLD_MS);
+
+  public static final double DEFAULT_METRICS_SLOW_REQUEST_SAMPLE_RATE = 0.1;
+  public static final ConfigEntry<Double> METRICS_SLOW_REQUEST_SAMPLE_RATE =
+      new ConfigBuilder("gravitino.metrics.slowRequest.sampleRate")
+          .doc("The fraction of slow HTTP requests to log, between 0 and 1")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .doubleConf()
+          .checkValue(
+              value -> value >= 0 && value <= 1, "The value must be between 0 and 1 inclusive")
+          .createWithDefault(DEFAULT_METRICS_SLOW_REQUEST_SAMPLE_RATE);
+
+  public static final ConfigEntry<Boolean> TRACING_ENABLED =
+      new ConfigBuilder("gravitino.tracing.enabled")
+          .doc("Whether to trace the requests and export the spans")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final double DEFAULT_TRACING_SAMPLE_RATE = 0.01;
+  public static final ConfigEntry<Double> TRACING_SAMPLE_RATE =
+      new ConfigBuilder("gravitino.tracing.sampleRate")
+          .doc(
+              "The fraction of requests to trace, between 0 and 1. A request carrying a W3C "
+                  + "`traceparent` header follows the sampling decision of the caller")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .doubleConf()
+          .checkValue(
+              value -> value >= 0 && value <= 1, "The value must be between 0 and 1 inclusive")
+          .createWithDefault(DEFAULT_TRACING_SAMPLE_RATE);
+
+  public static final ConfigEntry<String> TRACING_EXPORTER =
+      new ConfigBuilder("gravitino.tracing.exporter")
+          .doc(
+              "Where to export the spans in the OTLP JSON format, `log` writes them to the "
+                  + "`org.apache.gravitino.tracing.spans` logger and `file` appends them to "
+                  + "`gravitino.tracing.file.path`")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(
+              value -> "log".equalsIgnoreCase(value) || "file".equalsIgnoreCase(value),
+              "The value must be 'log' or 'file'")
+          .createWithDefault("log");
+
+  public static final ConfigEntry<String> TRACING_FILE_PATH =
+      new ConfigBuilder("gravitino.tracing.file.path")
+          .doc(
+              "The file to append the spans to when the exporter is `file`. A relative path is "
+                  + "resolved against `${GRAVITINO_HOME}`")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("logs/gravitino-traces.json");
+
+  public static final ConfigEntry<Integer> TRACING_EXPORT_QUEUE_SIZE =
+      new ConfigBuilder("gravitino.tracing.exportQueueSize")
+          .doc(
+              "The maximum number of finished traces waiting to be exported, more traces are "
+                  + "dropped")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2048);
+
+  public static final ConfigEntry<Long> CATALOG_SYNC_INTERVAL_SECS =
+      new ConfigBuilder("gravitino.catalog.sync.intervalSecs")
+          .doc(
+              "The interval in seconds to import the schemas and tables of the external catalogs "
+                  + "into the entity store in the background, 0 disables the periodic sync")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Integer> CATALOG_SYNC_PARALLELISM =
+      new ConfigBuilder("gravitino.catalog.sync.parallelism")
+          .doc("The number of threads loading the metadata from the catalogs during a sync")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> CATALOG_SYNC_BATCH_SIZE =
+      new ConfigBuilder("gravitino.catalog.sync.batchSize")
+          .doc("The number of entities written to the entity store in one transaction")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
@@ -435,6 +534,29 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  // Heap budget of the cache
+  public static final ConfigEntry<Long> CACHE_MAX_BYTES =
+      new ConfigBuilder("gravitino.cache.maxBytes")
+          .doc(
+              "The heap budget of the cache in bytes. When it's positive and the weigher is "
+                  + "enabled, entries are weighed by the estimated bytes of their entities and "
+                  + "evicted to stay within the budget. 0 weighs entries by entity type.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  // Bytes of the compact second cache tier
+  public static final ConfigEntry<Long> CACHE_SECOND_TIER_MAX_BYTES =
+      new ConfigBuilder("gravitino.cache.secondTier.maxBytes")
+          .doc(
+              "The maximum bytes of the second cache tier, which keeps the table and schema "
+                  + "entities evicted from the cache in a compact binary encoding. 0 disables it.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   // Provider name for cache
   public static final ConfigEntry<String> CACHE_IMPLEMENTATION =
       new ConfigBuilder("gravitino.cache.implementation")
@@ -31,6 +31,7 @@ import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
+import org.apache.gravitino.catalog.CatalogSyncManager;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
@@ -99,6 +100,7 @@ import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.tracing.Tracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,6 +121,8 @@ public class GravitinoEnv {
 
   private CatalogManager catalogManager;
 
+  private CatalogSyncManager catalogSyncManager;
+
   private MetalakeManager metalakeManager;
 
   private SchemaDispatcher schemaDispatcher;
@@ -451,6 +455,15 @@ public class GravitinoEnv {
     return jobOperationDispatcher;
   }
 
+  /**
+   * Get the CatalogSyncManager associated with the Gravitino environment.
+   *
+   * @return The CatalogSyncManager instance.
+   */
+  public CatalogSyncManager catalogSyncManager() {
+    return catalogSyncManager;
+  }
+
   public StatisticDispatcher statisticDispatcher() {
     return statisticDispatcher;
   }
@@ -479,6 +492,10 @@ public class GravitinoEnv {
       }
     }
 
+    if (catalogSyncManager != null) {
+      catalogSyncManager.close();
+    }
+
     if (catalogManager != null) {
       catalogManager.close();
     }
@@ -495,6 +512,8 @@ public class GravitinoEnv {
       metricsSystem.close();
     }
 
+    Tracing.close();
+
     if (eventListenerManager != null) {
       eventListenerManager.stop();
     }
@@ -524,6 +543,8 @@ public class GravitinoEnv {
   }
 
   private void initBaseComponents() {
+    Tracing.initialize(config);
+
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
 
@@ -550,67 +571,133 @@ public class GravitinoEnv {
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
     // MetalakeManager
+    // Every layer of the operation chains is wrapped by Tracing#traced, which returns the layer
+    // itself unless tracing is enabled.
     this.metalakeManager = new MetalakeManager(entityStore, idGenerator);
-    MetalakeHookDispatcher metalakeHookDispatcher = new MetalakeHookDispatcher(metalakeManager);
-    MetalakeNormalizeDispatcher metalakeNormalizeDispatcher =
-        new MetalakeNormalizeDispatcher(metalakeHookDispatcher);
-    this.metalakeDispatcher = new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher);
+    MetalakeDispatcher metalakeHookDispatcher =
+        Tracing.traced(
+            MetalakeDispatcher.class,
+            new MetalakeHookDispatcher(Tracing.traced(MetalakeDispatcher.class, metalakeManager)));
+    MetalakeDispatcher metalakeNormalizeDispatcher =
+        Tracing.traced(
+            MetalakeDispatcher.class, new MetalakeNormalizeDispatcher(metalakeHookDispatcher));
+    this.metalakeDispatcher =
+        Tracing.traced(
+            MetalakeDispatcher.class,
+            new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher));
 
     // Create and initialize Catalog related modules, the operation chain is:
     // CatalogEventDispatcher -> CatalogNormalizeDispatcher -> CatalogHookDispatcher ->
     // CatalogManager
     this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
-    CatalogHookDispatcher catalogHookDispatcher = new CatalogHookDispatcher(catalogManager);
-    CatalogNormalizeDispatcher catalogNormalizeDispatcher =
-        new CatalogNormalizeDispatcher(catalogHookDispatcher);
-    this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher);
+    CatalogDispatcher catalogHookDispatcher =
+        Tracing.traced(
+            CatalogDispatcher.class,
+            new CatalogHookDispatcher(Tracing.traced(CatalogDispatcher.class, catalogManager)));
+    CatalogDispatcher catalogNormalizeDispatcher =
+        Tracing.traced(
+            CatalogDispatcher.class, new CatalogNormalizeDispatcher(catalogHookDispatcher));
+    this.catalogDispatcher =
+        Tracing.traced(
+            CatalogDispatcher.class,
+            new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher));
 
     this.credentialOperationDispatcher =
         new CredentialOperationDispatcher(catalogManager, entityStore, idGenerator);
 
     SchemaOperationDispatcher schemaOperationDispatcher =
         new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
-    SchemaHookDispatcher schemaHookDispatcher = new SchemaHookDispatcher(schemaOperationDispatcher);
-    SchemaNormalizeDispatcher schemaNormalizeDispatcher =
-        new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager);
-    this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
+    SchemaDispatcher schemaHookDispatcher =
+        Tracing.traced(
+            SchemaDispatcher.class,
+            new SchemaHookDispatcher(
+                Tracing.traced(SchemaDispatcher.class, schemaOperationDispatcher)));
+    SchemaDispatcher schemaNormalizeDispatcher =
+        Tracing.traced(
+            SchemaDispatcher.class,
+            new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager));
+    this.schemaDispatcher =
+        Tracing.traced(
+            SchemaDispatcher.class, new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher));
 
     TableOperationDispatcher tableOperationDispatcher =
         new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
-    TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
-    TableNormalizeDispatcher tableNormalizeDispatcher =
-        new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
-    this.tableDispatcher = new TableEventDispatcher(eventBus, tableNormalizeDispatcher);
+    TableDispatcher tableHookDispatcher =
+        Tracing.traced(
+            TableDispatcher.class,
+            new TableHookDispatcher(
+                Tracing.traced(TableDispatcher.class, tableOperationDispatcher)));
+    TableDispatcher tableNormalizeDispatcher =
+        Tracing.traced(
+            TableDispatcher.class,
+            new TableNormalizeDispatcher(tableHookDispatcher, catalogManager));
+    this.tableDispatcher =
+        Tracing.traced(
+            TableDispatcher.class, new TableEventDispatcher(eventBus, tableNormalizeDispatcher));
+
+    this.catalogSyncManager =
+        new CatalogSyncManager(config, catalogManager, entityStore, idGenerator);
 
     // TODO: We can install hooks when we need, we only supports ownership post hook,
     //  partition doesn't have ownership, so we don't need it now.
     PartitionOperationDispatcher partitionOperationDispatcher =
         new PartitionOperationDispatcher(catalogManager, entityStore, idGenerator);
-    PartitionNormalizeDispatcher partitionNormalizeDispatcher =
-        new PartitionNormalizeDispatcher(partitionOperationDispatcher, catalogManager);
-    this.partitionDispatcher = new PartitionEventDispatcher(eventBus, partitionNormalizeDispatcher);
+    PartitionDispatcher partitionNormalizeDispatcher =
+        Tracing.traced(
+            PartitionDispatcher.class,
+            new PartitionNormalizeDispatcher(
+                Tracing.traced(PartitionDispatcher.class, partitionOperationDispatcher),
+                catalogManager));
+    this.partitionDispatcher =
+        Tracing.traced(
+            PartitionDispatcher.class,
+            new PartitionEventDispatcher(eventBus, partitionNormalizeDispatcher));
 
     FilesetOperationDispatcher filesetOperationDispatcher =
         new FilesetOperationDispatcher(catalogManager, entityStore, idGenerator);
-    FilesetHookDispatcher filesetHookDispatcher =
-        new FilesetHookDispatcher(filesetOperationDispatcher);
-    FilesetNormalizeDispatcher filesetNormalizeDispatcher =
-        new FilesetNormalizeDispatcher(filesetHookDispatcher, catalogManager);
-    this.filesetDispatcher = new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher);
+    FilesetDispatcher filesetHookDispatcher =
+        Tracing.traced(
+            FilesetDispatcher.class,
+            new FilesetHookDispatcher(
+                Tracing.traced(FilesetDispatcher.class, filesetOperationDispatcher)));
+    FilesetDispatcher filesetNormalizeDispatcher =
+        Tracing.traced(
+            FilesetDispatcher.class,
+            new FilesetNormalizeDispatcher(filesetHookDispatcher, catalogManager));
+    this.filesetDispatcher =
+        Tracing.traced(
+            FilesetDispatcher.class,
+            new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher));
 
     TopicOperationDispatcher topicOperationDispatcher =
         new TopicOperationDispatcher(catalogManager, entityStore, idGenerator);
-    TopicHookDispatcher topicHookDispatcher = new TopicHookDispatcher(topicOperationDispatcher);
-    TopicNormalizeDispatcher topicNormalizeDispatcher =
-        new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager);
-    this.topicDispatcher = new TopicEventDispatcher(eventBus, topicNormalizeDispatcher);
+    TopicDispatcher topicHookDispatcher =
+        Tracing.traced(
+            TopicDispatcher.class,
+            new TopicHookDispatcher(
+                Tracing.traced(TopicDispatcher.class, topicOperationDispatcher)));
+    TopicDispatcher topicNormalizeDispatcher =
+        Tracing.traced(
+            TopicDispatcher.class,
+            new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager));
+    this.topicDispatcher =
+        Tracing.traced(
+            TopicDispatcher.class, new TopicEventDispatcher(eventBus, topicNormalizeDispatcher));
 
     ModelOperationDispatcher modelOperationDispatcher =
         new ModelOperationDispatcher(catalogManager, entityStore, idGenerator);
-    ModelHookDispatcher modelHookDispatcher = new ModelHookDispatcher(modelOperationDispatcher);
-    ModelNormalizeDispatcher modelNormalizeDispatcher =
-        new ModelNormalizeDispatcher(modelHookDispatcher, catalogManager);
-    this.modelDispatcher = new ModelEventDispatcher(eventBus, modelNormalizeDispatcher);
+    ModelDispatcher modelHookDispatcher =
+        Tracing.traced(
+            ModelDispatcher.class,
+            new ModelHookDispatcher(
+                Tracing.traced(ModelDispatcher.class, modelOperationDispatcher)));
+    ModelDispatcher modelNormalizeDispatcher =
+        Tracing.traced(
+            ModelDispatcher.class,
+            new ModelNormalizeDispatcher(modelHookDispatcher, catalogManager));
+    this.modelDispatcher =
+        Tracing.traced(
+            ModelDispatcher.class, new ModelEventDispatcher(eventBus, modelNormalizeDispatcher));
 
     // TODO: Add FunctionHookDispatcher and FunctionEventDispatcher when needed
     // The operation chain should be:
@@ -92,6 +92,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
   /** Cache Index structure. */
   private RadixTree<EntityCacheRelationKey> cacheIndex;
 
+  /** The second tier of compact encoded entities, null if it's disabled. */
+  private final CompactEntityCache secondTier;
+
   private ScheduledExecutorService scheduler;
 
   @VisibleForTesting
@@ -131,6 +134,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
                 return;
               }
               try {
+                if (cause == RemovalCause.SIZE && demoteToSecondTier(key, value)) {
+                  return;
+                }
                 invalidateExpiredItem(key);
               } catch (Throwable t) {
                 LOG.error(
@@ -144,6 +150,17 @@ public class CaffeineEntityCache extends BaseEntityCache {
 
     this.cacheData = cacheDataBuilder.build();
 
+    long secondTierMaxBytes = cacheConfig.get(Configs.CACHE_SECOND_TIER_MAX_BYTES);
+    this.secondTier =
+        secondTierMaxBytes > 0
+            ? new CompactEntityCache(
+                secondTierMaxBytes,
+                cacheConfig.get(Configs.CACHE_EXPIRATION_TIME),
+                cacheConfig.get(Configs.CACHE_STATS_ENABLED),
+                CLEANUP_EXECUTOR,
+                this::invalidateEvictedEncodedItem)
+            : null;
+
     if (cacheConfig.get(Configs.CACHE_STATS_ENABLED)) {
       this.scheduler = Executors.newSingleThreadScheduledExecutor();
       startCacheStatsMonitor();
@@ -174,7 +191,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
       NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    List<Entity> entitiesFromCache = cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type));
+    EntityCacheRelationKey key = EntityCacheRelationKey.of(ident, type);
+    List<Entity> entitiesFromCache = cacheData.getIfPresent(key);
+    if (entitiesFromCache == null && secondTier != null) {
+      entitiesFromCache = promoteFromSecondTier(key);
+    }
 
     return Optional.ofNullable(entitiesFromCache)
         .filter(l -> !l.isEmpty())
@@ -256,7 +277,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
   @Override
   public boolean contains(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
-    return cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type)) != null;
+    EntityCacheRelationKey key = EntityCacheRelationKey.of(ident, type);
+    return cacheData.getIfPresent(key) != null
+        || (secondTier != null && secondTier.contains(key));
   }
 
   /** {@inheritDoc} */
@@ -271,6 +294,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
     segmentedLock.withGlobalLock(
         () -> {
           cacheData.invalidateAll();
+          if (secondTier != null) {
+            secondTier.invalidateAll();
+          }
         });
   }
 
@@ -356,6 +382,80 @@ public class CaffeineEntityCache extends BaseEntityCache {
         });
   }
 
+  /**
+   * Moves an entry evicted from the first tier to the second tier. The entry stays in the cache
+   * index, so it's invalidated like the entries of the first tier. It's skipped if the entry has
+   * been invalidated or put again since it was evicted.
+   *
+   * @param key The key of the evicted entry.
+   * @param entities The entities of the evicted entry.
+   * @return True if the second tier handled the entry, false if the evicted entry should be
+   *     removed from the indexes.
+   */
+  private boolean demoteToSecondTier(EntityCacheKey key, List<Entity> entities) {
+    if (secondTier == null || !CompactEntityCache.accepts(key, entities)) {
+      return false;
+    }
+
+    return segmentedLock.withLock(
+        key,
+        () -> {
+          if (cacheData.policy().getIfPresentQuietly(key) != null) {
+            return true;
+          }
+          // The invalidation of a parent entity doesn't hold the lock of this key, so check the
+          // index after the put. Either the entry is invalidated here, or the invalidation removes
+          // it from the second tier after removing the index.
+          secondTier.put(key, entities.get(0));
+          if (cacheIndex.getValueForExactKey(key.toString()) == null) {
+            secondTier.invalidate(key);
+          }
+          return true;
+        });
+  }
+
+  /**
+   * Moves an entry of the second tier back to the first tier on a first-tier miss.
+   *
+   * @param key The key of the entry.
+   * @return The entities of the entry, or null if the key is not in the second tier.
+   */
+  private List<Entity> promoteFromSecondTier(EntityCacheRelationKey key) {
+    return segmentedLock.withLock(
+        key,
+        () -> {
+          List<Entity> entities = cacheData.getIfPresent(key);
+          if (entities != null) {
+            return entities;
+          }
+
+          Entity entity = secondTier.getIfPresent(key);
+          if (entity == null) {
+            return null;
+          }
+          entities = Lists.newArrayList(entity);
+          secondTier.invalidate(key);
+          cacheData.put(key, entities);
+          return entities;
+        });
+  }
+
+  /**
+   * Removes the index of an entry evicted from the second tier, unless the entry has been put to
+   * the first tier again.
+   *
+   * @param key The key of the evicted entry.
+   */
+  private void invalidateEvictedEncodedItem(EntityCacheKey key) {
+    segmentedLock.withLock(
+        key,
+        () -> {
+          if (cacheData.policy().getIfPresentQuietly(key) == null) {
+            cacheIndex.remove(key.toString());
+          }
+        });
+  }
+
   /**
    * Syncs the entities to the cache, if entities are too big and cannot put to the cache, then it
    * will be removed from the cache, and cacheIndex will not be updated.
@@ -373,6 +473,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
     }
 
     cacheData.put(key, newEntities);
+    if (secondTier != null) {
+      secondTier.invalidate(key);
+    }
 
     for (Entity entity : newEntities) {
       reverseIndex.indexEntity(entity, key);
@@ -395,7 +498,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
   private <KEY, VALUE> Caffeine<KEY, VALUE> newBaseBuilder(Config cacheConfig) {
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
 
-    if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
+    if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)
+        && cacheConfig.get(Configs.CACHE_MAX_BYTES) > 0) {
+      builder.maximumWeight(cacheConfig.get(Configs.CACHE_MAX_BYTES));
+      builder.weigher(EntityCacheByteWeigher.getInstance());
+    } else if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
       builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
       builder.weigher(EntityCacheWeigher.getInstance());
     } else {
@@ -453,6 +560,10 @@ public class CaffeineEntityCache extends BaseEntityCache {
 
       cacheData.invalidate(currentKeyToRemove);
       cacheIndex.remove(currentKeyToRemove.toString());
+      // Removed after the index, see demoteToSecondTier.
+      if (secondTier != null) {
+        secondTier.invalidate(currentKeyToRemove);
+      }
 
       // Remove related entity keys
       List<EntityCacheKey> relatedEntityKeysToRemove =
@@ -501,6 +612,15 @@ public class CaffeineEntityCache extends BaseEntityCache {
               stats.loadSuccessCount(),
               stats.loadFailureCount(),
               stats.evictionCount());
+          if (secondTier != null) {
+            CacheStats secondTierStats = secondTier.stats();
+            LOG.info(
+                "[Second Tier Cache Stats] hitRate={}, hitCount={}, missCount={}, evictions={}",
+                String.format("%.4f", secondTierStats.hitRate()),
+                secondTierStats.hitCount(),
+                secondTierStats.missCount(),
+                secondTierStats.evictionCount());
+          }
         },
         CACHE_MONITOR_INITIAL_DELAY_MINUTES,
         CACHE_MONITOR_PERIOD_MINUTES,
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.gravitino.Entity;
+
+/**
+ * The second tier of {@link CaffeineEntityCache}. It keeps the table and schema entities evicted
+ * from the first tier as byte arrays encoded by {@link CompactEntityCodec}, which are several
+ * times smaller than the entity objects, and decodes them on a first-tier miss.
+ */
+class CompactEntityCache {
+
+  /** The share of the tier's bytes reserved for the strings shared by the encoded entities. */
+  private static final int DICTIONARY_SHARE = 8;
+
+  private static final int ENTRY_OVERHEAD_SIZE =
+      EntityCacheByteWeigher.ENTRY_OVERHEAD_SIZE + EntityCacheByteWeigher.ARRAY_HEADER_SIZE;
+
+  private final CompactEntityCodec codec;
+  private final Cache<EntityCacheKey, byte[]> encodedEntities;
+
+  /**
+   * Creates the second tier.
+   *
+   * @param maxBytes The maximum bytes of the encoded entities and their string dictionary.
+   * @param expireAfterAccessMs The time in milliseconds after the last access when an entry
+   *     expires, or 0 if entries never expire.
+   * @param recordStats Whether to record the hit and miss statistics.
+   * @param executor The executor to run the removal listener.
+   * @param onEvicted Called with the key of an entry evicted because the tier is full or the
+   *     entry expired.
+   */
+  CompactEntityCache(
+      long maxBytes,
+      long expireAfterAccessMs,
+      boolean recordStats,
+      Executor executor,
+      Consumer<EntityCacheKey> onEvicted) {
+    long dictionaryBytes = maxBytes / DICTIONARY_SHARE;
+    this.codec = new CompactEntityCodec(new EntityStringDictionary(dictionaryBytes));
+
+    Caffeine<EntityCacheKey, byte[]> builder =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes - dictionaryBytes)
+            .weigher(
+                (EntityCacheKey key, byte[] value) -> ENTRY_OVERHEAD_SIZE + value.length)
+            .executor(executor)
+            .removalListener(
+                (key, value, cause) -> {
+                  if (cause == RemovalCause.EXPLICIT || cause == RemovalCause.REPLACED) {
+                    return;
+                  }
+                  onEvicted.accept(key);
+                });
+    if (expireAfterAccessMs > 0) {
+      builder.expireAfterAccess(expireAfterAccessMs, TimeUnit.MILLISECONDS);
+    }
+    if (recordStats) {
+      builder.recordStats();
+    }
+    this.encodedEntities = builder.build();
+  }
+
+  /**
+   * Checks whether the entities of a first-tier entry can be kept in this tier.
+   *
+   * @param key The key of the entry.
+   * @param entities The entities of the entry.
+   * @return True if the entry holds a single table or schema entity.
+   */
+  static boolean accepts(EntityCacheKey key, List<Entity> entities) {
+    return key instanceof EntityCacheRelationKey
+        && ((EntityCacheRelationKey) key).relationType() == null
+        && entities != null
+        && entities.size() == 1
+        && CompactEntityCodec.supports(entities.get(0));
+  }
+
+  /**
+   * Encodes and stores the entity of an entry {@link #accepts(EntityCacheKey, List)
+   * accepted} by this tier.
+   *
+   * @param key The key of the entry.
+   * @param entity The entity of the entry.
+   */
+  void put(EntityCacheKey key, Entity entity) {
+    encodedEntities.put(key, codec.encode(entity));
+  }
+
+  /**
+   * Decodes the entity of the key if it's in this tier.
+   *
+   * @param key The key of the entry.
+   * @return The decoded entity, or null if the key is not in this tier.
+   */
+  Entity getIfPresent(EntityCacheKey key) {
+    byte[] bytes = encodedEntities.getIfPresent(key);
+    return bytes == null ? null : codec.decode(bytes);
+  }
+
+  /**
+   * Checks whether the key is in this tier without decoding it.
+   *
+   * @param key The key of the entry.
+   * @return True if the key is in this tier.
+   */
+  boolean contains(EntityCacheKey key) {
+    return encodedEntities.policy().getIfPresentQuietly(key) != null;
+  }
+
+  /**
+   * Removes the key from this tier.
+   *
+   * @param key The key of the entry.
+   */
+  void invalidate(EntityCacheKey key) {
+    encodedEntities.invalidate(key);
+  }
+
+  /** Removes all the entries of this tier. */
+  void invalidateAll() {
+    encodedEntities.invalidateAll();
+  }
+
+  /** @return The statistics of this tier. */
+  CacheStats stats() {
+    return encodedEntities.stats();
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    encodedEntities.cleanUp();
+    return encodedEntities.estimatedSize();
+  }
+}
@@ -0,0 +1,517 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.dto.rel.DistributionDTO;
+import org.apache.gravitino.dto.rel.SortOrderDTO;
+import org.apache.gravitino.dto.rel.expressions.FunctionArg;
+import org.apache.gravitino.dto.rel.indexes.IndexDTO;
+import org.apache.gravitino.dto.rel.partitioning.Partitioning;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.types.Type;
+
+/**
+ * Encodes the table and schema entities into compact byte arrays for the second tier of the
+ * entity cache. Fixed-width fields are written as is, and the strings repeated across entities,
+ * such as namespace levels, property keys, user names and column types, are written as ids of a
+ * shared {@link EntityStringDictionary}. Names, comments, property values and default values are
+ * written inline as UTF-8.
+ *
+ * <p>The expressions of a table, such as partitioning and default values, are encoded as the same
+ * JSON as the relational entity store and decoded into their API implementations, which compare
+ * by value. The decoded column types are shared between entities.
+ */
+final class CompactEntityCodec {
+
+  private static final byte TABLE = 1;
+  private static final byte SCHEMA = 2;
+
+  // A string is written as a varint tag: 0 is null, 1 is an inline string and n >= 2 is the
+  // dictionary id n - 2.
+  private static final int NULL_STRING = 0;
+  private static final int INLINE_STRING = 1;
+  private static final int DICTIONARY_STRING_BASE = 2;
+
+  private static final byte DEFAULT_VALUE_NULL = 0;
+  private static final byte DEFAULT_VALUE_NOT_SET = 1;
+  private static final byte DEFAULT_VALUE_JSON = 2;
+
+  private static final int NULLABLE_FLAG = 1;
+  private static final int AUTO_INCREMENT_FLAG = 1 << 1;
+
+  private final EntityStringDictionary dictionary;
+  private final ConcurrentMap<Integer, Type> typesById = new ConcurrentHashMap<>();
+
+  CompactEntityCodec(EntityStringDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Checks whether the entity can be encoded by this codec.
+   *
+   * @param entity The entity to check.
+   * @return True if the entity is a table or a schema.
+   */
+  static boolean supports(Entity entity) {
+    return entity instanceof TableEntity || entity instanceof SchemaEntity;
+  }
+
+  /**
+   * Encodes a table or schema entity.
+   *
+   * @param entity The entity to encode, it must be {@link #supports(Entity) supported}.
+   * @return The encoded bytes.
+   */
+  byte[] encode(Entity entity) {
+    Output out = new Output(256);
+    if (entity instanceof TableEntity) {
+      out.writeByte(TABLE);
+      writeTable(out, (TableEntity) entity);
+    } else if (entity instanceof SchemaEntity) {
+      out.writeByte(SCHEMA);
+      writeSchema(out, (SchemaEntity) entity);
+    } else {
+      throw new IllegalArgumentException("Unsupported entity type: " + entity.type());
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes the bytes returned by {@link #encode(Entity)}.
+   *
+   * @param bytes The encoded bytes.
+   * @return The decoded entity.
+   */
+  Entity decode(byte[] bytes) {
+    Input in = new Input(bytes);
+    byte kind = in.readByte();
+    switch (kind) {
+      case TABLE:
+        return readTable(in);
+      case SCHEMA:
+        return readSchema(in);
+      default:
+        throw new IllegalStateException("Unknown encoded entity kind: " + kind);
+    }
+  }
+
+  private void writeTable(Output out, TableEntity table) {
+    writeId(out, table.id());
+    writeString(out, table.name(), false);
+    writeNamespace(out, table.namespace());
+    writeAuditInfo(out, table.auditInfo());
+    writeString(out, table.comment(), false);
+    writeProperties(out, table.properties());
+
+    List<ColumnEntity> columns = table.columns();
+    out.writeVarInt(columns.size());
+    for (ColumnEntity column : columns) {
+      writeColumn(out, column);
+    }
+
+    writeString(
+        out,
+        table.partitioning().length == 0
+            ? null
+            : toJson(DTOConverters.toDTOs(table.partitioning())),
+        false);
+    writeString(
+        out,
+        table.sortOrders().length == 0 ? null : toJson(DTOConverters.toDTOs(table.sortOrders())),
+        false);
+    writeString(
+        out,
+        table.distribution() == Distributions.NONE
+            ? null
+            : toJson(DTOConverters.toDTO(table.distribution())),
+        false);
+    writeString(
+        out,
+        table.indexes().length == 0 ? null : toJson(DTOConverters.toDTOs(table.indexes())),
+        false);
+  }
+
+  private TableEntity readTable(Input in) {
+    TableEntity.Builder builder =
+        TableEntity.builder()
+            .withId(readId(in))
+            .withName(readString(in))
+            .withNamespace(readNamespace(in))
+            .withAuditInfo(readAuditInfo(in))
+            .withComment(readString(in))
+            .withProperties(readProperties(in));
+
+    int columnCount = in.readVarInt();
+    List<ColumnEntity> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(readColumn(in));
+    }
+    builder.withColumns(columns);
+
+    String partitioning = readString(in);
+    if (partitioning != null) {
+      builder.withPartitioning(
+          DTOConverters.fromDTOs(fromJson(partitioning, Partitioning[].class)));
+    }
+    String sortOrders = readString(in);
+    if (sortOrders != null) {
+      builder.withSortOrders(DTOConverters.fromDTOs(fromJson(sortOrders, SortOrderDTO[].class)));
+    }
+    String distribution = readString(in);
+    if (distribution != null) {
+      builder.withDistribution(
+          DTOConverters.fromDTO(fromJson(distribution, DistributionDTO.class)));
+    }
+    String indexes = readString(in);
+    if (indexes != null) {
+      builder.withIndexes(DTOConverters.fromDTOs(fromJson(indexes, IndexDTO[].class)));
+    }
+    return builder.build();
+  }
+
+  private void writeColumn(Output out, ColumnEntity column) {
+    writeId(out, column.id());
+    writeString(out, column.name(), false);
+    out.writeVarInt(column.position() == null ? 0 : column.position() + 1);
+    writeString(out, toJson(column.dataType()), true);
+    writeString(out, column.comment(), false);
+    int flags = column.nullable() ? NULLABLE_FLAG : 0;
+    out.writeVarInt(column.autoIncrement() ? flags | AUTO_INCREMENT_FLAG : flags);
+
+    Expression defaultValue = column.defaultValue();
+    if (defaultValue == null) {
+      out.writeByte(DEFAULT_VALUE_NULL);
+    } else if (defaultValue.equals(Column.DEFAULT_VALUE_NOT_SET)) {
+      out.writeByte(DEFAULT_VALUE_NOT_SET);
+    } else {
+      out.writeByte(DEFAULT_VALUE_JSON);
+      writeString(out, toJson(DTOConverters.toFunctionArg(defaultValue)), false);
+    }
+    writeAuditInfo(out, column.auditInfo());
+  }
+
+  private ColumnEntity readColumn(Input in) {
+    ColumnEntity.Builder builder =
+        ColumnEntity.builder().withId(readId(in)).withName(readString(in));
+    int position = in.readVarInt();
+    builder.withPosition(position == 0 ? null : position - 1);
+    builder.withDataType(readType(in));
+    builder.withComment(readString(in));
+    int flags = in.readVarInt();
+    builder
+        .withNullable((flags & NULLABLE_FLAG) != 0)
+        .withAutoIncrement((flags & AUTO_INCREMENT_FLAG) != 0);
+
+    byte defaultValueKind = in.readByte();
+    if (defaultValueKind == DEFAULT_VALUE_NOT_SET) {
+      builder.withDefaultValue(Column.DEFAULT_VALUE_NOT_SET);
+    } else if (defaultValueKind == DEFAULT_VALUE_JSON) {
+      builder.withDefaultValue(
+          DTOConverters.fromFunctionArg((FunctionArg) fromJson(readString(in), Expression.class)));
+    }
+    return builder.withAuditInfo(readAuditInfo(in)).build();
+  }
+
+  private void writeSchema(Output out, SchemaEntity schema) {
+    writeId(out, schema.id());
+    writeString(out, schema.name(), false);
+    writeNamespace(out, schema.namespace());
+    writeAuditInfo(out, schema.auditInfo());
+    writeString(out, schema.comment(), false);
+    writeProperties(out, schema.properties());
+  }
+
+  private SchemaEntity readSchema(Input in) {
+    return SchemaEntity.builder()
+        .withId(readId(in))
+        .withName(readString(in))
+        .withNamespace(readNamespace(in))
+        .withAuditInfo(readAuditInfo(in))
+        .withComment(readString(in))
+        .withProperties(readProperties(in))
+        .build();
+  }
+
+  private void writeAuditInfo(Output out, AuditInfo auditInfo) {
+    if (auditInfo == null) {
+      out.writeByte((byte) 0);
+      return;
+    }
+    out.writeByte((byte) 1);
+    writeString(out, auditInfo.creator(), true);
+    writeInstant(out, auditInfo.createTime());
+    writeString(out, auditInfo.lastModifier(), true);
+    writeInstant(out, auditInfo.lastModifiedTime());
+  }
+
+  private AuditInfo readAuditInfo(Input in) {
+    if (in.readByte() == 0) {
+      return null;
+    }
+    return AuditInfo.builder()
+        .withCreator(readString(in))
+        .withCreateTime(readInstant(in))
+        .withLastModifier(readString(in))
+        .withLastModifiedTime(readInstant(in))
+        .build();
+  }
+
+  private static void writeInstant(Output out, Instant instant) {
+    if (instant == null) {
+      out.writeByte((byte) 0);
+      return;
+    }
+    out.writeByte((byte) 1);
+    out.writeLong(instant.getEpochSecond());
+    out.writeVarInt(instant.getNano());
+  }
+
+  private static Instant readInstant(Input in) {
+    if (in.readByte() == 0) {
+      return null;
+    }
+    long seconds = in.readLong();
+    return Instant.ofEpochSecond(seconds, in.readVarInt());
+  }
+
+  private void writeNamespace(Output out, Namespace namespace) {
+    if (namespace == null) {
+      out.writeVarInt(0);
+      return;
+    }
+    String[] levels = namespace.levels();
+    out.writeVarInt(levels.length + 1);
+    for (String level : levels) {
+      writeString(out, level, true);
+    }
+  }
+
+  private Namespace readNamespace(Input in) {
+    int length = in.readVarInt() - 1;
+    if (length < 0) {
+      return null;
+    }
+    String[] levels = new String[length];
+    for (int i = 0; i < length; i++) {
+      levels[i] = readString(in);
+    }
+    return Namespace.of(levels);
+  }
+
+  private void writeProperties(Output out, Map<String, String> properties) {
+    if (properties == null) {
+      out.writeVarInt(0);
+      return;
+    }
+    out.writeVarInt(properties.size() + 1);
+    for (Map.Entry<String, String> entry : properties.entrySet()) {
+      writeString(out, entry.getKey(), true);
+      writeString(out, entry.getValue(), false);
+    }
+  }
+
+  private Map<String, String> readProperties(Input in) {
+    int size = in.readVarInt() - 1;
+    if (size < 0) {
+      return null;
+    }
+    Map<String, String> properties = new HashMap<>(Math.max(4, size * 4 / 3 + 1));
+    for (int i = 0; i < size; i++) {
+      properties.put(readString(in), readString(in));
+    }
+    return properties;
+  }
+
+  private static void writeId(Output out, Long id) {
+    if (id == null) {
+      out.writeByte((byte) 0);
+      return;
+    }
+    out.writeByte((byte) 1);
+    out.writeLong(id);
+  }
+
+  private static Long readId(Input in) {
+    return in.readByte() == 0 ? null : in.readLong();
+  }
+
+  private void writeString(Output out, String value, boolean intern) {
+    if (value == null) {
+      out.writeVarInt(NULL_STRING);
+      return;
+    }
+    int id = intern ? dictionary.idOf(value) : -1;
+    if (id >= 0) {
+      out.writeVarInt(id + DICTIONARY_STRING_BASE);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeVarInt(INLINE_STRING);
+    out.writeVarInt(bytes.length);
+    out.writeBytes(bytes);
+  }
+
+  private String readString(Input in) {
+    int tag = in.readVarInt();
+    if (tag == NULL_STRING) {
+      return null;
+    }
+    if (tag == INLINE_STRING) {
+      return in.readUtf8(in.readVarInt());
+    }
+    return dictionary.stringOf(tag - DICTIONARY_STRING_BASE);
+  }
+
+  private Type readType(Input in) {
+    int tag = in.readVarInt();
+    if (tag == NULL_STRING) {
+      return null;
+    }
+    if (tag == INLINE_STRING) {
+      return fromJson(in.readUtf8(in.readVarInt()), Type.class);
+    }
+    // Types are immutable, so the entities decoded from the same dictionary entry share them.
+    int id = tag - DICTIONARY_STRING_BASE;
+    return typesById.computeIfAbsent(id, key -> fromJson(dictionary.stringOf(key), Type.class));
+  }
+
+  private static String toJson(Object value) {
+    try {
+      return JsonUtils.anyFieldMapper().writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+  }
+
+  private static <T> T fromJson(String json, Class<T> clazz) {
+    try {
+      return JsonUtils.anyFieldMapper().readValue(json, clazz);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+
+  /** A growable byte buffer with big-endian longs and unsigned LEB128 varints. */
+  private static final class Output {
+    private byte[] buffer;
+    private int position;
+
+    private Output(int initialCapacity) {
+      this.buffer = new byte[initialCapacity];
+    }
+
+    private void writeByte(byte value) {
+      ensureCapacity(1);
+      buffer[position++] = value;
+    }
+
+    private void writeVarInt(int value) {
+      ensureCapacity(5);
+      while ((value & ~0x7F) != 0) {
+        buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+      ensureCapacity(8);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        buffer[position++] = (byte) (value >>> shift);
+      }
+    }
+
+    private void writeBytes(byte[] bytes) {
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, buffer, position, bytes.length);
+      position += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+      if (position + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+      }
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, position);
+    }
+  }
+
+  /** Reads the values written by {@link Output}. */
+  private static final class Input {
+    private final byte[] buffer;
+    private int position;
+
+    private Input(byte[] buffer) {
+      this.buffer = buffer;
+    }
+
+    private byte readByte() {
+      return buffer[position++];
+    }
+
+    private int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = buffer[position++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    private long readLong() {
+      long value = 0;
+      for (int i = 0; i < 8; i++) {
+        value = (value << 8) | (buffer[position++] & 0xFFL);
+      }
+      return value;
+    }
+
+    private String readUtf8(int length) {
+      String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * A {@link Weigher} that weighs a cache entry by the estimated heap bytes retained by its
+ * entities, so that the cache can be bounded by a heap budget. Unlike {@link EntityCacheWeigher},
+ * a table with thousands of columns weighs proportionally more than a table with two.
+ *
+ * <p>The estimate walks the {@link Entity#fields()} of each entity, including nested entities such
+ * as columns and audit info, and sizes strings, boxed numbers, maps, collections and arrays with
+ * the layout of a 64-bit JVM using compressed references. Other objects, such as data types and
+ * expressions, count as {@link #UNKNOWN_OBJECT_SIZE} bytes each. Objects shared between entries,
+ * like interned strings or singleton types, are counted in every entry that references them, so
+ * the estimate errs on the high side.
+ */
+public class EntityCacheByteWeigher implements Weigher<EntityCacheKey, List<Entity>> {
+
+  @VisibleForTesting static final int OBJECT_HEADER_SIZE = 12;
+  @VisibleForTesting static final int ARRAY_HEADER_SIZE = 16;
+  @VisibleForTesting static final int REFERENCE_SIZE = 4;
+  @VisibleForTesting static final int UNKNOWN_OBJECT_SIZE = 32;
+
+  // The cache node, the key with its name identifier, and the list holding the entities.
+  @VisibleForTesting static final int ENTRY_OVERHEAD_SIZE = 160;
+
+  // Entities don't nest deeply, the limit only guards against cyclic references.
+  private static final int MAX_DEPTH = 8;
+
+  private static final int STRING_SIZE = align(OBJECT_HEADER_SIZE + REFERENCE_SIZE + 4 + 1 + 1);
+  private static final int BOXED_LONG_SIZE = align(OBJECT_HEADER_SIZE + 8);
+  private static final int BOXED_INT_SIZE = align(OBJECT_HEADER_SIZE + 4);
+  private static final int INSTANT_SIZE = align(OBJECT_HEADER_SIZE + 8 + 4);
+  private static final int HASH_MAP_SIZE = align(OBJECT_HEADER_SIZE + 4 * REFERENCE_SIZE + 16);
+  private static final int HASH_MAP_NODE_SIZE = align(OBJECT_HEADER_SIZE + 4 + 3 * REFERENCE_SIZE);
+  private static final int COLLECTION_SIZE = align(OBJECT_HEADER_SIZE + REFERENCE_SIZE + 8);
+
+  private static final EntityCacheByteWeigher INSTANCE = new EntityCacheByteWeigher();
+
+  @VisibleForTesting
+  protected EntityCacheByteWeigher() {}
+
+  /**
+   * Returns the singleton instance of the {@link EntityCacheByteWeigher}.
+   *
+   * @return the singleton instance of the {@link EntityCacheByteWeigher}.
+   */
+  public static EntityCacheByteWeigher getInstance() {
+    return INSTANCE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNegative int weigh(
+      @NonNull EntityCacheKey storeEntityCacheKey, @NonNull List<Entity> entities) {
+    long size = ENTRY_OVERHEAD_SIZE + arraySize(entities.size(), REFERENCE_SIZE);
+    for (Entity entity : entities) {
+      size += estimateSize(entity);
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Estimates the heap bytes retained by an entity.
+   *
+   * @param entity The entity to estimate.
+   * @return The estimated size in bytes.
+   */
+  public static long estimateSize(Entity entity) {
+    return sizeOf(entity, 0);
+  }
+
+  private static long sizeOf(Object value, int depth) {
+    if (value == null || value instanceof Boolean || value instanceof Enum) {
+      // Booleans and enum constants are shared, only the reference is paid by the owner.
+      return 0;
+    }
+    if (depth > MAX_DEPTH) {
+      return UNKNOWN_OBJECT_SIZE;
+    }
+
+    if (value instanceof String) {
+      return stringSize((String) value);
+    } else if (value instanceof Long || value instanceof Double) {
+      return BOXED_LONG_SIZE;
+    } else if (value instanceof Number) {
+      return BOXED_INT_SIZE;
+    } else if (value instanceof Instant) {
+      return INSTANT_SIZE;
+    } else if (value instanceof Entity) {
+      return entitySize((Entity) value, depth);
+    } else if (value instanceof Namespace) {
+      return align(OBJECT_HEADER_SIZE + REFERENCE_SIZE)
+          + sizeOf(((Namespace) value).levels(), depth + 1);
+    } else if (value instanceof NameIdentifier) {
+      NameIdentifier identifier = (NameIdentifier) value;
+      return align(OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE)
+          + sizeOf(identifier.namespace(), depth + 1)
+          + sizeOf(identifier.name(), depth + 1);
+    } else if (value instanceof Map) {
+      return mapSize((Map<?, ?>) value, depth);
+    } else if (value instanceof Collection) {
+      return collectionSize((Collection<?>) value, depth);
+    } else if (value.getClass().isArray()) {
+      return objectArraySize(value, depth);
+    }
+    return UNKNOWN_OBJECT_SIZE;
+  }
+
+  private static long entitySize(Entity entity, int depth) {
+    Map<Entity.Field, Object> fields = entity.fields();
+    long size = align(OBJECT_HEADER_SIZE + fields.size() * REFERENCE_SIZE);
+    for (Object field : fields.values()) {
+      size += sizeOf(field, depth + 1);
+    }
+    if (entity instanceof HasIdentifier) {
+      size += sizeOf(((HasIdentifier) entity).namespace(), depth + 1);
+    }
+    return size;
+  }
+
+  private static long mapSize(Map<?, ?> map, int depth) {
+    // Immutable maps are more compact than hash maps, but close enough for an estimate.
+    long size =
+        HASH_MAP_SIZE
+            + arraySize(tableCapacity(map.size()), REFERENCE_SIZE)
+            + (long) map.size() * HASH_MAP_NODE_SIZE;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      size += sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+    }
+    return size;
+  }
+
+  private static long collectionSize(Collection<?> collection, int depth) {
+    long size = COLLECTION_SIZE + arraySize(collection.size(), REFERENCE_SIZE);
+    for (Object element : collection) {
+      size += sizeOf(element, depth + 1);
+    }
+    return size;
+  }
+
+  private static long objectArraySize(Object array, int depth) {
+    Class<?> componentType = array.getClass().getComponentType();
+    int length = Array.getLength(array);
+    if (componentType.isPrimitive()) {
+      return arraySize(length, primitiveSize(componentType));
+    }
+
+    long size = arraySize(length, REFERENCE_SIZE);
+    for (int i = 0; i < length; i++) {
+      size += sizeOf(Array.get(array, i), depth + 1);
+    }
+    return size;
+  }
+
+  private static int primitiveSize(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    }
+    return 1;
+  }
+
+  static long stringSize(String value) {
+    // Strings are compact, one byte per char unless they contain non-Latin1 chars.
+    return STRING_SIZE + arraySize(value.length(), 1);
+  }
+
+  private static long arraySize(int length, int elementSize) {
+    return align(ARRAY_HEADER_SIZE + (long) length * elementSize);
+  }
+
+  private static int tableCapacity(int size) {
+    // A hash map table is the power of two above size / 0.75, the default load factor.
+    int needed = (int) Math.ceil(size / 0.75);
+    return needed <= 1 ? needed : Integer.highestOneBit(needed - 1) << 1;
+  }
+
+  private static int align(long size) {
+    return (int) ((size + 7) & ~7L);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An append-only dictionary of the short strings repeated across cached entities, such as namespace
+ * levels, property keys, user names and column types. Each distinct string is stored once and
+ * referenced by its id from the encoded entities of {@link CompactEntityCodec}.
+ *
+ * <p>Lookups by id are lock-free, new strings are added under the dictionary lock. The strings are
+ * never removed, so the dictionary stops growing once its estimated heap size reaches the maximum
+ * bytes, the strings that don't fit are then encoded inline by the caller.
+ */
+final class EntityStringDictionary {
+
+  /** Strings longer than this are unlikely to repeat, so they are never added. */
+  static final int MAX_STRING_LENGTH = 256;
+
+  // A ConcurrentHashMap node, a boxed id and the table and array slots referencing them.
+  private static final int ENTRY_OVERHEAD_SIZE = 64;
+
+  private final long maxBytes;
+  private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+  private volatile String[] strings = new String[1024];
+  private int size;
+  private long bytes;
+
+  /**
+   * Creates a dictionary.
+   *
+   * @param maxBytes The maximum estimated heap size of the strings in the dictionary.
+   */
+  EntityStringDictionary(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the id of the string, adding it to the dictionary if there's room.
+   *
+   * @param value The string to look up.
+   * @return The id of the string, or -1 if it's not in the dictionary and can't be added.
+   */
+  int idOf(String value) {
+    Integer id = ids.get(value);
+    if (id != null) {
+      return id;
+    }
+    if (value.length() > MAX_STRING_LENGTH) {
+      return -1;
+    }
+
+    synchronized (this) {
+      id = ids.get(value);
+      if (id != null) {
+        return id;
+      }
+      long entrySize = ENTRY_OVERHEAD_SIZE + EntityCacheByteWeigher.stringSize(value);
+      if (bytes + entrySize > maxBytes) {
+        return -1;
+      }
+
+      String[] current = strings;
+      if (size == current.length) {
+        current = Arrays.copyOf(current, current.length * 2);
+      }
+      current[size] = value;
+      // Publish the array before the id, so a reader that sees the id also sees the string.
+      strings = current;
+      ids.put(value, size);
+      bytes += entrySize;
+      return size++;
+    }
+  }
+
+  /**
+   * Returns the string of an id returned by {@link #idOf(String)}.
+   *
+   * @param id The id of the string.
+   * @return The string.
+   */
+  String stringOf(int id) {
+    return strings[id];
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return size;
+  }
+
+  @VisibleForTesting
+  synchronized long bytes() {
+    return bytes;
+  }
+}
@@ -19,10 +19,52 @@
 
 package org.apache.gravitino.catalog;
 
+import java.time.Instant;
+import java.util.Arrays;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+
 /**
  * {@code CatalogDispatcher} interface acts as a specialization of the {@link SupportsCatalogs}
  * interface. This interface is designed to potentially add custom behaviors or operations related
  * to dispatching or handling catalog-related events or actions that are not covered by the standard
  * {@code SupportsCatalogs} operations.
  */
-public interface CatalogDispatcher extends SupportsCatalogs {}
+public interface CatalogDispatcher extends SupportsCatalogs {
+
+  /**
+   * List the catalogs with their information under a metalake that were created or modified after
+   * the given time. Clients that poll the catalogs can use the latest modified time they have seen
+   * as the watermark, and only fetch the catalogs changed since then.
+   *
+   * @param namespace The namespace of the metalake.
+   * @param modifiedSince The watermark in epoch milliseconds, only the catalogs whose last modified
+   *     time (or create time if never modified) is later than it are returned.
+   * @return The changed catalogs under the metalake.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  default Catalog[] listCatalogsInfo(Namespace namespace, long modifiedSince)
+      throws NoSuchMetalakeException {
+    return Arrays.stream(listCatalogsInfo(namespace))
+        .filter(catalog -> lastModifiedTime(catalog.auditInfo()) > modifiedSince)
+        .toArray(Catalog[]::new);
+  }
+
+  /**
+   * Returns the last modified time of an object in epoch milliseconds, the create time is used if
+   * the object has never been modified.
+   *
+   * @param audit The audit information of the object.
+   * @return The last modified time in epoch milliseconds, or -1 if the audit time is unknown.
+   */
+  static long lastModifiedTime(Audit audit) {
+    if (audit == null) {
+      return -1L;
+    }
+
+    Instant time = audit.lastModifiedTime() != null ? audit.lastModifiedTime() : audit.createTime();
+    return time == null ? -1L : time.toEpochMilli();
+  }
+}
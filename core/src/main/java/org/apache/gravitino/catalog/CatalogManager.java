@@ -55,6 +55,7 @@ import java.util.Set;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.Getter;
@@ -96,12 +97,16 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
 import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.ViewCatalog;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -135,7 +140,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithSchemaOps",
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
@@ -145,7 +151,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithTableOps",
           cl -> {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
@@ -155,7 +162,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithViewOps(ThrowableFunction<ViewCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithViewOps",
           cl -> {
             if (asViews() == null) {
               throw new UnsupportedOperationException("Catalog does not support view operations");
@@ -165,7 +173,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetOps(ThrowableFunction<FilesetCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithFilesetOps",
           cl -> {
             if (asFilesets() == null) {
               throw new UnsupportedOperationException(
@@ -176,7 +185,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetFileOps(ThrowableFunction<FilesetFileOps, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithFilesetFileOps",
           cl -> {
             if (asFilesetFileOps() == null) {
               throw new UnsupportedOperationException(
@@ -187,11 +197,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCredentialOps(ThrowableFunction<BaseCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withCatalogCall("CatalogWrapper.doWithCredentialOps", cl -> fn.apply(catalog));
     }
 
     public <R> R doWithTopicOps(ThrowableFunction<TopicCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithTopicOps",
           cl -> {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
@@ -201,7 +212,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithModelOps(ThrowableFunction<ModelCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithModelOps",
           cl -> {
             if (asModels() == null) {
               throw new UnsupportedOperationException("Catalog does not support model operations");
@@ -211,12 +223,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCatalogOps(ThrowableFunction<CatalogOperations, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      return withCatalogCall("CatalogWrapper.doWithCatalogOps", cl -> fn.apply(catalog.ops()));
     }
 
     public <R> R doWithPartitionOps(
         NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogCall(
+          "CatalogWrapper.doWithPartitionOps",
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
@@ -230,7 +243,21 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withCatalogCall("CatalogWrapper.doWithPropertiesMeta", cl -> fn.apply(catalog));
+    }
+
+    private <R> R withCatalogCall(String spanName, ThrowableFunction<ClassLoader, R> fn)
+        throws Exception {
+      long phaseStart = RequestPhases.start(Phase.CATALOG_CALL);
+      try (TraceSpan span = Tracing.startSpan(spanName)) {
+        if (span.isRecording()) {
+          span.setAttribute("gravitino.catalog", catalog.name());
+          span.setAttribute("gravitino.catalog.provider", catalog.provider());
+        }
+        return classLoader.withClassLoader(fn);
+      } finally {
+        RequestPhases.stop(Phase.CATALOG_CALL, phaseStart);
+      }
     }
 
     public Capability capabilities() throws Exception {
@@ -383,6 +410,29 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
+    return listCatalogsInfo(namespace, e -> true);
+  }
+
+  /**
+   * Lists the catalogs within the specified namespace that are modified after the given time.
+   *
+   * @param namespace The namespace for which to list catalogs.
+   * @param modifiedSince The time in milliseconds since the epoch, only the catalogs modified
+   *     after it are returned.
+   * @return An array of the catalogs modified after the given time.
+   * @throws NoSuchMetalakeException If the specified metalake does not exist.
+   */
+  @Override
+  public Catalog[] listCatalogsInfo(Namespace namespace, long modifiedSince)
+      throws NoSuchMetalakeException {
+    // Skip the unchanged catalogs before resolving their properties, which is costly since it
+    // creates the catalog instance in an isolated class loader.
+    return listCatalogsInfo(
+        namespace, e -> CatalogDispatcher.lastModifiedTime(e.auditInfo()) > modifiedSince);
+  }
+
+  private Catalog[] listCatalogsInfo(Namespace namespace, Predicate<CatalogEntity> filter)
+      throws NoSuchMetalakeException {
     NameIdentifier metalakeIdent = NameIdentifier.of(namespace.levels());
     try {
       List<CatalogEntity> catalogEntities =
@@ -394,6 +444,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                 return store.list(namespace, CatalogEntity.class, EntityType.CATALOG);
               });
       return catalogEntities.stream()
+          .filter(filter)
           // The old fileset catalog's provider is "hadoop", whereas the new fileset catalog's
           // provider is "fileset", still using "hadoop" will lead to catalog loading issue. So
           // after reading the catalog entity, we convert it to the new fileset catalog entity.
@@ -66,6 +66,12 @@ public class CatalogNormalizeDispatcher implements CatalogDispatcher {
     return dispatcher.listCatalogsInfo(namespace);
   }
 
+  @Override
+  public Catalog[] listCatalogsInfo(Namespace namespace, long modifiedSince)
+      throws NoSuchMetalakeException {
+    return dispatcher.listCatalogsInfo(namespace, modifiedSince);
+  }
+
   @Override
   public Catalog loadCatalog(NameIdentifier ident) throws NoSuchCatalogException {
     return dispatcher.loadCatalog(ident);
@@ -0,0 +1,578 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.ThrowableFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports the schemas and tables of the external catalogs into the entity store in bulk, so the
+ * first access of an external object finds its entity and doesn't have to import it under a WRITE
+ * tree lock.
+ *
+ * <p>A sync lists the schemas and tables of a catalog, loads the ones missing from the entity store
+ * with bounded parallelism, and writes them with {@link EntityStore#batchPut(List, boolean)}. The
+ * names listed in a schema are the change marker of the schema, the next sync skips the schemas
+ * whose marker hasn't changed since their last complete sync.
+ */
+public class CatalogSyncManager extends OperationDispatcher implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogSyncManager.class);
+
+  private final CatalogManager catalogManager;
+  private final int batchSize;
+  private final int parallelism;
+  private final ScheduledThreadPoolExecutor syncExecutor;
+  // Created by the first sync, so no loader threads are kept if the catalogs are never synced.
+  private ExecutorService loadExecutor;
+  private final ConcurrentMap<NameIdentifier, SyncProgress> progresses = new ConcurrentHashMap<>();
+  // The marker of the names listed in a catalog or a schema at its last complete sync.
+  private final ConcurrentMap<NameIdentifier, Long> markers = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new CatalogSyncManager instance, which syncs all the catalogs periodically if {@link
+   * Configs#CATALOG_SYNC_INTERVAL_SECS} is positive.
+   *
+   * @param config The configuration of the sync.
+   * @param catalogManager The CatalogManager instance to load the catalogs.
+   * @param store The EntityStore instance to import the entities into.
+   * @param idGenerator The IdGenerator instance to generate the IDs of the imported entities.
+   */
+  public CatalogSyncManager(
+      Config config, CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    super(catalogManager, store, idGenerator);
+    this.catalogManager = catalogManager;
+    this.batchSize = config.get(Configs.CATALOG_SYNC_BATCH_SIZE);
+    this.parallelism = config.get(Configs.CATALOG_SYNC_PARALLELISM);
+    this.syncExecutor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-sync-%d").build());
+
+    long intervalSecs = config.get(Configs.CATALOG_SYNC_INTERVAL_SECS);
+    if (intervalSecs > 0) {
+      syncExecutor.scheduleWithFixedDelay(
+          this::syncAllCatalogs, intervalSecs, intervalSecs, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Sync a catalog in the background. Syncs run one at a time in the order they're submitted.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @return The future of the progress when the sync is done.
+   */
+  public Future<SyncProgress> syncCatalog(NameIdentifier catalogIdent) {
+    NameIdentifierUtil.checkCatalog(catalogIdent);
+    return syncExecutor.submit(() -> sync(catalogIdent));
+  }
+
+  /**
+   * Get the progress of the running or the last sync of a catalog.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @return The progress, or empty if the catalog hasn't been synced.
+   */
+  public Optional<SyncProgress> progress(NameIdentifier catalogIdent) {
+    return Optional.ofNullable(progresses.get(catalogIdent));
+  }
+
+  @Override
+  public synchronized void close() {
+    syncExecutor.shutdownNow();
+    if (loadExecutor != null) {
+      loadExecutor.shutdownNow();
+    }
+  }
+
+  private synchronized ExecutorService loadExecutor() {
+    if (loadExecutor == null) {
+      loadExecutor =
+          Executors.newFixedThreadPool(
+              parallelism,
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("catalog-sync-loader-%d")
+                  .build());
+    }
+    return loadExecutor;
+  }
+
+  private void syncAllCatalogs() {
+    try {
+      Set<NameIdentifier> catalogIdents = new HashSet<>();
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        for (NameIdentifier catalogIdent :
+            catalogManager.listCatalogs(Namespace.of(metalake.name()))) {
+          catalogIdents.add(catalogIdent);
+          sync(catalogIdent);
+        }
+      }
+
+      // Forget the dropped catalogs.
+      progresses.keySet().retainAll(catalogIdents);
+      markers.keySet().removeIf(ident -> !catalogIdents.contains(catalogOf(ident)));
+    } catch (Exception e) {
+      LOG.warn("Failed to sync the catalogs", e);
+    }
+  }
+
+  private static NameIdentifier catalogOf(NameIdentifier ident) {
+    return ident.namespace().length() == 1 ? ident : getCatalogIdentifier(ident);
+  }
+
+  @VisibleForTesting
+  SyncProgress sync(NameIdentifier catalogIdent) {
+    SyncProgress progress = new SyncProgress(catalogIdent);
+    progresses.put(catalogIdent, progress);
+    try {
+      syncSchemas(catalogIdent, progress);
+      progress.finish(SyncProgress.State.SUCCEEDED);
+      LOG.info("Synced catalog {}: {}", catalogIdent, progress);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      progress.finish(SyncProgress.State.FAILED);
+    } catch (Exception e) {
+      progress.finish(SyncProgress.State.FAILED);
+      LOG.warn("Failed to sync catalog {}: {}", catalogIdent, progress, e);
+    }
+    return progress;
+  }
+
+  private void syncSchemas(NameIdentifier catalogIdent, SyncProgress progress) throws Exception {
+    // The entities of managed schemas are created with the schemas, there is nothing to import.
+    if (isManagedEntity(catalogIdent, Capability.Scope.SCHEMA)) {
+      return;
+    }
+
+    Namespace schemaNs =
+        NamespaceUtil.ofSchema(catalogIdent.namespace().level(0), catalogIdent.name());
+    NameIdentifier[] schemaIdents =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithSchemaOps(s -> s.listSchemas(schemaNs)),
+            NoSuchCatalogException.class);
+    progress.schemasListed.addAndGet(schemaIdents.length);
+    // Forget the dropped schemas.
+    Set<NameIdentifier> listedSchemas = new HashSet<>(Arrays.asList(schemaIdents));
+    markers
+        .keySet()
+        .removeIf(ident -> ident.namespace().equals(schemaNs) && !listedSchemas.contains(ident));
+    long marker = marker(schemaIdents);
+    if (!Objects.equals(markers.get(catalogIdent), marker)
+        && importMissing(
+            catalogIdent,
+            schemaNs,
+            schemaIdents,
+            SchemaEntity.class,
+            EntityType.SCHEMA,
+            this::loadSchemaEntity,
+            progress.schemasImported,
+            progress)) {
+      markers.put(catalogIdent, marker);
+    }
+
+    boolean syncTables =
+        doWithCatalog(
+                catalogIdent,
+                c -> c.catalog().type() == Catalog.Type.RELATIONAL,
+                NoSuchCatalogException.class)
+            && !isManagedEntity(catalogIdent, Capability.Scope.TABLE);
+    if (!syncTables) {
+      return;
+    }
+
+    for (NameIdentifier schemaIdent : schemaIdents) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedException("The sync of catalog " + catalogIdent + " is interrupted");
+      }
+      try {
+        syncTables(schemaIdent, progress);
+      } catch (NoSuchEntityException e) {
+        // The schema isn't imported, e.g. it's dropped since it's listed or failed to load.
+        LOG.debug("Skip syncing the tables of schema {} missing from the store", schemaIdent, e);
+        markers.remove(schemaIdent);
+      }
+    }
+  }
+
+  private void syncTables(NameIdentifier schemaIdent, SyncProgress progress) throws Exception {
+    Namespace tableNs =
+        NamespaceUtil.ofTable(
+            schemaIdent.namespace().level(0), schemaIdent.namespace().level(1), schemaIdent.name());
+    NameIdentifier[] tableIdents;
+    try {
+      tableIdents =
+          doWithCatalog(
+              getCatalogIdentifier(schemaIdent),
+              c -> c.doWithTableOps(t -> t.listTables(tableNs)),
+              NoSuchSchemaException.class);
+    } catch (NoSuchSchemaException e) {
+      // The schema is dropped since it's listed.
+      return;
+    }
+
+    progress.tablesListed.addAndGet(tableIdents.length);
+    long marker = marker(tableIdents);
+    if (Objects.equals(markers.get(schemaIdent), marker)) {
+      progress.schemasUnchanged.incrementAndGet();
+      return;
+    }
+
+    if (importMissing(
+        schemaIdent,
+        tableNs,
+        tableIdents,
+        TableEntity.class,
+        EntityType.TABLE,
+        this::loadTableEntity,
+        progress.tablesImported,
+        progress)) {
+      markers.put(schemaIdent, marker);
+    }
+    LOG.debug("Synced the tables of schema {}: {}", schemaIdent, progress);
+  }
+
+  /**
+   * Import the objects missing from the entity store.
+   *
+   * @return True if all the missing objects are imported or skipped on purpose.
+   */
+  private <E extends Entity & HasIdentifier> boolean importMissing(
+      NameIdentifier parentIdent,
+      Namespace namespace,
+      NameIdentifier[] idents,
+      Class<E> type,
+      EntityType entityType,
+      ThrowableFunction<NameIdentifier, E> loader,
+      AtomicLong importedCounter,
+      SyncProgress progress)
+      throws IOException, InterruptedException {
+    Set<String> existingNames =
+        store.list(namespace, type, entityType).stream()
+            .map(HasIdentifier::name)
+            .collect(Collectors.toSet());
+    List<NameIdentifier> missingIdents =
+        Arrays.stream(idents)
+            .filter(ident -> !existingNames.contains(ident.name()))
+            .collect(Collectors.toList());
+
+    boolean complete = true;
+    for (List<NameIdentifier> batch : Lists.partition(missingIdents, batchSize)) {
+      // Load the metadata from the catalog outside the tree lock.
+      List<Future<E>> futures = new ArrayList<>(batch.size());
+      for (NameIdentifier ident : batch) {
+        futures.add(loadExecutor().submit(() -> loader.apply(ident)));
+      }
+
+      List<E> entities = new ArrayList<>(batch.size());
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          E entity = futures.get(i).get();
+          if (entity == null) {
+            progress.skipped.incrementAndGet();
+          } else {
+            entities.add(entity);
+          }
+        } catch (ExecutionException e) {
+          LOG.warn("Failed to load {} from the catalog to sync it", batch.get(i), e.getCause());
+          progress.failed.incrementAndGet();
+          complete = false;
+        }
+      }
+
+      if (!entities.isEmpty()) {
+        importedCounter.addAndGet(
+            TreeLockUtils.doWithTreeLock(
+                parentIdent, LockType.WRITE, () -> putEntities(entities, progress)));
+      }
+    }
+    return complete;
+  }
+
+  private <E extends Entity & HasIdentifier> int putEntities(
+      List<E> entities, SyncProgress progress) throws IOException {
+    try {
+      store.batchPut(entities, false /* overwritten */);
+      return entities.size();
+    } catch (EntityAlreadyExistsException e) {
+      // Some objects are imported lazily since they are listed, put the others one by one.
+      LOG.debug("Some of the {} entities are imported since they are listed", entities.size());
+    }
+
+    int imported = 0;
+    for (E entity : entities) {
+      try {
+        store.put(entity, false /* overwritten */);
+        imported++;
+      } catch (EntityAlreadyExistsException e) {
+        progress.skipped.incrementAndGet();
+      }
+    }
+    return imported;
+  }
+
+  private SchemaEntity loadSchemaEntity(NameIdentifier ident) {
+    Schema schema;
+    try {
+      schema =
+          doWithCatalog(
+              getCatalogIdentifier(ident),
+              c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
+              NoSuchSchemaException.class);
+    } catch (NoSuchSchemaException e) {
+      return null;
+    }
+
+    // The schemas created by Gravitino but missing from the store are left to the lazy import,
+    // which keeps their IDs.
+    if (hasStringIdentifier(schema.properties())) {
+      return null;
+    }
+    return SchemaEntity.builder()
+        .withId(idGenerator.nextId())
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withAuditInfo(toAuditInfo(schema.auditInfo()))
+        .build();
+  }
+
+  private TableEntity loadTableEntity(NameIdentifier ident) {
+    Table table;
+    try {
+      table =
+          doWithCatalog(
+              getCatalogIdentifier(ident),
+              c -> c.doWithTableOps(t -> t.loadTable(ident)),
+              NoSuchTableException.class);
+    } catch (NoSuchTableException e) {
+      return null;
+    }
+
+    if (hasStringIdentifier(table.properties())) {
+      return null;
+    }
+    AuditInfo audit = toAuditInfo(table.auditInfo());
+    Column[] columns = table.columns() == null ? new Column[0] : table.columns();
+    List<ColumnEntity> columnEntities = new ArrayList<>(columns.length);
+    for (int i = 0; i < columns.length; i++) {
+      columnEntities.add(ColumnEntity.toColumnEntity(columns[i], i, idGenerator.nextId(), audit));
+    }
+    return TableEntity.builder()
+        .withId(idGenerator.nextId())
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withColumns(columnEntities)
+        .withAuditInfo(audit)
+        .build();
+  }
+
+  private static boolean hasStringIdentifier(Map<String, String> properties) {
+    try {
+      return StringIdentifier.fromProperties(properties) != null;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static AuditInfo toAuditInfo(Audit audit) {
+    return AuditInfo.builder()
+        .withCreator(audit.creator())
+        .withCreateTime(audit.createTime())
+        .withLastModifier(audit.lastModifier())
+        .withLastModifiedTime(audit.lastModifiedTime())
+        .build();
+  }
+
+  // The marker doesn't depend on the order of the listed names.
+  private static long marker(NameIdentifier[] idents) {
+    long marker = idents.length;
+    for (NameIdentifier ident : idents) {
+      long hash = ident.name().hashCode();
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      marker += hash;
+    }
+    return marker;
+  }
+
+  /** The progress of a catalog sync. */
+  public static final class SyncProgress {
+
+    /** The state of a sync. */
+    public enum State {
+      /** The sync is running. */
+      RUNNING,
+      /** The sync is done, some objects may still fail to import. */
+      SUCCEEDED,
+      /** The sync is aborted. */
+      FAILED
+    }
+
+    private final NameIdentifier catalogIdent;
+    private final Instant startTime = Instant.now();
+    private final AtomicLong schemasListed = new AtomicLong();
+    private final AtomicLong schemasImported = new AtomicLong();
+    private final AtomicLong schemasUnchanged = new AtomicLong();
+    private final AtomicLong tablesListed = new AtomicLong();
+    private final AtomicLong tablesImported = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile Instant endTime;
+
+    private SyncProgress(NameIdentifier catalogIdent) {
+      this.catalogIdent = catalogIdent;
+    }
+
+    private void finish(State state) {
+      this.endTime = Instant.now();
+      this.state = state;
+    }
+
+    /** @return The identifier of the synced catalog. */
+    public NameIdentifier catalogIdent() {
+      return catalogIdent;
+    }
+
+    /** @return The state of the sync. */
+    public State state() {
+      return state;
+    }
+
+    /** @return The time the sync started. */
+    public Instant startTime() {
+      return startTime;
+    }
+
+    /** @return The time the sync finished, or null if it's running. */
+    public Instant endTime() {
+      return endTime;
+    }
+
+    /** @return The number of schemas listed from the catalog. */
+    public long schemasListed() {
+      return schemasListed.get();
+    }
+
+    /** @return The number of schemas imported into the entity store. */
+    public long schemasImported() {
+      return schemasImported.get();
+    }
+
+    /** @return The number of schemas whose tables haven't changed since the last sync. */
+    public long schemasUnchanged() {
+      return schemasUnchanged.get();
+    }
+
+    /** @return The number of tables listed from the catalog. */
+    public long tablesListed() {
+      return tablesListed.get();
+    }
+
+    /** @return The number of tables imported into the entity store. */
+    public long tablesImported() {
+      return tablesImported.get();
+    }
+
+    /** @return The number of objects left to the lazy import. */
+    public long skipped() {
+      return skipped.get();
+    }
+
+    /** @return The number of objects failed to load from the catalog. */
+    public long failed() {
+      return failed.get();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "state=%s, schemas listed=%d, imported=%d, unchanged=%d, tables listed=%d, "
+              + "imported=%d, skipped=%d, failed=%d",
+          state,
+          schemasListed(),
+          schemasImported(),
+          schemasUnchanged(),
+          tablesListed(),
+          tablesImported(),
+          skipped(),
+          failed());
+    }
+  }
+}
@@ -27,11 +27,19 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getSchemaIdentifier;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.security.Principal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -63,6 +71,8 @@ import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.slf4j.Logger;
@@ -72,6 +82,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  private static final int MAX_PENDING_COLUMN_RECONCILIATIONS = 1000;
+
+  private final ThreadPoolExecutor columnReconcileExecutor;
+
+  // The IDs of the tables whose columns are queued or being reconciled.
+  private final Set<Long> reconcilingTables = ConcurrentHashMap.newKeySet();
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -82,6 +99,18 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
     super(catalogManager, store, idGenerator);
+    this.columnReconcileExecutor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAX_PENDING_COLUMN_RECONCILIATIONS),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("table-column-reconciler-%d")
+                .build());
+    columnReconcileExecutor.allowCoreThreadTimeOut(true);
   }
 
   /**
@@ -127,11 +156,21 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
           TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> importTable(ident));
     }
 
-    // Update the column entities in Gravitino store if the columns are different from the ones
-    // fetching from the underlying source.
-    TableEntity updatedEntity = updateColumnsIfNecessaryWhenLoad(ident, entityCombinedTable);
+    // Update the column entities in Gravitino store in the background if the columns are
+    // different from the ones fetching from the underlying source. Comparing the fingerprints
+    // keeps the load of a wide table from walking all the columns when nothing changed.
+    TableEntity tableEntity = entityCombinedTable.tableFromGravitino();
+    Table tableFromCatalog = entityCombinedTable.tableFromCatalog();
+    try (TraceSpan span = Tracing.startSpan("TableOperationDispatcher.reconcileColumnsAsync")) {
+      span.setAttribute("gravitino.identifier", ident);
+      if (tableEntity != null
+          && tableEntity.columnsFingerprint()
+              != TableEntity.columnsFingerprint(tableFromCatalog.columns())) {
+        reconcileColumnsAsync(ident, tableFromCatalog, tableEntity.id());
+      }
+    }
 
-    return EntityCombinedTable.of(entityCombinedTable.tableFromCatalog(), updatedEntity)
+    return EntityCombinedTable.of(tableFromCatalog, tableEntity)
         .withHiddenProperties(
             getHiddenPropertyNames(
                 getCatalogIdentifier(ident),
@@ -809,45 +848,80 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     return Pair.of(columnsNeedsUpdate, columnsToInsert);
   }
 
-  private TableEntity updateColumnsIfNecessaryWhenLoad(
-      NameIdentifier tableIdent, EntityCombinedTable combinedTable) {
-    Pair<Boolean, List<ColumnEntity>> columnsUpdateResult =
-        updateColumnsIfNecessary(
-            combinedTable.tableFromCatalog(), combinedTable.tableFromGravitino());
+  private void reconcileColumnsAsync(
+      NameIdentifier tableIdent, Table tableFromCatalog, long tableId) {
+    // Reconcile a table once at a time, the next load retries if the columns still differ.
+    if (!reconcilingTables.add(tableId)) {
+      return;
+    }
 
-    // No need to update the columns
-    if (!columnsUpdateResult.getLeft()) {
-      return combinedTable.tableFromGravitino();
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    try {
+      columnReconcileExecutor.execute(
+          () -> {
+            try {
+              PrincipalUtils.doAs(
+                  principal, () -> reconcileColumns(tableIdent, tableFromCatalog, tableId));
+            } catch (Exception e) {
+              LOG.warn("Failed to reconcile the columns of table {}", tableIdent, e);
+            } finally {
+              reconcilingTables.remove(tableId);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      reconcilingTables.remove(tableId);
+      LOG.warn("Too many pending column reconciliations, skip table {}", tableIdent);
     }
+  }
 
-    // Update the columns in the Gravitino store
+  private TableEntity reconcileColumns(
+      NameIdentifier tableIdent, Table tableFromCatalog, long tableId) {
     return TreeLockUtils.doWithTreeLock(
         tableIdent,
         LockType.WRITE,
-        () ->
-            operateOnEntity(
-                tableIdent,
-                id ->
-                    store.update(
-                        id,
-                        TableEntity.class,
-                        TABLE,
-                        entity ->
-                            TableEntity.builder()
-                                .withId(entity.id())
-                                .withName(entity.name())
-                                .withNamespace(entity.namespace())
-                                .withColumns(columnsUpdateResult.getRight())
-                                .withAuditInfo(
-                                    AuditInfo.builder()
-                                        .withCreator(entity.auditInfo().creator())
-                                        .withCreateTime(entity.auditInfo().createTime())
-                                        .withLastModifier(
-                                            PrincipalUtils.getCurrentPrincipal().getName())
-                                        .withLastModifiedTime(Instant.now())
-                                        .build())
-                                .build()),
-                "UPDATE",
-                combinedTable.tableFromGravitino().id()));
+        () -> {
+          // The entity may be updated since it's loaded, compare with the latest one.
+          TableEntity tableEntity =
+              operateOnEntity(
+                  tableIdent, id -> store.get(id, TABLE, TableEntity.class), "GET", tableId);
+          if (tableEntity == null
+              || tableEntity.columnsFingerprint()
+                  == TableEntity.columnsFingerprint(tableFromCatalog.columns())) {
+            return tableEntity;
+          }
+
+          Pair<Boolean, List<ColumnEntity>> columnsUpdateResult =
+              updateColumnsIfNecessary(tableFromCatalog, tableEntity);
+          // No need to update the columns
+          if (!columnsUpdateResult.getLeft()) {
+            return tableEntity;
+          }
+
+          // Update the columns in the Gravitino store
+          return operateOnEntity(
+              tableIdent,
+              id ->
+                  store.update(
+                      id,
+                      TableEntity.class,
+                      TABLE,
+                      entity ->
+                          TableEntity.builder()
+                              .withId(entity.id())
+                              .withName(entity.name())
+                              .withNamespace(entity.namespace())
+                              .withColumns(columnsUpdateResult.getRight())
+                              .withAuditInfo(
+                                  AuditInfo.builder()
+                                      .withCreator(entity.auditInfo().creator())
+                                      .withCreateTime(entity.auditInfo().createTime())
+                                      .withLastModifier(
+                                          PrincipalUtils.getCurrentPrincipal().getName())
+                                      .withLastModifiedTime(Instant.now())
+                                      .build())
+                              .build()),
+              "UPDATE",
+              tableId);
+        });
   }
 }
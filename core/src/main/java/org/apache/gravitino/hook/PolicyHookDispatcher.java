@@ -17,6 +17,8 @@
 
 package org.apache.gravitino.hook;
 
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
@@ -110,6 +112,12 @@ public class PolicyHookDispatcher implements PolicyDispatcher {
     return dispatcher.listPolicyInfosForMetadataObject(metalake, metadataObject);
   }
 
+  @Override
+  public Map<MetadataObject, PolicyEntity[]> listPolicyInfosForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    return dispatcher.listPolicyInfosForMetadataObjectHierarchies(metalake, metadataObjects);
+  }
+
   @Override
   public String[] associatePoliciesForMetadataObject(
       String metalake,
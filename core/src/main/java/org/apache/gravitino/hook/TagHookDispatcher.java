@@ -17,6 +17,7 @@
 
 package org.apache.gravitino.hook;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
@@ -97,6 +98,12 @@ public class TagHookDispatcher implements TagDispatcher {
     return dispatcher.listTagsInfoForMetadataObject(metalake, metadataObject);
   }
 
+  @Override
+  public Map<MetadataObject, Tag[]> listTagsInfoForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    return dispatcher.listTagsInfoForMetadataObjectHierarchies(metalake, metadataObjects);
+  }
+
   @Override
   public String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove) {
@@ -99,6 +99,21 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     }
   }
 
+  @Override
+  public Catalog[] listCatalogsInfo(Namespace namespace, long modifiedSince)
+      throws NoSuchMetalakeException {
+    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      Catalog[] catalogs = dispatcher.listCatalogsInfo(namespace, modifiedSince);
+      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return catalogs;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+      throw e;
+    }
+  }
+
   @Override
   public Catalog loadCatalog(NameIdentifier ident) throws NoSuchCatalogException {
     eventBus.dispatchEvent(new LoadCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
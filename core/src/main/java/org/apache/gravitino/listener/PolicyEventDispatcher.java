@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.listener;
 
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
@@ -301,6 +303,31 @@ public class PolicyEventDispatcher implements PolicyDispatcher {
     }
   }
 
+  @Override
+  public Map<MetadataObject, PolicyEntity[]> listPolicyInfosForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    String user = PrincipalUtils.getCurrentUserName();
+    metadataObjects.forEach(
+        object ->
+            eventBus.dispatchEvent(
+                new ListPolicyInfosForMetadataObjectPreEvent(user, metalake, object)));
+    try {
+      Map<MetadataObject, PolicyEntity[]> policies =
+          dispatcher.listPolicyInfosForMetadataObjectHierarchies(metalake, metadataObjects);
+      metadataObjects.forEach(
+          object ->
+              eventBus.dispatchEvent(
+                  new ListPolicyInfosForMetadataObjectEvent(user, metalake, object)));
+      return policies;
+    } catch (Exception e) {
+      metadataObjects.forEach(
+          object ->
+              eventBus.dispatchEvent(
+                  new ListPolicyInfosForMetadataObjectFailureEvent(user, metalake, object, e)));
+      throw e;
+    }
+  }
+
   @Override
   public String[] associatePoliciesForMetadataObject(
       String metalake,
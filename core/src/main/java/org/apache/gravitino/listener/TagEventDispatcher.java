@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.listener;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.exceptions.NoSuchTagException;
@@ -237,6 +238,31 @@ public class TagEventDispatcher implements TagDispatcher {
     }
   }
 
+  @Override
+  public Map<MetadataObject, Tag[]> listTagsInfoForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    String user = PrincipalUtils.getCurrentUserName();
+    metadataObjects.forEach(
+        object ->
+            eventBus.dispatchEvent(
+                new ListTagsInfoForMetadataObjectPreEvent(user, metalake, object)));
+    try {
+      Map<MetadataObject, Tag[]> tags =
+          dispatcher.listTagsInfoForMetadataObjectHierarchies(metalake, metadataObjects);
+      metadataObjects.forEach(
+          object ->
+              eventBus.dispatchEvent(
+                  new ListTagsInfoForMetadataObjectEvent(user, metalake, object)));
+      return tags;
+    } catch (Exception e) {
+      metadataObjects.forEach(
+          object ->
+              eventBus.dispatchEvent(
+                  new ListTagsInfoForMetadataObjectFailureEvent(user, metalake, object, e)));
+      throw e;
+    }
+  }
+
   @Override
   public String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove) {
@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -102,7 +104,12 @@ public class TreeLock {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
+        long phaseStart = RequestPhases.start(Phase.TREE_LOCK_WAIT);
+        try {
+          treeLockNode.lock(type);
+        } finally {
+          RequestPhases.stop(Phase.TREE_LOCK_WAIT, phaseStart);
+        }
         heldLocks.push(Pair.of(treeLockNode, type));
 
         treeLockNode.addHoldingThreadTimestamp(
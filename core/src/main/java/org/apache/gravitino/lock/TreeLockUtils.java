@@ -21,6 +21,8 @@ package org.apache.gravitino.lock;
 
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -45,7 +47,11 @@ public class TreeLockUtils {
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
     TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
     try {
-      lock.lock(lockType);
+      try (TraceSpan span = Tracing.startSpan("TreeLock.lock")) {
+        span.setAttribute("gravitino.identifier", identifier);
+        span.setAttribute("gravitino.lock_type", lockType);
+        lock.lock(lockType);
+      }
       return executable.execute();
     } finally {
       lock.unlock();
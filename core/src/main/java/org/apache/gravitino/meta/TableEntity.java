@@ -32,6 +32,8 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.Field;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -39,6 +41,7 @@ import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.expressions.transforms.Transforms;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.utils.CollectionUtils;
 
 /** A class representing a table entity in Apache Gravitino. */
@@ -68,6 +71,9 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
 
   private String name;
 
+  // Computed on first use, the entity is immutable once built.
+  @ToString.Exclude private volatile Long columnsFingerprint;
+
   private AuditInfo auditInfo;
 
   private Namespace namespace;
@@ -174,6 +180,91 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     return columns;
   }
 
+  /**
+   * Returns the fingerprint of the columns, which is equal to {@link #columnsFingerprint(Column[])}
+   * of the table from the catalog if the columns have the same name, position, data type, comment,
+   * nullability, auto increment and default value. The fingerprint is only meaningful within the
+   * running server and is not persisted.
+   *
+   * @return The fingerprint of the columns.
+   */
+  public long columnsFingerprint() {
+    Long fingerprint = columnsFingerprint;
+    if (fingerprint == null) {
+      long hash = columns.size();
+      for (ColumnEntity column : columns) {
+        hash +=
+            columnFingerprint(
+                column.name(),
+                column.position(),
+                column.dataType(),
+                column.comment(),
+                column.nullable(),
+                column.autoIncrement(),
+                column.defaultValue());
+      }
+      fingerprint = hash;
+      columnsFingerprint = fingerprint;
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Computes the fingerprint of the columns of a table loaded from the catalog, the position of a
+   * column is its index in the array.
+   *
+   * @param columns The columns of the table.
+   * @return The fingerprint of the columns.
+   */
+  public static long columnsFingerprint(Column[] columns) {
+    if (columns == null) {
+      return 0L;
+    }
+    long hash = columns.length;
+    for (int i = 0; i < columns.length; i++) {
+      Column column = columns[i];
+      hash +=
+          columnFingerprint(
+              column.name(),
+              i,
+              column.dataType(),
+              column.comment(),
+              column.nullable(),
+              column.autoIncrement(),
+              column.defaultValue());
+    }
+    return hash;
+  }
+
+  // The column hashes are summed, so the fingerprint doesn't depend on the order of the columns.
+  private static long columnFingerprint(
+      String name,
+      int position,
+      Type dataType,
+      String comment,
+      boolean nullable,
+      boolean autoIncrement,
+      Expression defaultValue) {
+    long hash = position;
+    hash = hash * 31 + hash(name);
+    hash = hash * 31 + hash(dataType);
+    hash = hash * 31 + hash(comment);
+    hash = hash * 31 + (nullable ? 1 : 0);
+    hash = hash * 31 + (autoIncrement ? 1 : 0);
+    hash = hash * 31 + hash(defaultValue);
+    // The finalizer of MurmurHash3 spreads the bits before summing.
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static int hash(Object value) {
+    return value == null ? 0 : value.hashCode();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
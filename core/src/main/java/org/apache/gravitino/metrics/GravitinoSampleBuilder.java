@@ -55,7 +55,12 @@ import java.util.regex.Pattern;
  * possible combination, which is not practical. This class uses regular expressions to dynamically
  * parse metric names, providing a more flexible and scalable solution.
  *
- * <p>Metrics that do not match this pattern will be processed by the default behavior of {@link
+ * <p>Per-route metrics of the HTTP servers, named {@code
+ * <metrics-source>.http-server.route.<http-method>.<path-template>.<rest-of-the-metric-name>}, are
+ * converted to a sample named after the metrics source and the rest of the metric name, with the
+ * labels {@code method} and {@code route}.
+ *
+ * <p>Metrics that do not match these patterns will be processed by the default behavior of {@link
  * CustomMappingSampleBuilder}.
  */
 public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
@@ -65,6 +70,14 @@ public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
       Pattern.compile(
           Pattern.quote(GRAVITINO_CATALOG_METRIC_PREFIX) + "\\.([^.]+)\\.([^.]+)\\.([^.]+)\\.(.+)");
 
+  // match pattern:
+  // <metrics-source>.http-server.route.<http-method>.<path-template>.<rest-of-the-metric-name>
+  private static final Pattern ROUTE_PATTERN =
+      Pattern.compile(
+          "([^.]+)\\."
+              + Pattern.quote(MetricNames.SERVER_ROUTE_PREFIX)
+              + "\\.([^.]+)\\.([^.]+)\\.(.+)");
+
   public GravitinoSampleBuilder(List<MapperConfig> mapperConfigs) {
     super(mapperConfigs);
   }
@@ -103,6 +116,31 @@ public class GravitinoSampleBuilder extends CustomMappingSampleBuilder {
           prometheusName, labelNames, labelValues, value);
     }
 
+    Matcher routeMatcher = ROUTE_PATTERN.matcher(dropwizardName);
+    if (routeMatcher.matches()) {
+      String prometheusName =
+          Collector.sanitizeMetricName(
+                  routeMatcher.group(1)
+                      + "_"
+                      + MetricNames.SERVER_ROUTE_PREFIX
+                      + "_"
+                      + routeMatcher.group(4))
+              + nameSuffix;
+
+      List<String> labelNames = new ArrayList<>();
+      labelNames.add("method");
+      labelNames.add("route");
+      labelNames.addAll(additionalLabelNames);
+
+      List<String> labelValues = new ArrayList<>();
+      labelValues.add(routeMatcher.group(2));
+      labelValues.add(routeMatcher.group(3));
+      labelValues.addAll(additionalLabelValues);
+
+      return new Collector.MetricFamilySamples.Sample(
+          prometheusName, labelNames, labelValues, value);
+    }
+
     // Fallback to the parent class's default behavior for mismatched metrics
     return super.createSample(
         dropwizardName, nameSuffix, additionalLabelNames, additionalLabelValues, value);
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An HDR-style {@link Reservoir} that records values into fixed log-linear buckets.
+ *
+ * <p>Every power-of-two range is split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so a
+ * recorded value is reported with a relative error of about 3%. Unlike {@link
+ * com.codahale.metrics.SlidingTimeWindowArrayReservoir}, updates never allocate and memory usage is
+ * constant no matter how many values are recorded, which makes it suitable for hot paths.
+ *
+ * <p>Values are kept in two rotating windows, a snapshot merges both of them and thus covers the
+ * last one to two windows. Values larger than the highest trackable value are clamped into the last
+ * bucket.
+ */
+public class LogLinearReservoir implements Reservoir {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // Values are tracked up to 2^40 (about 18 minutes when recording nanoseconds).
+  private static final int MAX_EXPONENT = 40;
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final long windowNanos;
+  private final AtomicLongArray[] windows;
+  private volatile int currentWindow;
+  private volatile long currentWindowStartNanos;
+
+  /**
+   * Creates a reservoir whose snapshots cover the given time window.
+   *
+   * @param window The length of the window.
+   * @param windowUnit The time unit of the window.
+   */
+  public LogLinearReservoir(long window, TimeUnit windowUnit) {
+    Preconditions.checkArgument(window > 0, "Window must be positive, but got %s", window);
+    this.windowNanos = windowUnit.toNanos(window);
+    this.windows =
+        new AtomicLongArray[] {new AtomicLongArray(BUCKET_COUNT), new AtomicLongArray(BUCKET_COUNT)};
+    this.currentWindow = 0;
+    this.currentWindowStartNanos = System.nanoTime();
+  }
+
+  @Override
+  public int size() {
+    return getSnapshot().size();
+  }
+
+  @Override
+  public void update(long value) {
+    rotateIfNeeded(System.nanoTime());
+    windows[currentWindow].incrementAndGet(bucketIndex(value));
+  }
+
+  @Override
+  public Snapshot getSnapshot() {
+    rotateIfNeeded(System.nanoTime());
+    long[] counts = new long[BUCKET_COUNT];
+    for (AtomicLongArray window : windows) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] += window.get(i);
+      }
+    }
+    return new BucketSnapshot(counts);
+  }
+
+  private void rotateIfNeeded(long nowNanos) {
+    if (nowNanos - currentWindowStartNanos < windowNanos) {
+      return;
+    }
+
+    synchronized (this) {
+      long elapsed = nowNanos - currentWindowStartNanos;
+      if (elapsed < windowNanos) {
+        return;
+      }
+
+      int next = 1 - currentWindow;
+      clear(windows[next]);
+      if (elapsed >= 2 * windowNanos) {
+        // Nothing recorded in the current window is recent enough to keep either.
+        clear(windows[currentWindow]);
+      }
+      currentWindow = next;
+      currentWindowStartNanos = nowNanos;
+    }
+  }
+
+  private static void clear(AtomicLongArray window) {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      window.set(i, 0);
+    }
+  }
+
+  @VisibleForTesting
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(value, 0);
+    }
+
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  @VisibleForTesting
+  static long bucketLowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    return (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+  }
+
+  @VisibleForTesting
+  static long bucketValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    return bucketLowerBound(index) + width / 2;
+  }
+
+  private static final class BucketSnapshot extends Snapshot {
+    private final long[] counts;
+    private final long totalCount;
+
+    private BucketSnapshot(long[] counts) {
+      this.counts = counts;
+      long total = 0;
+      for (long count : counts) {
+        total += count;
+      }
+      this.totalCount = total;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+      Preconditions.checkArgument(
+          quantile >= 0.0 && quantile <= 1.0 && !Double.isNaN(quantile),
+          "%s is not in [0..1]",
+          quantile);
+      if (totalCount == 0) {
+        return 0.0;
+      }
+
+      long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return bucketValue(i);
+        }
+      }
+      return getMax();
+    }
+
+    /**
+     * Returns the representative value of every non-empty bucket instead of every recorded value,
+     * the bucket counts are not expanded to keep the snapshot bounded.
+     */
+    @Override
+    public long[] getValues() {
+      int nonEmpty = 0;
+      for (long count : counts) {
+        if (count > 0) {
+          nonEmpty++;
+        }
+      }
+
+      long[] values = new long[nonEmpty];
+      int pos = 0;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          values[pos++] = bucketValue(i);
+        }
+      }
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(totalCount, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getMax() {
+      for (int i = counts.length - 1; i >= 0; i--) {
+        if (counts[i] > 0) {
+          return bucketValue(i);
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public double getMean() {
+      if (totalCount == 0) {
+        return 0.0;
+      }
+
+      double sum = 0;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          sum += (double) counts[i] * bucketValue(i);
+        }
+      }
+      return sum / totalCount;
+    }
+
+    @Override
+    public long getMin() {
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          return bucketValue(i);
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public double getStdDev() {
+      if (totalCount <= 1) {
+        return 0.0;
+      }
+
+      double mean = getMean();
+      double variance = 0;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          double diff = bucketValue(i) - mean;
+          variance += counts[i] * diff * diff;
+        }
+      }
+      return Math.sqrt(variance / (totalCount - 1));
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+      try (PrintWriter out =
+          new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+        for (int i = 0; i < counts.length; i++) {
+          if (counts[i] > 0) {
+            out.printf("%d %d%n", bucketValue(i), counts[i]);
+          }
+        }
+      }
+    }
+  }
+}
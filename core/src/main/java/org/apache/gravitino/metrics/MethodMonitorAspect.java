@@ -21,8 +21,13 @@ package org.apache.gravitino.metrics;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.source.MetricsSource;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -30,14 +35,28 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * The aspect that records the metrics of methods annotated with {@link Monitored}.
+ *
+ * <p>The metric handles of a method are resolved once per join point and cached, so the hot path
+ * only does a map lookup keyed by the join point's static part instead of building metric names and
+ * querying the metric registry on every invocation. The cached handles are resolved again when a
+ * metrics source is registered or unregistered.
+ */
 @Aspect
 public class MethodMonitorAspect {
 
   private static final Logger LOG = LoggerFactory.getLogger(MethodMonitorAspect.class);
-  private MetricsSystem metricsSystem;
+  private final MetricsSystem metricsSystem;
+  private final Map<JoinPoint.StaticPart, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
 
   public MethodMonitorAspect() {
-    this.metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    this(GravitinoEnv.getInstance().metricsSystem());
+  }
+
+  @VisibleForTesting
+  MethodMonitorAspect(MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
     // Metrics System could be null in UT.
     if (metricsSystem != null) {
       LOG.info("MethodMonitorAspect initialized.");
@@ -55,27 +74,62 @@ public class MethodMonitorAspect {
       return pjp.proceed();
     }
 
+    MethodMetrics metrics = resolveMethodMetrics(pjp, monitored);
+    if (metrics == null) {
+      return pjp.proceed();
+    }
+
+    long startNanos = System.nanoTime();
+    try {
+      Object result = pjp.proceed();
+      metrics.successMeter.mark();
+      return result;
+    } catch (Throwable t) {
+      metrics.failureMeter.mark();
+      throw t;
+    } finally {
+      metrics.timer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private MethodMetrics resolveMethodMetrics(ProceedingJoinPoint pjp, Monitored monitored) {
+    long generation = metricsSystem.generation();
+    JoinPoint.StaticPart staticPart = pjp.getStaticPart();
+    MethodMetrics metrics = methodMetrics.get(staticPart);
+    if (metrics != null && metrics.generation == generation) {
+      return metrics;
+    }
+
     MetricsSource metricsSource = metricsSystem.getMetricsSource(monitored.metricsSource());
     if (metricsSource == null) {
       LOG.warn(
           "MetricsSource {} is not registered in MetricsSystem, skip monitoring for method {}",
           monitored.metricsSource(),
           pjp.getSignature().toShortString());
-      return pjp.proceed();
+      return null;
     }
 
-    String baseMetricName = monitored.baseMetricName();
-    Timer timer = metricsSource.getTimer(MetricRegistry.name(baseMetricName, "total"));
-    Meter successMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "success"));
-    Meter failureMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "failure"));
+    metrics = new MethodMetrics(metricsSource, monitored.baseMetricName(), generation);
+    methodMetrics.put(staticPart, metrics);
+    return metrics;
+  }
 
-    try (Timer.Context ignore = timer.time()) {
-      Object result = pjp.proceed();
-      successMeter.mark();
-      return result;
-    } catch (Throwable t) {
-      failureMeter.mark();
-      throw t;
+  @VisibleForTesting
+  int cachedMethodMetricsSize() {
+    return methodMetrics.size();
+  }
+
+  private static final class MethodMetrics {
+    private final long generation;
+    private final Timer timer;
+    private final Meter successMeter;
+    private final Meter failureMeter;
+
+    private MethodMetrics(MetricsSource metricsSource, String baseMetricName, long generation) {
+      this.generation = generation;
+      this.timer = metricsSource.getPercentileTimer(MetricRegistry.name(baseMetricName, "total"));
+      this.successMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "success"));
+      this.failureMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "failure"));
     }
   }
 }
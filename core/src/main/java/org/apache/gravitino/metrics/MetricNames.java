@@ -31,6 +31,18 @@ public class MetricNames {
   public static final String SERVER_TOTAL_THREAD_NUM = "http-server.total-thread.num";
   public static final String SERVER_MIN_THREAD_NUM = "http-server.min-thread.num";
   public static final String SERVER_MAX_THREAD_NUM = "http-server.max-thread.num";
+  public static final String SERVER_ROUTE_PREFIX = "http-server.route";
+  public static final String SERVER_ROUTE_LATENCY = "latency";
+  public static final String SERVER_ROUTE_REQUEST_SIZE = "request-size";
+  public static final String SERVER_ROUTE_RESPONSE_SIZE = "response-size";
+  public static final String SERVER_SLOW_REQUEST_NUM = "http-server.slow-request.num";
+  public static final String CLIENT_POOL_BORROWED = "client-pool.borrowed";
+  public static final String CLIENT_POOL_IDLE = "client-pool.idle";
+  public static final String CLIENT_POOL_WAITING = "client-pool.waiting";
+  public static final String CLIENT_POOL_CREATED = "client-pool.created";
+  public static final String CLIENT_POOL_EVICTED = "client-pool.evicted";
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUT = "client-pool.acquire-timeout";
+  public static final String CLIENT_POOL_ACQUIRE_WAIT = "client-pool.acquire-wait";
 
   private MetricNames() {}
 }
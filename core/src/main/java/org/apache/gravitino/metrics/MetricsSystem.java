@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +53,9 @@ public class MetricsSystem implements Closeable {
   private HashMap<String, MetricsSource> metricSources = new HashMap<>();
   private List<Reporter> metricsReporters = new ArrayList<>();
   private CollectorRegistry prometheusRegistry;
+  // Bumped whenever a metrics source is registered or unregistered, so that callers caching
+  // metric handles can tell whether their handles are stale.
+  private final AtomicLong generation = new AtomicLong(0);
 
   public MetricsSystem() {
     this("");
@@ -89,6 +93,7 @@ public class MetricsSystem implements Closeable {
       unregister(originalMetricsSource);
     }
     this.metricSources.put(metricsSource.getMetricsSourceName(), metricsSource);
+    generation.incrementAndGet();
     metricRegistry.register(
         metricsSource.getMetricsSourceName(), metricsSource.getMetricRegistry());
   }
@@ -114,11 +119,22 @@ public class MetricsSystem implements Closeable {
       return;
     }
     this.metricSources.remove(metricsSource.getMetricsSourceName());
+    generation.incrementAndGet();
     metricRegistry.removeMatching(
         MetricFilter.startsWith(metricsSource.getMetricsSourceName() + "."));
     LOG.info("Unregistered {} from metrics system {}", metricsSource.getMetricsSourceName(), name);
   }
 
+  /**
+   * Get the generation of the registered metrics sources, it changes whenever a metrics source is
+   * registered or unregistered.
+   *
+   * @return the generation of the registered metrics sources
+   */
+  public long generation() {
+    return generation.get();
+  }
+
   public MetricsSource getMetricsSource(String metricsSourceName) {
     return this.metricSources.get(metricsSourceName);
   }
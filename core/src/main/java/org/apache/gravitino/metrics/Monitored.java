@@ -35,7 +35,8 @@ import org.apache.gravitino.metrics.source.MetricsSource;
  * <p>The generated metrics like:
  *
  * <ul>
- *   <li>{@code {metricsSource}.{baseMetricName}.total}: A timer for overall execution duration.
+ *   <li>{@code {metricsSource}.{baseMetricName}.total}: A timer for overall execution duration,
+ *       its percentiles are computed from HDR-style log-linear buckets.
  *   <li>{@code {metricsSource}.{baseMetricName}.success}: A meter for successful executions.
  *   <li>{@code {metricsSource}.{baseMetricName}.failure}: A meter for failed executions.
  * </ul>
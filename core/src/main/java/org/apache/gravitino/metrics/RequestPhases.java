@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the time the current request spends in each {@link Phase} on the serving thread.
+ *
+ * <p>The HTTP layer calls {@link #begin()} when a request starts and {@link #end()} when it
+ * finishes. In between, the instrumented code brackets a phase with {@link #start(Phase)} and
+ * {@link #stop(Phase, long)}. Nested brackets of the same phase are counted once, and both calls
+ * are no-ops on threads that aren't serving a request, so background tasks don't pay for the
+ * accounting.
+ *
+ * <pre>{@code
+ * long phaseStart = RequestPhases.start(Phase.CATALOG_CALL);
+ * try {
+ *   ...
+ * } finally {
+ *   RequestPhases.stop(Phase.CATALOG_CALL, phaseStart);
+ * }
+ * }</pre>
+ */
+public final class RequestPhases {
+
+  /** The phases of a request. */
+  public enum Phase {
+    /** Authenticating the caller and evaluating the authorization expression. */
+    AUTH("auth"),
+    /** Waiting to acquire the tree lock of the metadata objects. */
+    TREE_LOCK_WAIT("tree-lock-wait"),
+    /** Reading or writing the entity store, including its cache. */
+    ENTITY_STORE("entity-store"),
+    /** Calling the catalog plugin in its isolated class loader. */
+    CATALOG_CALL("catalog-call"),
+    /** Serializing the response entity. */
+    SERIALIZATION("serialization");
+
+    private static final Phase[] VALUES = values();
+
+    private final String displayName;
+
+    Phase(String displayName) {
+      this.displayName = displayName;
+    }
+
+    /** @return The name of the phase in logs and metrics. */
+    public String displayName() {
+      return displayName;
+    }
+  }
+
+  private static final long NOT_TRACKED = -1L;
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final ThreadLocal<RequestPhases> CURRENT = new ThreadLocal<>();
+
+  private final long startNanos;
+  private final long[] phaseNanos = new long[Phase.VALUES.length];
+  private final int[] phaseDepth = new int[Phase.VALUES.length];
+
+  private RequestPhases() {
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Start accounting the phases of a request on the current thread, replacing the accounting of a
+   * previous request if it wasn't ended.
+   *
+   * @return The phases of the new request.
+   */
+  public static RequestPhases begin() {
+    RequestPhases phases = new RequestPhases();
+    CURRENT.set(phases);
+    return phases;
+  }
+
+  /** @return The phases of the request served by the current thread, or null if there is none. */
+  public static RequestPhases current() {
+    return CURRENT.get();
+  }
+
+  /** Stop accounting the phases of the request served by the current thread. */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Mark the start of a phase.
+   *
+   * @param phase The phase.
+   * @return The token to pass to {@link #stop(Phase, long)}.
+   */
+  public static long start(Phase phase) {
+    RequestPhases phases = CURRENT.get();
+    if (phases == null) {
+      return NOT_TRACKED;
+    }
+    return phases.phaseDepth[phase.ordinal()]++ == 0 ? System.nanoTime() : NOT_TRACKED;
+  }
+
+  /**
+   * Mark the end of a phase.
+   *
+   * @param phase The phase.
+   * @param token The token returned by {@link #start(Phase)}.
+   */
+  public static void stop(Phase phase, long token) {
+    RequestPhases phases = CURRENT.get();
+    if (phases == null) {
+      return;
+    }
+    int index = phase.ordinal();
+    if (phases.phaseDepth[index] > 0) {
+      phases.phaseDepth[index]--;
+    }
+    if (token != NOT_TRACKED) {
+      phases.phaseNanos[index] += System.nanoTime() - token;
+    }
+  }
+
+  /**
+   * @param phase The phase.
+   * @return The accumulated time of the phase in nanoseconds.
+   */
+  public long nanos(Phase phase) {
+    return phaseNanos[phase.ordinal()];
+  }
+
+  /** @return The time since the request began in nanoseconds. */
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * Describe the accumulated time of every phase in milliseconds, such as {@code auth=1.2ms,
+   * tree-lock-wait=0.0ms}.
+   *
+   * @return The description of the phases.
+   */
+  public String describe() {
+    StringBuilder builder = new StringBuilder();
+    for (Phase phase : Phase.VALUES) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      double millis = phaseNanos[phase.ordinal()] / NANOS_PER_MILLI;
+      builder
+          .append(phase.displayName())
+          .append('=')
+          .append(String.format(Locale.ROOT, "%.1f", millis))
+          .append("ms");
+    }
+    return builder.toString();
+  }
+}
@@ -30,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.LogLinearReservoir;
 
 /**
  * MetricsSource provides utilities to collect specified kind metrics, all metrics must create with
@@ -115,6 +116,21 @@ public abstract class MetricsSource {
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
   }
 
+  /**
+   * Get or create a Histogram backed by a {@link LogLinearReservoir}, which doesn't allocate on
+   * update. It's preferred for histograms on hot paths.
+   *
+   * @param name The name for the histogram, should be unique in metrics source.
+   * @return a new or pre-existing Histogram
+   */
+  public Histogram getPercentileHistogram(String name) {
+    return this.metricRegistry.histogram(
+        name,
+        () ->
+            new Histogram(
+                new LogLinearReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+  }
+
   /**
    * Get or create a Timer
    *
@@ -130,6 +146,20 @@ public abstract class MetricsSource {
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
   }
 
+  /**
+   * Get or create a Timer backed by a {@link LogLinearReservoir}, which records durations into
+   * HDR-style buckets without allocating on update. It's preferred for timers on hot paths.
+   *
+   * @param name The name for the timer, should be unique in metrics source.
+   * @return a new or pre-existing Timer
+   */
+  public Timer getPercentileTimer(String name) {
+    return this.metricRegistry.timer(
+        name,
+        () ->
+            new Timer(new LogLinearReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+  }
+
   /**
    * Get or create a Meter
    *
@@ -20,7 +20,11 @@
 package org.apache.gravitino.policy;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
@@ -148,6 +152,29 @@ public interface PolicyDispatcher {
    */
   PolicyEntity[] listPolicyInfosForMetadataObject(String metalake, MetadataObject metadataObject);
 
+  /**
+   * List the policies directly associated with each of the specified metadata objects and with
+   * each of their ancestors. An ancestor shared by several objects is resolved only once, so the
+   * effective policies of many objects can be computed by walking {@link
+   * MetadataObjects#parent(MetadataObject)} over the returned map.
+   *
+   * @param metalake the name of the metalake
+   * @param metadataObjects the metadata objects for which associated policies
+   * @return A map from each object and each of its ancestors to its directly associated policies.
+   */
+  default Map<MetadataObject, PolicyEntity[]> listPolicyInfosForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    Map<MetadataObject, PolicyEntity[]> policiesByObject = new HashMap<>();
+    for (MetadataObject metadataObject : metadataObjects) {
+      for (MetadataObject object = metadataObject;
+          object != null && !policiesByObject.containsKey(object);
+          object = MetadataObjects.parent(object)) {
+        policiesByObject.put(object, listPolicyInfosForMetadataObject(metalake, object));
+      }
+    }
+    return policiesByObject;
+  }
+
   /**
    * Associate policies to a metadata object under a metalake.
    *
@@ -22,16 +22,19 @@ package org.apache.gravitino.policy;
 import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -264,36 +267,61 @@ public class PolicyManager implements PolicyDispatcher {
   public PolicyEntity[] listPolicyInfosForMetadataObject(
       String metalake, MetadataObject metadataObject) {
     NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
-    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
 
     MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
     checkMetalake(NameIdentifier.of(metalake), entityStore);
 
     return TreeLockUtils.doWithTreeLock(
-        entityIdent,
-        LockType.READ,
-        () -> {
-          try {
-            return entityStore
-                .relationOperations()
-                .listEntitiesByRelation(
-                    SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
-                    entityIdent,
-                    entityType,
-                    true /* allFields */)
-                .stream()
-                .map(entity -> (PolicyEntity) entity)
-                .toArray(PolicyEntity[]::new);
-          } catch (NoSuchEntityException e) {
-            throw new NoSuchMetadataObjectException(
-                e,
-                "Failed to list policies for metadata object %s due to not found",
-                metadataObject);
-          } catch (IOException e) {
-            LOG.error("Failed to list policies for metadata object {}", metadataObject, e);
-            throw new RuntimeException(e);
-          }
-        });
+        entityIdent, LockType.READ, () -> loadPoliciesForMetadataObject(metalake, metadataObject));
+  }
+
+  @Override
+  public Map<MetadataObject, PolicyEntity[]> listPolicyInfosForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+
+    Map<MetadataObject, PolicyEntity[]> policiesByObject = Maps.newHashMap();
+    for (MetadataObject metadataObject : metadataObjects) {
+      // The ancestors of an existing object exist as well, so only the given objects are checked,
+      // and the relations of each ancestor are read once no matter how many objects share it.
+      MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+      for (MetadataObject object = metadataObject;
+          object != null && !policiesByObject.containsKey(object);
+          object = MetadataObjects.parent(object)) {
+        MetadataObject current = object;
+        policiesByObject.put(
+            current,
+            TreeLockUtils.doWithTreeLock(
+                MetadataObjectUtil.toEntityIdent(metalake, current),
+                LockType.READ,
+                () -> loadPoliciesForMetadataObject(metalake, current)));
+      }
+    }
+    return policiesByObject;
+  }
+
+  private PolicyEntity[] loadPoliciesForMetadataObject(
+      String metalake, MetadataObject metadataObject) {
+    NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
+    try {
+      return entityStore
+          .relationOperations()
+          .listEntitiesByRelation(
+              SupportsRelationOperations.Type.POLICY_METADATA_OBJECT_REL,
+              entityIdent,
+              entityType,
+              true /* allFields */)
+          .stream()
+          .map(entity -> (PolicyEntity) entity)
+          .toArray(PolicyEntity[]::new);
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchMetadataObjectException(
+          e, "Failed to list policies for metadata object %s due to not found", metadataObject);
+    } catch (IOException e) {
+      LOG.error("Failed to list policies for metadata object {}", metadataObject, e);
+      throw new RuntimeException(e);
+    }
   }
 
   @Override
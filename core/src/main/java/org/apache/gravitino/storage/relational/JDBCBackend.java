@@ -591,15 +591,27 @@ public class JDBCBackend implements RelationalBackend {
         1 == entities.stream().collect(Collectors.groupingBy(Entity::type)).size(),
         "All entities must be of the same type for batchPut operation.");
     Entity.EntityType entityType = entities.get(0).type();
+    Preconditions.checkArgument(
+        1 == entities.stream().collect(Collectors.groupingBy(HasIdentifier::namespace)).size(),
+        "All entities must be in the same namespace for batchPut operation.");
 
     switch (entityType) {
+      case SCHEMA:
+        SchemaMetaService.getInstance()
+            .batchInsertSchemas(
+                entities.stream().map(e -> (SchemaEntity) e).collect(Collectors.toList()),
+                overwritten);
+        break;
+      case TABLE:
+        TableMetaService.getInstance()
+            .batchInsertTables(
+                entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList()),
+                overwritten);
+        break;
       case TABLE_STATISTIC:
         Preconditions.checkArgument(overwritten, "Batch put for statistics must be overwritten.");
         List<StatisticEntity> statisticEntities =
             entities.stream().map(e -> (StatisticEntity) e).collect(Collectors.toList());
-        Preconditions.checkArgument(
-            1 == entities.stream().collect(Collectors.groupingBy(HasIdentifier::namespace)).size(),
-            "All entities must be in the same namespace for batchPut operation.");
 
         StatisticMetaService.getInstance()
             .batchInsertStatisticPOsOnDuplicateKeyUpdate(
@@ -43,7 +43,11 @@ import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.EntityCacheRelationKey;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
 import org.apache.gravitino.storage.relational.service.EntityIdService;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,84 +109,126 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      return backend.list(namespace, entityType, false);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      return backend.list(namespace, entityType, allFields);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    boolean existsInCache = cache.contains(ident, entityType);
-    return existsInCache || backend.exists(ident, entityType);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      boolean existsInCache = cache.contains(ident, entityType);
+      return existsInCache || backend.exists(ident, entityType);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
-    cache.put(e);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      backend.insert(e, overwritten);
+      cache.put(e);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      cache.invalidate(ident, entityType);
+      return backend.update(ident, entityType, updater);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return cache.withCacheLock(
-        EntityCacheRelationKey.of(ident, entityType),
-        () -> {
-          Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
-          if (entityFromCache.isPresent()) {
-            return entityFromCache.get();
-          }
-
-          E entity = backend.get(ident, entityType);
-          cache.put(entity);
-          return entity;
-        });
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try (TraceSpan span = Tracing.startSpan("RelationalEntityStore.get")) {
+      span.setAttribute("gravitino.entity_type", entityType);
+      return cache.withCacheLock(
+          EntityCacheRelationKey.of(ident, entityType),
+          () -> {
+            Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
+            span.setAttribute("gravitino.cache_hit", entityFromCache.isPresent());
+            if (entityFromCache.isPresent()) {
+              return entityFromCache.get();
+            }
+
+            E entity = backend.get(ident, entityType);
+            cache.put(entity);
+            return entity;
+          });
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> clazz) {
-    List<E> allEntities = new ArrayList<>();
-    List<NameIdentifier> noCacheIdents =
-        idents.stream()
-            .filter(
-                ident -> {
-                  Optional<E> entity = cache.getIfPresent(ident, entityType);
-                  entity.ifPresent(allEntities::add);
-                  return entity.isEmpty();
-                })
-            .toList();
-    List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
-    for (E entity : fetchEntities) {
-      cache.put(entity);
-      allEntities.add(entity);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      List<E> allEntities = new ArrayList<>();
+      List<NameIdentifier> noCacheIdents =
+          idents.stream()
+              .filter(
+                  ident -> {
+                    Optional<E> entity = cache.getIfPresent(ident, entityType);
+                    entity.ifPresent(allEntities::add);
+                    return entity.isEmpty();
+                  })
+              .toList();
+      List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
+      for (E entity : fetchEntities) {
+        cache.put(entity);
+        allEntities.add(entity);
+      }
+      return allEntities;
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
     }
-    return allEntities;
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
     try {
-      cache.invalidate(ident, entityType);
-      return backend.delete(ident, entityType, cascade);
-    } catch (NoSuchEntityException e) {
-      return false;
+      try {
+        cache.invalidate(ident, entityType);
+        return backend.delete(ident, entityType, cascade);
+      } catch (NoSuchEntityException e) {
+        return false;
+      }
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
     }
   }
 
@@ -207,22 +253,27 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
-    return cache.withCacheLock(
-        EntityCacheRelationKey.of(nameIdentifier, identType, relType),
-        () -> {
-          Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
-          if (entities.isPresent()) {
-            return entities.get();
-          }
-
-          // Use allFields=true to cache complete entities
-          List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, nameIdentifier, identType, true);
-
-          cache.put(nameIdentifier, identType, relType, backendEntities);
-
-          return backendEntities;
-        });
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      return cache.withCacheLock(
+          EntityCacheRelationKey.of(nameIdentifier, identType, relType),
+          () -> {
+            Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
+            if (entities.isPresent()) {
+              return entities.get();
+            }
+
+            // Use allFields=true to cache complete entities
+            List<E> backendEntities =
+                backend.listEntitiesByRelation(relType, nameIdentifier, identType, true);
+
+            cache.put(nameIdentifier, identType, relType, backendEntities);
+
+            return backendEntities;
+          });
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
@@ -232,37 +283,42 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       Entity.EntityType srcType,
       NameIdentifier destEntityIdent)
       throws IOException, NoSuchEntityException {
-    return cache.withCacheLock(
-        EntityCacheRelationKey.of(srcIdentifier, srcType, relType),
-        () -> {
-          Optional<List<E>> entities = cache.getIfPresent(relType, srcIdentifier, srcType);
-          if (entities.isPresent()) {
-            return entities.get().stream()
-                .filter(e -> e.nameIdentifier().equals(destEntityIdent))
-                .findFirst()
-                .orElseThrow(
-                    () ->
-                        new NoSuchEntityException(
-                            "No such entity with ident: %s", destEntityIdent));
-          }
-
-          // Use allFields=true to cache complete entities
-          List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true);
-
-          E r =
-              backendEntities.stream()
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      return cache.withCacheLock(
+          EntityCacheRelationKey.of(srcIdentifier, srcType, relType),
+          () -> {
+            Optional<List<E>> entities = cache.getIfPresent(relType, srcIdentifier, srcType);
+            if (entities.isPresent()) {
+              return entities.get().stream()
                   .filter(e -> e.nameIdentifier().equals(destEntityIdent))
                   .findFirst()
                   .orElseThrow(
                       () ->
                           new NoSuchEntityException(
                               "No such entity with ident: %s", destEntityIdent));
-
-          cache.put(srcIdentifier, srcType, relType, backendEntities);
-
-          return r;
-        });
+            }
+
+            // Use allFields=true to cache complete entities
+            List<E> backendEntities =
+                backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true);
+
+            E r =
+                backendEntities.stream()
+                    .filter(e -> e.nameIdentifier().equals(destEntityIdent))
+                    .findFirst()
+                    .orElseThrow(
+                        () ->
+                            new NoSuchEntityException(
+                                "No such entity with ident: %s", destEntityIdent));
+
+            cache.put(srcIdentifier, srcType, relType, backendEntities);
+
+            return r;
+          });
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
@@ -274,9 +330,14 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       Entity.EntityType dstType,
       boolean override)
       throws IOException {
-    cache.invalidate(srcIdentifier, srcType, relType);
-    cache.invalidate(dstIdentifier, dstType, relType);
-    backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      cache.invalidate(srcIdentifier, srcType, relType);
+      cache.invalidate(dstIdentifier, dstType, relType);
+      backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
@@ -287,35 +348,51 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       NameIdentifier[] destEntitiesToAdd,
       NameIdentifier[] destEntitiesToRemove)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-
-    // We need to clear the cache of the source entity and all destination entities being added or
-    // removed. This ensures that any subsequent reads will fetch the updated relations from the
-    // backend. For example, if we are adding a tag to table, we need to invalidate the cache for
-    // that table and the tag being added or removed. Otherwise, we might return stale data if we
-    // list all tags for that table or all tables for that tag.
-    cache.invalidate(srcEntityIdent, srcEntityType, relType);
-    for (NameIdentifier destToAdd : destEntitiesToAdd) {
-      cache.invalidate(destToAdd, srcEntityType, relType);
-    }
-
-    for (NameIdentifier destToRemove : destEntitiesToRemove) {
-      cache.invalidate(destToRemove, srcEntityType, relType);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      // We need to clear the cache of the source entity and all destination entities being added or
+      // removed. This ensures that any subsequent reads will fetch the updated relations from the
+      // backend. For example, if we are adding a tag to table, we need to invalidate the cache for
+      // that table and the tag being added or removed. Otherwise, we might return stale data if we
+      // list all tags for that table or all tables for that tag.
+      cache.invalidate(srcEntityIdent, srcEntityType, relType);
+      for (NameIdentifier destToAdd : destEntitiesToAdd) {
+        cache.invalidate(destToAdd, srcEntityType, relType);
+      }
+
+      for (NameIdentifier destToRemove : destEntitiesToRemove) {
+        cache.invalidate(destToRemove, srcEntityType, relType);
+      }
+
+      return backend.updateEntityRelations(
+          relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
     }
-
-    return backend.updateEntityRelations(
-        relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
   }
 
   @Override
   public int batchDelete(
       List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
       throws IOException {
-    return backend.batchDelete(entitiesToDelete, cascade);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      return backend.batchDelete(entitiesToDelete, cascade);
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.batchPut(entities, overwritten);
+    long phaseStart = RequestPhases.start(Phase.ENTITY_STORE);
+    try {
+      backend.batchPut(entities, overwritten);
+      // Don't fill the cache with the entities of a bulk import, they are cached on first read.
+      entities.forEach(e -> cache.invalidate(e.nameIdentifier(), e.type()));
+    } finally {
+      RequestPhases.stop(Phase.ENTITY_STORE, phaseStart);
+    }
   }
 }
@@ -36,6 +36,23 @@ public interface TableColumnMapper {
   List<ColumnPO> listColumnPOsByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
 
+  @SelectProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "selectLatestSnapshotVersion")
+  Long selectLatestSnapshotVersion(@Param("tableId") Long tableId);
+
+  @SelectProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "countColumnPOsAfterVersion")
+  Integer countColumnPOsAfterVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "softDeleteColumnPOsBeforeVersion")
+  Integer softDeleteColumnPOsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+
   @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPOs")
   void insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
 
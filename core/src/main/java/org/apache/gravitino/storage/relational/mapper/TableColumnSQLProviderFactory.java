@@ -57,6 +57,20 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String selectLatestSnapshotVersion(@Param("tableId") Long tableId) {
+    return getProvider().selectLatestSnapshotVersion(tableId);
+  }
+
+  public static String countColumnPOsAfterVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().countColumnPOsAfterVersion(tableId, tableVersion);
+  }
+
+  public static String softDeleteColumnPOsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return getProvider().softDeleteColumnPOsBeforeVersion(tableId, tableVersion);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
@@ -43,11 +43,42 @@ public class TableColumnBaseSQLProvider {
         + " FROM "
         + TableColumnMapper.COLUMN_TABLE_NAME
         + " WHERE table_id = #{tableId} AND table_version <= #{tableVersion} AND deleted_at = 0"
+        // Only the columns since the latest snapshot are needed to rebuild the version.
+        + " AND table_version >= (SELECT COALESCE(MAX(table_version), 0) FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND table_version <= #{tableVersion}"
+        + " AND column_op_type = "
+        + ColumnPO.ColumnOpType.SNAPSHOT.value()
+        + " AND deleted_at = 0)"
         + " GROUP BY column_id) t2"
         + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version"
         + " AND t1.table_id = #{tableId}";
   }
 
+  public String selectLatestSnapshotVersion(@Param("tableId") Long tableId) {
+    return "SELECT MAX(table_version) FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND column_op_type = "
+        + ColumnPO.ColumnOpType.SNAPSHOT.value()
+        + " AND deleted_at = 0";
+  }
+
+  public String countColumnPOsAfterVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "SELECT COUNT(*) FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND table_version > #{tableVersion} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnPOsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND table_version < #{tableVersion} AND deleted_at = 0";
+  }
+
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return "<script>"
         + "INSERT INTO "
@@ -126,7 +157,9 @@ public class TableColumnBaseSQLProvider {
         // Update a column will generate two records with the same version, one with op_type = 2
         // (update) and another with op_type = 3 (delete). We should not return NULL if both records
         // exist with the same version, otherwise the caller will think the column does not exist.
-        + " ORDER BY table_version DESC, column_op_type ASC, id DESC LIMIT 1";
+        // The same holds for a dropped column and a snapshot row of a new column with its name.
+        + " ORDER BY table_version DESC,"
+        + " CASE WHEN column_op_type = 3 THEN 1 ELSE 0 END ASC, id DESC LIMIT 1";
   }
 
   public String selectColumnPOById(@Param("columnId") Long columnId) {
@@ -32,6 +32,15 @@ public class TableColumnPostgreSQLProvider extends TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  @Override
+  public String softDeleteColumnPOsBeforeVersion(
+      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    return "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000 AS BIGINT)"
+        + " WHERE table_id = #{tableId} AND table_version < #{tableVersion} AND deleted_at = 0";
+  }
+
   @Override
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
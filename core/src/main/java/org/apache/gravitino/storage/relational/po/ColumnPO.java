@@ -30,7 +30,10 @@ public class ColumnPO {
   public enum ColumnOpType {
     CREATE((byte) 1),
     UPDATE((byte) 2),
-    DELETE((byte) 3);
+    DELETE((byte) 3),
+    // A full copy of the live columns at a table version, the columns of earlier versions are not
+    // needed to rebuild this or any later version.
+    SNAPSHOT((byte) 4);
 
     private final byte value;
 
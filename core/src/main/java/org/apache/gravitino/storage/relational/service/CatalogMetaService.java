@@ -236,6 +236,7 @@ public class CatalogMetaService {
     }
 
     if (updateResult > 0) {
+      MetadataObjectService.invalidateCatalogName(newEntity.id());
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -367,6 +368,7 @@ public class CatalogMetaService {
                       mapper.softDeletePolicyMetadataObjectRelsByMetadataObject(
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
+    MetadataObjectService.invalidateCatalogName(catalogId);
 
     return true;
   }
@@ -205,6 +205,9 @@ public class JobTemplateMetaService {
     return jobTemplatePO;
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "getJobTemplateIdByMetalakeIdAndName")
   public long getJobTemplateIdByMetalakeIdAndName(long metalakeId, String name) {
     Long jobTemplateId =
         SessionUtils.getWithoutCommit(
@@ -20,13 +20,17 @@ package org.apache.gravitino.storage.relational.service;
 
 import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
@@ -70,6 +74,28 @@ public class MetadataObjectService {
   private static final Joiner DOT_JOINER = Joiner.on(DOT);
   private static final Logger LOG = LoggerFactory.getLogger(MetadataObjectService.class);
 
+  // Catalogs and schemas are the shared prefixes of almost every full name, so their names are
+  // indexed in memory by id. A schema node only keeps its own name and the id of its catalog, so
+  // renaming a catalog evicts a single entry. Leaf objects are still read from the store with one
+  // batch query, and entries expire to bound staleness when several servers share the store.
+  private static final long NAME_CACHE_MAX_SIZE = 100_000L;
+  private static final Duration NAME_CACHE_EXPIRATION = Duration.ofMinutes(10);
+
+  private static final Cache<Long, String> CATALOG_NAME_CACHE =
+      Caffeine.newBuilder()
+          .maximumSize(NAME_CACHE_MAX_SIZE)
+          .expireAfterWrite(NAME_CACHE_EXPIRATION)
+          .build();
+
+  private static final Cache<Long, SchemaNameNode> SCHEMA_NAME_CACHE =
+      Caffeine.newBuilder()
+          .maximumSize(NAME_CACHE_MAX_SIZE)
+          .expireAfterWrite(NAME_CACHE_EXPIRATION)
+          .build();
+
+  // Bumped by every eviction, so the names read from the store before a rename are not cached.
+  private static final AtomicLong NAME_CACHE_GENERATION = new AtomicLong();
+
   static final Map<MetadataObject.Type, Function<List<Long>, Map<Long, String>>>
       TYPE_TO_FULLNAME_FUNCTION_MAP =
           ImmutableMap.<MetadataObject.Type, Function<List<Long>, Map<Long, String>>>builder()
@@ -494,18 +520,33 @@ public class MetadataObjectService {
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getCatalogObjectsFullName")
   public static Map<Long, String> getCatalogObjectsFullName(List<Long> catalogIds) {
+    HashMap<Long, String> catalogIdAndNameMap =
+        new HashMap<>(CATALOG_NAME_CACHE.getAllPresent(catalogIds));
+
+    List<Long> missingIds =
+        catalogIds.stream()
+            .filter(id -> !catalogIdAndNameMap.containsKey(id))
+            .distinct()
+            .collect(Collectors.toList());
+    if (missingIds.isEmpty()) {
+      return catalogIdAndNameMap;
+    }
+
+    long generation = NAME_CACHE_GENERATION.get();
     List<CatalogPO> catalogPOs =
         SessionUtils.getWithoutCommit(
-            CatalogMetaMapper.class, mapper -> mapper.listCatalogPOsByCatalogIds(catalogIds));
+            CatalogMetaMapper.class, mapper -> mapper.listCatalogPOsByCatalogIds(missingIds));
 
     if (catalogPOs == null || catalogPOs.isEmpty()) {
-      return new HashMap<>();
+      return catalogIdAndNameMap;
     }
 
-    HashMap<Long, String> catalogIdAndNameMap = new HashMap<>();
-
     catalogPOs.forEach(
-        catalogPO -> catalogIdAndNameMap.put(catalogPO.getCatalogId(), catalogPO.getCatalogName()));
+        catalogPO -> {
+          cacheName(
+              CATALOG_NAME_CACHE, catalogPO.getCatalogId(), catalogPO.getCatalogName(), generation);
+          catalogIdAndNameMap.put(catalogPO.getCatalogId(), catalogPO.getCatalogName());
+        });
 
     return catalogIdAndNameMap;
   }
@@ -523,35 +564,109 @@ public class MetadataObjectService {
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getSchemaObjectsFullName")
   public static Map<Long, String> getSchemaObjectsFullName(List<Long> schemaIds) {
-    List<SchemaPO> schemaPOs =
-        SessionUtils.getWithoutCommit(
-            SchemaMetaMapper.class, mapper -> mapper.listSchemaPOsBySchemaIds(schemaIds));
+    Map<Long, SchemaNameNode> schemaNodes =
+        new HashMap<>(SCHEMA_NAME_CACHE.getAllPresent(schemaIds));
+
+    List<Long> missingIds =
+        schemaIds.stream()
+            .filter(id -> !schemaNodes.containsKey(id))
+            .distinct()
+            .collect(Collectors.toList());
+    if (!missingIds.isEmpty()) {
+      long generation = NAME_CACHE_GENERATION.get();
+      List<SchemaPO> schemaPOs =
+          SessionUtils.getWithoutCommit(
+              SchemaMetaMapper.class, mapper -> mapper.listSchemaPOsBySchemaIds(missingIds));
+      if (schemaPOs != null) {
+        schemaPOs.forEach(
+            schemaPO -> {
+              SchemaNameNode node =
+                  new SchemaNameNode(schemaPO.getCatalogId(), schemaPO.getSchemaName());
+              cacheName(SCHEMA_NAME_CACHE, schemaPO.getSchemaId(), node, generation);
+              schemaNodes.put(schemaPO.getSchemaId(), node);
+            });
+      }
+    }
 
-    if (schemaPOs == null || schemaPOs.isEmpty()) {
+    if (schemaNodes.isEmpty()) {
       return new HashMap<>();
     }
 
     List<Long> catalogIds =
-        schemaPOs.stream().map(SchemaPO::getCatalogId).collect(Collectors.toList());
+        schemaNodes.values().stream().map(node -> node.catalogId).collect(Collectors.toList());
 
     Map<Long, String> catalogIdAndNameMap = getCatalogObjectsFullName(catalogIds);
 
     HashMap<Long, String> schemaIdAndNameMap = new HashMap<>();
 
-    schemaPOs.forEach(
-        schemaPO -> {
-          String catalogName = catalogIdAndNameMap.getOrDefault(schemaPO.getCatalogId(), null);
+    schemaNodes.forEach(
+        (schemaId, node) -> {
+          String catalogName = catalogIdAndNameMap.getOrDefault(node.catalogId, null);
           if (catalogName == null) {
-            LOG.warn("The catalog of schema {} may be deleted", schemaPO.getSchemaId());
-            schemaIdAndNameMap.put(schemaPO.getSchemaId(), null);
+            LOG.warn("The catalog of schema {} may be deleted", schemaId);
+            schemaIdAndNameMap.put(schemaId, null);
             return;
           }
 
-          String fullName = DOT_JOINER.join(catalogName, schemaPO.getSchemaName());
+          String fullName = DOT_JOINER.join(catalogName, node.schemaName);
 
-          schemaIdAndNameMap.put(schemaPO.getSchemaId(), fullName);
+          schemaIdAndNameMap.put(schemaId, fullName);
         });
 
     return schemaIdAndNameMap;
   }
+
+  /**
+   * Evicts the cached name of a catalog. It must be called after the catalog is renamed or
+   * deleted. The schemas under the catalog are resolved through this entry, so they need no
+   * eviction.
+   *
+   * @param catalogId The id of the catalog.
+   */
+  public static void invalidateCatalogName(long catalogId) {
+    NAME_CACHE_GENERATION.incrementAndGet();
+    CATALOG_NAME_CACHE.invalidate(catalogId);
+  }
+
+  /**
+   * Evicts the cached name of a schema. It must be called after the schema is renamed or deleted.
+   *
+   * @param schemaId The id of the schema.
+   */
+  public static void invalidateSchemaName(long schemaId) {
+    NAME_CACHE_GENERATION.incrementAndGet();
+    SCHEMA_NAME_CACHE.invalidate(schemaId);
+  }
+
+  /** Evicts all the cached catalog and schema names, for example after a metalake is dropped. */
+  public static void invalidateAllNames() {
+    NAME_CACHE_GENERATION.incrementAndGet();
+    CATALOG_NAME_CACHE.invalidateAll();
+    SCHEMA_NAME_CACHE.invalidateAll();
+  }
+
+  /**
+   * Caches a name read from the store, unless a name has been evicted since the read started, as
+   * the read may have seen the name before a rename.
+   */
+  private static <V> void cacheName(Cache<Long, V> cache, Long id, V name, long generation) {
+    if (NAME_CACHE_GENERATION.get() != generation) {
+      return;
+    }
+    cache.put(id, name);
+    if (NAME_CACHE_GENERATION.get() != generation) {
+      // An eviction raced with the put, drop the possibly stale name.
+      cache.asMap().remove(id, name);
+    }
+  }
+
+  private static final class SchemaNameNode {
+    private final long catalogId;
+    private final String schemaName;
+
+    private SchemaNameNode(long catalogId, String schemaName) {
+      this.catalogId = catalogId;
+      this.schemaName = schemaName;
+    }
+  }
 }
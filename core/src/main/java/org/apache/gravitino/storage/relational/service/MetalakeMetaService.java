@@ -375,6 +375,7 @@ public class MetalakeMetaService {
                     JobMetaMapper.class,
                     mapper -> mapper.softDeleteJobMetasByMetalakeId(metalakeId)));
       }
+      MetadataObjectService.invalidateAllNames();
     }
     return true;
   }
@@ -469,6 +469,9 @@ public class PolicyMetaService {
    * @param policyName policy name
    * @return policy id
    */
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "getPolicyIdByPolicyName")
   public long getPolicyIdByPolicyName(long metalakeId, String policyName) {
     PolicyPO policyPO =
         SessionUtils.getWithoutCommit(
@@ -22,6 +22,7 @@ import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATI
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -180,6 +181,49 @@ public class SchemaMetaService {
     }
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchInsertSchemas")
+  public void batchInsertSchemas(List<SchemaEntity> schemaEntities, boolean overwrite)
+      throws IOException {
+    if (schemaEntities.isEmpty()) {
+      return;
+    }
+
+    Namespace namespace = schemaEntities.get(0).namespace();
+    NamespaceUtil.checkSchema(namespace);
+    try {
+      NamespacedEntityId namespacedEntityId =
+          EntityIdService.getEntityIds(
+              NameIdentifier.of(namespace.levels()), Entity.EntityType.CATALOG);
+      List<SchemaPO> schemaPOs = new ArrayList<>(schemaEntities.size());
+      for (SchemaEntity schemaEntity : schemaEntities) {
+        NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
+        SchemaPO.Builder builder =
+            SchemaPO.builder()
+                .withMetalakeId(namespacedEntityId.namespaceIds()[0])
+                .withCatalogId(namespacedEntityId.entityId());
+        schemaPOs.add(POConverters.initializeSchemaPOWithVersion(schemaEntity, builder));
+      }
+
+      // All the schemas are inserted in one transaction.
+      SessionUtils.doWithCommit(
+          SchemaMetaMapper.class,
+          mapper ->
+              schemaPOs.forEach(
+                  po -> {
+                    if (overwrite) {
+                      mapper.insertSchemaMetaOnDuplicateKeyUpdate(po);
+                    } else {
+                      mapper.insertSchemaMeta(po);
+                    }
+                  }));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.SCHEMA, namespace.toString());
+      throw re;
+    }
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "updateSchema")
@@ -210,6 +254,7 @@ public class SchemaMetaService {
     }
 
     if (updateResult > 0) {
+      MetadataObjectService.invalidateSchemaName(newEntity.id());
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -371,6 +416,7 @@ public class SchemaMetaService {
                       mapper.softDeletePolicyMetadataObjectRelsByMetadataObject(
                           schemaId, MetadataObject.Type.SCHEMA.name())));
     }
+    MetadataObjectService.invalidateSchemaName(schemaId);
     return true;
   }
 
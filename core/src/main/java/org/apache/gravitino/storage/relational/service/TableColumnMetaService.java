@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.service;
 
 import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +43,11 @@ public class TableColumnMetaService {
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
+  // A table stores the columns changed by each version as a delta. Once the deltas since the
+  // latest snapshot outnumber the columns of the table, or this minimum, the next change writes a
+  // full snapshot of the columns instead, so a version is rebuilt from a bounded number of rows.
+  @VisibleForTesting static final int MIN_DELTA_COLUMNS_PER_SNAPSHOT = 32;
+
   private TableColumnMetaService() {}
 
   public static TableColumnMetaService getInstance() {
@@ -175,12 +181,14 @@ public class TableColumnMetaService {
     }
 
     // Mark the columns to DELETE if they are not existed in new columns.
+    List<ColumnPO> deletedColumnPOs = Lists.newArrayList();
     for (ColumnEntity oldColumn : oldColumns.values()) {
       if (!newColumns.containsKey(oldColumn.id())) {
-        columnPOsToInsert.add(
+        deletedColumnPOs.add(
             POConverters.initializeColumnPO(newTablePO, oldColumn, ColumnPO.ColumnOpType.DELETE));
       }
     }
+    columnPOsToInsert.addAll(deletedColumnPOs);
 
     // If there is no change, directly return
     if (columnPOsToInsert.isEmpty()) {
@@ -194,8 +202,63 @@ public class TableColumnMetaService {
       return;
     }
 
+    Long latestSnapshotVersion =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.selectLatestSnapshotVersion(newTablePO.getTableId()));
+    if (shouldWriteSnapshot(
+        newTablePO.getTableId(),
+        latestSnapshotVersion,
+        newColumns.size(),
+        columnPOsToInsert.size())) {
+      writeSnapshot(newTablePO, newTable.columns(), deletedColumnPOs, latestSnapshotVersion);
+      return;
+    }
+
     // updateColumns will be done in updateTable transaction, so we don't do commit here.
     SessionUtils.doWithoutCommit(
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
   }
+
+  private boolean shouldWriteSnapshot(
+      Long tableId, Long latestSnapshotVersion, int columnCount, int deltaCount) {
+    if (columnCount == 0) {
+      // An empty snapshot writes no rows, so there is nothing to mark it.
+      return false;
+    }
+
+    long snapshotVersion = latestSnapshotVersion == null ? 0L : latestSnapshotVersion;
+    Integer deltaCountSinceSnapshot =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.countColumnPOsAfterVersion(tableId, snapshotVersion));
+    return deltaCountSinceSnapshot + deltaCount
+        > Math.max(columnCount, MIN_DELTA_COLUMNS_PER_SNAPSHOT);
+  }
+
+  private void writeSnapshot(
+      TablePO newTablePO,
+      List<ColumnEntity> columns,
+      List<ColumnPO> deletedColumnPOs,
+      Long latestSnapshotVersion) {
+    List<ColumnPO> snapshotColumnPOs =
+        Lists.newArrayList(
+            POConverters.initializeColumnPOs(newTablePO, columns, ColumnPO.ColumnOpType.SNAPSHOT));
+    // The lookups of a single column aren't bounded by the latest snapshot, so the dropped columns
+    // still need a DELETE row to hide their rows written since the previous snapshot.
+    snapshotColumnPOs.addAll(deletedColumnPOs);
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(snapshotColumnPOs));
+
+    // The rows before the previous snapshot are only needed to rebuild versions which were
+    // replaced two snapshots ago, so they are handed over to the garbage collector. The rows
+    // between the two snapshots are kept for the readers which still hold the previous version.
+    if (latestSnapshotVersion != null) {
+      SessionUtils.doWithoutCommit(
+          TableColumnMapper.class,
+          mapper ->
+              mapper.softDeleteColumnPOsBeforeVersion(
+                  newTablePO.getTableId(), latestSnapshotVersion));
+    }
+  }
 }
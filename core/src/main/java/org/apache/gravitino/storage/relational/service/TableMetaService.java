@@ -37,6 +37,7 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.NamespacedEntityId;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.metrics.Monitored;
@@ -159,6 +160,77 @@ public class TableMetaService {
     }
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchInsertTables")
+  public void batchInsertTables(List<TableEntity> tableEntities, boolean overwrite)
+      throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    Namespace namespace = tableEntities.get(0).namespace();
+    NamespaceUtil.checkTable(namespace);
+    try {
+      NamespacedEntityId namespacedEntityId =
+          EntityIdService.getEntityIds(
+              NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+      List<TablePO> tablePOs = new ArrayList<>(tableEntities.size());
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+        TablePO.Builder builder =
+            TablePO.builder()
+                .withMetalakeId(namespacedEntityId.namespaceIds()[0])
+                .withCatalogId(namespacedEntityId.namespaceIds()[1])
+                .withSchemaId(namespacedEntityId.entityId());
+        tablePOs.add(POConverters.initializeTablePOWithVersion(tableEntity, builder));
+      }
+
+      // All the tables are inserted in one transaction.
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class,
+                  mapper ->
+                      tablePOs.forEach(
+                          po -> {
+                            if (overwrite) {
+                              mapper.insertTableMetaOnDuplicateKeyUpdate(po);
+                            } else {
+                              mapper.insertTableMeta(po);
+                            }
+                          })),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableVersionMapper.class,
+                  mapper ->
+                      tablePOs.forEach(
+                          po -> {
+                            if (overwrite) {
+                              mapper.insertTableVersionOnDuplicateKeyUpdate(po);
+                            } else {
+                              mapper.insertTableVersion(po);
+                            }
+                          })),
+          () -> {
+            for (int i = 0; i < tablePOs.size(); i++) {
+              TablePO tablePO = tablePOs.get(i);
+              List<ColumnEntity> columns = tableEntities.get(i).columns();
+              if (overwrite) {
+                TableColumnMetaService.getInstance().deleteColumnsByTableId(tablePO.getTableId());
+              }
+              if (columns != null && !columns.isEmpty()) {
+                TableColumnMetaService.getInstance().insertColumnPOs(tablePO, columns);
+              }
+            }
+          });
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, namespace.toString());
+      throw re;
+    }
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "updateTable")
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
@@ -409,6 +409,9 @@ public class TagMetaService {
     return tagPO;
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "getTagIdByTagName")
   public Long getTagIdByTagName(Long metalakeId, String tagName) {
     TagPO tagPO =
         SessionUtils.getWithoutCommit(
@@ -23,6 +23,8 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 
 /**
  * This class provides utility methods to perform database operations with MyBatis mappers in the
@@ -36,13 +38,16 @@ public class SessionUtils {
    * nested within other transactions.
    */
   public static <T> void doWithCommit(Class<T> mapperClazz, Consumer<T> consumer) {
-    try {
-      T mapper = SqlSessions.getMapper(mapperClazz);
-      consumer.accept(mapper);
-      SqlSessions.commitAndCloseSqlSession();
-    } catch (Throwable t) {
-      SqlSessions.rollbackAndCloseSqlSession();
-      throw t;
+    try (TraceSpan span = Tracing.startSpan("SessionUtils.doWithCommit")) {
+      span.setAttribute("gravitino.mapper", mapperClazz.getSimpleName());
+      try {
+        T mapper = SqlSessions.getMapper(mapperClazz);
+        consumer.accept(mapper);
+        SqlSessions.commitAndCloseSqlSession();
+      } catch (Throwable t) {
+        SqlSessions.rollbackAndCloseSqlSession();
+        throw t;
+      }
     }
   }
 
@@ -51,14 +56,17 @@ public class SessionUtils {
    * lifecycle. Can be nested within other transactions.
    */
   public static <T, R> R doWithCommitAndFetchResult(Class<T> mapperClazz, Function<T, R> func) {
-    try {
-      T mapper = SqlSessions.getMapper(mapperClazz);
-      R result = func.apply(mapper);
-      SqlSessions.commitAndCloseSqlSession();
-      return result;
-    } catch (Throwable t) {
-      SqlSessions.rollbackAndCloseSqlSession();
-      throw t;
+    try (TraceSpan span = Tracing.startSpan("SessionUtils.doWithCommitAndFetchResult")) {
+      span.setAttribute("gravitino.mapper", mapperClazz.getSimpleName());
+      try {
+        T mapper = SqlSessions.getMapper(mapperClazz);
+        R result = func.apply(mapper);
+        SqlSessions.commitAndCloseSqlSession();
+        return result;
+      } catch (Throwable t) {
+        SqlSessions.rollbackAndCloseSqlSession();
+        throw t;
+      }
     }
   }
 
@@ -67,12 +75,15 @@ public class SessionUtils {
    * within other transactions.
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
-    try {
-      T mapper = SqlSessions.getMapper(mapperClazz);
-      return func.apply(mapper);
-    } finally {
-      // This will decrement the counter, the session is closed only when the counter is 0.
-      SqlSessions.closeSqlSession();
+    try (TraceSpan span = Tracing.startSpan("SessionUtils.getWithoutCommit")) {
+      span.setAttribute("gravitino.mapper", mapperClazz.getSimpleName());
+      try {
+        T mapper = SqlSessions.getMapper(mapperClazz);
+        return func.apply(mapper);
+      } finally {
+        // This will decrement the counter, the session is closed only when the counter is 0.
+        SqlSessions.closeSqlSession();
+      }
     }
   }
 
@@ -81,12 +92,15 @@ public class SessionUtils {
    * transactions. This method is for operations that do not return a result.
    */
   public static <T> void doWithoutCommit(Class<T> mapperClazz, Consumer<T> consumer) {
-    try {
-      T mapper = SqlSessions.getMapper(mapperClazz);
-      consumer.accept(mapper);
-    } finally {
-      // This will decrement the counter, the session is closed only when the counter is 0.
-      SqlSessions.closeSqlSession();
+    try (TraceSpan span = Tracing.startSpan("SessionUtils.doWithoutCommit")) {
+      span.setAttribute("gravitino.mapper", mapperClazz.getSimpleName());
+      try {
+        T mapper = SqlSessions.getMapper(mapperClazz);
+        consumer.accept(mapper);
+      } finally {
+        // This will decrement the counter, the session is closed only when the counter is 0.
+        SqlSessions.closeSqlSession();
+      }
     }
   }
 
@@ -95,15 +109,17 @@ public class SessionUtils {
    * lifecycle.
    */
   public static void doMultipleWithCommit(Runnable... operations) {
-    // This method acts as the outermost transaction boundary.
-    // It increments the session count once.
-    SqlSessions.getSqlSession();
-    try {
-      Arrays.stream(operations).forEach(Runnable::run);
-      SqlSessions.commitAndCloseSqlSession();
-    } catch (Throwable t) {
-      SqlSessions.rollbackAndCloseSqlSession();
-      throw t;
+    try (TraceSpan span = Tracing.startSpan("SessionUtils.doMultipleWithCommit")) {
+      // This method acts as the outermost transaction boundary.
+      // It increments the session count once.
+      SqlSessions.getSqlSession();
+      try {
+        Arrays.stream(operations).forEach(Runnable::run);
+        SqlSessions.commitAndCloseSqlSession();
+      } catch (Throwable t) {
+        SqlSessions.rollbackAndCloseSqlSession();
+        throw t;
+      }
     }
   }
 
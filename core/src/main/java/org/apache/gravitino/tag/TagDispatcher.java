@@ -18,8 +18,11 @@
  */
 package org.apache.gravitino.tag;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 
 /**
@@ -111,6 +114,29 @@ public interface TagDispatcher {
    */
   Tag[] listTagsInfoForMetadataObject(String metalake, MetadataObject metadataObject);
 
+  /**
+   * List detailed information for the tags directly associated with each of the specified metadata
+   * objects and with each of their ancestors. An ancestor shared by several objects is resolved
+   * only once, so the effective tags of many objects can be computed by walking {@link
+   * MetadataObjects#parent(MetadataObject)} over the returned map.
+   *
+   * @param metalake The name of the metalake
+   * @param metadataObjects The metadata objects to query tag details for.
+   * @return A map from each object and each of its ancestors to its directly associated tags.
+   */
+  default Map<MetadataObject, Tag[]> listTagsInfoForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) {
+    Map<MetadataObject, Tag[]> tagsByObject = new HashMap<>();
+    for (MetadataObject metadataObject : metadataObjects) {
+      for (MetadataObject object = metadataObject;
+          object != null && !tagsByObject.containsKey(object);
+          object = MetadataObjects.parent(object)) {
+        tagsByObject.put(object, listTagsInfoForMetadataObject(metalake, object));
+      }
+    }
+    return tagsByObject;
+  }
+
   /**
    * Associate or disassociate tags with the specified metadata object.
    *
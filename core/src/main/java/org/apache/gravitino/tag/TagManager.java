@@ -34,6 +34,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -240,7 +241,6 @@ public class TagManager implements TagDispatcher {
   public Tag[] listTagsInfoForMetadataObject(String metalake, MetadataObject metadataObject)
       throws NoSuchMetadataObjectException {
     NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
-    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
 
     MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
 
@@ -248,26 +248,36 @@ public class TagManager implements TagDispatcher {
         entityIdent,
         LockType.READ,
         () -> {
-          try {
-            checkMetalake(NameIdentifier.of(metalake), entityStore);
-            List<TagEntity> tags =
-                entityStore
-                    .relationOperations()
-                    .listEntitiesByRelation(
-                        SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL,
-                        entityIdent,
-                        entityType);
-            return tags.toArray(new Tag[0]);
-          } catch (NoSuchEntityException e) {
-            throw new NoSuchMetadataObjectException(
-                e, "Failed to list tags for metadata object %s due to not found", metadataObject);
-          } catch (IOException e) {
-            LOG.error("Failed to list tags for metadata object {}", metadataObject, e);
-            throw new RuntimeException(e);
-          }
+          checkMetalake(NameIdentifier.of(metalake), entityStore);
+          return loadTagsForMetadataObject(metalake, metadataObject);
         });
   }
 
+  @Override
+  public Map<MetadataObject, Tag[]> listTagsInfoForMetadataObjectHierarchies(
+      String metalake, List<MetadataObject> metadataObjects) throws NoSuchMetadataObjectException {
+    checkMetalake(NameIdentifier.of(metalake), entityStore);
+
+    Map<MetadataObject, Tag[]> tagsByObject = Maps.newHashMap();
+    for (MetadataObject metadataObject : metadataObjects) {
+      // The ancestors of an existing object exist as well, so only the given objects are checked,
+      // and the relations of each ancestor are read once no matter how many objects share it.
+      MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+      for (MetadataObject object = metadataObject;
+          object != null && !tagsByObject.containsKey(object);
+          object = MetadataObjects.parent(object)) {
+        MetadataObject current = object;
+        tagsByObject.put(
+            current,
+            TreeLockUtils.doWithTreeLock(
+                MetadataObjectUtil.toEntityIdent(metalake, current),
+                LockType.READ,
+                () -> loadTagsForMetadataObject(metalake, current)));
+      }
+    }
+    return tagsByObject;
+  }
+
   public Tag getTagForMetadataObject(String metalake, MetadataObject metadataObject, String name)
       throws NoSuchMetadataObjectException {
     NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
@@ -373,6 +383,25 @@ public class TagManager implements TagDispatcher {
                 }));
   }
 
+  private Tag[] loadTagsForMetadataObject(String metalake, MetadataObject metadataObject) {
+    NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject);
+    try {
+      List<TagEntity> tags =
+          entityStore
+              .relationOperations()
+              .listEntitiesByRelation(
+                  SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL, entityIdent, entityType);
+      return tags.toArray(new Tag[0]);
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchMetadataObjectException(
+          e, "Failed to list tags for metadata object %s due to not found", metadataObject);
+    } catch (IOException e) {
+      LOG.error("Failed to list tags for metadata object {}", metadataObject, e);
+      throw new RuntimeException(e);
+    }
+  }
+
   private TagEntity updateTagEntity(TagEntity tagEntity, TagChange... changes) {
     Map<String, String> props =
         tagEntity.properties() == null
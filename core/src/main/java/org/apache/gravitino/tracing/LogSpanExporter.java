@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the traces as OTLP JSON lines to the {@value #LOGGER_NAME} logger, which can be routed to
+ * a dedicated appender in the log4j2 configuration.
+ */
+public class LogSpanExporter implements SpanExporter {
+
+  public static final String LOGGER_NAME = "org.apache.gravitino.tracing.spans";
+
+  private static final Logger LOG = LoggerFactory.getLogger(LOGGER_NAME);
+
+  @Override
+  public void export(List<RequestTrace> traces) {
+    if (LOG.isInfoEnabled()) {
+      LOG.info(OtlpJsonEncoder.encode(traces));
+    }
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Encodes traces as an OTLP {@code ExportTraceServiceRequest} in the protobuf JSON mapping, which
+ * is the format of the OpenTelemetry collector file exporter and can be replayed to any OTLP/HTTP
+ * endpoint.
+ */
+final class OtlpJsonEncoder {
+
+  static final String SERVICE_NAME = "gravitino";
+  static final String SCOPE_NAME = "org.apache.gravitino";
+
+  private static final int SPAN_KIND_INTERNAL = 1;
+  private static final int SPAN_KIND_SERVER = 2;
+  private static final int STATUS_CODE_ERROR = 2;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private OtlpJsonEncoder() {}
+
+  /**
+   * Encode the traces into a single line of JSON.
+   *
+   * @param traces The traces to encode.
+   * @return The JSON line without the line separator.
+   */
+  static String encode(List<RequestTrace> traces) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator gen = JSON_FACTORY.createGenerator(writer)) {
+      gen.writeStartObject();
+      gen.writeArrayFieldStart("resourceSpans");
+      gen.writeStartObject();
+
+      gen.writeObjectFieldStart("resource");
+      gen.writeArrayFieldStart("attributes");
+      writeAttribute(gen, "service.name", SERVICE_NAME);
+      gen.writeEndArray();
+      gen.writeEndObject();
+
+      gen.writeArrayFieldStart("scopeSpans");
+      gen.writeStartObject();
+      gen.writeObjectFieldStart("scope");
+      gen.writeStringField("name", SCOPE_NAME);
+      gen.writeEndObject();
+      gen.writeArrayFieldStart("spans");
+      for (RequestTrace trace : traces) {
+        String traceId = trace.traceId();
+        for (TraceSpan span : trace.finishedSpans()) {
+          writeSpan(gen, trace, traceId, span);
+        }
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+      gen.writeEndArray();
+
+      gen.writeEndObject();
+      gen.writeEndArray();
+      gen.writeEndObject();
+    } catch (IOException e) {
+      // Writing to a StringWriter never fails
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  private static void writeSpan(
+      JsonGenerator gen, RequestTrace trace, String traceId, TraceSpan span) throws IOException {
+    gen.writeStartObject();
+    gen.writeStringField("traceId", traceId);
+    gen.writeStringField("spanId", RequestTrace.toHex(span.spanId()));
+    if (span.parentSpanId() != 0L) {
+      gen.writeStringField("parentSpanId", RequestTrace.toHex(span.parentSpanId()));
+    }
+    gen.writeStringField("name", span.name());
+    gen.writeNumberField("kind", span == trace.rootSpan() ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+    gen.writeStringField("startTimeUnixNano", Long.toString(trace.epochNanos(span.startNanos())));
+    gen.writeStringField("endTimeUnixNano", Long.toString(trace.epochNanos(span.endNanos())));
+
+    List<String> attributes = span.attributes();
+    if (!attributes.isEmpty()) {
+      gen.writeArrayFieldStart("attributes");
+      for (int i = 0; i + 1 < attributes.size(); i += 2) {
+        writeAttribute(gen, attributes.get(i), attributes.get(i + 1));
+      }
+      gen.writeEndArray();
+    }
+
+    if (span.isError()) {
+      gen.writeObjectFieldStart("status");
+      gen.writeNumberField("code", STATUS_CODE_ERROR);
+      gen.writeStringField("message", span.errorMessage());
+      gen.writeEndObject();
+    }
+    gen.writeEndObject();
+  }
+
+  private static void writeAttribute(JsonGenerator gen, String key, String value)
+      throws IOException {
+    gen.writeStartObject();
+    gen.writeStringField("key", key);
+    gen.writeObjectFieldStart("value");
+    gen.writeStringField("stringValue", value);
+    gen.writeEndObject();
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The spans of a sampled request. A trace is owned by the thread serving the request: spans are
+ * started and finished on that thread, and the trace is handed to the exporter once it ends.
+ */
+public final class RequestTrace {
+
+  // Bounds the memory of a trace, for example a request listing thousands of entities.
+  static final int MAX_SPANS = 1000;
+
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final long startEpochNanos;
+  private final long startNanos;
+  private final TraceSpan rootSpan;
+  private final Deque<TraceSpan> activeSpans = new ArrayDeque<>();
+  private final List<TraceSpan> finishedSpans = new ArrayList<>();
+  private int spanCount;
+  private int droppedSpans;
+
+  RequestTrace(long traceIdHigh, long traceIdLow, long remoteParentSpanId, String rootName) {
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    this.startNanos = System.nanoTime();
+    this.rootSpan = new TraceSpan(this, rootName, newSpanId(), remoteParentSpanId, startNanos);
+    this.spanCount = 1;
+    activeSpans.push(rootSpan);
+  }
+
+  /** @return The root span of the request. */
+  public TraceSpan rootSpan() {
+    return rootSpan;
+  }
+
+  /** @return The trace ID as 32 lowercase hex digits. */
+  public String traceId() {
+    return toHex(traceIdHigh) + toHex(traceIdLow);
+  }
+
+  /** @return The W3C {@code traceparent} header value pointing to the root span. */
+  public String traceparent() {
+    return "00-" + traceId() + "-" + toHex(rootSpan.spanId()) + "-01";
+  }
+
+  TraceSpan startSpan(String name) {
+    if (spanCount >= MAX_SPANS) {
+      droppedSpans++;
+      return TraceSpan.NOOP;
+    }
+    spanCount++;
+    TraceSpan parent = activeSpans.peek();
+    TraceSpan span =
+        new TraceSpan(
+            this,
+            name,
+            newSpanId(),
+            parent == null ? rootSpan.spanId() : parent.spanId(),
+            System.nanoTime());
+    activeSpans.push(span);
+    return span;
+  }
+
+  void finish(TraceSpan span) {
+    // Spans are usually closed in the reverse order of creation, but tolerate leaks.
+    if (activeSpans.peek() == span) {
+      activeSpans.pop();
+    } else {
+      activeSpans.remove(span);
+    }
+    finishedSpans.add(span);
+  }
+
+  /** Close the spans which are still open, ending with the root span. */
+  void end() {
+    while (!activeSpans.isEmpty()) {
+      TraceSpan span = activeSpans.peek();
+      if (span != rootSpan) {
+        span.setAttribute("gravitino.unclosed", true);
+      }
+      span.close();
+    }
+    if (droppedSpans > 0) {
+      rootSpan.setAttribute("gravitino.dropped_spans", droppedSpans);
+    }
+  }
+
+  List<TraceSpan> finishedSpans() {
+    return Collections.unmodifiableList(finishedSpans);
+  }
+
+  long epochNanos(long nanoTime) {
+    return startEpochNanos + (nanoTime - startNanos);
+  }
+
+  int droppedSpans() {
+    return droppedSpans;
+  }
+
+  static String toHex(long value) {
+    String hex = Long.toHexString(value);
+    return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+  }
+
+  static long parseHex(String value, int from, int to) {
+    return Long.parseUnsignedLong(value.substring(from, to).toLowerCase(Locale.ROOT), 16);
+  }
+
+  private static long newSpanId() {
+    long spanId;
+    do {
+      spanId = ThreadLocalRandom.current().nextLong();
+    } while (spanId == 0L);
+    return spanId;
+  }
+}
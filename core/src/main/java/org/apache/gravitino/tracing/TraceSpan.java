@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A timed operation of a traced request. Spans are created by {@link Tracing#startSpan(String)}
+ * and must be closed on the thread that created them, usually with try-with-resources.
+ *
+ * <p>When the current request isn't sampled, {@link Tracing#startSpan(String)} returns a shared
+ * no-op span, so instrumented code doesn't allocate anything for unsampled requests.
+ */
+public final class TraceSpan implements AutoCloseable {
+
+  static final TraceSpan NOOP = new TraceSpan(null, null, 0L, 0L, 0L);
+
+  private final RequestTrace trace;
+  private final long spanId;
+  private final long parentSpanId;
+  private final long startNanos;
+  private String name;
+  private long endNanos;
+  // Keys and values interleaved, created on the first attribute.
+  private List<String> attributes;
+  private String errorMessage;
+  private boolean error;
+
+  TraceSpan(RequestTrace trace, String name, long spanId, long parentSpanId, long startNanos) {
+    this.trace = trace;
+    this.name = name;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.startNanos = startNanos;
+  }
+
+  /** @return The shared span which records nothing. */
+  public static TraceSpan noop() {
+    return NOOP;
+  }
+
+  /** @return True if the span belongs to a sampled trace and records its data. */
+  public boolean isRecording() {
+    return trace != null;
+  }
+
+  /**
+   * Rename the span, for example when the route of the request is known.
+   *
+   * @param name The new name of the span.
+   * @return This span.
+   */
+  public TraceSpan updateName(String name) {
+    if (trace != null) {
+      this.name = name;
+    }
+    return this;
+  }
+
+  /**
+   * Set an attribute of the span, the value is converted to a string only if the span is
+   * recording.
+   *
+   * @param key The attribute key, prefer the OpenTelemetry semantic convention names.
+   * @param value The attribute value.
+   * @return This span.
+   */
+  public TraceSpan setAttribute(String key, Object value) {
+    if (trace != null) {
+      if (attributes == null) {
+        attributes = new ArrayList<>(4);
+      }
+      attributes.add(key);
+      attributes.add(String.valueOf(value));
+    }
+    return this;
+  }
+
+  /**
+   * Mark the span as failed with the given error.
+   *
+   * @param throwable The error.
+   * @return This span.
+   */
+  public TraceSpan recordError(Throwable throwable) {
+    if (trace != null) {
+      this.error = true;
+      this.errorMessage = throwable.getClass().getName() + ": " + throwable.getMessage();
+    }
+    return this;
+  }
+
+  /** End the span. */
+  @Override
+  public void close() {
+    if (trace != null && endNanos == 0L) {
+      this.endNanos = System.nanoTime();
+      trace.finish(this);
+    }
+  }
+
+  String name() {
+    return name;
+  }
+
+  long spanId() {
+    return spanId;
+  }
+
+  long parentSpanId() {
+    return parentSpanId;
+  }
+
+  long startNanos() {
+    return startNanos;
+  }
+
+  long endNanos() {
+    return endNanos;
+  }
+
+  boolean isEnded() {
+    return endNanos != 0L;
+  }
+
+  List<String> attributes() {
+    return attributes == null ? Collections.emptyList() : attributes;
+  }
+
+  boolean isError() {
+    return error;
+  }
+
+  String errorMessage() {
+    return errorMessage;
+  }
+}
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.NameIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Traces sampled requests end to end and exports their spans in the OpenTelemetry format.
+ *
+ * <p>The HTTP layer calls {@link #beginTrace(String, String)} when a request starts and {@link
+ * #endTrace()} when it finishes. The sampling decision is made once per request, following the
+ * W3C {@code traceparent} header of the caller if there is one. In between, the instrumented code
+ * opens spans on the serving thread:
+ *
+ * <pre>{@code
+ * try (TraceSpan span = Tracing.startSpan("SessionUtils.getWithoutCommit")) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>For unsampled requests and threads that aren't serving a request, {@link #startSpan(String)}
+ * returns a shared no-op span. Finished traces are queued and exported in batches by a background
+ * thread, traces are dropped when the queue is full so the requests never wait for the exporter.
+ */
+public final class Tracing {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Tracing.class);
+
+  /** The W3C trace context header. */
+  public static final String TRACEPARENT_HEADER = "traceparent";
+
+  private static final int TRACEPARENT_LENGTH = 55;
+  private static final int EXPORT_BATCH_SIZE = 64;
+  private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+  private static volatile double sampleRate;
+  private static volatile ExportWorker exportWorker;
+
+  private Tracing() {}
+
+  /**
+   * Start tracing with the given configuration, it's a no-op if tracing isn't enabled.
+   *
+   * @param config The configuration of the Gravitino environment.
+   */
+  public static synchronized void initialize(Config config) {
+    close();
+    if (!config.get(Configs.TRACING_ENABLED)) {
+      return;
+    }
+
+    SpanExporter exporter;
+    if ("file".equalsIgnoreCase(config.get(Configs.TRACING_EXPORTER))) {
+      Path path = resolvePath(config.get(Configs.TRACING_FILE_PATH));
+      try {
+        exporter = new FileSpanExporter(path);
+      } catch (IOException e) {
+        LOG.error("Failed to open the trace file {}, exporting the spans to the log", path, e);
+        exporter = new LogSpanExporter();
+      }
+    } else {
+      exporter = new LogSpanExporter();
+    }
+
+    initialize(
+        config.get(Configs.TRACING_SAMPLE_RATE),
+        exporter,
+        config.get(Configs.TRACING_EXPORT_QUEUE_SIZE));
+    LOG.info(
+        "Tracing is enabled with the sample rate {} and the exporter {}",
+        sampleRate,
+        exporter.getClass().getSimpleName());
+  }
+
+  @VisibleForTesting
+  static synchronized void initialize(double rate, SpanExporter exporter, int queueSize) {
+    Preconditions.checkArgument(
+        rate >= 0 && rate <= 1, "The sample rate must be between 0 and 1, but got %s", rate);
+    close();
+    sampleRate = rate;
+    ExportWorker worker = new ExportWorker(exporter, queueSize);
+    worker.start();
+    exportWorker = worker;
+  }
+
+  /** Stop tracing, export the queued traces and close the exporter. */
+  public static synchronized void close() {
+    ExportWorker worker = exportWorker;
+    exportWorker = null;
+    if (worker != null) {
+      worker.shutdown();
+    }
+  }
+
+  /** @return True if tracing is enabled. */
+  public static boolean isEnabled() {
+    return exportWorker != null;
+  }
+
+  /** @return The number of finished traces dropped because the export queue was full. */
+  public static long droppedTraces() {
+    ExportWorker worker = exportWorker;
+    return worker == null ? 0L : worker.droppedTraces.get();
+  }
+
+  /**
+   * Begin the trace of the request served by the current thread if it's sampled.
+   *
+   * @param name The name of the root span.
+   * @param traceparent The W3C {@code traceparent} header of the request, or null.
+   * @return The root span, or the no-op span if the request isn't sampled.
+   */
+  public static TraceSpan beginTrace(String name, @Nullable String traceparent) {
+    CURRENT.remove();
+    if (exportWorker == null) {
+      return TraceSpan.NOOP;
+    }
+
+    long traceIdHigh;
+    long traceIdLow;
+    long parentSpanId = 0L;
+    boolean sampled;
+    if (isValidTraceparent(traceparent)) {
+      traceIdHigh = RequestTrace.parseHex(traceparent, 3, 19);
+      traceIdLow = RequestTrace.parseHex(traceparent, 19, 35);
+      parentSpanId = RequestTrace.parseHex(traceparent, 36, 52);
+      sampled = (RequestTrace.parseHex(traceparent, 53, 55) & 0x01) != 0;
+    } else {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      sampled = random.nextDouble() < sampleRate;
+      traceIdHigh = random.nextLong();
+      traceIdLow = random.nextLong();
+    }
+    if (!sampled) {
+      return TraceSpan.NOOP;
+    }
+
+    RequestTrace trace = new RequestTrace(traceIdHigh, traceIdLow, parentSpanId, name);
+    CURRENT.set(trace);
+    return trace.rootSpan();
+  }
+
+  /** @return The trace of the request served by the current thread, or null if it's not traced. */
+  @Nullable
+  public static RequestTrace currentTrace() {
+    return CURRENT.get();
+  }
+
+  /** End the trace of the request served by the current thread and queue it for export. */
+  public static void endTrace() {
+    RequestTrace trace = CURRENT.get();
+    if (trace == null) {
+      return;
+    }
+    CURRENT.remove();
+    trace.end();
+
+    ExportWorker worker = exportWorker;
+    if (worker != null) {
+      worker.submit(trace);
+    }
+  }
+
+  /**
+   * Start a child span of the innermost open span of the current request.
+   *
+   * @param name The name of the span, such as {@code ClassName.method}.
+   * @return The span, or the no-op span if the current request isn't traced.
+   */
+  public static TraceSpan startSpan(String name) {
+    RequestTrace trace = CURRENT.get();
+    return trace == null ? TraceSpan.NOOP : trace.startSpan(name);
+  }
+
+  /**
+   * Wrap the target so that every call of the interface methods is a span named after the class of
+   * the target and the method. The target is returned as is if tracing isn't enabled, so the
+   * dispatchers don't pay for the proxy unless tracing is turned on.
+   *
+   * @param iface The interface to trace.
+   * @param target The implementation of the interface.
+   * @return The traced implementation.
+   * @param <T> The type of the interface.
+   */
+  public static <T> T traced(Class<T> iface, T target) {
+    if (exportWorker == null) {
+      return target;
+    }
+    return iface.cast(
+        Proxy.newProxyInstance(
+            iface.getClassLoader(), new Class<?>[] {iface}, new TracingHandler(target)));
+  }
+
+  @VisibleForTesting
+  static boolean isValidTraceparent(@Nullable String traceparent) {
+    if (traceparent == null
+        || traceparent.length() != TRACEPARENT_LENGTH
+        || !traceparent.startsWith("00-")
+        || traceparent.charAt(35) != '-'
+        || traceparent.charAt(52) != '-') {
+      return false;
+    }
+    for (int i = 3; i < TRACEPARENT_LENGTH; i++) {
+      if (i == 35 || i == 52) {
+        continue;
+      }
+      char c = traceparent.charAt(i);
+      if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+        return false;
+      }
+    }
+    // All-zero trace and parent IDs are invalid
+    return !traceparent.startsWith("00000000000000000000000000000000", 3)
+        && !traceparent.startsWith("0000000000000000", 36);
+  }
+
+  private static Path resolvePath(String file) {
+    Path path = Paths.get(file);
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (!path.isAbsolute() && StringUtils.isNotBlank(gravitinoHome)) {
+      return Paths.get(gravitinoHome, file);
+    }
+    return path;
+  }
+
+  private static final class TracingHandler implements InvocationHandler {
+    private final Object target;
+    private final String className;
+    private final ConcurrentMap<Method, String> spanNames = new ConcurrentHashMap<>();
+
+    private TracingHandler(Object target) {
+      this.target = target;
+      this.className = target.getClass().getSimpleName();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (CURRENT.get() == null || method.getDeclaringClass() == Object.class) {
+        return invokeTarget(method, args);
+      }
+
+      String spanName = spanNames.computeIfAbsent(method, m -> className + "." + m.getName());
+      try (TraceSpan span = Tracing.startSpan(spanName)) {
+        if (args != null && args.length > 0 && args[0] instanceof NameIdentifier) {
+          span.setAttribute("gravitino.identifier", args[0]);
+        }
+        try {
+          return invokeTarget(method, args);
+        } catch (Throwable t) {
+          span.recordError(t);
+          throw t;
+        }
+      }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  private static final class ExportWorker extends Thread {
+    private final SpanExporter exporter;
+    private final BlockingQueue<RequestTrace> queue;
+    private final AtomicLong droppedTraces = new AtomicLong();
+    private volatile boolean running = true;
+
+    private ExportWorker(SpanExporter exporter, int queueSize) {
+      super("gravitino-trace-exporter");
+      setDaemon(true);
+      this.exporter = exporter;
+      this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    private void submit(RequestTrace trace) {
+      if (!queue.offer(trace)) {
+        droppedTraces.incrementAndGet();
+      }
+    }
+
+    @Override
+    public void run() {
+      List<RequestTrace> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+      while (running) {
+        try {
+          RequestTrace trace = queue.poll(100, TimeUnit.MILLISECONDS);
+          if (trace == null) {
+            continue;
+          }
+          batch.add(trace);
+          queue.drainTo(batch, EXPORT_BATCH_SIZE - 1);
+          export(batch);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+
+    private void export(List<RequestTrace> batch) {
+      try {
+        exporter.export(batch);
+      } catch (Exception e) {
+        LOG.warn("Failed to export {} traces", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+
+    private void shutdown() {
+      running = false;
+      try {
+        join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      List<RequestTrace> batch = new ArrayList<>();
+      queue.drainTo(batch);
+      if (!batch.isEmpty()) {
+        export(batch);
+      }
+      try {
+        exporter.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the span exporter", e);
+      }
+    }
+  }
+}
@@ -18,30 +18,79 @@
  */
 package org.apache.gravitino.utils;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
 import java.io.Closeable;
-import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // core/src/main/java/org/apache/iceberg/ClientPoolImpl.java
+/**
+ * A bounded client pool. Callers acquire a permit from a fair {@link Semaphore} before borrowing a
+ * client, so waiters are served in FIFO order and a release wakes up exactly one waiter instead of
+ * all of them. Idle clients are kept in a lock-free deque and reused in LIFO order to keep the
+ * most recently used connections warm.
+ */
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
 
+  /** Acquire timeout value meaning that callers wait until a client becomes available. */
+  public static final long NO_ACQUIRE_TIMEOUT = -1L;
+
   private final int poolSize;
+  private final long acquireTimeoutMs;
+  private final Semaphore permits;
   private final Deque<C> clients;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
   private final boolean retryByDefault;
-  private volatile int currentSize;
+  private final AtomicInteger currentSize = new AtomicInteger(0);
+  private final AtomicInteger borrowedSize = new AtomicInteger(0);
+  private final Counter createdCount = new Counter();
+  private final Counter evictedCount = new Counter();
+  private final Counter acquireTimeoutCount = new Counter();
+  private final Timer acquireTimer = new Timer();
   private volatile boolean closed;
 
   protected ClientPoolImpl(int poolSize, Class<? extends E> reconnectExc, boolean retryByDefault) {
+    this(poolSize, reconnectExc, retryByDefault, NO_ACQUIRE_TIMEOUT);
+  }
+
+  /**
+   * Creates a client pool.
+   *
+   * @param poolSize The maximum number of clients in the pool.
+   * @param reconnectExc The exception type that indicates a broken connection.
+   * @param retryByDefault Whether to reconnect and retry an action by default.
+   * @param acquireTimeoutMs The maximum time in milliseconds to wait for a client, or {@link
+   *     #NO_ACQUIRE_TIMEOUT} to wait indefinitely.
+   */
+  protected ClientPoolImpl(
+      int poolSize,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      long acquireTimeoutMs) {
+    Preconditions.checkArgument(poolSize > 0, "Pool size must be positive, but got %s", poolSize);
+    Preconditions.checkArgument(
+        acquireTimeoutMs >= 0 || acquireTimeoutMs == NO_ACQUIRE_TIMEOUT,
+        "Acquire timeout must be non-negative or %s, but got %s",
+        NO_ACQUIRE_TIMEOUT,
+        acquireTimeoutMs);
     this.poolSize = poolSize;
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
-    this.currentSize = 0;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.permits = new Semaphore(poolSize, true /* fair */);
+    this.clients = new ConcurrentLinkedDeque<>();
     this.closed = false;
     this.retryByDefault = retryByDefault;
   }
@@ -64,10 +113,7 @@ public abstract class ClientPoolImpl<C, E extends Exception>
           client = reconnect(client);
         } catch (Exception reconnectException) {
           shouldRelease = false;
-          synchronized (this) {
-            close(client);
-            currentSize -= 1;
-          }
+          discard(client);
 
           // if reconnection throws any exception, rethrow the original failure
           throw reconnectExc.cast(exc);
@@ -93,6 +139,18 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return reconnectExc.isInstance(exc);
   }
 
+  /**
+   * Checks whether an idle client can still be used. It is called before an idle client is handed
+   * out, broken clients are closed and replaced by a new one. The default implementation treats
+   * every client as healthy.
+   *
+   * @param client The idle client to check.
+   * @return true if the client can be reused, false if it should be evicted.
+   */
+  protected boolean isHealthy(C client) {
+    return true;
+  }
+
   protected abstract void close(C client);
 
   @Override
@@ -105,22 +163,14 @@ public abstract class ClientPoolImpl<C, E extends Exception>
 
     this.closed = true;
     try {
-      while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
-        }
+      // Waiting for all the permits guarantees that every borrowed client has been returned.
+      // Threads queued before the pool was closed get their permits first and give them back
+      // once they notice the pool is closed.
+      permits.acquire(poolSize);
+      C client;
+      while ((client = clients.pollFirst()) != null) {
+        closeQuietly(client);
+        currentSize.decrementAndGet();
       }
 
     } catch (InterruptedException e) {
@@ -130,37 +180,133 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   }
 
   private C get() throws InterruptedException {
-    while (true) {
+    if (closed) {
+      throw new IllegalArgumentException("Cannot get a client from a closed pool");
+    }
+
+    long startNanos = System.nanoTime();
+    boolean acquired;
+    if (acquireTimeoutMs == NO_ACQUIRE_TIMEOUT) {
+      permits.acquire();
+      acquired = true;
+    } else {
+      acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+    acquireTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+    if (!acquired) {
+      acquireTimeoutCount.inc();
+      throw new IllegalStateException(
+          String.format(
+              "Timed out after %d ms waiting for a client from the pool of size %d",
+              acquireTimeoutMs, poolSize));
+    }
+
+    try {
       if (closed) {
         throw new IllegalArgumentException("Cannot get a client from a closed pool");
       }
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
+
+      C client;
+      while ((client = clients.pollFirst()) != null) {
+        if (checkHealthy(client)) {
+          borrowedSize.incrementAndGet();
+          return client;
         }
+        LOG.warn("Evicting an unhealthy client from the pool");
+        evict(client);
       }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
-      }
+
+      // Clients are pushed back before the permit is released, so the deque being empty here
+      // means every live client is held by another permit owner and the pool cannot overflow.
+      client = newClient();
+      currentSize.incrementAndGet();
+      createdCount.inc();
+      borrowedSize.incrementAndGet();
+      return client;
+
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
     }
   }
 
   private void release(C client) {
-    synchronized (this) {
+    borrowedSize.decrementAndGet();
+    if (closed) {
+      closeQuietly(client);
+      currentSize.decrementAndGet();
+    } else {
       clients.addFirst(client);
     }
-    synchronized (signal) {
-      signal.notifyAll();
+    permits.release();
+  }
+
+  private void discard(C client) {
+    borrowedSize.decrementAndGet();
+    evict(client);
+    permits.release();
+  }
+
+  private void evict(C client) {
+    closeQuietly(client);
+    currentSize.decrementAndGet();
+    evictedCount.inc();
+  }
+
+  private boolean checkHealthy(C client) {
+    try {
+      return isHealthy(client);
+    } catch (Exception e) {
+      LOG.warn("Failed to check the health of a pooled client", e);
+      return false;
+    }
+  }
+
+  private void closeQuietly(C client) {
+    try {
+      close(client);
+    } catch (Exception e) {
+      LOG.warn("Failed to close a pooled client", e);
     }
   }
 
+  /**
+   * Registers the pool metrics to the metrics source, the metric names are prefixed with the given
+   * prefix.
+   *
+   * @param metricsSource The metrics source to register the metrics to.
+   * @param prefix The prefix of the metric names, should be unique in the metrics source.
+   */
+  public void registerMetrics(MetricsSource metricsSource, String prefix) {
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_BORROWED, (Gauge<Integer>) this::borrowedCount);
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_IDLE, (Gauge<Integer>) this::idleCount);
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_WAITING, (Gauge<Integer>) this::waitingCount);
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_CREATED, (Gauge<Long>) this::createdCount);
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_EVICTED, (Gauge<Long>) this::evictedCount);
+    metricsSource.registerGauge(
+        prefix + "." + MetricNames.CLIENT_POOL_ACQUIRE_TIMEOUT,
+        (Gauge<Long>) acquireTimeoutCount::getCount);
+    metricsSource
+        .getMetricRegistry()
+        .register(prefix + "." + MetricNames.CLIENT_POOL_ACQUIRE_WAIT, acquireTimer);
+  }
+
+  /**
+   * Removes the pool metrics registered by {@link #registerMetrics(MetricsSource, String)}.
+   *
+   * @param metricsSource The metrics source the metrics were registered to.
+   * @param prefix The prefix used when registering the metrics.
+   */
+  public void unregisterMetrics(MetricsSource metricsSource, String prefix) {
+    metricsSource.getMetricRegistry().removeMatching(MetricFilter.startsWith(prefix + "."));
+  }
+
   public int poolSize() {
     return poolSize;
   }
@@ -168,4 +314,58 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   public boolean isClosed() {
     return closed;
   }
+
+  /**
+   * Returns the number of clients currently borrowed from the pool.
+   *
+   * @return The number of clients currently borrowed from the pool.
+   */
+  public int borrowedCount() {
+    return borrowedSize.get();
+  }
+
+  /**
+   * Returns the number of clients currently idle in the pool.
+   *
+   * @return The number of clients currently idle in the pool.
+   */
+  public int idleCount() {
+    return Math.max(0, currentSize.get() - borrowedSize.get());
+  }
+
+  /**
+   * Returns the estimated number of threads waiting for a client.
+   *
+   * @return The estimated number of threads waiting for a client.
+   */
+  public int waitingCount() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Returns the total number of clients created by the pool.
+   *
+   * @return The total number of clients created by the pool.
+   */
+  public long createdCount() {
+    return createdCount.getCount();
+  }
+
+  /**
+   * Returns the total number of clients evicted from the pool.
+   *
+   * @return The total number of clients evicted from the pool.
+   */
+  public long evictedCount() {
+    return evictedCount.getCount();
+  }
+
+  /**
+   * Returns the timer that records how long callers waited to acquire a client.
+   *
+   * @return The timer that records how long callers waited to acquire a client.
+   */
+  public Timer acquireTimer() {
+    return acquireTimer;
+  }
 }
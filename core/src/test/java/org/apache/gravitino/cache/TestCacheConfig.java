@@ -53,6 +53,8 @@ public class TestCacheConfig {
     Assertions.assertTrue(config.get(Configs.CACHE_WEIGHER_ENABLED));
     Assertions.assertEquals(10_000, config.get(Configs.CACHE_MAX_ENTRIES));
     Assertions.assertEquals(3_600_000L, config.get(Configs.CACHE_EXPIRATION_TIME));
+    Assertions.assertEquals(0L, config.get(Configs.CACHE_MAX_BYTES));
+    Assertions.assertEquals(0L, config.get(Configs.CACHE_SECOND_TIER_MAX_BYTES));
     Assertions.assertEquals(24_200_000L, EntityCacheWeigher.getMaxWeight());
     Assertions.assertEquals("caffeine", config.get(Configs.CACHE_IMPLEMENTATION));
   }
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.expressions.FunctionExpression;
+import org.apache.gravitino.rel.expressions.NamedReference;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.sorts.SortOrders;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.expressions.transforms.Transforms;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.types.Types;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCompactEntityCache {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder()
+          .withCreator("creator")
+          .withCreateTime(Instant.ofEpochSecond(1_700_000_000L, 123_456_789))
+          .withLastModifier("modifier")
+          .withLastModifiedTime(Instant.ofEpochSecond(1_700_000_100L))
+          .build();
+
+  @Test
+  void testEncodeAndDecode() {
+    CompactEntityCodec codec = new CompactEntityCodec(new EntityStringDictionary(1024 * 1024));
+
+    // The table has partitioning, sort orders, a distribution, indexes and column default values
+    TableEntity table = table("t", 20);
+    Assertions.assertEquals(table, codec.decode(codec.encode(table)));
+
+    SchemaEntity schema =
+        SchemaEntity.builder()
+            .withId(2L)
+            .withName("s")
+            .withNamespace(Namespace.of("m", "c"))
+            .withComment("comment")
+            .withProperties(Map.of("k1", "v1", "k2", "v2"))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Assertions.assertEquals(schema, codec.decode(codec.encode(schema)));
+
+    SchemaEntity schemaWithoutOptionalFields =
+        SchemaEntity.builder()
+            .withId(3L)
+            .withName("s")
+            .withNamespace(Namespace.of("m", "c"))
+            .withAuditInfo(AuditInfo.EMPTY)
+            .build();
+    Assertions.assertEquals(
+        schemaWithoutOptionalFields, codec.decode(codec.encode(schemaWithoutOptionalFields)));
+  }
+
+  @Test
+  void testRepeatedStringsAreShared() {
+    EntityStringDictionary dictionary = new EntityStringDictionary(1024 * 1024);
+    CompactEntityCodec codec = new CompactEntityCodec(dictionary);
+
+    codec.encode(table("t0", 50));
+    int dictionarySize = dictionary.size();
+    byte[] encoded = codec.encode(table("t1", 100));
+
+    // Types, user names, property keys and namespace levels are already in the dictionary, the
+    // new column names, comments and default values are encoded inline
+    Assertions.assertEquals(dictionarySize, dictionary.size());
+    Assertions.assertTrue(
+        encoded.length * 4 < EntityCacheByteWeigher.estimateSize(table("t1", 100)),
+        "The encoded table should be much smaller than the table objects");
+
+    // Strings which don't fit in the dictionary bytes are encoded inline. Each of the one-char
+    // namespace levels takes 112 bytes, so only "m" and "c" fit in 256 bytes.
+    EntityStringDictionary smallDictionary = new EntityStringDictionary(256);
+    CompactEntityCodec smallCodec = new CompactEntityCodec(smallDictionary);
+    TableEntity table = table("t", 50);
+    Assertions.assertEquals(table, smallCodec.decode(smallCodec.encode(table)));
+    Assertions.assertEquals(2, smallDictionary.size());
+    Assertions.assertEquals(224, smallDictionary.bytes());
+  }
+
+  @Test
+  void testEvictedEntitiesMoveToSecondTier() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 10);
+    config.set(Configs.CACHE_SECOND_TIER_MAX_BYTES, 10L * 1024 * 1024);
+    CaffeineEntityCache cache = new CaffeineEntityCache(config);
+
+    for (int i = 0; i < 100; i++) {
+      cache.put(table("t" + i, 10));
+    }
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .pollInterval(Duration.ofMillis(10))
+        .until(
+            () -> {
+              cache.getCacheData().cleanUp();
+              return cache.getCacheData().estimatedSize() <= 10
+                  && cache.size() == 100
+                  && containsAllTables(cache);
+            });
+
+    for (int i = 0; i < 100; i++) {
+      NameIdentifier ident = NameIdentifier.of("m", "c", "s", "t" + i);
+      TableEntity expected = table("t" + i, 10);
+      // Reading a table moves it to the first tier, which demotes another table asynchronously
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .pollInterval(Duration.ofMillis(10))
+          .untilAsserted(
+              () -> {
+                Optional<TableEntity> cached = cache.getIfPresent(ident, Entity.EntityType.TABLE);
+                Assertions.assertEquals(Optional.of(expected), cached);
+              });
+    }
+
+    // Invalidating the schema invalidates the tables in both tiers
+    cache.invalidate(NameIdentifier.of("m", "c", "s"), Entity.EntityType.SCHEMA);
+    for (int i = 0; i < 100; i++) {
+      NameIdentifier ident = NameIdentifier.of("m", "c", "s", "t" + i);
+      Assertions.assertFalse(cache.contains(ident, Entity.EntityType.TABLE));
+    }
+  }
+
+  @Test
+  void testSecondTierEntriesExpire() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 10);
+    config.set(Configs.CACHE_EXPIRATION_TIME, 500L);
+    config.set(Configs.CACHE_SECOND_TIER_MAX_BYTES, 10L * 1024 * 1024);
+    CaffeineEntityCache cache = new CaffeineEntityCache(config);
+
+    for (int i = 0; i < 100; i++) {
+      cache.put(table("t" + i, 10));
+    }
+
+    // The demoted tables expire like the tables in the first tier
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .pollInterval(Duration.ofMillis(50))
+        .until(() -> containsNoTable(cache));
+  }
+
+  private static boolean containsNoTable(CaffeineEntityCache cache) {
+    for (int i = 0; i < 100; i++) {
+      if (cache.contains(NameIdentifier.of("m", "c", "s", "t" + i), Entity.EntityType.TABLE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean containsAllTables(CaffeineEntityCache cache) {
+    for (int i = 0; i < 100; i++) {
+      if (!cache.contains(NameIdentifier.of("m", "c", "s", "t" + i), Entity.EntityType.TABLE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static TableEntity table(String name, int columnCount) {
+    List<ColumnEntity> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId((long) i)
+              .withName("column_" + i)
+              .withPosition(i)
+              .withComment(i % 2 == 0 ? null : "comment of column " + i)
+              .withDataType(i % 3 == 0 ? Types.LongType.get() : Types.StringType.get())
+              .withNullable(i % 2 == 0)
+              .withAutoIncrement(i == 0)
+              .withDefaultValue(defaultValue(i))
+              .withAuditInfo(AUDIT_INFO)
+              .build());
+    }
+    return TableEntity.builder()
+        .withId((long) name.hashCode())
+        .withName(name)
+        .withNamespace(Namespace.of("m", "c", "s"))
+        .withComment("table " + name)
+        .withColumns(columns)
+        .withProperties(Map.of("format", "parquet", "location", "/warehouse/" + name))
+        .withPartitioning(
+            new Transform[] {Transforms.identity("column_0"), Transforms.day("column_1")})
+        .withSortOrders(new SortOrder[] {SortOrders.ascending(NamedReference.field("column_2"))})
+        .withDistribution(Distributions.hash(4, NamedReference.field("column_0")))
+        .withIndexes(new Index[] {Indexes.primary("pk", new String[][] {{"column_0"}})})
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static Expression defaultValue(int column) {
+    switch (column) {
+      case 3:
+        return Literals.longLiteral(3L);
+      case 4:
+        return Literals.stringLiteral("default");
+      case 5:
+        return FunctionExpression.of("current_user");
+      default:
+        return Column.DEFAULT_VALUE_NOT_SET;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCacheByteWeigher {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testWeightGrowsWithColumns() {
+    EntityCacheByteWeigher weigher = EntityCacheByteWeigher.getInstance();
+    EntityCacheKey key =
+        EntityCacheKey.of(NameIdentifier.of("m", "c", "s", "t"), Entity.EntityType.TABLE);
+
+    int narrow = weigher.weigh(key, List.of(table("t", 2)));
+    int wide = weigher.weigh(key, List.of(table("t", 5000)));
+    Assertions.assertTrue(narrow > EntityCacheByteWeigher.ENTRY_OVERHEAD_SIZE);
+    Assertions.assertTrue(
+        wide > narrow * 1000, "A table with 5000 columns should weigh far more than 2 columns");
+
+    // Each column adds roughly the same number of bytes
+    long perColumn = (weigher.weigh(key, List.of(table("t", 200))) - narrow) / 198;
+    Assertions.assertEquals(perColumn, (wide - narrow) / 4998, perColumn / 10.0);
+  }
+
+  @Test
+  void testWeightGrowsWithPropertiesAndStrings() {
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      properties.put("key" + i, "value" + i);
+    }
+    long withoutProperties = EntityCacheByteWeigher.estimateSize(schema("s", null, null));
+    long withProperties = EntityCacheByteWeigher.estimateSize(schema("s", properties, null));
+    long withComment = EntityCacheByteWeigher.estimateSize(schema("s", null, "xy"));
+    long withLongComment =
+        EntityCacheByteWeigher.estimateSize(schema("s", null, "x".repeat(10_000)));
+
+    // 100 entries with two strings and a map node each
+    Assertions.assertTrue(withProperties - withoutProperties > 100 * 100);
+    Assertions.assertTrue(withComment > withoutProperties);
+    Assertions.assertTrue(withLongComment - withComment >= 10_000);
+  }
+
+  @Test
+  void testCacheEvictsWithinByteBudget() {
+    long tableSize = EntityCacheByteWeigher.estimateSize(table("t", 100));
+    long budget = tableSize * 10;
+    Cache<EntityCacheKey, List<Entity>> cache =
+        Caffeine.newBuilder()
+            .maximumWeight(budget)
+            .weigher(EntityCacheByteWeigher.getInstance())
+            .executor(Runnable::run)
+            .build();
+
+    for (int i = 0; i < 100; i++) {
+      cache.put(
+          EntityCacheKey.of(NameIdentifier.of("m", "c", "s", "t" + i), Entity.EntityType.TABLE),
+          List.of(table("t" + i, 100)));
+    }
+    cache.cleanUp();
+
+    long cachedWeight =
+        cache.policy().eviction().orElseThrow(AssertionError::new).weightedSize().getAsLong();
+    Assertions.assertTrue(cachedWeight <= budget);
+    Assertions.assertTrue(cache.estimatedSize() < 100);
+    Assertions.assertTrue(cache.estimatedSize() > 0);
+  }
+
+  @Test
+  void testEstimateMatchesKnownLayout() {
+    long withoutComment = EntityCacheByteWeigher.estimateSize(schema("s", null, null));
+
+    // A compact string is a 24-byte String object and a byte array of a 16-byte header and one byte
+    // per char, padded to 8 bytes.
+    Assertions.assertEquals(
+        24 + 24,
+        EntityCacheByteWeigher.estimateSize(schema("s", null, "x".repeat(8))) - withoutComment);
+    Assertions.assertEquals(
+        24 + 120,
+        EntityCacheByteWeigher.estimateSize(schema("s", null, "x".repeat(100))) - withoutComment);
+
+    // A HashMap with one entry is a 48-byte HashMap, a table of 16 references (80 bytes), a 32-byte
+    // node and two strings. The estimate sizes the table by the entries, so allow some slack.
+    Map<String, String> properties = new HashMap<>();
+    properties.put("k1", "v1");
+    long mapSize =
+        EntityCacheByteWeigher.estimateSize(schema("s", properties, null)) - withoutComment;
+    long retainedMapSize = 48 + 80 + 32 + 2 * (24 + 24);
+    Assertions.assertTrue(
+        mapSize >= retainedMapSize * 3 / 4 && mapSize <= retainedMapSize,
+        "Estimated " + mapSize + " bytes for a map retaining " + retainedMapSize + " bytes");
+  }
+
+  private static TableEntity table(String name, int columnCount) {
+    List<ColumnEntity> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId((long) i)
+              .withName("column_" + i)
+              .withPosition(i)
+              .withComment("comment of column " + i)
+              .withDataType(Types.StringType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(AUDIT_INFO)
+              .build());
+    }
+    return TableEntity.builder()
+        .withId(1L)
+        .withName(name)
+        .withNamespace(Namespace.of("m", "c", "s"))
+        .withColumns(columns)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static SchemaEntity schema(String name, Map<String, String> properties, String comment) {
+    return SchemaEntity.builder()
+        .withId(1L)
+        .withName(name)
+        .withNamespace(Namespace.of("m", "c"))
+        .withComment(comment)
+        .withProperties(properties)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -34,6 +34,7 @@ import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -450,6 +451,33 @@ public class TestCatalogManager {
     Assertions.assertTrue(exception.getMessage().contains("Metalake metalake1 does not exist"));
   }
 
+  @Test
+  public void testListCatalogsInfoModifiedSince() {
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog_modified_since");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", PROPERTY_KEY1, "value1", PROPERTY_KEY2, "value2");
+
+    Catalog created =
+        catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    long createTime = created.auditInfo().createTime().toEpochMilli();
+
+    Catalog[] catalogs = catalogManager.listCatalogsInfo(ident.namespace(), createTime - 1);
+    Assertions.assertTrue(
+        Arrays.stream(catalogs).anyMatch(c -> c.name().equals("catalog_modified_since")));
+
+    catalogs = catalogManager.listCatalogsInfo(ident.namespace(), createTime);
+    Assertions.assertFalse(
+        Arrays.stream(catalogs).anyMatch(c -> c.name().equals("catalog_modified_since")));
+
+    // The modified time takes precedence over the create time.
+    Catalog altered =
+        catalogManager.alterCatalog(ident, CatalogChange.setProperty("key5", "value1"));
+    long modifiedTime = altered.auditInfo().lastModifiedTime().toEpochMilli();
+    catalogs = catalogManager.listCatalogsInfo(ident.namespace(), modifiedTime - 1);
+    Assertions.assertTrue(
+        Arrays.stream(catalogs).anyMatch(c -> c.name().equals("catalog_modified_since")));
+  }
+
   @Test
   public void testLoadCatalog() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test21");
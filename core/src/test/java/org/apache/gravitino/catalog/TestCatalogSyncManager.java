@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Collections;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.TestCatalog;
+import org.apache.gravitino.connector.TestCatalogOperations;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogSyncManager extends TestOperationDispatcher {
+
+  private static CatalogSyncManager catalogSyncManager;
+
+  @BeforeAll
+  public static void initialize() {
+    catalogSyncManager =
+        new CatalogSyncManager(new Config(false) {}, catalogManager, entityStore, idGenerator);
+  }
+
+  @AfterAll
+  public static void close() {
+    if (catalogSyncManager != null) {
+      catalogSyncManager.close();
+    }
+  }
+
+  @Test
+  public void testSyncCatalog() throws Exception {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    TestCatalogOperations ops =
+        (TestCatalogOperations) ((TestCatalog) catalogManager.loadCatalog(catalogIdent)).ops();
+    Assertions.assertFalse(catalogSyncManager.progress(catalogIdent).isPresent());
+
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "sync_schema");
+    ops.createSchema(schemaIdent, "comment", Collections.emptyMap());
+    Column[] columns =
+        new Column[] {
+          Column.of("col1", Types.StringType.get()), Column.of("col2", Types.LongType.get())
+        };
+    for (int i = 0; i < 3; i++) {
+      ops.createTable(
+          NameIdentifier.of(metalake, catalog, "sync_schema", "table" + i),
+          columns,
+          "comment",
+          Collections.emptyMap());
+    }
+    // A table created through Gravitino is left to the lazy import, which keeps its ID.
+    ops.createTable(
+        NameIdentifier.of(metalake, catalog, "sync_schema", "managed"),
+        columns,
+        "comment",
+        StringIdentifier.newPropertiesWithId(StringIdentifier.fromId(1L), ImmutableMap.of()));
+
+    CatalogSyncManager.SyncProgress progress =
+        catalogSyncManager.syncCatalog(catalogIdent).get();
+    Assertions.assertEquals(CatalogSyncManager.SyncProgress.State.SUCCEEDED, progress.state());
+    Assertions.assertNotNull(progress.endTime());
+    Assertions.assertEquals(1, progress.schemasImported());
+    Assertions.assertEquals(3, progress.tablesImported());
+    Assertions.assertEquals(1, progress.skipped());
+    Assertions.assertEquals(0, progress.failed());
+    Assertions.assertSame(progress, catalogSyncManager.progress(catalogIdent).get());
+    verify(entityStore, atLeastOnce()).batchPut(anyList(), eq(false));
+
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    TableEntity tableEntity =
+        entityStore.get(
+            NameIdentifier.of(metalake, catalog, "sync_schema", "table0"),
+            TABLE,
+            TableEntity.class);
+    Assertions.assertEquals(2, tableEntity.columns().size());
+    Assertions.assertEquals(
+        TableEntity.columnsFingerprint(columns), tableEntity.columnsFingerprint());
+    Assertions.assertFalse(
+        entityStore.exists(NameIdentifier.of(metalake, catalog, "sync_schema", "managed"), TABLE));
+
+    // Nothing changed, the schema is skipped
+    CatalogSyncManager.SyncProgress progress2 =
+        catalogSyncManager.syncCatalog(catalogIdent).get();
+    Assertions.assertEquals(0, progress2.schemasImported());
+    Assertions.assertEquals(progress2.schemasListed(), progress2.schemasUnchanged());
+    Assertions.assertEquals(0, progress2.tablesImported());
+
+    // Only the new table is imported
+    ops.createTable(
+        NameIdentifier.of(metalake, catalog, "sync_schema", "table3"),
+        columns,
+        "comment",
+        Collections.emptyMap());
+    CatalogSyncManager.SyncProgress progress3 =
+        catalogSyncManager.syncCatalog(catalogIdent).get();
+    Assertions.assertEquals(progress3.schemasListed() - 1, progress3.schemasUnchanged());
+    Assertions.assertEquals(1, progress3.tablesImported());
+    Assertions.assertTrue(
+        entityStore.exists(NameIdentifier.of(metalake, catalog, "sync_schema", "table3"), TABLE));
+  }
+
+  @Test
+  public void testSyncImportedTable() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    TestCatalogOperations ops =
+        (TestCatalogOperations) ((TestCatalog) catalogManager.loadCatalog(catalogIdent)).ops();
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "sync_schema2");
+    ops.createSchema(schemaIdent, "comment", Collections.emptyMap());
+    NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, "sync_schema2", "table");
+    ops.createTable(
+        tableIdent,
+        new Column[] {Column.of("col1", Types.StringType.get())},
+        "comment",
+        Collections.emptyMap());
+
+    // The table is imported lazily before the sync
+    TableOperationDispatcher tableOperationDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    tableOperationDispatcher.loadTable(tableIdent);
+    long tableId = entityStore.get(tableIdent, TABLE, TableEntity.class).id();
+
+    CatalogSyncManager.SyncProgress progress = catalogSyncManager.sync(catalogIdent);
+    Assertions.assertEquals(CatalogSyncManager.SyncProgress.State.SUCCEEDED, progress.state());
+    Assertions.assertEquals(0, progress.tablesImported());
+    Assertions.assertEquals(tableId, entityStore.get(tableIdent, TABLE, TableEntity.class).id());
+  }
+
+  @Test
+  public void testSyncSkipsSchemaMissingFromStore() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    TestCatalogOperations ops =
+        (TestCatalogOperations) ((TestCatalog) catalogManager.loadCatalog(catalogIdent)).ops();
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "sync_schema3");
+    ops.createSchema(schemaIdent, "comment", Collections.emptyMap());
+
+    // The schema entity is gone when its tables are listed from the store.
+    Namespace tableNs = Namespace.of(metalake, catalog, "sync_schema3");
+    doThrow(new NoSuchEntityException("Schema %s does not exist", schemaIdent))
+        .when(entityStore)
+        .list(eq(tableNs), eq(TableEntity.class), eq(TABLE));
+
+    CatalogSyncManager.SyncProgress progress = catalogSyncManager.sync(catalogIdent);
+    Assertions.assertEquals(CatalogSyncManager.SyncProgress.State.SUCCEEDED, progress.state());
+    Assertions.assertEquals(0, progress.failed());
+  }
+}
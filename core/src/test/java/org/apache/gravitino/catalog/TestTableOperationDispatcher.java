@@ -25,6 +25,7 @@ import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
@@ -42,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -453,9 +455,8 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Table loadedTable2 = tableOperationDispatcher.loadTable(tableIdent);
     testColumns(alteredTable2.columns(), loadedTable2.columns());
 
-    // columns in table entity should be updated to match the columns in table
-    TableEntity tableEntity2 = entityStore.get(tableIdent, TABLE, TableEntity.class);
-    testColumnAndColumnEntities(alteredTable2.columns(), tableEntity2.columns());
+    // columns in table entity should be updated in the background to match the columns in table
+    awaitColumnEntities(tableIdent, alteredTable2.columns());
 
     // 2. Add a new column
     Table alteredTable3 =
@@ -473,8 +474,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Table loadedTable3 = tableOperationDispatcher.loadTable(tableIdent);
     testColumns(alteredTable3.columns(), loadedTable3.columns());
 
-    TableEntity tableEntity3 = entityStore.get(tableIdent, TABLE, TableEntity.class);
-    testColumnAndColumnEntities(alteredTable3.columns(), tableEntity3.columns());
+    awaitColumnEntities(tableIdent, alteredTable3.columns());
 
     // 3. Drop a column
     Table alteredTable4 =
@@ -483,8 +483,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Table loadedTable4 = tableOperationDispatcher.loadTable(tableIdent);
     testColumns(alteredTable4.columns(), loadedTable4.columns());
 
-    TableEntity tableEntity4 = entityStore.get(tableIdent, TABLE, TableEntity.class);
-    testColumnAndColumnEntities(alteredTable4.columns(), tableEntity4.columns());
+    awaitColumnEntities(tableIdent, alteredTable4.columns());
 
     // No column for the table
     Table alteredTable5 =
@@ -496,8 +495,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals(0, alteredTable5.columns().length);
     Assertions.assertEquals(0, loadedTable5.columns().length);
 
-    TableEntity tableEntity5 = entityStore.get(tableIdent, TABLE, TableEntity.class);
-    Assertions.assertEquals(0, tableEntity5.columns().size());
+    awaitColumnEntities(tableIdent, alteredTable5.columns());
 
     // Re-add columns to the table
     Table alteredTable6 =
@@ -522,8 +520,16 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Table loadedTable6 = tableOperationDispatcher.loadTable(tableIdent);
     testColumns(alteredTable6.columns(), loadedTable6.columns());
 
-    TableEntity tableEntity6 = entityStore.get(tableIdent, TABLE, TableEntity.class);
-    testColumnAndColumnEntities(alteredTable6.columns(), tableEntity6.columns());
+    awaitColumnEntities(tableIdent, alteredTable6.columns());
+
+    // Nothing changed, the entity is not updated again
+    TableEntity tableEntity7 = entityStore.get(tableIdent, TABLE, TableEntity.class);
+    Assertions.assertEquals(
+        tableEntity7.columnsFingerprint(), TableEntity.columnsFingerprint(alteredTable6.columns()));
+    tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals(
+        tableEntity7.auditInfo(),
+        entityStore.get(tableIdent, TABLE, TableEntity.class).auditInfo());
   }
 
   @Test
@@ -847,6 +853,16 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
         });
   }
 
+  private static void awaitColumnEntities(NameIdentifier tableIdent, Column[] expectedColumns) {
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .untilAsserted(
+            () ->
+                testColumnAndColumnEntities(
+                    expectedColumns,
+                    entityStore.get(tableIdent, TABLE, TableEntity.class).columns()));
+  }
+
   private static void testColumnAndColumnEntities(
       Column[] expectedColumns, List<ColumnEntity> ColumnEntities) {
     Map<String, Column> expectedColumnMap =
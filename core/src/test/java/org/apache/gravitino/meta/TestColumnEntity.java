@@ -205,4 +205,53 @@ public class TestColumnEntity {
     Assertions.assertEquals(columns, tableEntity.columns());
     Assertions.assertEquals(3, tableEntity.columns().size());
   }
+
+  @Test
+  public void testTableColumnsFingerprint() {
+    Column[] columns =
+        new Column[] {
+          Column.of("id", Types.LongType.get(), "id", false, true, Column.DEFAULT_VALUE_NOT_SET),
+          Column.of("name", Types.StringType.get(), null, true, false, Literals.stringLiteral("a"))
+        };
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+    ColumnEntity idEntity = ColumnEntity.toColumnEntity(columns[0], 0, 1L, auditInfo);
+    ColumnEntity nameEntity = ColumnEntity.toColumnEntity(columns[1], 1, 2L, auditInfo);
+
+    // The order of the column entities doesn't matter
+    TableEntity tableEntity =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("test")
+            .withNamespace(Namespace.of("catalog", "schema"))
+            .withColumns(Arrays.asList(nameEntity, idEntity))
+            .withAuditInfo(auditInfo)
+            .build();
+    Assertions.assertEquals(
+        TableEntity.columnsFingerprint(columns), tableEntity.columnsFingerprint());
+
+    // Reordered, renamed or retyped columns change the fingerprint
+    Assertions.assertNotEquals(
+        TableEntity.columnsFingerprint(new Column[] {columns[1], columns[0]}),
+        tableEntity.columnsFingerprint());
+    Assertions.assertNotEquals(
+        TableEntity.columnsFingerprint(
+            new Column[] {columns[0], Column.of("name2", Types.StringType.get())}),
+        tableEntity.columnsFingerprint());
+    Column intId =
+        Column.of("id", Types.IntegerType.get(), "id", false, true, Column.DEFAULT_VALUE_NOT_SET);
+    Assertions.assertNotEquals(
+        TableEntity.columnsFingerprint(new Column[] {intId, columns[1]}),
+        tableEntity.columnsFingerprint());
+
+    TableEntity emptyTableEntity =
+        TableEntity.builder()
+            .withId(2L)
+            .withName("empty")
+            .withNamespace(Namespace.of("catalog", "schema"))
+            .withAuditInfo(auditInfo)
+            .build();
+    Assertions.assertEquals(
+        TableEntity.columnsFingerprint(new Column[0]), emptyTableEntity.columnsFingerprint());
+  }
 }
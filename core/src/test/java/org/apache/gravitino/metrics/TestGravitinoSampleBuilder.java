@@ -105,6 +105,27 @@ public class TestGravitinoSampleBuilder {
     Assertions.assertEquals(value, sample.value);
   }
 
+  @Test
+  public void testCreateSampleWithRouteMetric() {
+    String dropwizardName =
+        "gravitino-server.http-server.route.GET./api/metalakes/{metalake}/catalogs.latency";
+    double value = 60.0;
+
+    Collector.MetricFamilySamples.Sample sample =
+        sampleBuilder.createSample(
+            dropwizardName,
+            "_count",
+            Collections.singletonList("quantile"),
+            Collections.singletonList("0.99"),
+            value);
+
+    Assertions.assertEquals("gravitino_server_http_server_route_latency_count", sample.name);
+    Assertions.assertEquals(ImmutableList.of("method", "route", "quantile"), sample.labelNames);
+    Assertions.assertEquals(
+        ImmutableList.of("GET", "/api/metalakes/{metalake}/catalogs", "0.99"), sample.labelValues);
+    Assertions.assertEquals(value, sample.value);
+  }
+
   @Test
   public void testCreateSampleWithHyphensInMetricNameRest() {
     String dropwizardName = "gravitino-catalog.fileset.metalake1.catalog1.schema-cache.hit-count";
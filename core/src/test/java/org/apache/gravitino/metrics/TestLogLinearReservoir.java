@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Snapshot;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLogLinearReservoir {
+
+  @Test
+  void testBucketBoundaries() {
+    for (long value = 0; value < 32; value++) {
+      Assertions.assertEquals(value, LogLinearReservoir.bucketIndex(value));
+      Assertions.assertEquals(value, LogLinearReservoir.bucketValue((int) value));
+    }
+
+    long[] values = {32, 33, 63, 64, 1000, 123_456, 987_654_321L, 1L << 40};
+    for (long value : values) {
+      int index = LogLinearReservoir.bucketIndex(value);
+      long lowerBound = LogLinearReservoir.bucketLowerBound(index);
+      Assertions.assertTrue(lowerBound <= value, "lower bound of " + value);
+      Assertions.assertTrue(
+          value < LogLinearReservoir.bucketLowerBound(index + 1), "upper bound of " + value);
+      // The relative error is bounded by the sub-bucket width.
+      double error = Math.abs(LogLinearReservoir.bucketValue(index) - value) / (double) value;
+      Assertions.assertTrue(error <= 1.0 / 32, "relative error of " + value);
+    }
+
+    // Values beyond the trackable range are clamped into the last bucket.
+    Assertions.assertEquals(
+        LogLinearReservoir.bucketIndex(1L << 41), LogLinearReservoir.bucketIndex(Long.MAX_VALUE));
+    Assertions.assertEquals(0, LogLinearReservoir.bucketIndex(-1));
+  }
+
+  @Test
+  void testSnapshot() {
+    LogLinearReservoir reservoir = new LogLinearReservoir(60, TimeUnit.SECONDS);
+    Assertions.assertEquals(0, reservoir.size());
+    Assertions.assertEquals(0.0, reservoir.getSnapshot().getMedian());
+
+    for (long i = 1; i <= 1000; i++) {
+      reservoir.update(i * 1000);
+    }
+
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1000, snapshot.size());
+    Assertions.assertEquals(500_000, snapshot.getMedian(), 500_000 / 32.0);
+    Assertions.assertEquals(990_000, snapshot.get99thPercentile(), 990_000 / 32.0);
+    Assertions.assertEquals(1_000, snapshot.getMin(), 1_000 / 32.0);
+    Assertions.assertEquals(1_000_000, snapshot.getMax(), 1_000_000 / 32.0);
+    Assertions.assertEquals(500_500, snapshot.getMean(), 500_500 / 32.0);
+    Assertions.assertTrue(snapshot.getValues().length <= 1000);
+  }
+
+  @Test
+  void testWindowRotation() throws InterruptedException {
+    LogLinearReservoir reservoir = new LogLinearReservoir(50, TimeUnit.MILLISECONDS);
+    reservoir.update(100);
+    Assertions.assertEquals(1, reservoir.size());
+
+    // After two windows have elapsed, old values are dropped.
+    Thread.sleep(150);
+    Assertions.assertEquals(0, reservoir.size());
+    reservoir.update(200);
+    Assertions.assertEquals(1, reservoir.size());
+  }
+}
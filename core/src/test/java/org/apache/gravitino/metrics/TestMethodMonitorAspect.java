@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMethodMonitorAspect {
+
+  private static class MockMetricsSource extends MetricsSource {
+    public MockMetricsSource(String metricsSourceName) {
+      super(metricsSourceName);
+    }
+  }
+
+  @Test
+  void testMethodMetricsAreCachedPerJoinPoint() throws Throwable {
+    MetricsSystem metricsSystem = new MetricsSystem();
+    MetricsSource metricsSource = new MockMetricsSource("test-source");
+    metricsSystem.register(metricsSource);
+    MethodMonitorAspect aspect = new MethodMonitorAspect(metricsSystem);
+
+    Monitored monitored = mock(Monitored.class);
+    when(monitored.metricsSource()).thenReturn("test-source");
+    when(monitored.baseMetricName()).thenReturn("method");
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals("result", aspect.monitorMethod(pjp, monitored));
+    }
+    Assertions.assertEquals(1, aspect.cachedMethodMetricsSize());
+    Assertions.assertEquals(3, metricsSource.getMeter("method.success").getCount());
+    Assertions.assertEquals(3, metricsSource.getPercentileTimer("method.total").getCount());
+
+    // A different join point gets its own cached metrics.
+    aspect.monitorMethod(mockJoinPoint(), monitored);
+    Assertions.assertEquals(2, aspect.cachedMethodMetricsSize());
+    Assertions.assertEquals(4, metricsSource.getMeter("method.success").getCount());
+  }
+
+  @Test
+  void testMethodMetricsAreResolvedAgainAfterReRegister() throws Throwable {
+    MetricsSystem metricsSystem = new MetricsSystem();
+    MetricsSource metricsSource = new MockMetricsSource("test-source");
+    metricsSystem.register(metricsSource);
+    MethodMonitorAspect aspect = new MethodMonitorAspect(metricsSystem);
+
+    Monitored monitored = mock(Monitored.class);
+    when(monitored.metricsSource()).thenReturn("test-source");
+    when(monitored.baseMetricName()).thenReturn("method");
+    ProceedingJoinPoint pjp = mockJoinPoint();
+    aspect.monitorMethod(pjp, monitored);
+
+    metricsSystem.unregister(metricsSource);
+    MetricsSource newMetricsSource = new MockMetricsSource("test-source");
+    metricsSystem.register(newMetricsSource);
+    aspect.monitorMethod(pjp, monitored);
+
+    Assertions.assertEquals(1, aspect.cachedMethodMetricsSize());
+    Assertions.assertEquals(1, newMetricsSource.getMeter("method.success").getCount());
+  }
+
+  private static ProceedingJoinPoint mockJoinPoint() throws Throwable {
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    when(pjp.getStaticPart()).thenReturn(mock(JoinPoint.StaticPart.class));
+    when(pjp.getSignature()).thenReturn(mock(Signature.class));
+    when(pjp.proceed()).thenReturn("result");
+    return pjp;
+  }
+}
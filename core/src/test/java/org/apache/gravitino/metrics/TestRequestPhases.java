@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRequestPhases {
+
+  @AfterEach
+  public void tearDown() {
+    RequestPhases.end();
+  }
+
+  @Test
+  public void testUntrackedThread() {
+    Assertions.assertNull(RequestPhases.current());
+    long token = RequestPhases.start(Phase.ENTITY_STORE);
+    Assertions.assertEquals(-1L, token);
+    RequestPhases.stop(Phase.ENTITY_STORE, token);
+    Assertions.assertNull(RequestPhases.current());
+  }
+
+  @Test
+  public void testAccumulatePhases() throws InterruptedException {
+    RequestPhases phases = RequestPhases.begin();
+    Assertions.assertSame(phases, RequestPhases.current());
+
+    for (int i = 0; i < 2; i++) {
+      long token = RequestPhases.start(Phase.CATALOG_CALL);
+      Thread.sleep(5);
+      RequestPhases.stop(Phase.CATALOG_CALL, token);
+    }
+
+    Assertions.assertTrue(phases.nanos(Phase.CATALOG_CALL) >= TimeUnit.MILLISECONDS.toNanos(10));
+    Assertions.assertEquals(0L, phases.nanos(Phase.AUTH));
+    Assertions.assertTrue(phases.elapsedNanos() >= phases.nanos(Phase.CATALOG_CALL));
+    Assertions.assertTrue(phases.describe().startsWith("auth=0.0ms, tree-lock-wait=0.0ms"));
+
+    RequestPhases.end();
+    Assertions.assertNull(RequestPhases.current());
+  }
+
+  @Test
+  public void testNestedPhaseCountedOnce() throws InterruptedException {
+    RequestPhases phases = RequestPhases.begin();
+    long outer = RequestPhases.start(Phase.ENTITY_STORE);
+    long inner = RequestPhases.start(Phase.ENTITY_STORE);
+    Assertions.assertEquals(-1L, inner);
+    Thread.sleep(5);
+    RequestPhases.stop(Phase.ENTITY_STORE, inner);
+    RequestPhases.stop(Phase.ENTITY_STORE, outer);
+
+    long nanos = phases.nanos(Phase.ENTITY_STORE);
+    Assertions.assertTrue(nanos >= TimeUnit.MILLISECONDS.toNanos(5));
+    Assertions.assertTrue(nanos <= phases.elapsedNanos());
+
+    // The depth is back to zero, so the next bracket is tracked again
+    long next = RequestPhases.start(Phase.ENTITY_STORE);
+    Assertions.assertNotEquals(-1L, next);
+    RequestPhases.stop(Phase.ENTITY_STORE, next);
+  }
+}
@@ -627,6 +627,40 @@ public class TestPolicyManager {
             .contains("Failed to list policies for metadata object " + nonExistentObject));
   }
 
+  @Test
+  public void testListPoliciesForMetadataObjectHierarchies() {
+    Map<String, Object> customRules = ImmutableMap.of("rule1", 1, "rule2", "value2");
+    PolicyContent content = PolicyContents.custom(customRules, SUPPORTS_OBJECT_TYPES, null);
+    String policyName1 = "policy1" + UUID.randomUUID().toString().replace("-", "");
+    PolicyEntity policy1 = createCustomPolicy(METALAKE, policyName1, content);
+    String policyName2 = "policy2" + UUID.randomUUID().toString().replace("-", "");
+    PolicyEntity policy2 = createCustomPolicy(METALAKE, policyName2, content);
+
+    MetadataObject catalogObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, CATALOG), Entity.EntityType.CATALOG);
+    MetadataObject schemaObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA), Entity.EntityType.SCHEMA);
+    MetadataObject tableObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofTable(METALAKE, CATALOG, SCHEMA, TABLE), Entity.EntityType.TABLE);
+
+    policyManager.associatePoliciesForMetadataObject(
+        METALAKE, catalogObject, new String[] {policy1.name()}, null);
+    policyManager.associatePoliciesForMetadataObject(
+        METALAKE, tableObject, new String[] {policy2.name()}, null);
+
+    Map<MetadataObject, PolicyEntity[]> policiesByObject =
+        policyManager.listPolicyInfosForMetadataObjectHierarchies(
+            METALAKE, Lists.newArrayList(tableObject, schemaObject));
+    Assertions.assertEquals(
+        ImmutableSet.of(catalogObject, schemaObject, tableObject), policiesByObject.keySet());
+    Assertions.assertArrayEquals(new PolicyEntity[] {policy1}, policiesByObject.get(catalogObject));
+    Assertions.assertEquals(0, policiesByObject.get(schemaObject).length);
+    Assertions.assertArrayEquals(new PolicyEntity[] {policy2}, policiesByObject.get(tableObject));
+  }
+
   @Test
   public void testGetPolicyForMetadataObject() {
     Map<String, Object> customRules = ImmutableMap.of("rule1", 1, "rule2", "value2");
@@ -188,7 +188,19 @@ public class TestMemoryEntityStore {
     @Override
     public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
         throws IOException, EntityAlreadyExistsException {
-      throw new UnsupportedOperationException("Batch put is not supported in InMemoryEntityStore.");
+      executeInTransaction(
+          () -> {
+            if (!overwritten) {
+              for (E e : entities) {
+                if (exists(e.nameIdentifier(), e.type())) {
+                  throw new EntityAlreadyExistsException(
+                      "Entity %s already exists", e.nameIdentifier());
+                }
+              }
+            }
+            entities.forEach(e -> entityMap.put(e.nameIdentifier(), e));
+            return null;
+          });
     }
 
     @Override
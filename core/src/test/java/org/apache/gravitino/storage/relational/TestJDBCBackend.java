@@ -60,6 +60,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyContents;
 import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.service.MetadataObjectService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +91,7 @@ public abstract class TestJDBCBackend {
   @BeforeEach
   public void init() throws SQLException {
     truncateAllTables();
+    MetadataObjectService.invalidateAllNames();
   }
 
   private void truncateAllTables() throws SQLException {
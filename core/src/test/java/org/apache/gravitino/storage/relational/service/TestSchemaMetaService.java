@@ -28,6 +28,7 @@ import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
+import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.storage.RandomIdGenerator;
@@ -126,6 +127,46 @@ public class TestSchemaMetaService extends TestJDBCBackend {
     Assertions.assertEquals("schema comment updated", updatedSchema.comment());
   }
 
+  @TestTemplate
+  public void testSchemaFullNameFollowsRenames() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    CatalogEntity catalog = createAndInsertCatalog(metalakeName, catalogName);
+    SchemaEntity schema = createAndInsertSchema(metalakeName, catalogName, "schema");
+
+    List<Long> schemaIds = List.of(schema.id());
+    Assertions.assertEquals(
+        catalogName + ".schema",
+        MetadataObjectService.getSchemaObjectsFullName(schemaIds).get(schema.id()));
+
+    String newCatalogName = catalogName + "_renamed";
+    backend.update(
+        catalog.nameIdentifier(),
+        Entity.EntityType.CATALOG,
+        e -> createCatalog(catalog.id(), catalog.namespace(), newCatalogName, AUDIT_INFO));
+    Assertions.assertEquals(
+        newCatalogName + ".schema",
+        MetadataObjectService.getSchemaObjectsFullName(schemaIds).get(schema.id()));
+
+    backend.update(
+        NameIdentifierUtil.ofSchema(metalakeName, newCatalogName, "schema"),
+        Entity.EntityType.SCHEMA,
+        e ->
+            createSchemaEntity(
+                schema.id(),
+                NamespaceUtil.ofSchema(metalakeName, newCatalogName),
+                "schema_renamed",
+                AUDIT_INFO));
+    Assertions.assertEquals(
+        newCatalogName + ".schema_renamed",
+        MetadataObjectService.getSchemaObjectsFullName(schemaIds).get(schema.id()));
+
+    backend.delete(
+        NameIdentifierUtil.ofSchema(metalakeName, newCatalogName, "schema_renamed"),
+        Entity.EntityType.SCHEMA,
+        false);
+    Assertions.assertTrue(MetadataObjectService.getSchemaObjectsFullName(schemaIds).isEmpty());
+  }
+
   @TestTemplate
   public void testMetaLifeCycleFromCreationToDeletion() throws IOException {
     createAndInsertMakeLake(metalakeName);
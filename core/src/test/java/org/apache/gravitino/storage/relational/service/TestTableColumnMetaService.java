@@ -688,6 +688,179 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         MetalakeMetaService.getInstance().deleteMetalake(NameIdentifier.of(METALAKE_NAME), true));
   }
 
+  @TestTemplate
+  public void testUpdateTableWritesColumnSnapshots() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, AUDIT_INFO);
+
+    ColumnEntity column1 = newColumn("column1", 0, "comment");
+    ColumnEntity column2 = newColumn("column2", 1, "comment");
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("snapshot_table")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1, column2))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    // Each update changes the comment of column1 and writes one delta row, until the rows since
+    // the latest snapshot exceed the threshold and the update writes a snapshot instead.
+    for (int i = 0; i < TableColumnMetaService.MIN_DELTA_COLUMNS_PER_SNAPSHOT * 2; i++) {
+      ColumnEntity updatedColumn1 = newColumn(column1, "comment_" + i);
+      List<ColumnEntity> columns = Lists.newArrayList(updatedColumn1, column2);
+      TableMetaService.getInstance()
+          .updateTable(
+              table.nameIdentifier(),
+              oldTable ->
+                  TableEntity.builder()
+                      .withId(table.id())
+                      .withName(table.name())
+                      .withNamespace(table.namespace())
+                      .withColumns(columns)
+                      .withAuditInfo(AUDIT_INFO)
+                      .build());
+
+      TableEntity retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(2, retrievedTable.columns().size());
+      compareTwoColumns(columns, retrievedTable.columns());
+    }
+
+    // Two snapshots are written, and the rows before the first one are soft deleted.
+    Assertions.assertEquals(
+        4, countLiveColumnsByTableId(table.id(), ColumnPO.ColumnOpType.SNAPSHOT.value()));
+    int liveRows = countLiveColumnsByTableId(table.id(), null);
+    Assertions.assertTrue(
+        liveRows <= TableColumnMetaService.MIN_DELTA_COLUMNS_PER_SNAPSHOT + 4,
+        "Unexpected number of live column rows: " + liveRows);
+
+    Long columnId =
+        TableColumnMetaService.getInstance().getColumnIdByTableIdAndName(table.id(), "column2");
+    Assertions.assertEquals(column2.id(), columnId);
+    Assertions.assertTrue(
+        MetalakeMetaService.getInstance().deleteMetalake(NameIdentifier.of(METALAKE_NAME), true));
+  }
+
+  @TestTemplate
+  public void testDropColumnsInSnapshotUpdate() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, AUDIT_INFO);
+
+    ColumnEntity column1 = newColumn("column1", 0, "comment");
+    ColumnEntity column2 = newColumn("column2", 1, "comment");
+    ColumnEntity column3 = newColumn("column3", 2, "comment");
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("snapshot_drop_table")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1, column2, column3))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    // Change the comment of column1 until an update with three more delta rows writes a snapshot.
+    int i = 0;
+    while (countLiveColumnsByTableId(table.id(), null) + 3
+        <= TableColumnMetaService.MIN_DELTA_COLUMNS_PER_SNAPSHOT) {
+      updateColumns(
+          table, Lists.newArrayList(newColumn(column1, "comment_" + i), column2, column3));
+      i++;
+    }
+    Assertions.assertEquals(
+        0, countLiveColumnsByTableId(table.id(), ColumnPO.ColumnOpType.SNAPSHOT.value()));
+
+    // Drop column2, and replace column3 with a new column of the same name.
+    ColumnEntity newColumn3 = newColumn("column3", 1, "comment");
+    List<ColumnEntity> columns = Lists.newArrayList(column1, newColumn3);
+    updateColumns(table, columns);
+    Assertions.assertEquals(
+        2, countLiveColumnsByTableId(table.id(), ColumnPO.ColumnOpType.SNAPSHOT.value()));
+
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    compareTwoColumns(columns, retrievedTable.columns());
+
+    TableColumnMetaService columnMetaService = TableColumnMetaService.getInstance();
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> columnMetaService.getColumnIdByTableIdAndName(table.id(), "column2"));
+    Assertions.assertThrows(
+        NoSuchEntityException.class, () -> columnMetaService.getColumnPOById(column2.id()));
+    Assertions.assertThrows(
+        NoSuchEntityException.class, () -> columnMetaService.getColumnPOById(column3.id()));
+    Assertions.assertEquals(
+        newColumn3.id(), columnMetaService.getColumnIdByTableIdAndName(table.id(), "column3"));
+    Assertions.assertEquals(
+        "column3", columnMetaService.getColumnPOById(newColumn3.id()).getColumnName());
+    Assertions.assertTrue(
+        MetalakeMetaService.getInstance().deleteMetalake(NameIdentifier.of(METALAKE_NAME), true));
+  }
+
+  private void updateColumns(TableEntity table, List<ColumnEntity> columns) throws IOException {
+    TableMetaService.getInstance()
+        .updateTable(
+            table.nameIdentifier(),
+            oldTable ->
+                TableEntity.builder()
+                    .withId(table.id())
+                    .withName(table.name())
+                    .withNamespace(table.namespace())
+                    .withColumns(columns)
+                    .withAuditInfo(AUDIT_INFO)
+                    .build());
+  }
+
+  private ColumnEntity newColumn(String name, int position, String comment) {
+    return ColumnEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withPosition(position)
+        .withComment(comment)
+        .withDataType(Types.StringType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private ColumnEntity newColumn(ColumnEntity column, String comment) {
+    return ColumnEntity.builder()
+        .withId(column.id())
+        .withName(column.name())
+        .withPosition(column.position())
+        .withComment(comment)
+        .withDataType(column.dataType())
+        .withNullable(column.nullable())
+        .withAutoIncrement(column.autoIncrement())
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private int countLiveColumnsByTableId(long tableId, Byte columnOpType) throws IOException {
+    String sql =
+        "SELECT COUNT(*) FROM "
+            + TableColumnMapper.COLUMN_TABLE_NAME
+            + " WHERE table_id = ? AND deleted_at = 0"
+            + (columnOpType == null ? "" : " AND column_op_type = " + columnOpType);
+    try (PreparedStatement stmt =
+        SqlSessions.getSqlSession().getConnection().prepareStatement(sql)) {
+      stmt.setLong(1, tableId);
+      try (ResultSet rs = stmt.executeQuery()) {
+        int count = rs.next() ? rs.getInt(1) : 0;
+        SqlSessions.commitAndCloseSqlSession();
+        return count;
+      }
+    } catch (Exception e) {
+      SqlSessions.rollbackAndCloseSqlSession();
+      throw new IOException("Failed to count live columns", e);
+    }
+  }
+
   private int countColumnsByTableId(long legacyTimeline) throws IOException {
     int count = 0;
     Connection connection = null;
@@ -638,6 +638,54 @@ public class TestTagManager {
         e.getMessage().contains("Failed to list tags for metadata object " + nonExistentObject));
   }
 
+  @Test
+  public void testListTagsForMetadataObjectHierarchies() {
+    Tag tag1 = tagManager.createTag(METALAKE, "tag1", null, null);
+    Tag tag2 = tagManager.createTag(METALAKE, "tag2", null, null);
+    Tag tag3 = tagManager.createTag(METALAKE, "tag3", null, null);
+
+    MetadataObject catalogObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, CATALOG), Entity.EntityType.CATALOG);
+    MetadataObject schemaObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA), Entity.EntityType.SCHEMA);
+    MetadataObject tableObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofTable(METALAKE, CATALOG, SCHEMA, TABLE), Entity.EntityType.TABLE);
+    MetadataObject columnObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofColumn(METALAKE, CATALOG, SCHEMA, TABLE, COLUMN),
+            Entity.EntityType.COLUMN);
+
+    tagManager.associateTagsForMetadataObject(
+        METALAKE, catalogObject, new String[] {tag1.name()}, null);
+    tagManager.associateTagsForMetadataObject(
+        METALAKE, schemaObject, new String[] {tag2.name()}, null);
+    tagManager.associateTagsForMetadataObject(
+        METALAKE, tableObject, new String[] {tag3.name()}, null);
+
+    Map<MetadataObject, Tag[]> tagsByObject =
+        tagManager.listTagsInfoForMetadataObjectHierarchies(
+            METALAKE, Lists.newArrayList(tableObject, columnObject));
+    Assertions.assertEquals(
+        ImmutableSet.of(catalogObject, schemaObject, tableObject, columnObject),
+        tagsByObject.keySet());
+    Assertions.assertArrayEquals(new Tag[] {tag1}, tagsByObject.get(catalogObject));
+    Assertions.assertArrayEquals(new Tag[] {tag2}, tagsByObject.get(schemaObject));
+    Assertions.assertArrayEquals(new Tag[] {tag3}, tagsByObject.get(tableObject));
+    Assertions.assertEquals(0, tagsByObject.get(columnObject).length);
+
+    // Disassociating a tag from an ancestor is reflected in the next lookup
+    tagManager.associateTagsForMetadataObject(
+        METALAKE, schemaObject, null, new String[] {tag2.name()});
+    tagsByObject =
+        tagManager.listTagsInfoForMetadataObjectHierarchies(
+            METALAKE, Lists.newArrayList(columnObject));
+    Assertions.assertEquals(0, tagsByObject.get(schemaObject).length);
+    Assertions.assertArrayEquals(new Tag[] {tag1}, tagsByObject.get(catalogObject));
+  }
+
   @Test
   public void testGetTagForMetadataObject() {
     Tag tag1 = tagManager.createTag(METALAKE, "tag1", null, null);
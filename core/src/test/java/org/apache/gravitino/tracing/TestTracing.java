@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTracing {
+
+  private static final String TRACEPARENT =
+      "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+  private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+
+  @AfterEach
+  public void tearDown() {
+    Tracing.endTrace();
+    Tracing.close();
+  }
+
+  @Test
+  public void testDisabled() {
+    Assertions.assertFalse(Tracing.isEnabled());
+    Assertions.assertSame(TraceSpan.noop(), Tracing.beginTrace("GET", TRACEPARENT));
+    Assertions.assertNull(Tracing.currentTrace());
+    Assertions.assertSame(TraceSpan.noop(), Tracing.startSpan("span"));
+
+    Runnable target = () -> {};
+    Assertions.assertSame(target, Tracing.traced(Runnable.class, target));
+  }
+
+  @Test
+  public void testNotSampled() {
+    Tracing.initialize(0.0, exporter, 16);
+    TraceSpan rootSpan = Tracing.beginTrace("GET", null);
+    Assertions.assertFalse(rootSpan.isRecording());
+    Assertions.assertNull(Tracing.currentTrace());
+
+    TraceSpan span = Tracing.startSpan("span").setAttribute("key", "value");
+    Assertions.assertSame(TraceSpan.noop(), span);
+    span.close();
+
+    // The sampled flag of the caller wins over the local sample rate
+    Assertions.assertTrue(Tracing.beginTrace("GET", TRACEPARENT).isRecording());
+    Tracing.endTrace();
+    Tracing.close();
+    Assertions.assertEquals(1, exporter.traces.size());
+  }
+
+  @Test
+  public void testNestedSpans() {
+    Tracing.initialize(1.0, exporter, 16);
+    TraceSpan rootSpan = Tracing.beginTrace("GET", null);
+    RequestTrace trace = Tracing.currentTrace();
+    Assertions.assertNotNull(trace);
+    Assertions.assertSame(rootSpan, trace.rootSpan());
+
+    try (TraceSpan outer = Tracing.startSpan("outer")) {
+      try (TraceSpan inner = Tracing.startSpan("inner")) {
+        inner.setAttribute("key", 1);
+        Assertions.assertEquals(outer.spanId(), inner.parentSpanId());
+      }
+      Assertions.assertEquals(rootSpan.spanId(), outer.parentSpanId());
+    }
+    // Left open on purpose, the end of the trace closes it
+    Tracing.startSpan("leaked");
+
+    Tracing.endTrace();
+    Assertions.assertNull(Tracing.currentTrace());
+    Tracing.close();
+
+    Assertions.assertEquals(1, exporter.traces.size());
+    List<TraceSpan> spans = exporter.traces.get(0).finishedSpans();
+    Assertions.assertEquals(4, spans.size());
+    Assertions.assertEquals("inner", spans.get(0).name());
+    Assertions.assertEquals("outer", spans.get(1).name());
+    Assertions.assertEquals("leaked", spans.get(2).name());
+    Assertions.assertTrue(spans.get(2).attributes().contains("gravitino.unclosed"));
+    Assertions.assertSame(rootSpan, spans.get(3));
+    for (TraceSpan span : spans) {
+      Assertions.assertTrue(span.isEnded());
+      Assertions.assertTrue(span.endNanos() >= span.startNanos());
+    }
+  }
+
+  @Test
+  public void testTraceparent() {
+    Assertions.assertTrue(Tracing.isValidTraceparent(TRACEPARENT));
+    Assertions.assertFalse(Tracing.isValidTraceparent(null));
+    Assertions.assertFalse(Tracing.isValidTraceparent(TRACEPARENT.toUpperCase(Locale.ROOT)));
+    Assertions.assertFalse(Tracing.isValidTraceparent(TRACEPARENT.substring(1)));
+    Assertions.assertFalse(
+        Tracing.isValidTraceparent("00-00000000000000000000000000000000-b7ad6b7169203331-01"));
+    Assertions.assertFalse(
+        Tracing.isValidTraceparent("00-0af7651916cd43dd8448eb211c80319c-0000000000000000-01"));
+
+    Tracing.initialize(1.0, exporter, 16);
+    Assertions.assertFalse(
+        Tracing.beginTrace("GET", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00")
+            .isRecording());
+
+    TraceSpan rootSpan = Tracing.beginTrace("GET", TRACEPARENT);
+    RequestTrace trace = Tracing.currentTrace();
+    Assertions.assertEquals("0af7651916cd43dd8448eb211c80319c", trace.traceId());
+    Assertions.assertEquals(0xb7ad6b7169203331L, rootSpan.parentSpanId());
+    Assertions.assertEquals(
+        "00-0af7651916cd43dd8448eb211c80319c-" + RequestTrace.toHex(rootSpan.spanId()) + "-01",
+        trace.traceparent());
+  }
+
+  @Test
+  public void testMaxSpans() {
+    Tracing.initialize(1.0, exporter, 16);
+    Tracing.beginTrace("GET", null);
+    for (int i = 0; i < RequestTrace.MAX_SPANS + 10; i++) {
+      Tracing.startSpan("span").close();
+    }
+    RequestTrace trace = Tracing.currentTrace();
+    Assertions.assertEquals(11, trace.droppedSpans());
+    Tracing.endTrace();
+    Assertions.assertEquals(RequestTrace.MAX_SPANS, trace.finishedSpans().size());
+    Assertions.assertTrue(trace.rootSpan().attributes().contains("gravitino.dropped_spans"));
+  }
+
+  @Test
+  public void testTracedProxy() {
+    Tracing.initialize(1.0, exporter, 16);
+    Dispatcher target = new FailingDispatcher();
+    Dispatcher traced = Tracing.traced(Dispatcher.class, target);
+    Assertions.assertNotSame(target, traced);
+
+    // Calls outside a traced request go straight to the target
+    Assertions.assertEquals("a", traced.load(NameIdentifier.of("a")));
+
+    Tracing.beginTrace("GET", null);
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog");
+    Assertions.assertEquals("catalog", traced.load(ident));
+    IllegalStateException e =
+        Assertions.assertThrows(IllegalStateException.class, () -> traced.drop(ident));
+    Assertions.assertEquals("boom", e.getMessage());
+    RequestTrace trace = Tracing.currentTrace();
+    Tracing.endTrace();
+
+    List<TraceSpan> spans = trace.finishedSpans();
+    Assertions.assertEquals(3, spans.size());
+    Assertions.assertEquals("FailingDispatcher.load", spans.get(0).name());
+    Assertions.assertEquals(
+        List.of("gravitino.identifier", "metalake.catalog"), spans.get(0).attributes());
+    Assertions.assertFalse(spans.get(0).isError());
+    Assertions.assertEquals("FailingDispatcher.drop", spans.get(1).name());
+    Assertions.assertTrue(spans.get(1).isError());
+    Assertions.assertEquals("java.lang.IllegalStateException: boom", spans.get(1).errorMessage());
+  }
+
+  @Test
+  public void testOtlpJsonEncoding() throws IOException {
+    Tracing.initialize(1.0, exporter, 16);
+    Tracing.beginTrace("GET", TRACEPARENT).setAttribute("http.route", "/api/metalakes");
+    try (TraceSpan span = Tracing.startSpan("child")) {
+      span.recordError(new IllegalArgumentException("bad"));
+    }
+    RequestTrace trace = Tracing.currentTrace();
+    Tracing.endTrace();
+
+    JsonNode root = new ObjectMapper().readTree(OtlpJsonEncoder.encode(List.of(trace)));
+    JsonNode resourceSpans = root.get("resourceSpans").get(0);
+    JsonNode serviceName = resourceSpans.get("resource").get("attributes").get(0);
+    Assertions.assertEquals("service.name", serviceName.get("key").asText());
+    Assertions.assertEquals("gravitino", serviceName.get("value").get("stringValue").asText());
+    JsonNode scopeSpans = resourceSpans.get("scopeSpans").get(0);
+    Assertions.assertEquals("org.apache.gravitino", scopeSpans.get("scope").get("name").asText());
+
+    JsonNode spans = scopeSpans.get("spans");
+    Assertions.assertEquals(2, spans.size());
+    JsonNode child = spans.get(0);
+    JsonNode rootSpan = spans.get(1);
+    Assertions.assertEquals("0af7651916cd43dd8448eb211c80319c", child.get("traceId").asText());
+    Assertions.assertEquals(rootSpan.get("spanId").asText(), child.get("parentSpanId").asText());
+    Assertions.assertEquals(1, child.get("kind").asInt());
+    Assertions.assertEquals(2, child.get("status").get("code").asInt());
+    Assertions.assertEquals(
+        "java.lang.IllegalArgumentException: bad", child.get("status").get("message").asText());
+
+    Assertions.assertEquals("GET", rootSpan.get("name").asText());
+    Assertions.assertEquals("b7ad6b7169203331", rootSpan.get("parentSpanId").asText());
+    Assertions.assertEquals(2, rootSpan.get("kind").asInt());
+    Assertions.assertEquals("http.route", rootSpan.get("attributes").get(0).get("key").asText());
+    Assertions.assertFalse(rootSpan.has("status"));
+    Assertions.assertTrue(
+        Long.parseLong(rootSpan.get("endTimeUnixNano").asText())
+            >= Long.parseLong(rootSpan.get("startTimeUnixNano").asText()));
+  }
+
+  private interface Dispatcher {
+    String load(NameIdentifier ident);
+
+    void drop(NameIdentifier ident);
+  }
+
+  private static class FailingDispatcher implements Dispatcher {
+    @Override
+    public String load(NameIdentifier ident) {
+      return ident.name();
+    }
+
+    @Override
+    public void drop(NameIdentifier ident) {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  private static class InMemorySpanExporter implements SpanExporter {
+    private final List<RequestTrace> traces = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void export(List<RequestTrace> batch) {
+      traces.addAll(batch);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -19,9 +19,16 @@
 package org.apache.gravitino.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,12 +75,117 @@ public class TestClientPool {
     assertEquals(2, clientPool.poolSize());
   }
 
+  @Test
+  public void testAcquireTimeout() throws Exception {
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(1, Exception.class, true, 100)) {
+      CountDownLatch borrowed = new CountDownLatch(1);
+      CountDownLatch finish = new CountDownLatch(1);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        Future<String> holder =
+            executor.submit(
+                () ->
+                    pool.run(
+                        client -> {
+                          borrowed.countDown();
+                          finish.await();
+                          return client.performAction("held");
+                        }));
+        assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, pool.borrowedCount());
+
+        IllegalStateException exception =
+            assertThrows(
+                IllegalStateException.class, () -> pool.run(client -> client.performAction("x")));
+        assertTrue(exception.getMessage().contains("Timed out"));
+
+        finish.countDown();
+        assertEquals("held", holder.get(5, TimeUnit.SECONDS));
+        assertEquals("test", pool.run(client -> client.performAction("test")));
+        assertEquals(1, pool.createdCount());
+        assertEquals(0, pool.borrowedCount());
+        assertEquals(1, pool.idleCount());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  public void testEvictUnhealthyClient() throws Exception {
+    try (ClientPoolImplExtension pool = new ClientPoolImplExtension(1, Exception.class, true)) {
+      ClientMock first = pool.run(client -> client);
+      first.healthy = false;
+
+      ClientMock second = pool.run(client -> client);
+      assertNotSame(first, second);
+      assertTrue(first.closed);
+      assertEquals(2, pool.createdCount());
+      assertEquals(1, pool.evictedCount());
+      assertEquals(1, pool.idleCount());
+    }
+  }
+
+  @Test
+  public void testConcurrentRunNeverExceedsPoolSize() throws Exception {
+    int threads = 16;
+    AtomicInteger inUse = new AtomicInteger();
+    AtomicInteger maxInUse = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      Future<?>[] futures = new Future<?>[threads];
+      for (int i = 0; i < threads; i++) {
+        futures[i] =
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int j = 0; j < 200; j++) {
+                    clientPool.run(
+                        client -> {
+                          maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                          inUse.decrementAndGet();
+                          return null;
+                        });
+                  }
+                  return null;
+                });
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(maxInUse.get() <= clientPool.poolSize());
+    assertTrue(clientPool.createdCount() <= clientPool.poolSize());
+    assertEquals(0, clientPool.borrowedCount());
+    assertEquals(threads * 200L, clientPool.acquireTimer().getCount());
+  }
+
+  @Test
+  public void testRunOnClosedPool() {
+    clientPool.close();
+    assertThrows(
+        IllegalArgumentException.class, () -> clientPool.run(client -> client.performAction("x")));
+  }
+
   private static final class ClientPoolImplExtension extends ClientPoolImpl<ClientMock, Exception> {
     private ClientPoolImplExtension(
         int poolSize, Class<? extends Exception> reconnectExc, boolean retryByDefault) {
       super(poolSize, reconnectExc, retryByDefault);
     }
 
+    private ClientPoolImplExtension(
+        int poolSize,
+        Class<? extends Exception> reconnectExc,
+        boolean retryByDefault,
+        long acquireTimeoutMs) {
+      super(poolSize, reconnectExc, retryByDefault, acquireTimeoutMs);
+    }
+
     @Override
     protected ClientMock newClient() {
       return new ClientMock();
@@ -89,6 +201,11 @@ public class TestClientPool {
       return false;
     }
 
+    @Override
+    protected boolean isHealthy(ClientMock client) {
+      return client.healthy;
+    }
+
     @Override
     protected void close(ClientMock client) {
       client.close();
@@ -96,11 +213,15 @@ public class TestClientPool {
   }
 
   private static class ClientMock {
+    private volatile boolean healthy = true;
+    private volatile boolean closed = false;
 
     public String performAction(String input) {
       return input;
     }
 
-    public void close() {}
+    public void close() {
+      closed = true;
+    }
   }
 }
@@ -30,6 +30,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.flink.table.catalog.AbstractCatalog;
@@ -65,6 +68,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.client.AsyncMetalakeOperations;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -83,15 +87,22 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The BaseCatalog that provides a default implementation for all methods in the {@link
  * org.apache.flink.table.catalog.Catalog} interface.
  */
 public abstract class BaseCatalog extends AbstractCatalog {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseCatalog.class);
+  // The maximum number of tables prefetched concurrently after a database is listed.
+  private static final int MAX_CONCURRENT_PREFETCHES = 8;
+
   private final SchemaAndTablePropertiesConverter schemaAndTablePropertiesConverter;
   private final PartitionConverter partitionConverter;
   private final Map<String, String> catalogOptions;
+  private volatile CatalogMetadataCache metadataCache;
 
   protected BaseCatalog(
       String catalogName,
@@ -137,7 +148,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
   @Override
   public boolean databaseExists(String databaseName) throws CatalogException {
-    return catalog().asSchemas().schemaExists(databaseName);
+    return metadataCache()
+        .databaseExists(databaseName, name -> catalog().asSchemas().schemaExists(name));
   }
 
   @Override
@@ -149,6 +161,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
           schemaAndTablePropertiesConverter.toGravitinoSchemaProperties(
               catalogDatabase.getProperties());
       catalog().asSchemas().createSchema(databaseName, catalogDatabase.getComment(), properties);
+      metadataCache().invalidateDatabase(databaseName);
     } catch (SchemaAlreadyExistsException e) {
       if (!ignoreIfExists) {
         throw new DatabaseAlreadyExistException(catalogName(), databaseName);
@@ -162,6 +175,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public void dropDatabase(String databaseName, boolean ignoreIfNotExists, boolean cascade)
       throws DatabaseNotExistException, DatabaseNotEmptyException, CatalogException {
     try {
+      metadataCache().invalidateDatabase(databaseName);
       boolean dropped = catalog().asSchemas().dropSchema(databaseName, cascade);
       if (!dropped && !ignoreIfNotExists) {
         throw new DatabaseNotExistException(catalogName(), databaseName);
@@ -193,9 +207,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public List<String> listTables(String databaseName)
       throws DatabaseNotExistException, CatalogException {
     try {
-      return Stream.of(catalog().asTableCatalog().listTables(Namespace.of(databaseName)))
-          .map(NameIdentifier::name)
-          .collect(Collectors.toList());
+      return metadataCache().listTables(databaseName, this::loadTableNames);
     } catch (NoSuchSchemaException e) {
       throw new DatabaseNotExistException(catalogName(), databaseName, e);
     } catch (Exception e) {
@@ -214,10 +226,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public CatalogBaseTable getTable(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
     try {
-      Table table =
-          catalog()
-              .asTableCatalog()
-              .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      Table table = loadGravitinoTable(tablePath);
       return toFlinkTable(table, tablePath);
     } catch (NoSuchTableException e) {
       throw new TableNotExistException(catalogName(), tablePath, e);
@@ -228,10 +237,11 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
   @Override
   public boolean tableExists(ObjectPath tablePath) throws CatalogException {
+    NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     try {
-      return catalog()
-          .asTableCatalog()
-          .tableExists(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      return metadataCache().containsTable(identifier)
+          || catalog().asTableCatalog().tableExists(identifier);
     } catch (Exception e) {
       throw new CatalogException(e);
     }
@@ -240,10 +250,18 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public void dropTable(ObjectPath tablePath, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
-    boolean dropped =
-        catalog()
-            .asTableCatalog()
-            .dropTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    invalidateTable(tablePath);
+    boolean dropped;
+    try {
+      dropped =
+          catalog()
+              .asTableCatalog()
+              .dropTable(
+                  NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    } finally {
+      // Drop the entries a concurrent lookup cached while the table was being dropped.
+      invalidateTable(tablePath);
+    }
     if (!dropped && !ignoreIfNotExists) {
       throw new TableNotExistException(catalogName(), tablePath);
     }
@@ -253,25 +271,29 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public void renameTable(ObjectPath tablePath, String newTableName, boolean ignoreIfNotExists)
       throws TableNotExistException, TableAlreadyExistException, CatalogException {
     NameIdentifier identifier =
+        NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
+    NameIdentifier newIdentifier =
         NameIdentifier.of(Namespace.of(tablePath.getDatabaseName()), newTableName);
 
-    if (catalog().asTableCatalog().tableExists(identifier)) {
+    if (catalog().asTableCatalog().tableExists(newIdentifier)) {
       throw new TableAlreadyExistException(
           catalogName(), ObjectPath.fromString(tablePath.getDatabaseName() + newTableName));
     }
 
+    metadataCache().invalidateTable(identifier);
+    metadataCache().invalidateTable(newIdentifier);
     try {
-      catalog()
-          .asTableCatalog()
-          .alterTable(
-              NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()),
-              TableChange.rename(newTableName));
+      catalog().asTableCatalog().alterTable(identifier, TableChange.rename(newTableName));
     } catch (NoSuchTableException e) {
       if (!ignoreIfNotExists) {
         throw new TableNotExistException(catalogName(), tablePath, e);
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      // Drop the entries a concurrent lookup cached while the table was being renamed.
+      metadataCache().invalidateTable(identifier);
+      metadataCache().invalidateTable(newIdentifier);
     }
   }
 
@@ -296,6 +318,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
     Index[] indices = getGrivatinoIndices(resolvedTable);
 
     try {
+      metadataCache().invalidateTable(identifier);
       catalog()
           .asTableCatalog()
           .createTable(
@@ -315,6 +338,9 @@ public abstract class BaseCatalog extends AbstractCatalog {
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      // Drop the entries a concurrent lookup cached while the table was being created.
+      metadataCache().invalidateTable(identifier);
     }
   }
 
@@ -346,6 +372,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public void alterTable(ObjectPath tablePath, CatalogBaseTable newTable, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    // Compare against the latest table, and drop the stale entry once the table is altered.
+    invalidateTable(tablePath);
     CatalogBaseTable existingTable;
 
     try {
@@ -369,6 +397,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
     catalog()
         .asTableCatalog()
         .alterTable(identifier, getGravitinoTableChanges(existingTable, newTable));
+    metadataCache().invalidateTable(identifier);
   }
 
   @Override
@@ -378,6 +407,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       List<org.apache.flink.table.catalog.TableChange> tableChanges,
       boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    // Compare against the latest table, and drop the stale entry once the table is altered.
+    invalidateTable(tablePath);
     CatalogBaseTable existingTable;
     try {
       existingTable = this.getTable(tablePath);
@@ -398,6 +429,7 @@ public abstract class BaseCatalog extends AbstractCatalog {
     NameIdentifier identifier =
         NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
     catalog().asTableCatalog().alterTable(identifier, getGravitinoTableChanges(tableChanges));
+    metadataCache().invalidateTable(identifier);
   }
 
   @Override
@@ -728,7 +760,98 @@ public abstract class BaseCatalog extends AbstractCatalog {
   }
 
   protected Catalog catalog() {
-    return GravitinoCatalogManager.get().getGravitinoCatalogInfo(getName());
+    return metadataCache()
+        .getCatalog(getName(), name -> GravitinoCatalogManager.get().getGravitinoCatalogInfo(name));
+  }
+
+  /**
+   * Load the Gravitino table of the table path, the table is served from the metadata cache if
+   * it's cached.
+   *
+   * @param tablePath The path of the table.
+   * @return The Gravitino table.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  protected Table loadGravitinoTable(ObjectPath tablePath) throws NoSuchTableException {
+    return metadataCache()
+        .getTable(
+            NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()),
+            identifier -> catalog().asTableCatalog().loadTable(identifier));
+  }
+
+  /**
+   * Invalidate the cached metadata of the table path. Subclasses must call it before they change
+   * a table without going through this class.
+   *
+   * @param tablePath The path of the table.
+   */
+  protected void invalidateTable(ObjectPath tablePath) {
+    metadataCache()
+        .invalidateTable(
+            NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+  }
+
+  private CatalogMetadataCache metadataCache() {
+    if (metadataCache == null) {
+      synchronized (this) {
+        if (metadataCache == null) {
+          metadataCache = GravitinoCatalogManager.get().createMetadataCache();
+        }
+      }
+    }
+    return metadataCache;
+  }
+
+  private List<String> loadTableNames(String databaseName) {
+    List<String> tableNames =
+        Stream.of(catalog().asTableCatalog().listTables(Namespace.of(databaseName)))
+            .map(NameIdentifier::name)
+            .collect(Collectors.toList());
+    if (metadataCache().isEnabled() && GravitinoCatalogManager.get().prefetchTables()) {
+      prefetchTables(databaseName, tableNames);
+    }
+    return tableNames;
+  }
+
+  private void prefetchTables(String databaseName, List<String> tableNames) {
+    long generation = metadataCache().generation();
+    Queue<String> remaining = new ConcurrentLinkedQueue<>(tableNames);
+    for (int i = 0; i < MAX_CONCURRENT_PREFETCHES; i++) {
+      prefetchNextTables(databaseName, remaining, generation);
+    }
+  }
+
+  /**
+   * Prefetches the remaining tables one at a time, and continues with the next table once the
+   * current one is loaded, so each call keeps at most one request in flight. It stops once the
+   * metadata cache is invalidated, as the tables loaded before are stale.
+   */
+  private void prefetchNextTables(String databaseName, Queue<String> remaining, long generation) {
+    AsyncMetalakeOperations asyncOperations = GravitinoCatalogManager.get().asyncOperations();
+    String tableName;
+    while ((tableName = remaining.poll()) != null && metadataCache().generation() == generation) {
+      NameIdentifier identifier = NameIdentifier.of(databaseName, tableName);
+      if (metadataCache().containsTable(identifier)) {
+        continue;
+      }
+      String loadedTableName = tableName;
+      CompletableFuture<Table> future =
+          asyncOperations
+              .loadTable(NameIdentifier.of(getName(), databaseName, tableName))
+              .whenComplete(
+                  (table, e) -> {
+                    if (e != null) {
+                      LOG.debug(
+                          "Failed to prefetch table {}.{}", databaseName, loadedTableName, e);
+                    } else {
+                      metadataCache().putTableIfAbsent(identifier, table, generation);
+                    }
+                  });
+      if (!future.isDone()) {
+        future.whenComplete((table, e) -> prefetchNextTables(databaseName, remaining, generation));
+        return;
+      }
+    }
   }
 
   protected String catalogName() {
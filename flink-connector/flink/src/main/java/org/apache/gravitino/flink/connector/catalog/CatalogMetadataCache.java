@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * CatalogMetadataCache caches the Gravitino metadata looked up by a {@link BaseCatalog}, so that
+ * the lookups the Flink planner repeats while compiling a statement don't each reach the Gravitino
+ * server. Entries expire after the configured time to live, and the catalog invalidates the
+ * entries touched by its own DDL. A cache with zero time to live is disabled and loads every lookup
+ * from the server.
+ */
+class CatalogMetadataCache {
+
+  private final boolean enabled;
+  private final Cache<String, Catalog> catalogs;
+  private final Cache<String, Boolean> databases;
+  // The identifiers of tables are in "database.table" format.
+  private final Cache<NameIdentifier, Table> tables;
+  private final Cache<String, List<String>> tableNames;
+  // Bumped by every invalidation, so tables loaded in the background before it are not cached.
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Creates a catalog metadata cache.
+   *
+   * @param ttl The time to live of the cached metadata, zero disables the cache.
+   * @param maxSize The maximum number of cached tables.
+   */
+  CatalogMetadataCache(Duration ttl, long maxSize) {
+    Preconditions.checkArgument(!ttl.isNegative(), "The metadata cache ttl must not be negative");
+    Preconditions.checkArgument(maxSize > 0, "The metadata cache max size must be positive");
+    this.enabled = !ttl.isZero();
+    this.catalogs = CacheBuilder.newBuilder().expireAfterWrite(ttl).build();
+    this.databases = CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.tables = CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.tableNames = CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  Catalog getCatalog(String catalogName, Function<String, Catalog> loader) {
+    return get(catalogs, catalogName, () -> loader.apply(catalogName));
+  }
+
+  boolean databaseExists(String databaseName, Predicate<String> loader) {
+    return get(databases, databaseName, () -> loader.test(databaseName));
+  }
+
+  Table getTable(NameIdentifier identifier, Function<NameIdentifier, Table> loader) {
+    return get(tables, identifier, () -> loader.apply(identifier));
+  }
+
+  boolean containsTable(NameIdentifier identifier) {
+    return enabled && tables.getIfPresent(identifier) != null;
+  }
+
+  /**
+   * Returns the invalidation generation, which a background load captures before it starts.
+   *
+   * @return The current generation.
+   */
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Caches a table loaded in the background, unless a newer lookup has cached the table already or
+   * the cache has been invalidated since the load started.
+   *
+   * @param identifier The identifier of the table, in "database.table" format.
+   * @param table The table.
+   * @param loadGeneration The {@link #generation()} captured before the table was loaded.
+   */
+  void putTableIfAbsent(NameIdentifier identifier, Table table, long loadGeneration) {
+    if (!enabled || generation.get() != loadGeneration) {
+      return;
+    }
+    if (tables.asMap().putIfAbsent(identifier, table) == null
+        && generation.get() != loadGeneration) {
+      // An invalidation raced with the put, drop the stale table.
+      tables.asMap().remove(identifier, table);
+    }
+  }
+
+  List<String> listTables(String databaseName, Function<String, List<String>> loader) {
+    return get(tableNames, databaseName, () -> loader.apply(databaseName));
+  }
+
+  /**
+   * Invalidates a table and the table listing of its database.
+   *
+   * @param identifier The identifier of the table, in "database.table" format.
+   */
+  void invalidateTable(NameIdentifier identifier) {
+    generation.incrementAndGet();
+    tables.invalidate(identifier);
+    tableNames.invalidate(identifier.namespace().level(0));
+  }
+
+  /**
+   * Invalidates a database together with its tables and table listing.
+   *
+   * @param databaseName The name of the database.
+   */
+  void invalidateDatabase(String databaseName) {
+    generation.incrementAndGet();
+    databases.invalidate(databaseName);
+    tableNames.invalidate(databaseName);
+    tables.asMap().keySet().removeIf(ident -> ident.namespace().level(0).equals(databaseName));
+  }
+
+  @VisibleForTesting
+  long tableCount() {
+    tables.cleanUp();
+    return tables.size();
+  }
+
+  private <K, V> V get(Cache<K, V> cache, K key, Callable<V> loader) {
+    try {
+      if (!enabled) {
+        return loader.call();
+      }
+      return cache.get(key, loader);
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException(cause);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -22,10 +22,12 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import java.security.PrivilegedAction;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.client.AsyncMetalakeOperations;
 import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
@@ -48,9 +50,17 @@ public class GravitinoCatalogManager {
   private final String gravitinoUri;
   private final String metalakeName;
   private final Map<String, String> gravitinoClientConfig;
+  private final Duration metadataCacheTtl;
+  private final long metadataCacheMaxSize;
+  private final boolean prefetchTables;
 
   private GravitinoCatalogManager(
-      String gravitinoUri, String metalakeName, Map<String, String> gravitinoClientConfig) {
+      String gravitinoUri,
+      String metalakeName,
+      Map<String, String> gravitinoClientConfig,
+      Duration metadataCacheTtl,
+      long metadataCacheMaxSize,
+      boolean prefetchTables) {
     Preconditions.checkArgument(
         !Strings.isNullOrEmpty(gravitinoUri), "Gravitino uri cannot be null or empty");
     Preconditions.checkArgument(
@@ -59,6 +69,9 @@ public class GravitinoCatalogManager {
     this.gravitinoUri = gravitinoUri;
     this.metalakeName = metalakeName;
     this.gravitinoClientConfig = gravitinoClientConfig;
+    this.metadataCacheTtl = metadataCacheTtl;
+    this.metadataCacheMaxSize = metadataCacheMaxSize;
+    this.prefetchTables = prefetchTables;
 
     String authType = gravitinoClientConfig.get(GravitinoCatalogStoreFactoryOptions.AUTH_TYPE);
 
@@ -107,9 +120,44 @@ public class GravitinoCatalogManager {
    */
   public static GravitinoCatalogManager create(
       String gravitinoUri, String metalakeName, Map<String, String> gravitinoClientConfig) {
+    return create(
+        gravitinoUri,
+        metalakeName,
+        gravitinoClientConfig,
+        GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_TTL.defaultValue(),
+        GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_MAX_SIZE.defaultValue(),
+        GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_PREFETCH_TABLES
+            .defaultValue());
+  }
+
+  /**
+   * Create GravitinoCatalogManager with Gravitino server uri, metalake name, client properties map
+   * and the settings of the metadata cache of the catalogs.
+   *
+   * @param gravitinoUri Gravitino server uri
+   * @param metalakeName Metalake name
+   * @param gravitinoClientConfig Gravitino client properties map
+   * @param metadataCacheTtl The time to live of the cached metadata, zero disables the cache
+   * @param metadataCacheMaxSize The maximum number of tables cached by each catalog
+   * @param prefetchTables Whether to load all tables of a database on its first listing
+   * @return GravitinoCatalogManager
+   */
+  public static GravitinoCatalogManager create(
+      String gravitinoUri,
+      String metalakeName,
+      Map<String, String> gravitinoClientConfig,
+      Duration metadataCacheTtl,
+      long metadataCacheMaxSize,
+      boolean prefetchTables) {
     if (gravitinoCatalogManager == null) {
       gravitinoCatalogManager =
-          new GravitinoCatalogManager(gravitinoUri, metalakeName, gravitinoClientConfig);
+          new GravitinoCatalogManager(
+              gravitinoUri,
+              metalakeName,
+              gravitinoClientConfig,
+              metadataCacheTtl,
+              metadataCacheMaxSize,
+              prefetchTables);
     } else {
       Preconditions.checkState(
           checkEqual(gravitinoUri, metalakeName, gravitinoClientConfig),
@@ -215,6 +263,29 @@ public class GravitinoCatalogManager {
     return metalake.catalogExists(catalogName);
   }
 
+  /**
+   * Get the asynchronous operations of the metalake, which are used to load metadata in the
+   * background.
+   *
+   * @return The asynchronous operations of the metalake.
+   */
+  public AsyncMetalakeOperations asyncOperations() {
+    return metalake.async();
+  }
+
+  /**
+   * Whether to load all tables of a database in the background on its first listing.
+   *
+   * @return True if the tables should be prefetched.
+   */
+  public boolean prefetchTables() {
+    return prefetchTables;
+  }
+
+  CatalogMetadataCache createMetadataCache() {
+    return new CatalogMetadataCache(metadataCacheTtl, metadataCacheMaxSize);
+  }
+
   @Override
   public String toString() {
     return "GravitinoCatalogManager{"
@@ -114,6 +114,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
     Map<String, String> properties =
         FlinkGenericTableUtil.toGravitinoGenericTableProperties(resolvedTable);
 
+    invalidateTable(tablePath);
     try {
       catalog()
           .asTableCatalog()
@@ -134,6 +135,9 @@ public class GravitinoHiveCatalog extends BaseCatalog {
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      // Drop the entries a concurrent lookup cached while the table was being created.
+      invalidateTable(tablePath);
     }
   }
 
@@ -141,10 +145,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
   public CatalogBaseTable getTable(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
     try {
-      Table table =
-          catalog()
-              .asTableCatalog()
-              .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      Table table = loadGravitinoTable(tablePath);
       if (FlinkGenericTableUtil.isGenericTableWhenLoad(table.properties())) {
         return FlinkGenericTableUtil.toFlinkGenericTable(table);
       }
@@ -159,6 +160,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
   @Override
   public void alterTable(ObjectPath tablePath, CatalogBaseTable newTable, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    invalidateTable(tablePath);
     Table table = loadGravitinoTable(tablePath, ignoreIfNotExists);
     if (table == null) {
       return;
@@ -183,6 +185,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
       java.util.List<org.apache.flink.table.catalog.TableChange> tableChanges,
       boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
+    invalidateTable(tablePath);
     Table table = loadGravitinoTable(tablePath, ignoreIfNotExists);
     if (table == null) {
       return;
@@ -200,9 +203,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
   private Table loadGravitinoTable(ObjectPath tablePath, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
     try {
-      return catalog()
-          .asTableCatalog()
-          .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+      return loadGravitinoTable(tablePath);
     } catch (NoSuchTableException e) {
       if (!ignoreIfNotExists) {
         throw new TableNotExistException(catalogName(), tablePath, e);
@@ -246,6 +247,7 @@ public class GravitinoHiveCatalog extends BaseCatalog {
 
     try {
       catalog().asTableCatalog().alterTable(identifier, changes.toArray(new TableChange[0]));
+      invalidateTable(tablePath);
     } catch (NoSuchTableException e) {
       throw new TableNotExistException(catalogName(), tablePath, e);
     } catch (Exception e) {
@@ -64,10 +64,18 @@ public class GravitinoPaimonCatalog extends BaseCatalog {
   @Override
   public void dropTable(ObjectPath tablePath, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
-    boolean dropped =
-        catalog()
-            .asTableCatalog()
-            .purgeTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    invalidateTable(tablePath);
+    boolean dropped;
+    try {
+      dropped =
+          catalog()
+              .asTableCatalog()
+              .purgeTable(
+                  NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    } finally {
+      // Drop the entries a concurrent lookup cached while the table was being dropped.
+      invalidateTable(tablePath);
+    }
     if (!dropped && !ignoreIfNotExists) {
       throw new TableNotExistException(catalogName(), tablePath);
     }
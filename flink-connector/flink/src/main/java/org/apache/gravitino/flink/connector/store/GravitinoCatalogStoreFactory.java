@@ -22,6 +22,9 @@ package org.apache.gravitino.flink.connector.store;
 import static org.apache.flink.table.factories.FactoryUtil.createCatalogStoreFactoryHelper;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_CLIENT_CONFIG;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_MAX_SIZE;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_PREFETCH_TABLES;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_TTL;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METALAKE;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_URI;
 
@@ -66,7 +69,13 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
         GRAVITINO_METALAKE.key());
 
     this.catalogManager =
-        GravitinoCatalogManager.create(gravitinoUri, gravitinoName, extractClientConfig(options));
+        GravitinoCatalogManager.create(
+            gravitinoUri,
+            gravitinoName,
+            extractClientConfig(options),
+            options.get(GRAVITINO_METADATA_CACHE_TTL),
+            options.get(GRAVITINO_METADATA_CACHE_MAX_SIZE),
+            options.get(GRAVITINO_METADATA_CACHE_PREFETCH_TABLES));
   }
 
   @Override
@@ -88,7 +97,11 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
 
   @Override
   public Set<ConfigOption<?>> optionalOptions() {
-    return ImmutableSet.of(GRAVITINO_CLIENT_CONFIG);
+    return ImmutableSet.of(
+        GRAVITINO_CLIENT_CONFIG,
+        GRAVITINO_METADATA_CACHE_TTL,
+        GRAVITINO_METADATA_CACHE_MAX_SIZE,
+        GRAVITINO_METADATA_CACHE_PREFETCH_TABLES);
   }
 
   @VisibleForTesting
@@ -20,6 +20,7 @@
 package org.apache.gravitino.flink.connector.store;
 
 import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
 import java.util.Map;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
@@ -47,6 +48,27 @@ public class GravitinoCatalogStoreFactoryOptions {
           .defaultValue(ImmutableMap.of())
           .withDescription("The config of Gravitino client");
 
+  public static final ConfigOption<Duration> GRAVITINO_METADATA_CACHE_TTL =
+      ConfigOptions.key("gravitino.metadata-cache.ttl")
+          .durationType()
+          .defaultValue(Duration.ZERO)
+          .withDescription(
+              "The time to live of the catalog, database and table metadata cached by the "
+                  + "Gravitino catalogs, 0 disables the cache");
+  public static final ConfigOption<Long> GRAVITINO_METADATA_CACHE_MAX_SIZE =
+      ConfigOptions.key("gravitino.metadata-cache.max-size")
+          .longType()
+          .defaultValue(10000L)
+          .withDescription("The maximum number of tables cached by each Gravitino catalog");
+  public static final ConfigOption<Boolean> GRAVITINO_METADATA_CACHE_PREFETCH_TABLES =
+      ConfigOptions.key("gravitino.metadata-cache.prefetch-tables")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Whether to load all tables of a database in the background when the database is "
+                  + "listed for the first time, it takes effect only if the metadata cache is "
+                  + "enabled");
+
   public static final String AUTH_TYPE = "gravitino.client.auth.type";
   public static final String OAUTH2 = "oauth2";
 
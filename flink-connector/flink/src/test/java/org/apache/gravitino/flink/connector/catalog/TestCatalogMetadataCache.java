@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.catalog;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCatalogMetadataCache {
+
+  private static final NameIdentifier TABLE = NameIdentifier.of("db", "t1");
+
+  @Test
+  public void testGetTable() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader = countingLoader(loads);
+
+    Table table = cache.getTable(TABLE, loader);
+    Assertions.assertSame(table, cache.getTable(TABLE, loader));
+    Assertions.assertTrue(cache.containsTable(TABLE));
+    Assertions.assertEquals(1, loads.get());
+
+    cache.invalidateTable(TABLE);
+    Assertions.assertFalse(cache.containsTable(TABLE));
+    cache.getTable(TABLE, loader);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testMissingTableNotCached() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader =
+        identifier -> {
+          loads.incrementAndGet();
+          throw new NoSuchTableException("Table %s does not exist", identifier);
+        };
+
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.getTable(TABLE, loader));
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.getTable(TABLE, loader));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testListTables() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    AtomicInteger lists = new AtomicInteger();
+    Function<String, List<String>> loader =
+        database -> {
+          lists.incrementAndGet();
+          return ImmutableList.of("t1");
+        };
+
+    Assertions.assertEquals(ImmutableList.of("t1"), cache.listTables("db", loader));
+    cache.listTables("db", loader);
+    Assertions.assertEquals(1, lists.get());
+
+    // Creating, altering or dropping a table changes the listing of its database.
+    cache.invalidateTable(NameIdentifier.of("db", "t2"));
+    cache.listTables("db", loader);
+    Assertions.assertEquals(2, lists.get());
+  }
+
+  @Test
+  public void testInvalidateDatabase() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    AtomicInteger exists = new AtomicInteger();
+    cache.getTable(TABLE, countingLoader(new AtomicInteger()));
+    cache.getTable(NameIdentifier.of("db2", "t1"), countingLoader(new AtomicInteger()));
+    Assertions.assertTrue(cache.databaseExists("db", database -> exists.incrementAndGet() > 0));
+    Assertions.assertTrue(cache.databaseExists("db", database -> exists.incrementAndGet() > 0));
+    Assertions.assertEquals(1, exists.get());
+
+    cache.invalidateDatabase("db");
+    Assertions.assertEquals(1, cache.tableCount());
+    Assertions.assertFalse(cache.containsTable(TABLE));
+    cache.databaseExists("db", database -> exists.incrementAndGet() > 0);
+    Assertions.assertEquals(2, exists.get());
+  }
+
+  @Test
+  public void testPutTableIfAbsent() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    Table loaded = cache.getTable(TABLE, countingLoader(new AtomicInteger()));
+
+    cache.putTableIfAbsent(TABLE, Mockito.mock(Table.class), cache.generation());
+    Assertions.assertSame(loaded, cache.getTable(TABLE, countingLoader(new AtomicInteger())));
+
+    Table prefetched = Mockito.mock(Table.class);
+    NameIdentifier other = NameIdentifier.of("db", "t2");
+    cache.putTableIfAbsent(other, prefetched, cache.generation());
+    Assertions.assertSame(prefetched, cache.getTable(other, countingLoader(new AtomicInteger())));
+  }
+
+  @Test
+  public void testStalePrefetchNotCached() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ofMinutes(1), 100);
+    long generation = cache.generation();
+
+    // The table is dropped while it's being prefetched
+    cache.invalidateTable(TABLE);
+    cache.putTableIfAbsent(TABLE, Mockito.mock(Table.class), generation);
+    Assertions.assertFalse(cache.containsTable(TABLE));
+
+    Table prefetched = Mockito.mock(Table.class);
+    cache.putTableIfAbsent(TABLE, prefetched, cache.generation());
+    Assertions.assertSame(prefetched, cache.getTable(TABLE, countingLoader(new AtomicInteger())));
+  }
+
+  @Test
+  public void testCacheDisabled() {
+    CatalogMetadataCache cache = new CatalogMetadataCache(Duration.ZERO, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getTable(TABLE, countingLoader(loads));
+    cache.getTable(TABLE, countingLoader(loads));
+    cache.putTableIfAbsent(TABLE, Mockito.mock(Table.class), cache.generation());
+    Assertions.assertFalse(cache.containsTable(TABLE));
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertEquals(0, cache.tableCount());
+  }
+
+  private static Function<NameIdentifier, Table> countingLoader(AtomicInteger loads) {
+    return identifier -> {
+      loads.incrementAndGet();
+      return Mockito.mock(Table.class);
+    };
+  }
+}
@@ -196,6 +196,24 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics written to the metrics store in one batch")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_BATCH_INTERVAL_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_BATCH_INTERVAL_MS)
+          .doc(
+              "The max time in milliseconds to wait for more Iceberg metrics before writing a "
+                  + "batch to the metrics store")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -23,6 +23,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -52,6 +54,8 @@ public class IcebergMetricsManager {
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int batchSize;
+  private final long batchIntervalMs;
 
   private BlockingQueue<MetricsReportWrapper> queue;
   private Thread metricsWriterThread;
@@ -85,6 +89,8 @@ public class IcebergMetricsManager {
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
+    batchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_BATCH_SIZE);
+    batchIntervalMs = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_BATCH_INTERVAL_MS);
     metricsWriterThread = new Thread(() -> writeMetrics());
     metricsWriterThread.setName("Iceberg-metrics-writer");
     metricsWriterThread.setDaemon(true);
@@ -161,21 +167,26 @@ public class IcebergMetricsManager {
   }
 
   private void writeMetrics() {
+    List<MetricsReportWrapper> batch = new ArrayList<>(batchSize);
     while (!Thread.currentThread().isInterrupted()) {
-      MetricsReportWrapper metricsReport;
       try {
-        metricsReport = queue.take();
+        collectBatch(batch);
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
 
-      doRecordMetric(
-          metricsReport.getCatalog(),
-          metricsReport.getNamespace(),
-          metricsReport.getMetricsReport());
+      doRecordMetrics(batch);
+      batch.clear();
     }
 
+    // The metrics store is closed before the writer thread is interrupted, so the reports not
+    // written yet could only be dropped.
+    batch.forEach(
+        metricsReport ->
+            logMetrics(
+                "Drop Iceberg metrics because it's time to close metrics store.",
+                metricsReport.getMetricsReport()));
     MetricsReportWrapper metricsReport = queue.poll();
     while (metricsReport != null) {
       logMetrics(
@@ -185,6 +196,27 @@ public class IcebergMetricsManager {
     }
   }
 
+  // Blocks until one report is available, then keeps collecting until the batch is full or the
+  // batch interval elapses, so a busy queue is written in bulk while a quiet one is not delayed
+  // more than the batch interval.
+  @VisibleForTesting
+  void collectBatch(List<MetricsReportWrapper> batch) throws InterruptedException {
+    batch.add(queue.take());
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchIntervalMs);
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        break;
+      }
+      MetricsReportWrapper metricsReport = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (metricsReport == null) {
+        break;
+      }
+      batch.add(metricsReport);
+    }
+  }
+
   private IcebergMetricsStore loadIcebergMetricsStore(String metricsStoreName) {
     if (metricsStoreName == null) {
       metricsStoreName = DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME;
@@ -206,35 +238,11 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(String catalog, Namespace namespace, MetricsReport metricsReport) {
+  private void doRecordMetrics(List<MetricsReportWrapper> metricsReports) {
     try {
-      icebergMetricsStore.recordMetric(catalog, namespace, metricsReport);
+      icebergMetricsStore.recordMetrics(metricsReports);
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
-    }
-  }
-
-  private static class MetricsReportWrapper {
-    private final String catalog;
-    private final Namespace namespace;
-    private final MetricsReport metricsReport;
-
-    public MetricsReportWrapper(String catalog, Namespace namespace, MetricsReport metricsReport) {
-      this.catalog = catalog;
-      this.namespace = namespace;
-      this.metricsReport = metricsReport;
-    }
-
-    public Namespace getNamespace() {
-      return namespace;
-    }
-
-    public MetricsReport getMetricsReport() {
-      return metricsReport;
-    }
-
-    public String getCatalog() {
-      return catalog;
+      LOG.warn("Write {} Iceberg metrics failed.", metricsReports.size(), e);
     }
   }
 }
@@ -20,6 +20,7 @@ package org.apache.gravitino.iceberg.service.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.metrics.MetricsReport;
@@ -46,6 +47,22 @@ public interface IcebergMetricsStore {
   void recordMetric(String catalog, Namespace namespace, MetricsReport metricsReport)
       throws IOException;
 
+  /**
+   * Record a batch of metrics reports. The default implementation records the reports one by one,
+   * stores supporting bulk writes should override it.
+   *
+   * @param metricsReports the metrics reports to be saved
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<MetricsReportWrapper> metricsReports) throws IOException {
+    for (MetricsReportWrapper metricsReport : metricsReports) {
+      recordMetric(
+          metricsReport.getCatalog(),
+          metricsReport.getNamespace(),
+          metricsReport.getMetricsReport());
+    }
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
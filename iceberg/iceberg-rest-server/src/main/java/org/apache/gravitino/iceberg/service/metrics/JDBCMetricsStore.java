@@ -21,12 +21,20 @@ package org.apache.gravitino.iceberg.service.metrics;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergPropertiesUtils;
 import org.apache.gravitino.json.JsonUtils;
@@ -35,15 +43,21 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.jdbc.JdbcClientPool;
 import org.apache.iceberg.jdbc.UncheckedInterruptedException;
 import org.apache.iceberg.jdbc.UncheckedSQLException;
+import org.apache.iceberg.metrics.CommitMetricsResult;
 import org.apache.iceberg.metrics.CommitReport;
 import org.apache.iceberg.metrics.CounterResult;
 import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanMetricsResult;
 import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.metrics.TimerResult;
 
 public class JDBCMetricsStore implements IcebergMetricsStore {
   public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
   private static final String URI = "uri";
+  private static final String ROLLUP_ENABLED = "rollup-enabled";
+  private static final String ROLLUP_RETAIN_DAYS = "rollup-retain-days";
+  private static final String DEFAULT_ROLLUP_RETAIN_DAYS = "365";
+  private static final long HOUR_IN_MILLIS = 3_600_000L;
   private static final String INSERT_COMMIT_REPORT_METRICS_SQL =
       "INSERT INTO commit_metrics_report ("
           + "timestamp, namespace, table_name, snapshot_id, sequence_number, operation,"
@@ -99,7 +113,60 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
   private static final String DELETE_EXPIRED_COMMIT_METRICS_SQL =
       "DELETE FROM commit_metrics_report WHERE timestamp < ?;";
 
+  // The rollups are upserted by an UPDATE followed by an INSERT if no row is updated, which works
+  // on H2, MySQL and PostgreSQL alike.
+  private static final String UPDATE_COMMIT_ROLLUP_SQL =
+      "UPDATE commit_metrics_rollup_hourly SET "
+          + "commit_count = commit_count + ?, "
+          + "added_data_files = added_data_files + ?, "
+          + "removed_data_files = removed_data_files + ?, "
+          + "added_delete_files = added_delete_files + ?, "
+          + "removed_delete_files = removed_delete_files + ?, "
+          + "added_records = added_records + ?, "
+          + "removed_records = removed_records + ?, "
+          + "added_files_size_in_bytes = added_files_size_in_bytes + ?, "
+          + "removed_files_size_in_bytes = removed_files_size_in_bytes + ?, "
+          + "total_duration_ms = total_duration_ms + ?, "
+          + "attempts = attempts + ? "
+          + "WHERE hour_timestamp = ? AND namespace = ? AND table_name = ?;";
+
+  private static final String INSERT_COMMIT_ROLLUP_SQL =
+      "INSERT INTO commit_metrics_rollup_hourly ("
+          + "commit_count, added_data_files, removed_data_files, "
+          + "added_delete_files, removed_delete_files, added_records, removed_records, "
+          + "added_files_size_in_bytes, removed_files_size_in_bytes, total_duration_ms, attempts, "
+          + "hour_timestamp, namespace, table_name"
+          + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
+
+  private static final String UPDATE_SCAN_ROLLUP_SQL =
+      "UPDATE scan_metrics_rollup_hourly SET "
+          + "scan_count = scan_count + ?, "
+          + "result_data_files = result_data_files + ?, "
+          + "result_delete_files = result_delete_files + ?, "
+          + "scanned_data_manifests = scanned_data_manifests + ?, "
+          + "skipped_data_manifests = skipped_data_manifests + ?, "
+          + "skipped_data_files = skipped_data_files + ?, "
+          + "total_file_size_in_bytes = total_file_size_in_bytes + ?, "
+          + "total_planning_duration_ms = total_planning_duration_ms + ? "
+          + "WHERE hour_timestamp = ? AND namespace = ? AND table_name = ?;";
+
+  private static final String INSERT_SCAN_ROLLUP_SQL =
+      "INSERT INTO scan_metrics_rollup_hourly ("
+          + "scan_count, result_data_files, result_delete_files, "
+          + "scanned_data_manifests, skipped_data_manifests, skipped_data_files, "
+          + "total_file_size_in_bytes, total_planning_duration_ms, "
+          + "hour_timestamp, namespace, table_name"
+          + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
+
+  private static final String DELETE_EXPIRED_COMMIT_ROLLUP_SQL =
+      "DELETE FROM commit_metrics_rollup_hourly WHERE hour_timestamp < ?;";
+
+  private static final String DELETE_EXPIRED_SCAN_ROLLUP_SQL =
+      "DELETE FROM scan_metrics_rollup_hourly WHERE hour_timestamp < ?;";
+
   @VisibleForTesting JdbcClientPool connections;
+  private boolean rollupEnabled;
+  private long rollupRetainDays;
 
   @Override
   public void init(Map<String, String> properties) throws IOException {
@@ -108,25 +175,32 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
   }
 
   private void checkMetricsReportTableExists() {
+    List<String> tables = new ArrayList<>();
+    tables.add("commit_metrics_report");
+    tables.add("scan_metrics_report");
+    if (rollupEnabled) {
+      tables.add("commit_metrics_rollup_hourly");
+      tables.add("scan_metrics_rollup_hourly");
+    }
+
     try {
       Preconditions.checkArgument(
           connections.run(
               conn -> {
                 DatabaseMetaData dbMeta = conn.getMetaData();
-                ResultSet commitReportTableExists =
-                    dbMeta.getTables(
-                        null /* catalog name */,
-                        null /* schemaPattern */,
-                        "commit_metrics_report" /* tableNamePattern */,
-                        null /* types */);
-                ResultSet scanReportTableExists =
-                    dbMeta.getTables(
-                        null /* catalog name */,
-                        null /* schemaPattern */,
-                        "scan_metrics_report" /* tableNamePattern */,
-                        null /* types */);
-
-                return commitReportTableExists.next() && scanReportTableExists.next();
+                for (String table : tables) {
+                  try (ResultSet tableExists =
+                      dbMeta.getTables(
+                          null /* catalog name */,
+                          null /* schemaPattern */,
+                          table /* tableNamePattern */,
+                          null /* types */)) {
+                    if (!tableExists.next()) {
+                      return false;
+                    }
+                  }
+                }
+                return true;
               }),
           "JDBC metrics store tables do not exist. You should use the sql scripts under directory `scripts` to initialize the database");
     } catch (SQLException | InterruptedException exception) {
@@ -139,6 +213,9 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
     Map<String, String> actualProps = MapUtils.getPrefixMap(properties, "jdbc-metrics.");
     String uri = actualProps.get(URI);
     Preconditions.checkArgument(uri != null, "JDBC metrics store requires a \"%s\" property", URI);
+    rollupEnabled = Boolean.parseBoolean(actualProps.getOrDefault(ROLLUP_ENABLED, "false"));
+    rollupRetainDays =
+        Long.parseLong(actualProps.getOrDefault(ROLLUP_RETAIN_DAYS, DEFAULT_ROLLUP_RETAIN_DAYS));
 
     connections =
         new JdbcClientPool(uri, IcebergPropertiesUtils.toIcebergCatalogProperties(actualProps));
@@ -147,83 +224,290 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
   @Override
   public void recordMetric(String catalog, Namespace namespace, MetricsReport metricsReport)
       throws IOException {
-    if (metricsReport instanceof CommitReport) {
-      CommitReport commitReport = (CommitReport) metricsReport;
-      execute(
-          INSERT_COMMIT_REPORT_METRICS_SQL,
-          Instant.now().toEpochMilli(),
-          String.format("%s.%s", catalog, namespace.toString()),
-          commitReport.tableName(),
-          commitReport.snapshotId(),
-          commitReport.sequenceNumber(),
-          commitReport.operation(),
-          getCounterResult(commitReport.commitMetrics().addedDataFiles()),
-          getCounterResult(commitReport.commitMetrics().removedDataFiles()),
-          getCounterResult(commitReport.commitMetrics().totalDataFiles()),
-          getCounterResult(commitReport.commitMetrics().addedDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedPositionalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedPositionalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().totalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedRecords()),
-          getCounterResult(commitReport.commitMetrics().removedRecords()),
-          getCounterResult(commitReport.commitMetrics().totalRecords()),
-          getCounterResult(commitReport.commitMetrics().addedFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().removedFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().totalFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().addedPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().removedPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().totalPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().totalEqualityDeletes()),
-          getCounterResult(commitReport.commitMetrics().manifestsCreated()),
-          getCounterResult(commitReport.commitMetrics().manifestsReplaced()),
-          getCounterResult(commitReport.commitMetrics().manifestsKept()),
-          getCounterResult(commitReport.commitMetrics().manifestEntriesProcessed()),
-          getCounterResult(commitReport.commitMetrics().addedDVs()),
-          getCounterResult(commitReport.commitMetrics().removedDVs()),
-          getTimerResult(commitReport.commitMetrics().totalDuration()),
-          getCounterResult(commitReport.commitMetrics().attempts()),
-          JsonUtils.objectMapper().writeValueAsString(commitReport.metadata()));
-    } else if (metricsReport instanceof ScanReport) {
-      ScanReport scanReport = (ScanReport) metricsReport;
-      execute(
-          INSERT_SCAN_REPORT_METRICS_SQL,
-          Instant.now().toEpochMilli(),
-          String.format("%s.%s", catalog, namespace.toString()),
-          scanReport.tableName(),
-          scanReport.snapshotId(),
-          scanReport.schemaId(),
-          scanReport.filter().toString(),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.metadata()),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldIds()),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldNames().toString()),
-          getCounterResult(scanReport.scanMetrics().equalityDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().indexedDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().positionalDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().resultDataFiles()),
-          getCounterResult(scanReport.scanMetrics().resultDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().scannedDataManifests()),
-          getCounterResult(scanReport.scanMetrics().scannedDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().skippedDataFiles()),
-          getCounterResult(scanReport.scanMetrics().skippedDataManifests()),
-          getCounterResult(scanReport.scanMetrics().skippedDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().skippedDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().totalDataManifests()),
-          getCounterResult(scanReport.scanMetrics().totalDeleteFileSizeInBytes()),
-          getCounterResult(scanReport.scanMetrics().totalDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().totalFileSizeInBytes()),
-          getTimerResult(scanReport.scanMetrics().totalPlanningDuration()));
+    recordMetrics(
+        Collections.singletonList(new MetricsReportWrapper(catalog, namespace, metricsReport)));
+  }
+
+  @Override
+  public void recordMetrics(List<MetricsReportWrapper> metricsReports) throws IOException {
+    long timestamp = Instant.now().toEpochMilli();
+    List<Object[]> commitRows = new ArrayList<>();
+    List<Object[]> scanRows = new ArrayList<>();
+    Map<RollupKey, long[]> commitRollups = new LinkedHashMap<>();
+    Map<RollupKey, long[]> scanRollups = new LinkedHashMap<>();
+    for (MetricsReportWrapper wrapper : metricsReports) {
+      String namespace =
+          String.format("%s.%s", wrapper.getCatalog(), wrapper.getNamespace().toString());
+      MetricsReport metricsReport = wrapper.getMetricsReport();
+      if (metricsReport instanceof CommitReport) {
+        CommitReport commitReport = (CommitReport) metricsReport;
+        commitRows.add(commitReportArgs(timestamp, namespace, commitReport));
+        if (rollupEnabled) {
+          accumulate(
+              commitRollups,
+              new RollupKey(timestamp, namespace, commitReport.tableName()),
+              commitRollupValues(commitReport));
+        }
+      } else if (metricsReport instanceof ScanReport) {
+        ScanReport scanReport = (ScanReport) metricsReport;
+        scanRows.add(scanReportArgs(timestamp, namespace, scanReport));
+        if (rollupEnabled) {
+          accumulate(
+              scanRollups,
+              new RollupKey(timestamp, namespace, scanReport.tableName()),
+              scanRollupValues(scanReport));
+        }
+      }
     }
+
+    if (commitRows.isEmpty() && scanRows.isEmpty()) {
+      return;
+    }
+
+    try {
+      connections.run(
+          conn -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+              executeBatch(conn, INSERT_COMMIT_REPORT_METRICS_SQL, commitRows);
+              executeBatch(conn, INSERT_SCAN_REPORT_METRICS_SQL, scanRows);
+              for (Map.Entry<RollupKey, long[]> entry : commitRollups.entrySet()) {
+                upsertRollup(
+                    conn,
+                    UPDATE_COMMIT_ROLLUP_SQL,
+                    INSERT_COMMIT_ROLLUP_SQL,
+                    entry.getKey(),
+                    entry.getValue());
+              }
+              for (Map.Entry<RollupKey, long[]> entry : scanRollups.entrySet()) {
+                upsertRollup(
+                    conn,
+                    UPDATE_SCAN_ROLLUP_SQL,
+                    INSERT_SCAN_ROLLUP_SQL,
+                    entry.getKey(),
+                    entry.getValue());
+              }
+              conn.commit();
+            } catch (SQLException e) {
+              conn.rollback();
+              throw e;
+            } finally {
+              conn.setAutoCommit(autoCommit);
+            }
+            return null;
+          });
+    } catch (SQLException e) {
+      throw new UncheckedSQLException(e, "Failed to record %d metrics", metricsReports.size());
+    } catch (InterruptedException e) {
+      throw new UncheckedInterruptedException(e, "Interrupted in SQL command");
+    }
+  }
+
+  private static Object[] commitReportArgs(
+      long timestamp, String namespace, CommitReport commitReport) throws IOException {
+    return new Object[] {
+      timestamp,
+      namespace,
+      commitReport.tableName(),
+      commitReport.snapshotId(),
+      commitReport.sequenceNumber(),
+      commitReport.operation(),
+      getCounterResult(commitReport.commitMetrics().addedDataFiles()),
+      getCounterResult(commitReport.commitMetrics().removedDataFiles()),
+      getCounterResult(commitReport.commitMetrics().totalDataFiles()),
+      getCounterResult(commitReport.commitMetrics().addedDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedPositionalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedPositionalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().totalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedRecords()),
+      getCounterResult(commitReport.commitMetrics().removedRecords()),
+      getCounterResult(commitReport.commitMetrics().totalRecords()),
+      getCounterResult(commitReport.commitMetrics().addedFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().removedFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().totalFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().addedPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().removedPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().totalPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().totalEqualityDeletes()),
+      getCounterResult(commitReport.commitMetrics().manifestsCreated()),
+      getCounterResult(commitReport.commitMetrics().manifestsReplaced()),
+      getCounterResult(commitReport.commitMetrics().manifestsKept()),
+      getCounterResult(commitReport.commitMetrics().manifestEntriesProcessed()),
+      getCounterResult(commitReport.commitMetrics().addedDVs()),
+      getCounterResult(commitReport.commitMetrics().removedDVs()),
+      getTimerResult(commitReport.commitMetrics().totalDuration()),
+      getCounterResult(commitReport.commitMetrics().attempts()),
+      toJson(commitReport.metadata())
+    };
+  }
+
+  private static Object[] scanReportArgs(long timestamp, String namespace, ScanReport scanReport)
+      throws IOException {
+    return new Object[] {
+      timestamp,
+      namespace,
+      scanReport.tableName(),
+      scanReport.snapshotId(),
+      scanReport.schemaId(),
+      scanReport.filter().toString(),
+      toJson(scanReport.metadata()),
+      JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldIds()),
+      JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldNames().toString()),
+      getCounterResult(scanReport.scanMetrics().equalityDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().indexedDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().positionalDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().resultDataFiles()),
+      getCounterResult(scanReport.scanMetrics().resultDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().scannedDataManifests()),
+      getCounterResult(scanReport.scanMetrics().scannedDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().skippedDataFiles()),
+      getCounterResult(scanReport.scanMetrics().skippedDataManifests()),
+      getCounterResult(scanReport.scanMetrics().skippedDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().skippedDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().totalDataManifests()),
+      getCounterResult(scanReport.scanMetrics().totalDeleteFileSizeInBytes()),
+      getCounterResult(scanReport.scanMetrics().totalDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().totalFileSizeInBytes()),
+      getTimerResult(scanReport.scanMetrics().totalPlanningDuration())
+    };
+  }
+
+  private static long[] commitRollupValues(CommitReport commitReport) {
+    CommitMetricsResult metrics = commitReport.commitMetrics();
+    return new long[] {
+      1L,
+      getCounterResult(metrics.addedDataFiles()),
+      getCounterResult(metrics.removedDataFiles()),
+      getCounterResult(metrics.addedDeleteFiles()),
+      getCounterResult(metrics.removedDeleteFiles()),
+      getCounterResult(metrics.addedRecords()),
+      getCounterResult(metrics.removedRecords()),
+      getCounterResult(metrics.addedFilesSizeInBytes()),
+      getCounterResult(metrics.removedFilesSizeInBytes()),
+      getTimerMillis(metrics.totalDuration()),
+      getCounterResult(metrics.attempts())
+    };
+  }
+
+  private static long[] scanRollupValues(ScanReport scanReport) {
+    ScanMetricsResult metrics = scanReport.scanMetrics();
+    return new long[] {
+      1L,
+      getCounterResult(metrics.resultDataFiles()),
+      getCounterResult(metrics.resultDeleteFiles()),
+      getCounterResult(metrics.scannedDataManifests()),
+      getCounterResult(metrics.skippedDataManifests()),
+      getCounterResult(metrics.skippedDataFiles()),
+      getCounterResult(metrics.totalFileSizeInBytes()),
+      getTimerMillis(metrics.totalPlanningDuration())
+    };
+  }
+
+  private static void accumulate(Map<RollupKey, long[]> rollups, RollupKey key, long[] values) {
+    long[] sums = rollups.get(key);
+    if (sums == null) {
+      rollups.put(key, values);
+      return;
+    }
+    for (int i = 0; i < sums.length; i++) {
+      sums[i] += values[i];
+    }
+  }
+
+  private static void executeBatch(Connection conn, String sql, List<Object[]> rows)
+      throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+      for (Object[] row : rows) {
+        bind(preparedStatement, row);
+        preparedStatement.addBatch();
+      }
+      preparedStatement.executeBatch();
+    }
+  }
+
+  private static void upsertRollup(
+      Connection conn, String updateSql, String insertSql, RollupKey key, long[] values)
+      throws SQLException {
+    Object[] args = rollupArgs(key, values);
+    if (executeUpdate(conn, updateSql, args) > 0) {
+      return;
+    }
+    // The insert runs in a savepoint, a failed statement aborts the whole transaction on some
+    // databases, e.g. PostgreSQL, unless it's rolled back to a savepoint.
+    Savepoint savepoint = conn.setSavepoint();
+    try {
+      executeUpdate(conn, insertSql, args);
+      conn.releaseSavepoint(savepoint);
+    } catch (SQLException e) {
+      // Another writer inserted the row concurrently, the unique key rejected this insert.
+      conn.rollback(savepoint);
+      if (executeUpdate(conn, updateSql, args) == 0) {
+        throw e;
+      }
+    }
+  }
+
+  private static Object[] rollupArgs(RollupKey key, long[] values) {
+    Object[] args = new Object[values.length + 3];
+    for (int i = 0; i < values.length; i++) {
+      args[i] = values[i];
+    }
+    args[values.length] = key.hourTimestamp;
+    args[values.length + 1] = key.namespace;
+    args[values.length + 2] = key.tableName;
+    return args;
+  }
+
+  private static int executeUpdate(Connection conn, String sql, Object[] args)
+      throws SQLException {
+    try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+      bind(preparedStatement, args);
+      return preparedStatement.executeUpdate();
+    }
+  }
+
+  private static void bind(PreparedStatement preparedStatement, Object[] args)
+      throws SQLException {
+    for (int pos = 0; pos < args.length; pos += 1) {
+      if (args[pos] instanceof Long) {
+        preparedStatement.setLong(pos + 1, (Long) args[pos]);
+      } else if (args[pos] instanceof String) {
+        preparedStatement.setString(pos + 1, (String) args[pos]);
+      } else if (args[pos] instanceof Integer) {
+        preparedStatement.setInt(pos + 1, (Integer) args[pos]);
+      } else {
+        throw new IllegalArgumentException("Unsupported argument type: " + args[pos].getClass());
+      }
+    }
+  }
+
+  private static String toJson(Map<String, String> metadata) throws IOException {
+    return metadata.isEmpty() ? "{}" : JsonUtils.objectMapper().writeValueAsString(metadata);
   }
 
   @Override
   public void clean(Instant expireTime) throws IOException {
     execute(DELETE_EXPIRED_SCAN_METRICS_SQL, expireTime.toEpochMilli());
     execute(DELETE_EXPIRED_COMMIT_METRICS_SQL, expireTime.toEpochMilli());
+    // The rollups are much smaller than the raw metrics, so they have their own retention, which
+    // is never shorter than the raw metrics' one.
+    if (rollupEnabled && rollupRetainDays > 0) {
+      Instant rollupExpireTime = Instant.now().minus(Duration.ofDays(rollupRetainDays));
+      if (rollupExpireTime.isAfter(expireTime)) {
+        rollupExpireTime = expireTime;
+      }
+      execute(DELETE_EXPIRED_SCAN_ROLLUP_SQL, rollupExpireTime.toEpochMilli());
+      execute(DELETE_EXPIRED_COMMIT_ROLLUP_SQL, rollupExpireTime.toEpochMilli());
+    }
   }
 
   @Override
@@ -243,6 +527,10 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
     return result != null ? result.count() : 0L;
   }
 
+  private static long getTimerMillis(TimerResult result) {
+    return result != null ? result.totalDuration().toMillis() : 0L;
+  }
+
   @VisibleForTesting
   int execute(String sql, Object... args) {
     return execute(err -> {}, sql, args);
@@ -253,19 +541,7 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
       return connections.run(
           conn -> {
             try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-              for (int pos = 0; pos < args.length; pos += 1) {
-                if (args[pos] instanceof Long) {
-                  preparedStatement.setLong(pos + 1, (Long) args[pos]);
-                } else if (args[pos] instanceof String) {
-                  preparedStatement.setString(pos + 1, (String) args[pos]);
-                } else if (args[pos] instanceof Integer) {
-                  preparedStatement.setInt(pos + 1, (Integer) args[pos]);
-                } else {
-                  throw new IllegalArgumentException(
-                      "Unsupported argument type: " + args[pos].getClass());
-                }
-              }
-
+              bind(preparedStatement, args);
               return preparedStatement.executeUpdate();
             }
           });
@@ -276,4 +552,35 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
       throw new UncheckedInterruptedException(e, "Interrupted in SQL command");
     }
   }
+
+  private static class RollupKey {
+    private final long hourTimestamp;
+    private final String namespace;
+    private final String tableName;
+
+    RollupKey(long timestamp, String namespace, String tableName) {
+      this.hourTimestamp = timestamp - timestamp % HOUR_IN_MILLIS;
+      this.namespace = namespace;
+      this.tableName = tableName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RollupKey)) {
+        return false;
+      }
+      RollupKey that = (RollupKey) o;
+      return hourTimestamp == that.hourTimestamp
+          && namespace.equals(that.namespace)
+          && tableName.equals(that.tableName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(hourTimestamp, namespace, tableName);
+    }
+  }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.metrics.MetricsReport;
+
+/** An Iceberg metrics report together with the catalog and namespace it is reported for. */
+public class MetricsReportWrapper {
+  private final String catalog;
+  private final Namespace namespace;
+  private final MetricsReport metricsReport;
+
+  public MetricsReportWrapper(String catalog, Namespace namespace, MetricsReport metricsReport) {
+    this.catalog = catalog;
+    this.namespace = namespace;
+    this.metricsReport = metricsReport;
+  }
+
+  public Namespace getNamespace() {
+    return namespace;
+  }
+
+  public MetricsReport getMetricsReport() {
+    return metricsReport;
+  }
+
+  public String getCatalog() {
+    return catalog;
+  }
+}
@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -147,4 +149,35 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testCollectBatch() throws InterruptedException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_BATCH_SIZE,
+            "2",
+            IcebergConstants.ICEBERG_METRICS_BATCH_INTERVAL_MS,
+            "10");
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    // Don't start the manager so the test drains the queue itself
+
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertTrue(
+          icebergMetricsManager.recordMetric("a", Namespace.of("a"), createMetricsReport()));
+    }
+
+    // The batch is capped by the batch size
+    List<MetricsReportWrapper> batch = new ArrayList<>();
+    icebergMetricsManager.collectBatch(batch);
+    Assertions.assertEquals(2, batch.size());
+
+    // A partial batch is returned once the batch interval elapses
+    batch.clear();
+    icebergMetricsManager.collectBatch(batch);
+    Assertions.assertEquals(1, batch.size());
+    Assertions.assertEquals("a", batch.get(0).getCatalog());
+
+    icebergMetricsManager.close();
+  }
 }
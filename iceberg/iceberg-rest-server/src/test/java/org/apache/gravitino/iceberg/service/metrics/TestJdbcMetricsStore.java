@@ -56,7 +56,7 @@ import org.junit.jupiter.api.Test;
 @Tag("gravitino-docker-test")
 public class TestJdbcMetricsStore {
 
-  private static final String CURRENT_SCRIPT_VERSION = "1.1.0";
+  private static final String CURRENT_SCRIPT_VERSION = "1.2.0";
   private static final Map<String, Map<String, String>> dbProperties = Maps.newHashMap();
 
   @BeforeAll
@@ -156,7 +156,9 @@ public class TestJdbcMetricsStore {
 
     for (Map.Entry<String, Map<String, String>> entry : dbProperties.entrySet()) {
       JDBCMetricsStore metricsStore = new JDBCMetricsStore();
-      metricsStore.initProperties(entry.getValue());
+      Map<String, String> properties = Maps.newHashMap(entry.getValue());
+      properties.put("jdbc-metrics.rollup-enabled", "true");
+      metricsStore.initProperties(properties);
 
       String gravitinoHome = System.getenv("GRAVITINO_ROOT_DIR");
       String mysqlContent =
@@ -193,12 +195,46 @@ public class TestJdbcMetricsStore {
       String selectScanReportSql = "SELECT * FROM scan_metrics_report";
       metricsStore.connections.run(validateScanReport(selectScanReportSql, scanReport));
 
-      metricsStore.clean(Instant.now());
+      // Write a batch, the rollups of the same table are aggregated
+      metricsStore.recordMetrics(
+          Arrays.asList(
+              new MetricsReportWrapper("a", Namespace.of("a"), commitReport),
+              new MetricsReportWrapper("a", Namespace.of("a"), commitReport),
+              new MetricsReportWrapper("a", Namespace.of("b"), scanReport)));
+      count = metricsStore.connections.run(getTotal(countSql));
+      Assertions.assertEquals(3, count);
+      count = metricsStore.connections.run(getTotal(countSql2));
+      Assertions.assertEquals(2, count);
+
+      String commitRollupSql =
+          "SELECT SUM(commit_count) AS total FROM commit_metrics_rollup_hourly "
+              + "WHERE namespace = 'a.a' AND table_name = 'tableName'";
+      count = metricsStore.connections.run(getTotal(commitRollupSql));
+      Assertions.assertEquals(3, count);
+      String commitAttemptsRollupSql =
+          "SELECT SUM(attempts) AS total FROM commit_metrics_rollup_hourly";
+      count = metricsStore.connections.run(getTotal(commitAttemptsRollupSql));
+      Assertions.assertEquals(12, count);
+      String scanRollupSql =
+          "SELECT SUM(scan_count) AS total FROM scan_metrics_rollup_hourly "
+              + "WHERE namespace = 'a.b' AND table_name = 'tableName'";
+      count = metricsStore.connections.run(getTotal(scanRollupSql));
+      Assertions.assertEquals(2, count);
+      String scanResultFilesRollupSql =
+          "SELECT SUM(result_data_files) AS total FROM scan_metrics_rollup_hourly";
+      count = metricsStore.connections.run(getTotal(scanResultFilesRollupSql));
+      Assertions.assertEquals(10, count);
+
+      metricsStore.clean(Instant.now().plusSeconds(3600));
 
       count = metricsStore.connections.run(getTotal(countSql));
       Assertions.assertEquals(0, count);
       count = metricsStore.connections.run(getTotal(countSql2));
       Assertions.assertEquals(0, count);
+      // The rollups are kept by their own, longer retention.
+      String rollupCountSql = "SELECT COUNT(*) AS total FROM commit_metrics_rollup_hourly";
+      count = metricsStore.connections.run(getTotal(rollupCountSql));
+      Assertions.assertTrue(count > 0);
 
       metricsStore.close();
     }
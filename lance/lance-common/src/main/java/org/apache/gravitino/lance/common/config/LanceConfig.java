@@ -33,6 +33,10 @@ public class LanceConfig extends Config implements OverwriteDefaultConfig {
   public static final String CONFIG_NAMESPACE_BACKEND = "namespace-backend";
   public static final String CONFIG_METALAKE = "metalake";
   public static final String CONFIG_URI = "uri";
+  public static final String CONFIG_METADATA_CACHE_TTL_SECONDS = "metadata-cache-ttl-seconds";
+  public static final String CONFIG_METADATA_CACHE_MAX_SIZE = "metadata-cache-max-size";
+  public static final String CONFIG_ARROW_STREAM_MAX_ALLOCATION_BYTES =
+      "arrow-stream-max-allocation-bytes";
 
   public static final int DEFAULT_LANCE_REST_SERVICE_HTTP_PORT = 9101;
   public static final int DEFAULT_LANCE_REST_SERVICE_HTTPS_PORT = 9533;
@@ -60,6 +64,33 @@ public class LanceConfig extends Config implements OverwriteDefaultConfig {
           .stringConf()
           .createWithDefault(GRAVITINO_URI);
 
+  public static final ConfigEntry<Long> ARROW_STREAM_MAX_ALLOCATION_BYTES =
+      new ConfigBuilder(CONFIG_ARROW_STREAM_MAX_ALLOCATION_BYTES)
+          .doc(
+              "The max bytes of Arrow buffers held while reading the Arrow IPC stream of a create "
+                  + "table request, a record batch larger than it is rejected")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024L * 1024 * 1024);
+
+  public static final ConfigEntry<Long> METADATA_CACHE_TTL_SECONDS =
+      new ConfigBuilder(CONFIG_METADATA_CACHE_TTL_SECONDS)
+          .doc(
+              "The seconds to cache the catalogs and tables loaded from the namespace backend, "
+                  + "the value not greater than 0 means the cache is disabled")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Long> METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder(CONFIG_METADATA_CACHE_MAX_SIZE)
+          .doc("The max number of catalogs and of tables in the metadata cache")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
   public LanceConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, key -> true);
@@ -81,6 +112,10 @@ public class LanceConfig extends Config implements OverwriteDefaultConfig {
     return get(METALAKE_NAME);
   }
 
+  public long getArrowStreamMaxAllocationBytes() {
+    return get(ARROW_STREAM_MAX_ALLOCATION_BYTES);
+  }
+
   @Override
   public Map<String, String> getOverwriteDefaultConfig() {
     return ImmutableMap.of(
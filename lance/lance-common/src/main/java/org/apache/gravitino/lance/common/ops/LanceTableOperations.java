@@ -28,6 +28,7 @@ import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.gravitino.lance.common.utils.ArrowIpcStream;
 
 public interface LanceTableOperations {
 
@@ -49,7 +50,7 @@ public interface LanceTableOperations {
    * @param delimiter the delimiter used in the namespace
    * @param tableLocation the location where the table data will be stored
    * @param tableProperties the properties of the table
-   * @param arrowStreamBody the arrow stream bytes containing the schema and data
+   * @param arrowStream the arrow stream containing the schema and data, null for an empty table
    * @return the response of the create table operation
    */
   CreateTableResponse createTable(
@@ -58,7 +59,7 @@ public interface LanceTableOperations {
       String delimiter,
       String tableLocation,
       Map<String, String> tableProperties,
-      byte[] arrowStreamBody);
+      ArrowIpcStream arrowStream);
 
   /**
    * Create an new table without schema.
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * A bounded, TTL based cache of the validated lakehouse catalogs and the loaded tables used by the
+ * Gravitino Lance namespace backend. It saves the round trips to Gravitino server for the hot
+ * describe and exists calls. The entries are invalidated by the create, drop and alter calls made
+ * through the Lance REST service, changes made by other clients are visible after the TTL.
+ */
+public class GravitinoLanceMetadataCache {
+
+  private final Optional<Cache<String, Catalog>> catalogCache;
+  // The key is the identifier of the table with the catalog name as the first namespace level.
+  private final Optional<Cache<NameIdentifier, Table>> tableCache;
+  // Bumped by every invalidation, a load that races with an invalidation doesn't populate the
+  // cache, so it can't re-insert the metadata that the DDL just changed.
+  private final AtomicLong version = new AtomicLong();
+
+  public GravitinoLanceMetadataCache(long ttlSeconds, long maxSize) {
+    if (ttlSeconds > 0 && maxSize > 0) {
+      this.catalogCache = Optional.of(newCache(ttlSeconds, maxSize));
+      this.tableCache = Optional.of(newCache(ttlSeconds, maxSize));
+    } else {
+      this.catalogCache = Optional.empty();
+      this.tableCache = Optional.empty();
+    }
+  }
+
+  public boolean isEnabled() {
+    return catalogCache.isPresent();
+  }
+
+  /**
+   * Gets the catalog from the cache, or loads it with the loader and caches it. The loader is
+   * expected to validate the catalog and throw an exception for an invalid one, so that only valid
+   * catalogs are cached.
+   *
+   * @param catalogName the catalog name
+   * @param loader the function to load and validate the catalog
+   * @return the catalog
+   */
+  public Catalog getCatalog(String catalogName, Function<String, Catalog> loader) {
+    if (!catalogCache.isPresent()) {
+      return loader.apply(catalogName);
+    }
+
+    Catalog catalog = catalogCache.get().getIfPresent(catalogName);
+    if (catalog == null) {
+      long loadVersion = version.get();
+      catalog = loader.apply(catalogName);
+      if (loadVersion == version.get()) {
+        catalogCache.get().put(catalogName, catalog);
+      }
+    }
+    return catalog;
+  }
+
+  /**
+   * Gets the table from the cache, or loads it with the loader and caches it.
+   *
+   * @param catalogName the catalog name
+   * @param tableIdent the identifier of the table in the catalog
+   * @param loader the supplier to load the table
+   * @return the table
+   */
+  public Table getTable(String catalogName, NameIdentifier tableIdent, Supplier<Table> loader) {
+    if (!tableCache.isPresent()) {
+      return loader.get();
+    }
+
+    NameIdentifier key = tableKey(catalogName, tableIdent);
+    Table table = tableCache.get().getIfPresent(key);
+    if (table == null) {
+      long loadVersion = version.get();
+      table = loader.get();
+      if (loadVersion == version.get()) {
+        tableCache.get().put(key, table);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Gets the table only if it's cached.
+   *
+   * @param catalogName the catalog name
+   * @param tableIdent the identifier of the table in the catalog
+   * @return the cached table, or empty if it's not cached
+   */
+  public Optional<Table> getTableIfPresent(String catalogName, NameIdentifier tableIdent) {
+    return tableCache.map(cache -> cache.getIfPresent(tableKey(catalogName, tableIdent)));
+  }
+
+  public void invalidateTable(String catalogName, NameIdentifier tableIdent) {
+    version.incrementAndGet();
+    tableCache.ifPresent(cache -> cache.invalidate(tableKey(catalogName, tableIdent)));
+  }
+
+  public void invalidateSchema(String catalogName, String schemaName) {
+    version.incrementAndGet();
+    tableCache.ifPresent(
+        cache ->
+            cache
+                .asMap()
+                .keySet()
+                .removeIf(
+                    key ->
+                        key.namespace().level(0).equals(catalogName)
+                            && key.namespace().level(1).equals(schemaName)));
+  }
+
+  public void invalidateCatalog(String catalogName) {
+    version.incrementAndGet();
+    catalogCache.ifPresent(cache -> cache.invalidate(catalogName));
+    tableCache.ifPresent(
+        cache ->
+            cache.asMap().keySet().removeIf(key -> key.namespace().level(0).equals(catalogName)));
+  }
+
+  public void invalidateAll() {
+    version.incrementAndGet();
+    catalogCache.ifPresent(Cache::invalidateAll);
+    tableCache.ifPresent(Cache::invalidateAll);
+  }
+
+  @VisibleForTesting
+  long size() {
+    return catalogCache.map(Cache::size).orElse(0L) + tableCache.map(Cache::size).orElse(0L);
+  }
+
+  private static NameIdentifier tableKey(String catalogName, NameIdentifier tableIdent) {
+    return NameIdentifier.of(catalogName, tableIdent.namespace().level(0), tableIdent.name());
+  }
+
+  private static <K, V> Cache<K, V> newCache(long ttlSeconds, long maxSize) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
+}
@@ -259,7 +259,12 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
                 CatalogChange::setProperty,
                 CatalogChange::removeProperty,
                 CatalogChange[]::new);
-        Catalog alteredCatalog = client.alterCatalog(catalogName, changes);
+        Catalog alteredCatalog;
+        try {
+          alteredCatalog = client.alterCatalog(catalogName, changes);
+        } finally {
+          namespaceWrapper.metadataCache().invalidateCatalog(catalogName);
+        }
         Optional.ofNullable(alteredCatalog.properties()).ifPresent(response::setProperties);
         return response;
       default:
@@ -325,8 +330,13 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
       DropNamespaceRequest.ModeEnum mode,
       DropNamespaceRequest.BehaviorEnum behavior) {
     try {
-      boolean dropped =
-          client.dropCatalog(catalogName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
+      boolean dropped;
+      try {
+        dropped =
+            client.dropCatalog(catalogName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
+      } finally {
+        namespaceWrapper.metadataCache().invalidateCatalog(catalogName);
+      }
       if (dropped) {
         return new DropNamespaceResponse();
       } else {
@@ -361,11 +371,16 @@ public class GravitinoLanceNameSpaceOperations implements LanceNamespaceOperatio
       DropNamespaceRequest.ModeEnum mode,
       DropNamespaceRequest.BehaviorEnum behavior) {
     try {
-      boolean dropped =
-          client
-              .loadCatalog(catalogName)
-              .asSchemas()
-              .dropSchema(schemaName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
+      boolean dropped;
+      try {
+        dropped =
+            client
+                .loadCatalog(catalogName)
+                .asSchemas()
+                .dropSchema(schemaName, behavior == DropNamespaceRequest.BehaviorEnum.CASCADE);
+      } finally {
+        namespaceWrapper.metadataCache().invalidateSchema(catalogName, schemaName);
+      }
       if (dropped) {
         return new DropNamespaceResponse();
       } else {
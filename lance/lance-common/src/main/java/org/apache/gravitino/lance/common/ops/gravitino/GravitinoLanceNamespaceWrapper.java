@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.lance.common.ops.gravitino;
 
+import static org.apache.gravitino.lance.common.config.LanceConfig.METADATA_CACHE_MAX_SIZE;
+import static org.apache.gravitino.lance.common.config.LanceConfig.METADATA_CACHE_TTL_SECONDS;
 import static org.apache.gravitino.lance.common.config.LanceConfig.METALAKE_NAME;
 import static org.apache.gravitino.lance.common.config.LanceConfig.NAMESPACE_BACKEND_URI;
 
@@ -29,12 +31,14 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.lance.common.config.LanceConfig;
 import org.apache.gravitino.lance.common.ops.LanceNamespaceOperations;
 import org.apache.gravitino.lance.common.ops.LanceTableOperations;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
+import org.apache.gravitino.rel.Table;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +46,7 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
 
   private static final Logger LOG = LoggerFactory.getLogger(GravitinoLanceNamespaceWrapper.class);
   private GravitinoClient client;
+  private GravitinoLanceMetadataCache metadataCache = new GravitinoLanceMetadataCache(0, 0);
 
   private LanceNamespaceOperations namespaceOperations;
   private LanceTableOperations tableOperations;
@@ -90,6 +95,10 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
         clientProperties.size(),
         metalakeName);
 
+    this.metadataCache =
+        new GravitinoLanceMetadataCache(
+            config().get(METADATA_CACHE_TTL_SECONDS), config().get(METADATA_CACHE_MAX_SIZE));
+
     this.namespaceOperations = new GravitinoLanceNameSpaceOperations(this);
     this.tableOperations = new GravitinoLanceTableOperations(this);
   }
@@ -106,6 +115,7 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
 
   @Override
   public void close() {
+    metadataCache.invalidateAll();
     if (client != null) {
       try {
         client.close();
@@ -121,6 +131,27 @@ public class GravitinoLanceNamespaceWrapper extends NamespaceWrapper {
   }
 
   public Catalog loadAndValidateLakehouseCatalog(String catalogName) {
+    return metadataCache.getCatalog(catalogName, this::doLoadAndValidateLakehouseCatalog);
+  }
+
+  /**
+   * Loads a table of a lakehouse catalog, the table may be served from the metadata cache.
+   *
+   * @param catalog the lakehouse catalog loaded by {@link #loadAndValidateLakehouseCatalog}
+   * @param catalogName the catalog name
+   * @param tableIdent the identifier of the table in the catalog
+   * @return the table
+   */
+  public Table loadTable(Catalog catalog, String catalogName, NameIdentifier tableIdent) {
+    return metadataCache.getTable(
+        catalogName, tableIdent, () -> catalog.asTableCatalog().loadTable(tableIdent));
+  }
+
+  public GravitinoLanceMetadataCache metadataCache() {
+    return metadataCache;
+  }
+
+  private Catalog doLoadAndValidateLakehouseCatalog(String catalogName) {
     Catalog catalog;
     try {
       catalog = client.loadCatalog(catalogName);
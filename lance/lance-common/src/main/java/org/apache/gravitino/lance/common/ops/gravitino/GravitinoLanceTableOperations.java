@@ -61,7 +61,7 @@ import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.lance.common.ops.LanceTableOperations;
 import org.apache.gravitino.lance.common.ops.gravitino.GravitinoLanceTableAlterHandler.AlterColumnsGravitinoLance;
 import org.apache.gravitino.lance.common.ops.gravitino.GravitinoLanceTableAlterHandler.DropColumns;
-import org.apache.gravitino.lance.common.utils.ArrowUtils;
+import org.apache.gravitino.lance.common.utils.ArrowIpcStream;
 import org.apache.gravitino.lance.common.utils.LancePropertiesUtils;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
@@ -102,7 +102,7 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     NameIdentifier tableIdentifier =
         NameIdentifier.of(nsId.levelAtListPos(1), nsId.levelAtListPos(2));
 
-    Table table = catalog.asTableCatalog().loadTable(tableIdentifier);
+    Table table = namespaceWrapper.loadTable(catalog, catalogName, tableIdentifier);
     DescribeTableResponse response = new DescribeTableResponse();
     response.setProperties(table.properties());
     response.setLocation(table.properties().get(LANCE_LOCATION));
@@ -122,16 +122,17 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
       String delimiter,
       String tableLocation,
       Map<String, String> tableProperties,
-      byte[] arrowStreamBody) {
+      ArrowIpcStream arrowStream) {
     ObjectIdentifier nsId = ObjectIdentifier.of(tableId, Pattern.quote(delimiter));
     Preconditions.checkArgument(
         nsId.levels() == 3, "Expected at 3-level namespace but got: %s", nsId.levels());
 
     // Parser column information.
     List<Column> columns = Lists.newArrayList();
-    if (arrowStreamBody != null) {
-      org.apache.arrow.vector.types.pojo.Schema schema =
-          ArrowUtils.parseArrowIpcStream(arrowStreamBody);
+    if (arrowStream != null) {
+      // Only the schema is used, the record batches are consumed batch by batch without being
+      // buffered.
+      org.apache.arrow.vector.types.pojo.Schema schema = arrowStream.readSchema();
       columns = extractColumns(schema);
     }
 
@@ -152,12 +153,18 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     // Pass creation mode as property to delegate handling to LanceTableOperations
     createTableProperties.put(LANCE_CREATION_MODE, mode.name());
 
-    // Single call - mode is handled server-side
-    Table t =
-        catalog
-            .asTableCatalog()
-            .createTable(
-                tableIdentifier, columns.toArray(new Column[0]), null, createTableProperties);
+    // Single call - mode is handled server-side. The OVERWRITE mode may replace the table even if
+    // the call fails, so the cached table is always invalidated.
+    Table t;
+    try {
+      t =
+          catalog
+              .asTableCatalog()
+              .createTable(
+                  tableIdentifier, columns.toArray(new Column[0]), null, createTableProperties);
+    } finally {
+      namespaceWrapper.metadataCache().invalidateTable(catalogName, tableIdentifier);
+    }
 
     CreateTableResponse response = new CreateTableResponse();
     response.setProperties(t.properties());
@@ -217,10 +224,15 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     copiedTableProperties.put(LANCE_CREATION_MODE, mode.name());
 
     // Single call - mode is handled server-side
-    Table t =
-        catalog
-            .asTableCatalog()
-            .createTable(tableIdentifier, new Column[] {}, null, copiedTableProperties);
+    Table t;
+    try {
+      t =
+          catalog
+              .asTableCatalog()
+              .createTable(tableIdentifier, new Column[] {}, null, copiedTableProperties);
+    } finally {
+      namespaceWrapper.metadataCache().invalidateTable(catalogName, tableIdentifier);
+    }
 
     RegisterTableResponse response = new RegisterTableResponse();
     response.setProperties(t.properties());
@@ -239,10 +251,15 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
 
     NameIdentifier tableIdentifier =
         NameIdentifier.of(nsId.levelAtListPos(1), nsId.levelAtListPos(2));
-    Table t = catalog.asTableCatalog().loadTable(tableIdentifier);
+    Table t = namespaceWrapper.loadTable(catalog, catalogName, tableIdentifier);
     Map<String, String> properties = t.properties();
     // TODO Support real deregister API.
-    boolean result = catalog.asTableCatalog().dropTable(tableIdentifier);
+    boolean result;
+    try {
+      result = catalog.asTableCatalog().dropTable(tableIdentifier);
+    } finally {
+      namespaceWrapper.metadataCache().invalidateTable(catalogName, tableIdentifier);
+    }
     if (!result) {
       throw LanceNamespaceException.notFound(
           "Table not found: " + tableId,
@@ -270,7 +287,10 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     NameIdentifier tableIdentifier =
         NameIdentifier.of(nsId.levelAtListPos(1), nsId.levelAtListPos(2));
 
-    return catalog.asTableCatalog().tableExists(tableIdentifier);
+    // A cached table is known to exist, only the tables not cached go to the server.
+    GravitinoLanceMetadataCache metadataCache = namespaceWrapper.metadataCache();
+    return metadataCache.getTableIfPresent(catalogName, tableIdentifier).isPresent()
+        || catalog.asTableCatalog().tableExists(tableIdentifier);
   }
 
   @Override
@@ -287,7 +307,7 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
 
     Table table;
     try {
-      table = catalog.asTableCatalog().loadTable(tableIdentifier);
+      table = namespaceWrapper.loadTable(catalog, catalogName, tableIdentifier);
     } catch (NoSuchTableException e) {
       throw LanceNamespaceException.notFound(
           "Table not found: " + tableId,
@@ -296,7 +316,12 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
           CommonUtil.formatCurrentStackTrace());
     }
 
-    boolean deleted = catalog.asTableCatalog().purgeTable(tableIdentifier);
+    boolean deleted;
+    try {
+      deleted = catalog.asTableCatalog().purgeTable(tableIdentifier);
+    } finally {
+      namespaceWrapper.metadataCache().invalidateTable(catalogName, tableIdentifier);
+    }
     if (!deleted) {
       throw LanceNamespaceException.notFound(
           "Table not found: " + tableId,
@@ -333,7 +358,12 @@ public class GravitinoLanceTableOperations implements LanceTableOperations {
     }
     TableChange[] changes = handler.buildGravitinoTableChange(request);
 
-    Table table = catalog.asTableCatalog().alterTable(tableIdentifier, changes);
+    Table table;
+    try {
+      table = catalog.asTableCatalog().alterTable(tableIdentifier, changes);
+    } finally {
+      namespaceWrapper.metadataCache().invalidateTable(catalogName, tableIdentifier);
+    }
 
     return handler.handle(table, request);
   }
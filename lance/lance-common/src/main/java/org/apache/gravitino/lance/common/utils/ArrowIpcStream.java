@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingInputStream;
+import java.io.InputStream;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * An Arrow IPC stream read from a request body. The stream is decoded one record batch at a time,
+ * so the memory held while reading is bounded by the allocation limit rather than by the size of
+ * the whole body.
+ */
+public class ArrowIpcStream {
+
+  private final CountingInputStream stream;
+  private final long maxAllocationBytes;
+  private Schema schema;
+  private long rowCount;
+
+  /**
+   * Creates an Arrow IPC stream.
+   *
+   * @param stream the input stream of the Arrow IPC stream format
+   * @param maxAllocationBytes the max bytes the Arrow allocator could hold while reading
+   */
+  public ArrowIpcStream(InputStream stream, long maxAllocationBytes) {
+    Preconditions.checkArgument(stream != null, "Arrow IPC stream must not be null");
+    Preconditions.checkArgument(
+        maxAllocationBytes > 0, "The max allocation bytes must be positive");
+    this.stream = new CountingInputStream(stream);
+    this.maxAllocationBytes = maxAllocationBytes;
+  }
+
+  /**
+   * Reads the schema of the stream, then consumes the remaining record batches one by one. The
+   * stream is read only once, later calls return the schema read by the first call.
+   *
+   * @return the schema of the Arrow IPC stream
+   */
+  public synchronized Schema readSchema() {
+    if (schema != null) {
+      return schema;
+    }
+
+    try (BufferAllocator allocator = new RootAllocator(maxAllocationBytes);
+        ArrowStreamReader reader = new ArrowStreamReader(stream, allocator)) {
+      Schema readSchema = reader.getVectorSchemaRoot().getSchema();
+      while (reader.loadNextBatch()) {
+        rowCount += reader.getVectorSchemaRoot().getRowCount();
+      }
+      schema = readSchema;
+    } catch (OutOfMemoryException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Arrow record batch exceeds the max allocation of %d bytes", maxAllocationBytes),
+          e);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to parse Arrow IPC stream", e);
+    }
+
+    Preconditions.checkArgument(schema != null, "No schema found in Arrow IPC stream");
+    return schema;
+  }
+
+  /**
+   * Returns the number of rows read from the stream so far.
+   *
+   * @return the number of rows
+   */
+  public synchronized long rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the number of bytes read from the stream so far.
+   *
+   * @return the number of bytes
+   */
+  public long byteCount() {
+    return stream.getCount();
+  }
+}
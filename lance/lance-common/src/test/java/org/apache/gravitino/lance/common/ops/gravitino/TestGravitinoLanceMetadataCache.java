@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lance.common.ops.gravitino;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoLanceMetadataCache {
+
+  @Test
+  public void testCatalogCache() {
+    GravitinoLanceMetadataCache cache = new GravitinoLanceMetadataCache(60, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    Catalog catalog1 = cache.getCatalog("c1", name -> newCatalog(name, loads));
+    Catalog catalog2 = cache.getCatalog("c1", name -> newCatalog(name, loads));
+    Assertions.assertSame(catalog1, catalog2);
+    Assertions.assertEquals(1, loads.get());
+
+    cache.invalidateCatalog("c1");
+    cache.getCatalog("c1", name -> newCatalog(name, loads));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testInvalidCatalogIsNotCached() {
+    GravitinoLanceMetadataCache cache = new GravitinoLanceMetadataCache(60, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              cache.getCatalog(
+                  "c1",
+                  name -> {
+                    loads.incrementAndGet();
+                    throw new IllegalArgumentException("Not a lakehouse catalog");
+                  }));
+    }
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testTableCache() {
+    GravitinoLanceMetadataCache cache = new GravitinoLanceMetadataCache(60, 100);
+    AtomicInteger loads = new AtomicInteger();
+    NameIdentifier t1 = NameIdentifier.of("s1", "t1");
+    NameIdentifier t2 = NameIdentifier.of("s1", "t2");
+    NameIdentifier t3 = NameIdentifier.of("s2", "t3");
+
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t1).isPresent());
+    Table table = cache.getTable("c1", t1, () -> newTable("t1", loads));
+    Assertions.assertSame(table, cache.getTable("c1", t1, () -> newTable("t1", loads)));
+    Assertions.assertSame(table, cache.getTableIfPresent("c1", t1).get());
+    Assertions.assertEquals(1, loads.get());
+
+    // The same table name in another catalog is a different entry
+    cache.getTable("c2", t1, () -> newTable("t1", loads));
+    Assertions.assertEquals(2, loads.get());
+
+    cache.invalidateTable("c1", t1);
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t1).isPresent());
+    Assertions.assertTrue(cache.getTableIfPresent("c2", t1).isPresent());
+
+    cache.getTable("c1", t1, () -> newTable("t1", loads));
+    cache.getTable("c1", t2, () -> newTable("t2", loads));
+    cache.getTable("c1", t3, () -> newTable("t3", loads));
+    cache.invalidateSchema("c1", "s1");
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t1).isPresent());
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t2).isPresent());
+    Assertions.assertTrue(cache.getTableIfPresent("c1", t3).isPresent());
+
+    cache.invalidateCatalog("c1");
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t3).isPresent());
+    Assertions.assertTrue(cache.getTableIfPresent("c2", t1).isPresent());
+  }
+
+  @Test
+  public void testLoadRacingWithInvalidationIsNotCached() {
+    GravitinoLanceMetadataCache cache = new GravitinoLanceMetadataCache(60, 100);
+    AtomicInteger loads = new AtomicInteger();
+    NameIdentifier t1 = NameIdentifier.of("s1", "t1");
+
+    // The table is dropped while it's being loaded, the stale table must not be cached.
+    cache.getTable(
+        "c1",
+        t1,
+        () -> {
+          Table table = newTable("t1", loads);
+          cache.invalidateTable("c1", t1);
+          return table;
+        });
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t1).isPresent());
+
+    cache.getCatalog(
+        "c1",
+        name -> {
+          Catalog catalog = newCatalog(name, loads);
+          cache.invalidateCatalog(name);
+          return catalog;
+        });
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCacheDisabled() {
+    GravitinoLanceMetadataCache cache = new GravitinoLanceMetadataCache(0, 100);
+    AtomicInteger loads = new AtomicInteger();
+    NameIdentifier t1 = NameIdentifier.of("s1", "t1");
+
+    Assertions.assertFalse(cache.isEnabled());
+    cache.getCatalog("c1", name -> newCatalog(name, loads));
+    cache.getCatalog("c1", name -> newCatalog(name, loads));
+    cache.getTable("c1", t1, () -> newTable("t1", loads));
+    cache.getTable("c1", t1, () -> newTable("t1", loads));
+    Assertions.assertEquals(4, loads.get());
+    Assertions.assertFalse(cache.getTableIfPresent("c1", t1).isPresent());
+  }
+
+  private static Catalog newCatalog(String name, AtomicInteger loads) {
+    loads.incrementAndGet();
+    return new Catalog() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public Type type() {
+        return Type.RELATIONAL;
+      }
+
+      @Override
+      public String provider() {
+        return "lakehouse-generic";
+      }
+
+      @Override
+      public String comment() {
+        return null;
+      }
+
+      @Override
+      public Map<String, String> properties() {
+        return Map.of();
+      }
+
+      @Override
+      public Audit auditInfo() {
+        return null;
+      }
+    };
+  }
+
+  private static Table newTable(String name, AtomicInteger loads) {
+    loads.incrementAndGet();
+    return new Table() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public Column[] columns() {
+        return new Column[0];
+      }
+
+      @Override
+      public Audit auditInfo() {
+        return null;
+      }
+    };
+  }
+}
@@ -18,7 +18,15 @@
  */
 package org.apache.gravitino.lance.common.utils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.util.Arrays;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
@@ -39,4 +47,52 @@ public class TestArrowUtils {
 
     Assertions.assertEquals(schema, parsedSchema);
   }
+
+  @Test
+  public void testArrowIpcStreamCountsRows() throws Exception {
+    Schema schema = new Schema(Arrays.asList(Field.nullable("id", new ArrowType.Int(32, true))));
+    byte[] ipcStream = writeIpcStream(schema, 3, 100);
+
+    ArrowIpcStream arrowStream =
+        new ArrowIpcStream(new ByteArrayInputStream(ipcStream), Long.MAX_VALUE);
+    Assertions.assertEquals(schema, arrowStream.readSchema());
+    Assertions.assertEquals(300, arrowStream.rowCount());
+    Assertions.assertEquals(ipcStream.length, arrowStream.byteCount());
+    // The stream is only read once
+    Assertions.assertEquals(schema, arrowStream.readSchema());
+    Assertions.assertEquals(300, arrowStream.rowCount());
+  }
+
+  @Test
+  public void testArrowIpcStreamExceedsMaxAllocation() throws Exception {
+    Schema schema = new Schema(Arrays.asList(Field.nullable("id", new ArrowType.Int(32, true))));
+    byte[] ipcStream = writeIpcStream(schema, 1, 10000);
+
+    ArrowIpcStream arrowStream = new ArrowIpcStream(new ByteArrayInputStream(ipcStream), 1024);
+    IllegalArgumentException exception =
+        Assertions.assertThrows(IllegalArgumentException.class, arrowStream::readSchema);
+    Assertions.assertTrue(exception.getMessage().contains("max allocation"));
+  }
+
+  private static byte[] writeIpcStream(Schema schema, int batches, int rowsPerBatch)
+      throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (BufferAllocator allocator = new RootAllocator();
+        VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+        ArrowStreamWriter writer =
+            new ArrowStreamWriter(root, null, Channels.newChannel(outputStream))) {
+      writer.start();
+      IntVector vector = (IntVector) root.getVector("id");
+      for (int batch = 0; batch < batches; batch++) {
+        vector.allocateNew(rowsPerBatch);
+        for (int row = 0; row < rowsPerBatch; row++) {
+          vector.set(row, row);
+        }
+        root.setRowCount(rowsPerBatch);
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+    return outputStream.toByteArray();
+  }
 }
@@ -73,20 +73,22 @@ public class LanceRESTService implements GravitinoAuxiliaryService {
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(JacksonFeature.class);
     resourceConfig.packages(LANCE_REST_SPEC_PACKAGE);
+
+    // Register metrics with shared MetricsSystem
+    HttpServerMetricsSource httpServerMetricsSource =
+        new HttpServerMetricsSource(
+            MetricsSource.LANCE_REST_SERVER_METRIC_NAME, resourceConfig, server);
+    metricsSystem.register(httpServerMetricsSource);
+
     resourceConfig.register(
         new AbstractBinder() {
           @Override
           protected void configure() {
             bind(lanceNamespace).to(NamespaceWrapper.class).ranked(1);
+            bind(httpServerMetricsSource).to(MetricsSource.class).ranked(1);
           }
         });
 
-    // Register metrics with shared MetricsSystem
-    HttpServerMetricsSource httpServerMetricsSource =
-        new HttpServerMetricsSource(
-            MetricsSource.LANCE_REST_SERVER_METRIC_NAME, resourceConfig, server);
-    metricsSystem.register(httpServerMetricsSource);
-
     Servlet container = new ServletContainer(resourceConfig);
     server.addServlet(container, LANCE_SPEC);
     server.addCustomFilters(LANCE_SPEC);
@@ -23,6 +23,7 @@ import static org.apache.gravitino.lance.common.utils.LanceConstants.LANCE_LOCAT
 import static org.apache.gravitino.lance.common.utils.LanceConstants.LANCE_TABLE_LOCATION_HEADER;
 import static org.apache.gravitino.lance.common.utils.LanceConstants.LANCE_TABLE_PROPERTIES_PREFIX_HEADER;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.base.Preconditions;
@@ -46,6 +47,7 @@ import com.lancedb.lance.namespace.model.RegisterTableRequest;
 import com.lancedb.lance.namespace.model.RegisterTableRequest.ModeEnum;
 import com.lancedb.lance.namespace.model.RegisterTableResponse;
 import com.lancedb.lance.namespace.model.TableExistsRequest;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -63,21 +65,30 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
+import org.apache.gravitino.lance.common.utils.ArrowIpcStream;
 import org.apache.gravitino.lance.common.utils.LanceConstants;
 import org.apache.gravitino.lance.common.utils.SerializationUtils;
 import org.apache.gravitino.lance.service.LanceExceptionMapper;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
 
 @Path("/v1/table/{id}")
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class LanceTableOperations {
 
+  private static final String CREATE_TABLE_ROWS = "create-table.arrow-rows";
+  private static final String CREATE_TABLE_BYTES = "create-table.arrow-bytes";
+
   private final NamespaceWrapper lanceNamespace;
+  private final Meter createTableRows;
+  private final Meter createTableBytes;
 
   @Inject
-  public LanceTableOperations(NamespaceWrapper lanceNamespace) {
+  public LanceTableOperations(NamespaceWrapper lanceNamespace, MetricsSource metricsSource) {
     this.lanceNamespace = lanceNamespace;
+    this.createTableRows = metricsSource.getMeter(CREATE_TABLE_ROWS);
+    this.createTableBytes = metricsSource.getMeter(CREATE_TABLE_BYTES);
   }
 
   @POST
@@ -111,7 +122,12 @@ public class LanceTableOperations {
       @QueryParam("mode") @DefaultValue("create") String mode, // create, exist_ok, overwrite
       @QueryParam("delimiter") @DefaultValue(NAMESPACE_DELIMITER_DEFAULT) String delimiter,
       @Context HttpHeaders headers,
-      byte[] arrowStreamBody) {
+      InputStream arrowStreamBody) {
+    // The body is read as a stream, so a chunked request is decoded batch by batch instead of
+    // being buffered in the heap as a whole.
+    ArrowIpcStream arrowStream =
+        new ArrowIpcStream(
+            arrowStreamBody, lanceNamespace.config().getArrowStreamMaxAllocationBytes());
     try {
       // Extract table properties from header
       MultivaluedMap<String, String> headersMap = headers.getRequestHeaders();
@@ -122,10 +138,13 @@ public class LanceTableOperations {
       CreateTableResponse response =
           lanceNamespace
               .asTableOps()
-              .createTable(tableId, modeEnum, delimiter, tableLocation, props, arrowStreamBody);
+              .createTable(tableId, modeEnum, delimiter, tableLocation, props, arrowStream);
       return Response.ok(response).build();
     } catch (Exception e) {
       return LanceExceptionMapper.toRESTResponse(tableId, e);
+    } finally {
+      createTableRows.mark(arrowStream.rowCount());
+      createTableBytes.mark(arrowStream.byteCount());
     }
   }
 
@@ -60,10 +60,17 @@ import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.lance.common.config.LanceConfig;
 import org.apache.gravitino.lance.common.ops.LanceTableOperations;
 import org.apache.gravitino.lance.common.ops.NamespaceWrapper;
+import org.apache.gravitino.lance.common.utils.ArrowIpcStream;
+import org.apache.gravitino.lance.common.utils.ArrowUtils;
 import org.apache.gravitino.lance.common.utils.LanceConstants;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.rest.RESTUtils;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -88,6 +95,7 @@ public class TestLanceNamespaceOperations extends JerseyTest {
   private static org.apache.gravitino.lance.common.ops.LanceNamespaceOperations namespaceOps =
       mock(org.apache.gravitino.lance.common.ops.LanceNamespaceOperations.class);
   private static LanceTableOperations tableOps = mock(LanceTableOperations.class);
+  private static MetricsSource metricsSource = new MetricsSource("lance-rest-test") {};
 
   @Override
   protected Application configure() {
@@ -106,6 +114,7 @@ public class TestLanceNamespaceOperations extends JerseyTest {
           @Override
           protected void configure() {
             bind(namespaceWrapper).to(NamespaceWrapper.class).ranked(2);
+            bind(metricsSource).to(MetricsSource.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
@@ -117,6 +126,7 @@ public class TestLanceNamespaceOperations extends JerseyTest {
   public static void setup() {
     when(namespaceWrapper.asNamespaceOps()).thenReturn(namespaceOps);
     when(namespaceWrapper.asTableOps()).thenReturn(tableOps);
+    when(namespaceWrapper.config()).thenReturn(new LanceConfig());
   }
 
   @Test
@@ -367,6 +377,8 @@ public class TestLanceNamespaceOperations extends JerseyTest {
 
     Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
     Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+    Mockito.verify(tableOps, Mockito.atLeastOnce())
+        .createTable(any(), any(), any(), any(), any(), any(ArrowIpcStream.class));
 
     // Test illegal argument
     when(tableOps.createTable(any(), any(), any(), any(), any(), any()))
@@ -398,6 +410,32 @@ public class TestLanceNamespaceOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp.getType());
   }
 
+  @Test
+  void testCreateTableArrowStreamMetrics() throws IOException {
+    String tableIds = "catalog.scheme.create_table_metrics";
+    Mockito.reset(tableOps);
+    when(tableOps.createTable(any(), any(), any(), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              ArrowIpcStream arrowStream = invocation.getArgument(5);
+              arrowStream.readSchema();
+              return new CreateTableResponse();
+            });
+
+    Schema schema = new Schema(List.of(Field.nullable("id", new ArrowType.Int(32, true))));
+    byte[] bytes = ArrowUtils.generateIpcStream(schema);
+    long bytesBefore = metricsSource.getMeter("create-table.arrow-bytes").getCount();
+    Response resp =
+        target(String.format("/v1/table/%s/create", tableIds))
+            .queryParam("delimiter", ".")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.entity(bytes, "application/vnd.apache.arrow.stream"));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(
+        bytes.length, metricsSource.getMeter("create-table.arrow-bytes").getCount() - bytesBefore);
+  }
+
   @Test
   void testCreateEmptyTable() {
     String tableIds = "catalog.scheme.create_empty_table";
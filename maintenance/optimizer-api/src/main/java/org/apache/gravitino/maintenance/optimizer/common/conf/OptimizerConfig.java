@@ -49,6 +49,9 @@ public class OptimizerConfig extends Config {
   private static final String STRATEGY_PROVIDER = RECOMMENDER_PREFIX + "strategyProvider";
   private static final String TABLE_META_PROVIDER = RECOMMENDER_PREFIX + "tableMetaProvider";
   private static final String JOB_SUBMITTER = RECOMMENDER_PREFIX + "jobSubmitter";
+  private static final String RECOMMENDER_PARALLELISM = RECOMMENDER_PREFIX + "parallelism";
+  private static final String RECOMMENDER_EVALUATION_TIMEOUT_MS =
+      RECOMMENDER_PREFIX + "evaluationTimeoutMs";
 
   public static final String UPDATER_PREFIX = OPTIMIZER_PREFIX + "updater.";
   private static final String STATISTICS_UPDATER = UPDATER_PREFIX + "statisticsUpdater";
@@ -114,6 +117,26 @@ public class OptimizerConfig extends Config {
           .stringConf()
           .createWithDefault(DEFAULT_JOB_SUBMITTER);
 
+  public static final ConfigEntry<Integer> RECOMMENDER_PARALLELISM_CONFIG =
+      new ConfigBuilder(RECOMMENDER_PARALLELISM)
+          .doc(
+              "The number of table identifiers the recommender evaluates concurrently, each "
+                  + "evaluation fetches the table metadata and statistics it requires.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Long> RECOMMENDER_EVALUATION_TIMEOUT_MS_CONFIG =
+      new ConfigBuilder(RECOMMENDER_EVALUATION_TIMEOUT_MS)
+          .doc(
+              "The maximum time in milliseconds to evaluate a strategy for one table identifier, "
+                  + "the identifier is skipped if the evaluation takes longer.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
   public static final ConfigEntry<String> STATISTICS_UPDATER_CONFIG =
       new ConfigBuilder(STATISTICS_UPDATER)
           .doc("The statistics updater implementation name (matches Provider.name()).")
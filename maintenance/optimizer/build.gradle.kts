@@ -22,6 +22,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 val scalaVersion: String =
@@ -120,6 +121,20 @@ tasks {
   }
 }
 
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 5
+  iterations = 10
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
+
 configurations.testRuntimeClasspath {
   exclude(group = "org.apache.logging.log4j", module = "log4j-slf4j2-impl")
 }
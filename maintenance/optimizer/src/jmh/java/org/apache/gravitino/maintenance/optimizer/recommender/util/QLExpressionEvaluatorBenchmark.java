@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.maintenance.optimizer.recommender.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * QLExpressionEvaluatorBenchmark benchmarks the scoring path of the recommender, which evaluates
+ * the trigger and the score expression of a compaction strategy against the statistics of each
+ * table.
+ *
+ * <p>The expressions are the defaults of the Iceberg data compaction policy, their variables have
+ * hyphens and must be rewritten before QLExpress runs them. Each invocation uses the statistics of
+ * a different table, so the benchmark measures the per-table cost of one strategy evaluated across
+ * many tables.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class QLExpressionEvaluatorBenchmark {
+  private static final String TRIGGER_EXPRESSION =
+      "custom-data-file-mse >= minDataFileMse || custom-delete-file-number >= minDeleteFileNumber";
+  private static final String SCORE_EXPRESSION =
+      "custom-data-file-mse * dataFileMseWeight"
+          + " + custom-delete-file-number * deleteFileNumberWeight";
+
+  @Param({"100", "10000"})
+  public int tableCount;
+
+  private final QLExpressionEvaluator evaluator = new QLExpressionEvaluator();
+  private List<Map<String, Object>> contexts;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.contexts = new ArrayList<>(tableCount);
+    for (int i = 0; i < tableCount; i++) {
+      // Statistics of the table followed by the numeric rules of the strategy.
+      Map<String, Object> context = new HashMap<>();
+      context.put("custom-data-file-mse", 405323966463344L + i * 1_000_000L);
+      context.put("custom-delete-file-number", (long) (i % 10));
+      context.put("minDataFileMse", 405323966463344L);
+      context.put("minDeleteFileNumber", 1L);
+      context.put("dataFileMseWeight", 1L);
+      context.put("deleteFileNumberWeight", 100L);
+      context.put("max-partition-num", 50L);
+      contexts.add(context);
+    }
+  }
+
+  @Benchmark
+  public boolean benchmarkTrigger() {
+    return evaluator.evaluateBool(TRIGGER_EXPRESSION, nextContext());
+  }
+
+  @Benchmark
+  public long benchmarkScore() {
+    return evaluator.evaluateLong(SCORE_EXPRESSION, nextContext());
+  }
+
+  private Map<String, Object> nextContext() {
+    Map<String, Object> context = contexts.get(next);
+    next = next + 1 == contexts.size() ? 0 : next + 1;
+    return context;
+  }
+}
@@ -21,15 +21,28 @@ package org.apache.gravitino.maintenance.optimizer.recommender;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.MinMaxPriorityQueue;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.maintenance.optimizer.api.common.PartitionPath;
@@ -64,7 +77,8 @@ import org.slf4j.LoggerFactory;
  *       and {@link JobSubmitter} from {@link java.util.ServiceLoader} using names declared in
  *       {@link OptimizerConfig}.
  *   <li>For each target identifier, fetch its strategies, filter by strategy type, and create a
- *       matching {@link StrategyHandler}.
+ *       matching {@link StrategyHandler}. Identifiers are evaluated concurrently, bounded by {@link
+ *       OptimizerConfig#RECOMMENDER_PARALLELISM_CONFIG}.
  *   <li>Collect only the metadata and statistics the handler asked for via {@link
  *       StrategyHandler#dataRequirements()} and build a {@link StrategyHandlerContext}.
  *   <li>Invoke {@link StrategyHandler#shouldTrigger()} followed by {@link
@@ -80,6 +94,9 @@ public class Recommender implements AutoCloseable {
   private final JobSubmitter jobSubmitter;
   private final CloseableGroup closeableGroup = new CloseableGroup();
   private final OptimizerEnv optimizerEnv;
+  private final int parallelism;
+  private final long evaluationTimeoutNanos;
+  private final ExecutorService evaluationExecutor;
 
   /**
    * Create a recommender whose providers and submitter are resolved from the optimizer
@@ -90,6 +107,12 @@ public class Recommender implements AutoCloseable {
   public Recommender(OptimizerEnv optimizerEnv) {
     OptimizerConfig config = optimizerEnv.config();
     this.optimizerEnv = optimizerEnv;
+    this.parallelism = config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG);
+    this.evaluationTimeoutNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            config.get(OptimizerConfig.RECOMMENDER_EVALUATION_TIMEOUT_MS_CONFIG));
+    this.evaluationExecutor = createEvaluationExecutor(parallelism);
+    closeableGroup.register(evaluationExecutor::shutdownNow, "evaluation executor");
     this.strategyProvider = loadStrategyProvider(config);
     this.strategyProvider.initialize(optimizerEnv);
     closeableGroup.register(strategyProvider, StrategyProvider.class.getSimpleName());
@@ -120,6 +143,12 @@ public class Recommender implements AutoCloseable {
     this.statisticsProvider = statisticsProvider;
     this.tableMetadataProvider = tableMetadataProvider;
     this.jobSubmitter = jobSubmitter;
+    OptimizerConfig config = optimizerEnv.config();
+    this.parallelism = config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG);
+    this.evaluationTimeoutNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            config.get(OptimizerConfig.RECOMMENDER_EVALUATION_TIMEOUT_MS_CONFIG));
+    this.evaluationExecutor = createEvaluationExecutor(parallelism);
 
     addToCloseableGroup();
   }
@@ -147,7 +176,7 @@ public class Recommender implements AutoCloseable {
     for (Map.Entry<String, List<NameIdentifier>> entry : identifiersByStrategyName.entrySet()) {
       String strategyName = entry.getKey();
       List<StrategyEvaluation> evaluations =
-          recommendForOneStrategy(entry.getValue(), strategyName);
+          recommendForOneStrategy(entry.getValue(), strategyName, Integer.MAX_VALUE);
 
       if (evaluations.isEmpty()) {
         LOG.info("No evaluations for strategy {}", strategyName);
@@ -216,11 +245,9 @@ public class Recommender implements AutoCloseable {
         "No identifiers matched strategy name '%s' in input list.",
         strategyName);
     List<StrategyEvaluation> evaluations =
-        recommendForOneStrategy(identifiersForStrategy, strategyName);
+        recommendForOneStrategy(identifiersForStrategy, strategyName, limit);
     List<RecommendationResult> results = new ArrayList<>();
-    int upperBound = Math.min(limit, evaluations.size());
-    for (int index = 0; index < upperBound; index++) {
-      StrategyEvaluation evaluation = evaluations.get(index);
+    for (StrategyEvaluation evaluation : evaluations) {
       String jobId = "";
       if (!dryRun) {
         JobExecutionContext jobExecutionContext =
@@ -255,45 +282,135 @@ public class Recommender implements AutoCloseable {
     closeableGroup.register(statisticsProvider, "statistics provider");
     closeableGroup.register(tableMetadataProvider, "table metadata provider");
     closeableGroup.register(jobSubmitter, "job submitter");
+    closeableGroup.register(evaluationExecutor::shutdownNow, "evaluation executor");
+  }
+
+  private static ExecutorService createEvaluationExecutor(int parallelism) {
+    return Executors.newFixedThreadPool(
+        parallelism,
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("recommender-evaluator-%d")
+            .build());
   }
 
+  /**
+   * Evaluate the identifiers concurrently, at most {@code parallelism} at a time, and keep the
+   * {@code limit} evaluations with the highest scores. An identifier whose evaluation exceeds the
+   * timeout is skipped, while any other failure aborts the recommendation.
+   */
   private List<StrategyEvaluation> recommendForOneStrategy(
-      List<NameIdentifier> identifiers, String strategyName) {
-    LOG.info("Recommend strategy {} for identifiers {}", strategyName, identifiers);
+      List<NameIdentifier> identifiers, String strategyName, int limit) {
+    LOG.info("Recommend strategy {} for {} identifiers", strategyName, identifiers.size());
     Strategy strategy = strategyProvider.strategy(strategyName);
 
-    PriorityQueue<StrategyEvaluation> scoreQueue = new PriorityQueue<>(evaluationComparator());
-    for (NameIdentifier identifier : identifiers) {
-      StrategyHandler strategyHandler = loadStrategyHandler(strategy, identifier);
-      if (!strategyHandler.shouldTrigger()) {
-        LOG.info(
-            "Skip strategy {} for identifier {} because strategy handler trigger condition is not met",
-            strategyName,
-            identifier);
-        continue;
-      }
-      StrategyEvaluation evaluation = strategyHandler.evaluate();
-      if (evaluation.score() < 0 || evaluation.jobExecutionContext().isEmpty()) {
-        LOG.info(
-            "Skip strategy {} for identifier {} because evaluation score is negative "
-                + "or job execution context is missing",
-            strategyName,
-            identifier);
-        continue;
+    // The queue evicts its last element, the lowest score, once it holds more than limit ones.
+    MinMaxPriorityQueue<StrategyEvaluation> topEvaluations =
+        MinMaxPriorityQueue.orderedBy(evaluationComparator()).maximumSize(limit).create();
+    CompletionService<Optional<StrategyEvaluation>> completionService =
+        new ExecutorCompletionService<>(evaluationExecutor);
+    Map<Future<Optional<StrategyEvaluation>>, IdentifierEvaluation> running = new HashMap<>();
+    Iterator<NameIdentifier> pending = identifiers.iterator();
+    try {
+      while (pending.hasNext() || !running.isEmpty()) {
+        // Submit no more than the executor runs, so the identifiers are read lazily.
+        while (pending.hasNext() && running.size() < parallelism) {
+          IdentifierEvaluation evaluation = new IdentifierEvaluation(pending.next());
+          running.put(
+              completionService.submit(() -> evaluation.run(strategy, strategyName)), evaluation);
+        }
+
+        Future<Optional<StrategyEvaluation>> done =
+            completionService.poll(nanosToNextDeadline(running.values()), TimeUnit.NANOSECONDS);
+        if (done != null && running.remove(done) != null) {
+          getEvaluation(done).ifPresent(topEvaluations::add);
+        }
+        cancelTimedOutEvaluations(running, strategyName);
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while evaluating strategy " + strategyName, e);
+    } finally {
+      running.keySet().forEach(future -> future.cancel(true));
+    }
+
+    List<StrategyEvaluation> results = new ArrayList<>(topEvaluations.size());
+    while (!topEvaluations.isEmpty()) {
+      results.add(topEvaluations.pollFirst());
+    }
+    return results;
+  }
+
+  private Optional<StrategyEvaluation> evaluate(
+      Strategy strategy, String strategyName, NameIdentifier identifier) {
+    StrategyHandler strategyHandler = loadStrategyHandler(strategy, identifier);
+    if (!strategyHandler.shouldTrigger()) {
+      LOG.info(
+          "Skip strategy {} for identifier {} because strategy handler trigger condition is not met",
+          strategyName,
+          identifier);
+      return Optional.empty();
+    }
+    StrategyEvaluation evaluation = strategyHandler.evaluate();
+    if (evaluation.score() < 0 || evaluation.jobExecutionContext().isEmpty()) {
       LOG.info(
-          "Recommend strategy {} for identifier {} score: {}",
+          "Skip strategy {} for identifier {} because evaluation score is negative "
+              + "or job execution context is missing",
           strategyName,
-          identifier,
-          evaluation.score());
-      scoreQueue.add(evaluation);
+          identifier);
+      return Optional.empty();
     }
+    LOG.info(
+        "Recommend strategy {} for identifier {} score: {}",
+        strategyName,
+        identifier,
+        evaluation.score());
+    return Optional.of(evaluation);
+  }
 
-    List<StrategyEvaluation> results = new ArrayList<>();
-    while (!scoreQueue.isEmpty()) {
-      results.add(scoreQueue.poll());
+  private static Optional<StrategyEvaluation> getEvaluation(
+      Future<Optional<StrategyEvaluation>> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private long nanosToNextDeadline(Collection<IdentifierEvaluation> evaluations) {
+    long now = System.nanoTime();
+    long waitNanos = evaluationTimeoutNanos;
+    for (IdentifierEvaluation evaluation : evaluations) {
+      long startNanos = evaluation.startNanos;
+      if (startNanos != 0L) {
+        waitNanos = Math.min(waitNanos, startNanos + evaluationTimeoutNanos - now);
+      }
+    }
+    return Math.max(waitNanos, 0L);
+  }
+
+  private void cancelTimedOutEvaluations(
+      Map<Future<Optional<StrategyEvaluation>>, IdentifierEvaluation> running,
+      String strategyName) {
+    long now = System.nanoTime();
+    Iterator<Map.Entry<Future<Optional<StrategyEvaluation>>, IdentifierEvaluation>> iterator =
+        running.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Future<Optional<StrategyEvaluation>>, IdentifierEvaluation> entry = iterator.next();
+      long startNanos = entry.getValue().startNanos;
+      if (startNanos != 0L
+          && now - startNanos >= evaluationTimeoutNanos
+          && !entry.getKey().isDone()) {
+        entry.getKey().cancel(true);
+        iterator.remove();
+        LOG.warn(
+            "Skip strategy {} for identifier {} because the evaluation timed out after {} ms",
+            strategyName,
+            entry.getValue().identifier,
+            TimeUnit.NANOSECONDS.toMillis(evaluationTimeoutNanos));
+      }
     }
-    return results;
   }
 
   private Comparator<StrategyEvaluation> evaluationComparator() {
@@ -454,6 +571,22 @@ public class Recommender implements AutoCloseable {
         jobId);
   }
 
+  /** The evaluation of one identifier, the timeout counts from when a thread picks it up. */
+  private final class IdentifierEvaluation {
+    private final NameIdentifier identifier;
+    private volatile long startNanos;
+
+    private IdentifierEvaluation(NameIdentifier identifier) {
+      this.identifier = identifier;
+    }
+
+    private Optional<StrategyEvaluation> run(Strategy strategy, String strategyName) {
+      // 0 means not started, so avoid it as a start time.
+      this.startNanos = System.nanoTime() | 1L;
+      return evaluate(strategy, strategyName, identifier);
+    }
+  }
+
   /**
    * Immutable result of one strategy evaluation, including strategy name, target identifier,
    * recommendation score, job template/options, and optional submitted job id.
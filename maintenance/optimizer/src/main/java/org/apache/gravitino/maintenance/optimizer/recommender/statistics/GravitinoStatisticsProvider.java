@@ -19,11 +19,19 @@
 
 package org.apache.gravitino.maintenance.optimizer.recommender.statistics;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.GravitinoClient;
@@ -36,6 +44,7 @@ import org.apache.gravitino.maintenance.optimizer.common.util.GravitinoClientUti
 import org.apache.gravitino.maintenance.optimizer.common.util.IdentifierUtils;
 import org.apache.gravitino.maintenance.optimizer.recommender.util.PartitionUtils;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.stats.PartitionRange;
 import org.apache.gravitino.stats.PartitionStatistics;
 import org.apache.gravitino.stats.Statistic;
@@ -44,7 +53,18 @@ import org.apache.gravitino.stats.Statistic;
 public class GravitinoStatisticsProvider implements SupportTableStatistics {
 
   public static final String NAME = "gravitino-statistics-provider";
+  private static final int RECENT_TABLES_CAPACITY = 1024;
+  private static final long RECENT_TABLES_EXPIRATION_SECS = 60;
   private GravitinoClient gravitinoClient;
+  // Catalogs are loaded once, rather than for each of the tables the recommender evaluates.
+  private final ConcurrentMap<String, TableCatalog> tableCatalogs = new ConcurrentHashMap<>();
+  // The table and partition statistics of a table are usually read one after the other, so the
+  // table loaded for the first is reused by the second.
+  private final Cache<NameIdentifier, Table> recentTables =
+      CacheBuilder.newBuilder()
+          .maximumSize(RECENT_TABLES_CAPACITY)
+          .expireAfterWrite(RECENT_TABLES_EXPIRATION_SECS, TimeUnit.SECONDS)
+          .build();
 
   /**
    * Initializes the provider with a Gravitino client derived from the optimizer configuration.
@@ -65,11 +85,7 @@ public class GravitinoStatisticsProvider implements SupportTableStatistics {
   @Override
   public List<StatisticEntry<?>> tableStatistics(NameIdentifier tableIdentifier) {
     IdentifierUtils.requireTableIdentifierNormalized(tableIdentifier);
-    Table t =
-        gravitinoClient
-            .loadCatalog(IdentifierUtils.getCatalogNameFromTableIdentifier(tableIdentifier))
-            .asTableCatalog()
-            .loadTable(IdentifierUtils.removeCatalogFromIdentifier(tableIdentifier));
+    Table t = loadTable(tableIdentifier);
     List<Statistic> statistics = t.supportsStatistics().listStatistics();
     return statistics.stream()
         .filter(statistic -> statistic.value().isPresent())
@@ -90,11 +106,7 @@ public class GravitinoStatisticsProvider implements SupportTableStatistics {
   public Map<PartitionPath, List<StatisticEntry<?>>> partitionStatistics(
       NameIdentifier tableIdentifier) {
     IdentifierUtils.requireTableIdentifierNormalized(tableIdentifier);
-    Table t =
-        gravitinoClient
-            .loadCatalog(IdentifierUtils.getCatalogNameFromTableIdentifier(tableIdentifier))
-            .asTableCatalog()
-            .loadTable(IdentifierUtils.removeCatalogFromIdentifier(tableIdentifier));
+    Table t = loadTable(tableIdentifier);
     List<PartitionStatistics> partitionStatistics =
         t.supportsPartitionStatistics().listPartitionStatistics(PartitionRange.ALL_PARTITIONS);
 
@@ -104,6 +116,22 @@ public class GravitinoStatisticsProvider implements SupportTableStatistics {
     return statisticsByPartition;
   }
 
+  private Table loadTable(NameIdentifier tableIdentifier) {
+    try {
+      return recentTables.get(
+          tableIdentifier,
+          () ->
+              tableCatalogs
+                  .computeIfAbsent(
+                      IdentifierUtils.getCatalogNameFromTableIdentifier(tableIdentifier),
+                      name -> gravitinoClient.loadCatalog(name).asTableCatalog())
+                  .loadTable(IdentifierUtils.removeCatalogFromIdentifier(tableIdentifier)));
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
   private void toPartitionStatistics(
       PartitionStatistics partitionStatistics,
       Map<PartitionPath, List<StatisticEntry<?>>> statisticsByPartition) {
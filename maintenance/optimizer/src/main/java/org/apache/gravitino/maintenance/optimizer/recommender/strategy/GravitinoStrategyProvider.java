@@ -77,10 +77,11 @@ public class GravitinoStrategyProvider implements StrategyProvider {
             .loadCatalog(IdentifierUtils.getCatalogNameFromTableIdentifier(nameIdentifier))
             .asTableCatalog()
             .loadTable(IdentifierUtils.removeCatalogFromIdentifier(nameIdentifier));
-    String[] policyNames = t.supportsPolicies().listPolicies();
+    // Load the details of the direct and inherited policies in one request instead of fetching
+    // each listed policy separately.
+    Policy[] policyInfos = t.supportsPolicies().listPolicyInfos();
     List<Strategy> policies =
-        Arrays.stream(policyNames)
-            .map(t.supportsPolicies()::getPolicy)
+        Arrays.stream(policyInfos)
             .filter(Objects::nonNull)
             .map(this::toStrategy)
             .collect(Collectors.toList());
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.maintenance.optimizer.recommender.table;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.maintenance.optimizer.api.recommender.TableMetadataProvider;
@@ -26,11 +28,14 @@ import org.apache.gravitino.maintenance.optimizer.common.OptimizerEnv;
 import org.apache.gravitino.maintenance.optimizer.common.util.GravitinoClientUtils;
 import org.apache.gravitino.maintenance.optimizer.common.util.IdentifierUtils;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
 
 /** Table metadata provider backed by Gravitino catalog tables. */
 public class GravitinoTableMetadataProvider implements TableMetadataProvider {
   public static final String NAME = "gravitino-table-metadata-provider";
   private GravitinoClient gravitinoClient;
+  // Catalogs are loaded once, rather than for each of the tables the recommender evaluates.
+  private final ConcurrentMap<String, TableCatalog> tableCatalogs = new ConcurrentHashMap<>();
 
   /**
    * Initializes the provider with a Gravitino client derived from the optimizer configuration.
@@ -51,12 +56,15 @@ public class GravitinoTableMetadataProvider implements TableMetadataProvider {
   @Override
   public Table tableMetadata(NameIdentifier tableIdentifier) {
     IdentifierUtils.requireTableIdentifierNormalized(tableIdentifier);
-    return gravitinoClient
-        .loadCatalog(IdentifierUtils.getCatalogNameFromTableIdentifier(tableIdentifier))
-        .asTableCatalog()
+    return tableCatalog(IdentifierUtils.getCatalogNameFromTableIdentifier(tableIdentifier))
         .loadTable(IdentifierUtils.removeCatalogFromIdentifier(tableIdentifier));
   }
 
+  private TableCatalog tableCatalog(String catalogName) {
+    return tableCatalogs.computeIfAbsent(
+        catalogName, name -> gravitinoClient.loadCatalog(name).asTableCatalog());
+  }
+
   /**
    * Returns the provider name for configuration lookup.
    *
@@ -23,15 +23,34 @@ import com.alibaba.qlexpress4.Express4Runner;
 import com.alibaba.qlexpress4.InitOptions;
 import com.alibaba.qlexpress4.QLOptions;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Evaluates expressions with QLExpress. Context keys may contain {@code -}, which isn't valid in a
+ * QLExpress identifier, so such keys are rewritten to use {@code _} in both the expression and the
+ * context.
+ *
+ * <p>A strategy evaluates the same expressions against the statistics of many tables, so the
+ * rewritten expression is cached by the expression and the context key set, and QLExpress caches
+ * the script compiled from it.
+ */
 public class QLExpressionEvaluator implements ExpressionEvaluator {
   private static final Express4Runner RUNNER = new Express4Runner(InitOptions.DEFAULT_OPTIONS);
+  private static final QLOptions OPTIONS = QLOptions.builder().cache(true).build();
+  private static final int MAX_CACHED_EXPRESSIONS = 1024;
+  private static final Cache<ExpressionKey, PreparedExpression> PREPARED_EXPRESSIONS =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).build();
 
   @Override
   public long evaluateLong(String expression, Map<String, Object> context) {
@@ -46,10 +65,25 @@ public class QLExpressionEvaluator implements ExpressionEvaluator {
   private Object evaluate(String expression, Map<String, Object> context) {
     Preconditions.checkArgument(StringUtils.isNotBlank(expression), "expression is blank");
     Preconditions.checkArgument(context != null, "context is null");
-    String formattedExpression = formatExpression(expression, context);
-    return RUNNER
-        .execute(formattedExpression, formatContextKey(context), QLOptions.DEFAULT_OPTIONS)
-        .getResult();
+    PreparedExpression prepared = prepare(expression, context.keySet());
+    Map<String, Object> formattedContext =
+        prepared.renamesKeys ? formatContextKey(context) : context;
+    return RUNNER.execute(prepared.expression, formattedContext, OPTIONS).getResult();
+  }
+
+  private PreparedExpression prepare(String expression, Set<String> keys) {
+    // Look up with the key set of the context, and copy it only when caching a new expression.
+    PreparedExpression prepared =
+        PREPARED_EXPRESSIONS.getIfPresent(new ExpressionKey(expression, keys));
+    if (prepared == null) {
+      Set<String> copiedKeys = ImmutableSet.copyOf(keys);
+      prepared =
+          new PreparedExpression(
+              formatExpression(expression, copiedKeys),
+              copiedKeys.stream().anyMatch(key -> !key.equals(normalizeIdentifier(key))));
+      PREPARED_EXPRESSIONS.put(new ExpressionKey(expression, copiedKeys), prepared);
+    }
+    return prepared;
   }
 
   private Map<String, Object> formatContextKey(Map<String, Object> context) {
@@ -59,9 +93,9 @@ public class QLExpressionEvaluator implements ExpressionEvaluator {
                 entry -> normalizeIdentifier(entry.getKey()), entry -> entry.getValue()));
   }
 
-  private String formatExpression(String expression, Map<String, Object> context) {
+  private String formatExpression(String expression, Set<String> keys) {
     Map<String, String> replacements =
-        context.keySet().stream()
+        keys.stream()
             .collect(
                 Collectors.toMap(key -> key, this::normalizeIdentifier, (left, right) -> left));
     replacements.entrySet().removeIf(entry -> entry.getKey().equals(entry.getValue()));
@@ -69,8 +103,12 @@ public class QLExpressionEvaluator implements ExpressionEvaluator {
       return expression;
     }
 
+    // Try longer keys first, so "metric-1" doesn't match the start of "metric-1-extra".
     String alternation =
-        replacements.keySet().stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        replacements.keySet().stream()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|"));
     Pattern pattern = Pattern.compile("(?<![A-Za-z0-9_])(" + alternation + ")(?![A-Za-z0-9_])");
     Matcher matcher = pattern.matcher(expression);
     StringBuffer buffer = new StringBuffer();
@@ -109,4 +147,42 @@ public class QLExpressionEvaluator implements ExpressionEvaluator {
 
     throw new IllegalArgumentException("Object cannot be converted to Long");
   }
+
+  private static final class ExpressionKey {
+    private final String expression;
+    private final Set<String> keys;
+
+    private ExpressionKey(String expression, Set<String> keys) {
+      this.expression = expression;
+      this.keys = keys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ExpressionKey)) {
+        return false;
+      }
+      ExpressionKey that = (ExpressionKey) o;
+      return expression.equals(that.expression) && keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(expression, keys);
+    }
+  }
+
+  private static final class PreparedExpression {
+    private final String expression;
+    // Whether any context key has to be normalized before the expression is executed.
+    private final boolean renamesKeys;
+
+    private PreparedExpression(String expression, boolean renamesKeys) {
+      this.expression = expression;
+      this.renamesKeys = renamesKeys;
+    }
+  }
 }
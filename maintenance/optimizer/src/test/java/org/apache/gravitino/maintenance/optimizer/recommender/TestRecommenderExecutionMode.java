@@ -218,6 +218,9 @@ class TestRecommenderExecutionMode {
     OptimizerConfig config = Mockito.mock(OptimizerConfig.class);
     Mockito.when(config.getStrategyHandlerClassName(STRATEGY_TYPE))
         .thenReturn(TestStrategyHandler.class.getName());
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG)).thenReturn(2);
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_EVALUATION_TIMEOUT_MS_CONFIG))
+        .thenReturn(60_000L);
     OptimizerEnv optimizerEnv = Mockito.mock(OptimizerEnv.class);
     Mockito.when(optimizerEnv.config()).thenReturn(config);
     return new Recommender(
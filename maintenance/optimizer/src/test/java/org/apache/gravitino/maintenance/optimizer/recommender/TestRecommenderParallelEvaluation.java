@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.maintenance.optimizer.recommender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.maintenance.optimizer.api.common.Strategy;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.JobExecutionContext;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.JobSubmitter;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.StatisticsProvider;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.StrategyEvaluation;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.StrategyHandler;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.StrategyHandlerContext;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.StrategyProvider;
+import org.apache.gravitino.maintenance.optimizer.api.recommender.TableMetadataProvider;
+import org.apache.gravitino.maintenance.optimizer.common.OptimizerEnv;
+import org.apache.gravitino.maintenance.optimizer.common.conf.OptimizerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TestRecommenderParallelEvaluation {
+  private static final String STRATEGY_TYPE = "SCORE_BY_NAME";
+  private static final String STRATEGY_NAME = "s1";
+  private static final Set<String> EVALUATION_THREADS = ConcurrentHashMap.newKeySet();
+
+  @AfterEach
+  void clearThreads() {
+    EVALUATION_THREADS.clear();
+  }
+
+  @Test
+  void testRecommendKeepsTopScoresInParallel() throws Exception {
+    List<NameIdentifier> identifiers = new ArrayList<>();
+    for (int score = 1; score <= 20; score++) {
+      identifiers.add(NameIdentifier.of("catalog", "db", "table_" + score));
+    }
+    // A negative score isn't recommended.
+    identifiers.add(NameIdentifier.of("catalog", "db", "table_-1"));
+
+    try (Recommender recommender = createRecommender(identifiers, 4, 60_000L)) {
+      List<Recommender.RecommendationResult> results =
+          recommender.recommendForStrategyName(identifiers, STRATEGY_NAME, 3);
+
+      Assertions.assertEquals(
+          List.of(20L, 19L, 18L),
+          results.stream()
+              .map(Recommender.RecommendationResult::score)
+              .collect(Collectors.toList()));
+      Assertions.assertEquals(
+          NameIdentifier.of("catalog", "db", "table_20"), results.get(0).identifier());
+    }
+    Assertions.assertTrue(EVALUATION_THREADS.size() > 1, "Evaluations should run concurrently");
+    Assertions.assertTrue(
+        EVALUATION_THREADS.stream().allMatch(name -> name.startsWith("recommender-evaluator-")));
+  }
+
+  @Test
+  void testRecommendSkipsTimedOutEvaluation() throws Exception {
+    NameIdentifier slow = NameIdentifier.of("catalog", "db", "slow_100");
+    List<NameIdentifier> identifiers =
+        List.of(
+            NameIdentifier.of("catalog", "db", "table_1"),
+            slow,
+            NameIdentifier.of("catalog", "db", "table_2"));
+
+    try (Recommender recommender = createRecommender(identifiers, 2, 200L)) {
+      long start = System.nanoTime();
+      List<Recommender.RecommendationResult> results =
+          recommender.recommendForStrategyName(identifiers, STRATEGY_NAME, 10);
+
+      Assertions.assertTrue(
+          TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10,
+          "The slow evaluation should be abandoned after the timeout");
+      Assertions.assertEquals(
+          List.of(2L, 1L),
+          results.stream()
+              .map(Recommender.RecommendationResult::score)
+              .collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void testRecommendPropagatesEvaluationFailure() throws Exception {
+    List<NameIdentifier> identifiers =
+        List.of(
+            NameIdentifier.of("catalog", "db", "table_1"),
+            NameIdentifier.of("catalog", "db", "fail_1"));
+
+    try (Recommender recommender = createRecommender(identifiers, 2, 60_000L)) {
+      IllegalStateException exception =
+          Assertions.assertThrows(
+              IllegalStateException.class,
+              () -> recommender.recommendForStrategyName(identifiers, STRATEGY_NAME, 10));
+      Assertions.assertTrue(exception.getMessage().contains("fail_1"));
+    }
+  }
+
+  private static Recommender createRecommender(
+      List<NameIdentifier> identifiers, int parallelism, long timeoutMs) {
+    Strategy strategy = Mockito.mock(Strategy.class);
+    Mockito.when(strategy.name()).thenReturn(STRATEGY_NAME);
+    Mockito.when(strategy.strategyType()).thenReturn(STRATEGY_TYPE);
+    Mockito.when(strategy.jobTemplateName()).thenReturn("tpl");
+    Mockito.when(strategy.jobOptions()).thenReturn(Map.of());
+
+    StrategyProvider strategyProvider = Mockito.mock(StrategyProvider.class);
+    identifiers.forEach(
+        identifier ->
+            Mockito.when(strategyProvider.strategies(identifier)).thenReturn(List.of(strategy)));
+    Mockito.when(strategyProvider.strategy(STRATEGY_NAME)).thenReturn(strategy);
+
+    OptimizerConfig config = Mockito.mock(OptimizerConfig.class);
+    Mockito.when(config.getStrategyHandlerClassName(STRATEGY_TYPE))
+        .thenReturn(ScoreByNameStrategyHandler.class.getName());
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_PARALLELISM_CONFIG))
+        .thenReturn(parallelism);
+    Mockito.when(config.get(OptimizerConfig.RECOMMENDER_EVALUATION_TIMEOUT_MS_CONFIG))
+        .thenReturn(timeoutMs);
+    OptimizerEnv optimizerEnv = Mockito.mock(OptimizerEnv.class);
+    Mockito.when(optimizerEnv.config()).thenReturn(config);
+    return new Recommender(
+        strategyProvider,
+        Mockito.mock(StatisticsProvider.class),
+        Mockito.mock(TableMetadataProvider.class),
+        Mockito.mock(JobSubmitter.class),
+        optimizerEnv);
+  }
+
+  /**
+   * Scores a table by the number after the last underscore of its name. Tables named {@code
+   * slow_*} block until interrupted, and tables named {@code fail_*} fail the evaluation.
+   */
+  public static class ScoreByNameStrategyHandler implements StrategyHandler {
+    private StrategyHandlerContext context;
+
+    @Override
+    public void initialize(StrategyHandlerContext context) {
+      this.context = context;
+    }
+
+    @Override
+    public String strategyType() {
+      return STRATEGY_TYPE;
+    }
+
+    @Override
+    public boolean shouldTrigger() {
+      return true;
+    }
+
+    @Override
+    public StrategyEvaluation evaluate() {
+      EVALUATION_THREADS.add(Thread.currentThread().getName());
+      NameIdentifier identifier = context.nameIdentifier();
+      String name = identifier.name();
+      if (name.startsWith("fail_")) {
+        throw new IllegalStateException("Failed to evaluate " + name);
+      }
+      try {
+        Thread.sleep(name.startsWith("slow_") ? TimeUnit.MINUTES.toMillis(5) : 50L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted", e);
+      }
+
+      long score = Long.parseLong(name.substring(name.lastIndexOf('_') + 1));
+      JobExecutionContext jobExecutionContext =
+          new JobExecutionContext() {
+            @Override
+            public NameIdentifier nameIdentifier() {
+              return identifier;
+            }
+
+            @Override
+            public Map<String, String> jobOptions() {
+              return Map.of();
+            }
+
+            @Override
+            public String jobTemplateName() {
+              return context.strategy().jobTemplateName();
+            }
+          };
+      return new StrategyEvaluation() {
+        @Override
+        public long score() {
+          return score;
+        }
+
+        @Override
+        public Optional<JobExecutionContext> jobExecutionContext() {
+          return Optional.of(jobExecutionContext);
+        }
+      };
+    }
+  }
+}
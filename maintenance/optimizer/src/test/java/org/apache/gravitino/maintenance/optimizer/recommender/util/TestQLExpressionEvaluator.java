@@ -167,4 +167,27 @@ public class TestQLExpressionEvaluator {
     long result = evaluator.evaluateLong("a + metric-1", context);
     assertEquals(5L, result);
   }
+
+  @Test
+  void testCachedExpressionWithDifferentContexts() {
+    Map<String, Object> context = new HashMap<>();
+    context.put("metric-1", 1);
+    context.put("b", 2);
+    assertEquals(3L, evaluator.evaluateLong("metric-1 + b", context));
+
+    // Same key set, the cached expression is evaluated with the new values
+    context.put("metric-1", 5);
+    context.put("b", 1);
+    assertEquals(6L, evaluator.evaluateLong("metric-1 + b", context));
+
+    // Different key set, "metric-1" is a subtraction rather than a variable
+    Map<String, Object> otherContext = new HashMap<>();
+    otherContext.put("metric", 10);
+    otherContext.put("b", 2);
+    assertEquals(11L, evaluator.evaluateLong("metric-1 + b", otherContext));
+
+    // Mutating the context after the evaluation doesn't change the cached key set
+    context.put("metric-2", 7);
+    assertEquals(13L, evaluator.evaluateLong("metric-1 + b + metric-2", context));
+  }
 }
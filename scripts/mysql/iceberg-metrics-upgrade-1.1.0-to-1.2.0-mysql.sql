@@ -0,0 +1,52 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+
+CREATE TABLE commit_metrics_rollup_hourly (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hour_timestamp BIGINT NOT NULL COMMENT 'Start of the hour in milliseconds',
+    namespace VARCHAR(1024) NOT NULL COMMENT 'Namespace of the table',
+    table_name VARCHAR(255) NOT NULL COMMENT 'Table name',
+    commit_count BIGINT DEFAULT 0 COMMENT 'Number of commit reports',
+    added_data_files BIGINT DEFAULT 0 COMMENT 'Number of added data files',
+    removed_data_files BIGINT DEFAULT 0 COMMENT 'Number of removed data files',
+    added_delete_files BIGINT DEFAULT 0 COMMENT 'Number of added delete files',
+    removed_delete_files BIGINT DEFAULT 0 COMMENT 'Number of removed delete files',
+    added_records BIGINT DEFAULT 0 COMMENT 'Number of added records',
+    removed_records BIGINT DEFAULT 0 COMMENT 'Number of removed records',
+    added_files_size_in_bytes BIGINT DEFAULT 0 COMMENT 'Size of added files in bytes',
+    removed_files_size_in_bytes BIGINT DEFAULT 0 COMMENT 'Size of removed files in bytes',
+    total_duration_ms BIGINT DEFAULT 0 COMMENT 'Total commit duration in milliseconds',
+    attempts BIGINT DEFAULT 0 COMMENT 'Number of commit attempts',
+    UNIQUE KEY `uk_commit_rollup` (`hour_timestamp`, `namespace`(255), `table_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'Table for storing hourly commit metrics aggregated per table';
+
+CREATE TABLE scan_metrics_rollup_hourly (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hour_timestamp BIGINT NOT NULL COMMENT 'Start of the hour in milliseconds',
+    namespace VARCHAR(1024) NOT NULL COMMENT 'Namespace of the table',
+    table_name VARCHAR(255) NOT NULL COMMENT 'Table name',
+    scan_count BIGINT DEFAULT 0 COMMENT 'Number of scan reports',
+    result_data_files BIGINT DEFAULT 0 COMMENT 'Number of data files processed',
+    result_delete_files BIGINT DEFAULT 0 COMMENT 'Number of delete files processed',
+    scanned_data_manifests BIGINT DEFAULT 0 COMMENT 'Number of data manifests scanned',
+    skipped_data_manifests BIGINT DEFAULT 0 COMMENT 'Number of data manifests skipped',
+    skipped_data_files BIGINT DEFAULT 0 COMMENT 'Number of data files skipped',
+    total_file_size_in_bytes BIGINT DEFAULT 0 COMMENT 'Total file size in bytes',
+    total_planning_duration_ms BIGINT DEFAULT 0 COMMENT 'Total planning duration in milliseconds',
+    UNIQUE KEY `uk_scan_rollup` (`hour_timestamp`, `namespace`(255), `table_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'Table for storing hourly scan metrics aggregated per table';
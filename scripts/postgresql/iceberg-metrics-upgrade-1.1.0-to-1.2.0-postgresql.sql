@@ -0,0 +1,83 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+
+CREATE TABLE commit_metrics_rollup_hourly (
+    id BIGSERIAL PRIMARY KEY,
+    hour_timestamp BIGINT NOT NULL,
+    namespace VARCHAR(1024) NOT NULL,
+    table_name VARCHAR(255) NOT NULL,
+    commit_count BIGINT DEFAULT 0,
+    added_data_files BIGINT DEFAULT 0,
+    removed_data_files BIGINT DEFAULT 0,
+    added_delete_files BIGINT DEFAULT 0,
+    removed_delete_files BIGINT DEFAULT 0,
+    added_records BIGINT DEFAULT 0,
+    removed_records BIGINT DEFAULT 0,
+    added_files_size_in_bytes BIGINT DEFAULT 0,
+    removed_files_size_in_bytes BIGINT DEFAULT 0,
+    total_duration_ms BIGINT DEFAULT 0,
+    attempts BIGINT DEFAULT 0,
+    CONSTRAINT uk_commit_rollup UNIQUE (hour_timestamp, namespace, table_name)
+);
+
+COMMENT ON TABLE commit_metrics_rollup_hourly IS 'Table for storing hourly commit metrics aggregated per table';
+
+COMMENT ON COLUMN commit_metrics_rollup_hourly.hour_timestamp IS 'Start of the hour in milliseconds';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.namespace IS 'Namespace of the table';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.table_name IS 'Table name';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.commit_count IS 'Number of commit reports';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.added_data_files IS 'Number of added data files';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.removed_data_files IS 'Number of removed data files';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.added_delete_files IS 'Number of added delete files';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.removed_delete_files IS 'Number of removed delete files';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.added_records IS 'Number of added records';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.removed_records IS 'Number of removed records';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.added_files_size_in_bytes IS 'Size of added files in bytes';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.removed_files_size_in_bytes IS 'Size of removed files in bytes';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.total_duration_ms IS 'Total commit duration in milliseconds';
+COMMENT ON COLUMN commit_metrics_rollup_hourly.attempts IS 'Number of commit attempts';
+
+CREATE TABLE scan_metrics_rollup_hourly (
+    id BIGSERIAL PRIMARY KEY,
+    hour_timestamp BIGINT NOT NULL,
+    namespace VARCHAR(1024) NOT NULL,
+    table_name VARCHAR(255) NOT NULL,
+    scan_count BIGINT DEFAULT 0,
+    result_data_files BIGINT DEFAULT 0,
+    result_delete_files BIGINT DEFAULT 0,
+    scanned_data_manifests BIGINT DEFAULT 0,
+    skipped_data_manifests BIGINT DEFAULT 0,
+    skipped_data_files BIGINT DEFAULT 0,
+    total_file_size_in_bytes BIGINT DEFAULT 0,
+    total_planning_duration_ms BIGINT DEFAULT 0,
+    CONSTRAINT uk_scan_rollup UNIQUE (hour_timestamp, namespace, table_name)
+);
+
+COMMENT ON TABLE scan_metrics_rollup_hourly IS 'Table for storing hourly scan metrics aggregated per table';
+
+COMMENT ON COLUMN scan_metrics_rollup_hourly.hour_timestamp IS 'Start of the hour in milliseconds';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.namespace IS 'Namespace of the table';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.table_name IS 'Table name';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.scan_count IS 'Number of scan reports';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.result_data_files IS 'Number of data files processed';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.result_delete_files IS 'Number of delete files processed';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.scanned_data_manifests IS 'Number of data manifests scanned';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.skipped_data_manifests IS 'Number of data manifests skipped';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.skipped_data_files IS 'Number of data files skipped';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.total_file_size_in_bytes IS 'Total file size in bytes';
+COMMENT ON COLUMN scan_metrics_rollup_hourly.total_planning_duration_ms IS 'Total planning duration in milliseconds';
@@ -34,6 +34,10 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.exceptions.UnauthorizedException;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 public class AuthenticationFilter implements Filter {
@@ -55,6 +59,8 @@ public class AuthenticationFilter implements Filter {
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
       throws IOException, ServletException {
+    RequestPhases.begin();
+    TraceSpan rootSpan = beginTrace(request, response);
     try {
       List<Authenticator> authenticators;
       if (filterAuthenticators == null || filterAuthenticators.isEmpty()) {
@@ -71,14 +77,19 @@ public class AuthenticationFilter implements Filter {
 
       // If token is supported by multiple authenticators, use the first by default.
       Principal principal = null;
-      for (Authenticator authenticator : authenticators) {
-        if (authenticator.supportsToken(authData) && authenticator.isDataFromToken()) {
-          principal = authenticator.authenticateToken(authData);
-          if (principal != null) {
-            request.setAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME, principal);
-            break;
+      long phaseStart = RequestPhases.start(Phase.AUTH);
+      try {
+        for (Authenticator authenticator : authenticators) {
+          if (authenticator.supportsToken(authData) && authenticator.isDataFromToken()) {
+            principal = authenticator.authenticateToken(authData);
+            if (principal != null) {
+              request.setAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME, principal);
+              break;
+            }
           }
         }
+      } finally {
+        RequestPhases.stop(Phase.AUTH, phaseStart);
       }
       if (principal == null) {
         throw new UnauthorizedException("The provided credentials did not support");
@@ -103,7 +114,33 @@ public class AuthenticationFilter implements Filter {
     } catch (Exception e) {
       HttpServletResponse resp = (HttpServletResponse) response;
       resp.sendError(HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
+    } finally {
+      RequestPhases.end();
+      if (rootSpan.isRecording()) {
+        rootSpan.setAttribute(
+            "http.response.status_code", ((HttpServletResponse) response).getStatus());
+      }
+      Tracing.endTrace();
+    }
+  }
+
+  private static TraceSpan beginTrace(ServletRequest request, ServletResponse response) {
+    if (!Tracing.isEnabled()) {
+      return TraceSpan.noop();
+    }
+
+    HttpServletRequest req = (HttpServletRequest) request;
+    TraceSpan rootSpan =
+        Tracing.beginTrace(req.getMethod(), req.getHeader(Tracing.TRACEPARENT_HEADER));
+    if (rootSpan.isRecording()) {
+      rootSpan
+          .setAttribute("http.request.method", req.getMethod())
+          .setAttribute("url.path", req.getRequestURI());
+      // Let the caller find the trace of the request
+      ((HttpServletResponse) response)
+          .setHeader(Tracing.TRACEPARENT_HEADER, Tracing.currentTrace().traceparent());
     }
+    return rootSpan;
   }
 
   @Override
@@ -23,6 +23,9 @@ import com.codahale.metrics.Clock;
 import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
 import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
@@ -41,6 +44,18 @@ public class HttpServerMetricsSource extends MetricsSource {
                 new SlidingTimeWindowArrayReservoir(
                     getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
 
+    Config config = GravitinoEnv.getInstance().config();
+    long slowRequestThresholdMs =
+        config != null
+            ? config.get(Configs.METRICS_SLOW_REQUEST_THRESHOLD_MS)
+            : Configs.DEFAULT_METRICS_SLOW_REQUEST_THRESHOLD_MS;
+    double slowRequestSampleRate =
+        config != null
+            ? config.get(Configs.METRICS_SLOW_REQUEST_SAMPLE_RATE)
+            : Configs.DEFAULT_METRICS_SLOW_REQUEST_SAMPLE_RATE;
+    resourceConfig.registerInstances(
+        new RouteMetricsListener(this, slowRequestThresholdMs, slowRequestSampleRate));
+
     // Register QueuedThreadPool specific metrics with instance checks
     ThreadPool threadPool = server.getThreadPool();
     registerGauge(MetricNames.SERVER_IDLE_THREAD_NUM, () -> threadPool.getIdleThreads());
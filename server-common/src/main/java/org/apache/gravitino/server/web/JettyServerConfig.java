@@ -293,6 +293,23 @@ public final class JettyServerConfig {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> ENABLE_COMPRESSION =
+      new ConfigBuilder("enableCompression")
+          .doc(
+              "Whether to gzip responses for clients that accept it and to inflate gzip encoded "
+                  + "request bodies")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> COMPRESSION_MIN_SIZE =
+      new ConfigBuilder("compressionMinSize")
+          .doc("The minimum size in bytes of a response to be compressed")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024);
+
   private final String host;
 
   private final int httpPort;
@@ -333,6 +350,8 @@ public final class JettyServerConfig {
   private final boolean allowCredentials;
   private final String exposedHeaders;
   private final boolean chainPreflight;
+  private final boolean enableCompression;
+  private final int compressionMinSize;
 
   private final Config internalConfig;
 
@@ -409,6 +428,8 @@ public final class JettyServerConfig {
     this.allowCredentials = internalConfig.get(ALLOW_CREDENTIALS);
     this.exposedHeaders = internalConfig.get(EXPOSED_HEADERS);
     this.chainPreflight = internalConfig.get(CHAIN_PREFLIGHT);
+    this.enableCompression = internalConfig.get(ENABLE_COMPRESSION);
+    this.compressionMinSize = internalConfig.get(COMPRESSION_MIN_SIZE);
   }
 
   public static JettyServerConfig fromConfig(Config config, String prefix) {
@@ -557,6 +578,14 @@ public final class JettyServerConfig {
     return allowedHeaders;
   }
 
+  public boolean isEnableCompression() {
+    return enableCompression;
+  }
+
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
   private SSLContext getDefaultSSLContext() {
     try {
       return SSLContext.getDefault();
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.CountingOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.tracing.RequestTrace;
+import org.apache.gravitino.tracing.TraceSpan;
+import org.apache.gravitino.tracing.Tracing;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.glassfish.jersey.uri.UriTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the latency, request size and response size of every route, which is the HTTP method
+ * plus the JAX-RS path template of the matched resource method, such as {@code
+ * GET./api/metalakes/{metalake}/catalogs}. Requests slower than the threshold are counted, and a
+ * sample of them is logged with the time spent in each {@link Phase}.
+ *
+ * <p>It's also the writer interceptor that counts the bytes of the serialized response entity.
+ */
+public class RouteMetricsListener implements ApplicationEventListener, WriterInterceptor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RouteMetricsListener.class);
+
+  @VisibleForTesting static final String UNMATCHED_ROUTE = "unmatched";
+
+  private static final String RESPONSE_SIZE_PROPERTY =
+      RouteMetricsListener.class.getName() + ".responseSize";
+  // Strips the regular expression of a path parameter, such as "{path: .*}"
+  private static final Pattern PATH_PARAM_REGEX = Pattern.compile("\\{\\s*([^:}\\s]+)\\s*:[^}]*}");
+
+  private final MetricsSource metricsSource;
+  private final long slowRequestThresholdNanos;
+  private final double slowRequestSampleRate;
+  private final Counter slowRequestCounter;
+  private final ConcurrentMap<ResourceMethod, RouteMetrics> resourceMethodMetrics =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Creates a listener that registers the route metrics to the metrics source.
+   *
+   * @param metricsSource The metrics source of the HTTP server.
+   * @param slowRequestThresholdMs The latency above which a request is slow, 0 disables it.
+   * @param slowRequestSampleRate The fraction of slow requests to log.
+   */
+  public RouteMetricsListener(
+      MetricsSource metricsSource, long slowRequestThresholdMs, double slowRequestSampleRate) {
+    this.metricsSource = metricsSource;
+    this.slowRequestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestThresholdMs);
+    this.slowRequestSampleRate = slowRequestSampleRate;
+    this.slowRequestCounter = metricsSource.getCounter(MetricNames.SERVER_SLOW_REQUEST_NUM);
+  }
+
+  @Override
+  public void onEvent(ApplicationEvent event) {}
+
+  @Override
+  public RequestEventListener onRequest(RequestEvent requestEvent) {
+    return new RouteRequestListener();
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context)
+      throws IOException, WebApplicationException {
+    CountingOutputStream countingStream = new CountingOutputStream(context.getOutputStream());
+    context.setOutputStream(countingStream);
+    long phaseStart = RequestPhases.start(Phase.SERIALIZATION);
+    try {
+      context.proceed();
+    } finally {
+      RequestPhases.stop(Phase.SERIALIZATION, phaseStart);
+      context.setProperty(RESPONSE_SIZE_PROPERTY, countingStream.getCount());
+    }
+  }
+
+  /**
+   * Build the route of a request from the HTTP method and the matched path templates.
+   *
+   * @param httpMethod The HTTP method of the request.
+   * @param matchedTemplates The matched templates, from the resource method to the application.
+   * @return The route used in the metric names.
+   */
+  @VisibleForTesting
+  static String route(String httpMethod, List<UriTemplate> matchedTemplates) {
+    StringBuilder path = new StringBuilder();
+    for (int i = matchedTemplates.size() - 1; i >= 0; i--) {
+      String template = matchedTemplates.get(i).getTemplate();
+      int start = 0;
+      int end = template.length();
+      while (start < end && template.charAt(start) == '/') {
+        start++;
+      }
+      while (end > start && template.charAt(end - 1) == '/') {
+        end--;
+      }
+      if (start < end) {
+        path.append('/').append(template, start, end);
+      }
+    }
+    if (path.length() == 0) {
+      path.append('/');
+    }
+
+    // Dots separate the parts of a metric name, so they can't appear in the route.
+    String normalized = PATH_PARAM_REGEX.matcher(path).replaceAll("{$1}").replace('.', '_');
+    return httpMethod + "." + normalized;
+  }
+
+  @VisibleForTesting
+  static String metricName(String route, String metric) {
+    return MetricNames.SERVER_ROUTE_PREFIX + "." + route + "." + metric;
+  }
+
+  private RouteMetrics metricsOf(String route) {
+    return new RouteMetrics(
+        route,
+        metricsSource.getPercentileTimer(metricName(route, MetricNames.SERVER_ROUTE_LATENCY)),
+        metricsSource.getPercentileHistogram(
+            metricName(route, MetricNames.SERVER_ROUTE_REQUEST_SIZE)),
+        metricsSource.getPercentileHistogram(
+            metricName(route, MetricNames.SERVER_ROUTE_RESPONSE_SIZE)));
+  }
+
+  private static final class RouteMetrics {
+    private final String route;
+    // The route in the OpenTelemetry HTTP span convention, such as "GET /api/metalakes"
+    private final String spanName;
+    private final String path;
+    private final Timer latency;
+    private final Histogram requestSize;
+    private final Histogram responseSize;
+
+    private RouteMetrics(
+        String route, Timer latency, Histogram requestSize, Histogram responseSize) {
+      this.route = route;
+      int separator = route.indexOf('.');
+      this.spanName = route.substring(0, separator) + " " + route.substring(separator + 1);
+      this.path = route.substring(separator + 1);
+      this.latency = latency;
+      this.requestSize = requestSize;
+      this.responseSize = responseSize;
+    }
+  }
+
+  private final class RouteRequestListener implements RequestEventListener {
+    private long startNanos;
+    private RequestPhases phases;
+    private boolean ownsPhases;
+    private boolean ownsTrace;
+    private RouteMetrics routeMetrics;
+
+    @Override
+    public void onEvent(RequestEvent event) {
+      switch (event.getType()) {
+        case START:
+          startNanos = System.nanoTime();
+          // The authentication filter begins the phases of the request if it's installed.
+          phases = RequestPhases.current();
+          if (phases == null) {
+            phases = RequestPhases.begin();
+            ownsPhases = true;
+            beginTrace(event.getContainerRequest());
+          }
+          break;
+
+        case RESOURCE_METHOD_START:
+          ResourceMethod resourceMethod = event.getUriInfo().getMatchedResourceMethod();
+          if (resourceMethod != null) {
+            routeMetrics =
+                resourceMethodMetrics.computeIfAbsent(
+                    resourceMethod,
+                    ignored ->
+                        metricsOf(
+                            route(
+                                event.getContainerRequest().getMethod(),
+                                event.getUriInfo().getMatchedTemplates())));
+            RequestTrace trace = Tracing.currentTrace();
+            if (trace != null) {
+              trace
+                  .rootSpan()
+                  .updateName(routeMetrics.spanName)
+                  .setAttribute("http.route", routeMetrics.path);
+            }
+          }
+          break;
+
+        case FINISHED:
+          try {
+            onFinished(event);
+          } finally {
+            if (ownsPhases) {
+              RequestPhases.end();
+            }
+            if (ownsTrace) {
+              endTrace(event.getContainerResponse());
+            }
+          }
+          break;
+
+        default:
+          break;
+      }
+    }
+
+    private void beginTrace(ContainerRequest request) {
+      if (!Tracing.isEnabled()) {
+        return;
+      }
+      TraceSpan rootSpan =
+          Tracing.beginTrace(
+              request.getMethod(), request.getHeaderString(Tracing.TRACEPARENT_HEADER));
+      if (rootSpan.isRecording()) {
+        rootSpan
+            .setAttribute("http.request.method", request.getMethod())
+            .setAttribute("url.path", request.getRequestUri().getPath());
+        ownsTrace = true;
+      }
+    }
+
+    private void endTrace(ContainerResponse response) {
+      RequestTrace trace = Tracing.currentTrace();
+      if (trace != null && response != null) {
+        trace.rootSpan().setAttribute("http.response.status_code", response.getStatus());
+      }
+      Tracing.endTrace();
+    }
+
+    private void onFinished(RequestEvent event) {
+      long latencyNanos = System.nanoTime() - startNanos;
+      ContainerRequest request = event.getContainerRequest();
+      if (routeMetrics == null) {
+        routeMetrics = metricsOf(request.getMethod() + "." + UNMATCHED_ROUTE);
+      }
+
+      routeMetrics.latency.update(latencyNanos, TimeUnit.NANOSECONDS);
+      int requestSize = request.getLength();
+      if (requestSize >= 0) {
+        routeMetrics.requestSize.update(requestSize);
+      }
+      Object responseSize = request.getProperty(RESPONSE_SIZE_PROPERTY);
+      routeMetrics.responseSize.update(responseSize instanceof Long ? (Long) responseSize : 0L);
+
+      if (slowRequestThresholdNanos <= 0 || latencyNanos < slowRequestThresholdNanos) {
+        return;
+      }
+      slowRequestCounter.inc();
+      if (slowRequestSampleRate > 0
+          && ThreadLocalRandom.current().nextDouble() < slowRequestSampleRate) {
+        ContainerResponse response = event.getContainerResponse();
+        LOG.warn(
+            "Slow request {} {} took {} ms with status {}, phases: {}",
+            routeMetrics.route,
+            request.getRequestUri().getPath(),
+            TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+            response == null ? "unknown" : response.getStatus(),
+            phases.describe());
+      }
+    }
+  }
+}
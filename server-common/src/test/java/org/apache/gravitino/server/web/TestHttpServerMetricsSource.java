@@ -201,6 +201,7 @@ public class TestHttpServerMetricsSource {
 
     InstrumentedResourceMethodApplicationListener listener = captor.getValue();
     assertNotNull(listener);
+    verify(mockResourceConfig).registerInstances(any(RouteMetricsListener.class));
   }
 
   @Test
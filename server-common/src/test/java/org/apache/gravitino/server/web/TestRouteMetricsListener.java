@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.glassfish.jersey.uri.UriTemplate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRouteMetricsListener {
+
+  @Test
+  public void testRoute() {
+    Assertions.assertEquals(
+        "GET./api/metalakes/{metalake}/catalogs",
+        RouteMetricsListener.route(
+            "GET",
+            ImmutableList.of(
+                new UriTemplate("/{metalake}/catalogs"),
+                new UriTemplate("/api/metalakes"),
+                new UriTemplate("/"))));
+
+    Assertions.assertEquals(
+        "POST./iceberg/v1/{prefix}namespaces/{namespace}/tables",
+        RouteMetricsListener.route(
+            "POST",
+            ImmutableList.of(
+                new UriTemplate("{namespace}/tables"),
+                new UriTemplate("/iceberg/v1/{prefix:([^/]*/)?}namespaces/"))));
+
+    // Dots are not allowed in the route, and the regex of the path parameter is stripped
+    Assertions.assertEquals(
+        "GET./api/files/{path}/v1_0",
+        RouteMetricsListener.route(
+            "GET", ImmutableList.of(new UriTemplate("/api/files/{path: .*}/v1.0"))));
+
+    Assertions.assertEquals("GET./", RouteMetricsListener.route("GET", Collections.emptyList()));
+    Assertions.assertEquals(
+        MetricNames.SERVER_ROUTE_PREFIX + ".GET./api/metalakes.latency",
+        RouteMetricsListener.metricName("GET./api/metalakes", MetricNames.SERVER_ROUTE_LATENCY));
+  }
+
+  @Test
+  public void testCountResponseSize() throws Exception {
+    MetricsSource metricsSource = new MetricsSource("test") {};
+    RouteMetricsListener listener = new RouteMetricsListener(metricsSource, 1000L, 0.1);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    AtomicReference<OutputStream> stream = new AtomicReference<>(output);
+    WriterInterceptorContext context = mock(WriterInterceptorContext.class);
+    when(context.getOutputStream()).thenAnswer(invocation -> stream.get());
+    doAnswer(
+            invocation -> {
+              stream.set(invocation.getArgument(0));
+              return null;
+            })
+        .when(context)
+        .setOutputStream(any());
+    doAnswer(
+            invocation -> {
+              stream.get().write("{\"code\":0}".getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .when(context)
+        .proceed();
+
+    listener.aroundWriteTo(context);
+
+    Assertions.assertEquals(10, output.size());
+    verify(context).setProperty(anyString(), eq(10L));
+    Assertions.assertTrue(
+        metricsSource
+            .getMetricRegistry()
+            .getCounters()
+            .containsKey(MetricNames.SERVER_SLOW_REQUEST_NUM));
+  }
+}
@@ -43,6 +43,8 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.metrics.RequestPhases;
+import org.apache.gravitino.metrics.RequestPhases.Phase;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationRequest;
 import org.apache.gravitino.server.web.Utils;
@@ -143,6 +145,9 @@ public class GravitinoInterceptionService implements InterceptionService {
       AuthorizationExpression expressionAnnotation =
           method.getAnnotation(AuthorizationExpression.class);
 
+      // The authorization phase ends when the resource method is invoked.
+      long phaseStart = RequestPhases.start(Phase.AUTH);
+      boolean authorized = false;
       try {
         AuthorizationExecutor executor;
         if (expressionAnnotation != null) {
@@ -205,6 +210,8 @@ public class GravitinoInterceptionService implements InterceptionService {
             }
           }
         }
+        authorized = true;
+        RequestPhases.stop(Phase.AUTH, phaseStart);
         return methodInvocation.proceed();
       } catch (Exception ex) {
         String currentUser = PrincipalUtils.getCurrentUserName();
@@ -217,6 +224,10 @@ public class GravitinoInterceptionService implements InterceptionService {
             ex);
         return Utils.internalError(
             "Authorization failed due to system internal error. Please contact administrator.", ex);
+      } finally {
+        if (!authorized) {
+          RequestPhases.stop(Phase.AUTH, phaseStart);
+        }
       }
     }
 
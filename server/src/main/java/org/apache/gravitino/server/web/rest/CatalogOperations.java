@@ -88,7 +88,8 @@ public class CatalogOperations {
   public Response listCatalogs(
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("modifiedSince") @DefaultValue("-1") long modifiedSince) {
     LOG.info(
         "Received list catalog {} request for metalake: {}, ",
         verbose ? "infos" : "names",
@@ -100,7 +101,12 @@ public class CatalogOperations {
             Namespace catalogNS = NamespaceUtil.ofCatalog(metalake);
             // Lock the root and the metalake with WRITE lock to ensure the consistency of the list.
             if (verbose) {
-              Catalog[] catalogs = catalogDispatcher.listCatalogsInfo(catalogNS);
+              // A non-negative modifiedSince only returns the catalogs changed after it, so that
+              // the clients polling the catalogs don't need to fetch the unchanged ones.
+              Catalog[] catalogs =
+                  modifiedSince < 0
+                      ? catalogDispatcher.listCatalogsInfo(catalogNS)
+                      : catalogDispatcher.listCatalogsInfo(catalogNS, modifiedSince);
               catalogs =
                   MetadataAuthzHelper.filterByExpression(
                       metalake,
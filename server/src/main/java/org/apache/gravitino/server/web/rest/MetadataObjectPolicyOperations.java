@@ -26,6 +26,7 @@ import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
@@ -177,8 +178,10 @@ public class MetadataObjectPolicyOperations {
                     fullName, MetadataObject.Type.valueOf(type.toUpperCase(Locale.ROOT)));
 
             Set<PolicyDTO> policies = Sets.newHashSet();
-            PolicyEntity[] nonInheritedPolicies =
-                policyDispatcher.listPolicyInfosForMetadataObject(metalake, object);
+            Map<MetadataObject, PolicyEntity[]> policiesByObject =
+                policyDispatcher.listPolicyInfosForMetadataObjectHierarchies(
+                    metalake, Collections.singletonList(object));
+            PolicyEntity[] nonInheritedPolicies = policiesByObject.get(object);
             nonInheritedPolicies =
                 MetadataAuthzHelper.filterByExpression(
                     metalake,
@@ -196,8 +199,7 @@ public class MetadataObjectPolicyOperations {
 
             MetadataObject parentObject = MetadataObjects.parent(object);
             while (parentObject != null) {
-              PolicyEntity[] inheritedPolicies =
-                  policyDispatcher.listPolicyInfosForMetadataObject(metalake, parentObject);
+              PolicyEntity[] inheritedPolicies = policiesByObject.get(parentObject);
               if (ArrayUtils.isNotEmpty(inheritedPolicies)) {
                 Collections.addAll(
                     policies,
@@ -27,6 +27,7 @@ import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
@@ -181,7 +182,10 @@ public class MetadataObjectTagOperations {
                     fullName, MetadataObject.Type.valueOf(type.toUpperCase(Locale.ROOT)));
 
             Set<TagDTO> tags = Sets.newHashSet();
-            Tag[] nonInheritedTags = tagDispatcher.listTagsInfoForMetadataObject(metalake, object);
+            Map<MetadataObject, Tag[]> tagsByObject =
+                tagDispatcher.listTagsInfoForMetadataObjectHierarchies(
+                    metalake, Collections.singletonList(object));
+            Tag[] nonInheritedTags = tagsByObject.get(object);
             if (ArrayUtils.isNotEmpty(nonInheritedTags)) {
               Collections.addAll(
                   tags,
@@ -192,8 +196,7 @@ public class MetadataObjectTagOperations {
 
             MetadataObject parentObject = MetadataObjects.parent(object);
             while (parentObject != null) {
-              Tag[] inheritedTags =
-                  tagDispatcher.listTagsInfoForMetadataObject(metalake, parentObject);
+              Tag[] inheritedTags = tagsByObject.get(parentObject);
               if (ArrayUtils.isNotEmpty(inheritedTags)) {
                 Collections.addAll(
                     tags,
@@ -27,6 +27,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -202,6 +203,21 @@ public class TestCatalogOperations extends BaseOperationsTest {
     Assertions.assertEquals(
         ImmutableMap.of("key", "value", PROPERTY_IN_USE, "true"), catalogDTO2.properties());
 
+    // Only the catalogs changed since the watermark are returned.
+    when(manager.listCatalogsInfo(any(), eq(1000L))).thenReturn(new Catalog[] {catalog2});
+    Response modifiedResp =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("details", "true")
+            .queryParam("modifiedSince", 1000L)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), modifiedResp.getStatus());
+    CatalogDTO[] modifiedDTOs = modifiedResp.readEntity(CatalogListResponse.class).getCatalogs();
+    Assertions.assertEquals(1, modifiedDTOs.length);
+    Assertions.assertEquals("catalog2", modifiedDTOs[0].name());
+
     doThrow(new NoSuchMetalakeException("mock error")).when(manager).listCatalogsInfo(any());
     Response resp1 =
         target("/metalakes/metalake1/catalogs")
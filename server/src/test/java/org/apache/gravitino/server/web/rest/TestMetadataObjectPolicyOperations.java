@@ -28,6 +28,8 @@ import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -60,6 +62,7 @@ import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class TestMetadataObjectPolicyOperations extends JerseyTest {
@@ -106,6 +109,28 @@ public class TestMetadataObjectPolicyOperations extends JerseyTest {
     return resourceConfig;
   }
 
+  @BeforeEach
+  public void mockHierarchyLookup() {
+    // Resolve the bulk lookup through the per-object stubs of each test.
+    when(policyManager.listPolicyInfosForMetadataObjectHierarchies(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              String metalakeName = invocation.getArgument(0);
+              List<MetadataObject> objects = invocation.getArgument(1);
+              Map<MetadataObject, PolicyEntity[]> policiesByObject = new HashMap<>();
+              for (MetadataObject object : objects) {
+                for (MetadataObject current = object;
+                    current != null;
+                    current = MetadataObjects.parent(current)) {
+                  policiesByObject.put(
+                      current,
+                      policyManager.listPolicyInfosForMetadataObject(metalakeName, current));
+                }
+              }
+              return policiesByObject;
+            });
+  }
+
   @Test
   public void testListPoliciesForObject() {
     MetadataObject catalog = MetadataObjects.parse("object1", MetadataObject.Type.CATALOG);
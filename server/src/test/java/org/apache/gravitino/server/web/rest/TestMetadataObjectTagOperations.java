@@ -27,6 +27,8 @@ import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -56,6 +58,7 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class TestMetadataObjectTagOperations extends BaseOperationsTest {
@@ -100,6 +103,27 @@ public class TestMetadataObjectTagOperations extends BaseOperationsTest {
     return resourceConfig;
   }
 
+  @BeforeEach
+  public void mockHierarchyLookup() {
+    // Resolve the bulk lookup through the per-object stubs of each test.
+    when(tagManager.listTagsInfoForMetadataObjectHierarchies(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              String metalakeName = invocation.getArgument(0);
+              List<MetadataObject> objects = invocation.getArgument(1);
+              Map<MetadataObject, Tag[]> tagsByObject = new HashMap<>();
+              for (MetadataObject object : objects) {
+                for (MetadataObject current = object;
+                    current != null;
+                    current = MetadataObjects.parent(current)) {
+                  tagsByObject.put(
+                      current, tagManager.listTagsInfoForMetadataObject(metalakeName, current));
+                }
+              }
+              return tagsByObject;
+            });
+  }
+
   @Test
   public void testListTagsForObject() {
     MetadataObject catalog = MetadataObjects.parse("object1", MetadataObject.Type.CATALOG);
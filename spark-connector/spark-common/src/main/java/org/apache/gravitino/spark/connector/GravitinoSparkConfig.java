@@ -31,6 +31,12 @@ public class GravitinoSparkConfig {
   public static final String GRAVITINO_ENABLE_PAIMON_SUPPORT =
       GRAVITINO_PREFIX + "enablePaimonSupport";
   public static final String GRAVITINO_CLIENT_CONFIG_PREFIX = GRAVITINO_PREFIX + "client.";
+  public static final String GRAVITINO_METADATA_CACHE_TTL_MS =
+      GRAVITINO_PREFIX + "metadataCache.ttlMs";
+  public static final String GRAVITINO_METADATA_CACHE_TTL_MS_DEFAULT = "30000";
+  public static final String GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_MS =
+      GRAVITINO_PREFIX + "metadataCache.negativeTtlMs";
+  public static final String GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_MS_DEFAULT = "5000";
 
   public static final String GRAVITINO_AUTH_TYPE =
       GRAVITINO_PREFIX + AuthProperties.GRAVITINO_CLIENT_AUTH_TYPE;
@@ -41,6 +41,7 @@ import org.apache.gravitino.function.FunctionDefinition;
 import org.apache.gravitino.function.FunctionImpl;
 import org.apache.gravitino.function.JavaImpl;
 import org.apache.gravitino.spark.connector.ConnectorConstants;
+import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
 import org.apache.gravitino.spark.connector.PropertiesConverter;
 import org.apache.gravitino.spark.connector.SparkTableChangeConverter;
 import org.apache.gravitino.spark.connector.SparkTransformConverter;
@@ -62,6 +63,7 @@ import org.apache.spark.sql.connector.catalog.TableCatalog;
 import org.apache.spark.sql.connector.catalog.TableChange;
 import org.apache.spark.sql.connector.catalog.functions.UnboundFunction;
 import org.apache.spark.sql.connector.expressions.Transform;
+import org.apache.spark.sql.internal.SQLConf;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.apache.spark.sql.util.CaseInsensitiveStringMap;
@@ -92,6 +94,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
   private SparkTableChangeConverter sparkTableChangeConverter;
 
   private String catalogName;
+  private TableMetadataCache tableMetadataCache;
   private final GravitinoCatalogManager gravitinoCatalogManager;
 
   protected BaseCatalog() {
@@ -168,6 +171,17 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
     this.sparkTransformConverter = getSparkTransformConverter();
     this.sparkTypeConverter = getSparkTypeConverter();
     this.sparkTableChangeConverter = getSparkTableChangeConverter(sparkTypeConverter);
+    SQLConf sqlConf = SQLConf.get();
+    this.tableMetadataCache =
+        new TableMetadataCache(
+            Long.parseLong(
+                sqlConf.getConfString(
+                    GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_TTL_MS,
+                    GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_TTL_MS_DEFAULT)),
+            Long.parseLong(
+                sqlConf.getConfString(
+                    GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_MS,
+                    GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_MS_DEFAULT)));
   }
 
   @Override
@@ -223,6 +237,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
                   partitionings,
                   distributionAndSortOrdersInfo.getDistribution(),
                   distributionAndSortOrdersInfo.getSortOrders());
+      tableMetadataCache.putTable(gravitinoIdentifier, gravitinoTable);
       org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
       return createSparkTable(
           ident,
@@ -264,13 +279,15 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
         Arrays.stream(changes)
             .map(sparkTableChangeConverter::toGravitinoTableChange)
             .toArray(org.apache.gravitino.rel.TableChange[]::new);
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     try {
       sparkCatalog.invalidateTable(ident);
+      tableMetadataCache.invalidateTable(gravitinoIdentifier);
       org.apache.gravitino.rel.Table gravitinoTable =
           gravitinoCatalogClient
               .asTableCatalog()
-              .alterTable(
-                  NameIdentifier.of(getDatabase(ident), ident.name()), gravitinoTableChanges);
+              .alterTable(gravitinoIdentifier, gravitinoTableChanges);
+      tableMetadataCache.putTable(gravitinoIdentifier, gravitinoTable);
       org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
       return createSparkTable(
           ident,
@@ -287,18 +304,18 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
 
   @Override
   public boolean dropTable(Identifier ident) {
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .dropTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    tableMetadataCache.invalidateTable(gravitinoIdentifier);
+    return gravitinoCatalogClient.asTableCatalog().dropTable(gravitinoIdentifier);
   }
 
   @Override
   public boolean purgeTable(Identifier ident) {
+    NameIdentifier gravitinoIdentifier = NameIdentifier.of(getDatabase(ident), ident.name());
     sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    tableMetadataCache.invalidateTable(gravitinoIdentifier);
+    return gravitinoCatalogClient.asTableCatalog().purgeTable(gravitinoIdentifier);
   }
 
   @Override
@@ -328,11 +345,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
         newDatabase.equals(oldDatabase), "Doesn't support rename table to different database");
     org.apache.gravitino.rel.TableChange rename =
         org.apache.gravitino.rel.TableChange.rename(newIdent.name());
+    NameIdentifier oldGravitinoIdentifier = NameIdentifier.of(oldDatabase, oldIdent.name());
     try {
       sparkCatalog.invalidateTable(oldIdent);
-      gravitinoCatalogClient
-          .asTableCatalog()
-          .alterTable(NameIdentifier.of(getDatabase(oldIdent), oldIdent.name()), rename);
+      tableMetadataCache.invalidateTable(oldGravitinoIdentifier);
+      tableMetadataCache.invalidateTable(NameIdentifier.of(newDatabase, newIdent.name()));
+      gravitinoCatalogClient.asTableCatalog().alterTable(oldGravitinoIdentifier, rename);
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(oldIdent);
     }
@@ -415,6 +433,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
       throws NoSuchNamespaceException, NonEmptyNamespaceException {
     validateNamespace(namespace);
     try {
+      tableMetadataCache.invalidateNamespace(Namespace.of(namespace[0]));
       return gravitinoCatalogClient.asSchemas().dropSchema(namespace[0], cascade);
     } catch (NonEmptySchemaException e) {
       throw new NonEmptyNamespaceException(namespace);
@@ -425,9 +444,10 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
       throws NoSuchTableException {
     try {
       String database = getDatabase(ident);
-      return gravitinoCatalogClient
-          .asTableCatalog()
-          .loadTable(NameIdentifier.of(database, ident.name()));
+      return tableMetadataCache.loadTable(
+          NameIdentifier.of(database, ident.name()),
+          gravitinoIdentifier ->
+              gravitinoCatalogClient.asTableCatalog().loadTable(gravitinoIdentifier));
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(ident);
     }
@@ -437,11 +457,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
       throws NoSuchTableException {
     try {
       String database = getDatabase(ident);
-      return gravitinoCatalogClient
-          .asTableCatalog()
-          .loadTable(
-              NameIdentifier.of(database, ident.name()),
-              Sets.newHashSet(Privilege.Name.MODIFY_TABLE));
+      return tableMetadataCache.loadTableForWriting(
+          NameIdentifier.of(database, ident.name()),
+          gravitinoIdentifier ->
+              gravitinoCatalogClient
+                  .asTableCatalog()
+                  .loadTable(gravitinoIdentifier, Sets.newHashSet(Privilege.Name.MODIFY_TABLE)));
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(ident);
     }
@@ -617,5 +638,6 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces, F
   @Override
   public void invalidateTable(Identifier ident) {
     sparkCatalog.invalidateTable(ident);
+    tableMetadataCache.invalidateTable(NameIdentifier.of(getDatabase(ident), ident.name()));
   }
 }
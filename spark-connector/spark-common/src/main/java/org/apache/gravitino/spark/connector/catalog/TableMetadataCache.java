@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.spark.connector.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * TableMetadataCache caches the Gravitino tables loaded by a {@link BaseCatalog}. Spark creates a
+ * catalog instance per session, so the cache is session-scoped.
+ *
+ * <p>Spark's analyzer resolves a relation every time it's referenced, so queries joining many
+ * tables or repeated {@code spark.table} calls would otherwise send bursts of identical requests to
+ * the Gravitino server. Tables that don't exist are cached for a shorter time, which serves the
+ * existence checks of {@code CREATE TABLE IF NOT EXISTS} and similar statements. The catalog
+ * invalidates the entries touched by its own DDL, and {@code REFRESH TABLE} invalidates a table
+ * explicitly. Changes made by other sessions become visible once the entries expire.
+ */
+class TableMetadataCache {
+
+  private static final long MAX_CACHED_TABLES = 10_000L;
+
+  private final boolean enabled;
+  // An empty value means the table doesn't exist.
+  private final Cache<NameIdentifier, Optional<Table>> tables;
+  // Tables loaded with the privilege to modify them.
+  private final Cache<NameIdentifier, Table> writableTables;
+
+  /**
+   * Creates a table metadata cache.
+   *
+   * @param ttlMs The time to live of the cached tables in milliseconds, 0 disables the cache.
+   * @param negativeTtlMs The time to live of the tables which don't exist in milliseconds, 0
+   *     disables negative caching.
+   */
+  TableMetadataCache(long ttlMs, long negativeTtlMs) {
+    this.enabled = ttlMs > 0;
+    long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(ttlMs, negativeTtlMs));
+    this.tables =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TABLES)
+            .expireAfter(
+                new Expiry<NameIdentifier, Optional<Table>>() {
+                  @Override
+                  public long expireAfterCreate(
+                      NameIdentifier key, Optional<Table> value, long currentTime) {
+                    return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      NameIdentifier key,
+                      Optional<Table> value,
+                      long currentTime,
+                      long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      NameIdentifier key,
+                      Optional<Table> value,
+                      long currentTime,
+                      long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .build();
+    this.writableTables =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TABLES)
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  /**
+   * Returns the cached table, or loads it if it's not cached. Concurrent loads of the same table
+   * share a single request.
+   *
+   * @param ident The identifier of the table, in "schema.table" format.
+   * @param loader The function to load the table from the Gravitino server.
+   * @return The table.
+   * @throws NoSuchTableException If the table doesn't exist.
+   */
+  Table loadTable(NameIdentifier ident, Function<NameIdentifier, Table> loader)
+      throws NoSuchTableException {
+    if (!enabled) {
+      return loader.apply(ident);
+    }
+
+    Optional<Table> table =
+        tables.get(
+            ident,
+            key -> {
+              try {
+                return Optional.of(loader.apply(key));
+              } catch (NoSuchTableException e) {
+                return Optional.empty();
+              }
+            });
+    if (!table.isPresent()) {
+      throw new NoSuchTableException("Table %s does not exist", ident);
+    }
+    return table.get();
+  }
+
+  /**
+   * Returns the cached table loaded with the privilege to modify it, or loads it if it's not
+   * cached. The loaded table also serves the later reads of the table.
+   *
+   * @param ident The identifier of the table, in "schema.table" format.
+   * @param loader The function to load the table from the Gravitino server.
+   * @return The table.
+   * @throws NoSuchTableException If the table doesn't exist.
+   */
+  Table loadTableForWriting(NameIdentifier ident, Function<NameIdentifier, Table> loader)
+      throws NoSuchTableException {
+    if (!enabled) {
+      return loader.apply(ident);
+    }
+
+    return writableTables.get(
+        ident,
+        key -> {
+          Table table = loader.apply(key);
+          tables.put(key, Optional.of(table));
+          return table;
+        });
+  }
+
+  /**
+   * Caches a table created or altered by the catalog.
+   *
+   * @param ident The identifier of the table, in "schema.table" format.
+   * @param table The table.
+   */
+  void putTable(NameIdentifier ident, Table table) {
+    invalidateTable(ident);
+    if (enabled) {
+      tables.put(ident, Optional.of(table));
+    }
+  }
+
+  /**
+   * Invalidates a table.
+   *
+   * @param ident The identifier of the table, in "schema.table" format.
+   */
+  void invalidateTable(NameIdentifier ident) {
+    tables.invalidate(ident);
+    writableTables.invalidate(ident);
+  }
+
+  /**
+   * Invalidates the tables of a schema.
+   *
+   * @param namespace The namespace of the schema.
+   */
+  void invalidateNamespace(Namespace namespace) {
+    tables.asMap().keySet().removeIf(ident -> ident.namespace().equals(namespace));
+    writableTables.asMap().keySet().removeIf(ident -> ident.namespace().equals(namespace));
+  }
+
+  @VisibleForTesting
+  long size() {
+    tables.cleanUp();
+    return tables.estimatedSize();
+  }
+}
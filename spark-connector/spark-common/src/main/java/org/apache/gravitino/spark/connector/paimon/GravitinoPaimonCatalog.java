@@ -20,7 +20,6 @@
 package org.apache.gravitino.spark.connector.paimon;
 
 import java.util.Map;
-import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.lakehouse.paimon.PaimonPropertiesUtils;
 import org.apache.gravitino.spark.connector.PropertiesConverter;
 import org.apache.gravitino.spark.connector.SparkTransformConverter;
@@ -76,9 +75,6 @@ public class GravitinoPaimonCatalog extends BaseCatalog {
 
   @Override
   public boolean dropTable(Identifier ident) {
-    sparkCatalog.invalidateTable(ident);
-    return gravitinoCatalogClient
-        .asTableCatalog()
-        .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
+    return purgeTable(ident);
   }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.spark.connector.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableMetadataCache {
+
+  private static final NameIdentifier IDENT = NameIdentifier.of("db", "t1");
+
+  @Test
+  void testLoadTableCached() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 60_000);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader = countingLoader(loads);
+
+    Table table = cache.loadTable(IDENT, loader);
+    Assertions.assertSame(table, cache.loadTable(IDENT, loader));
+    Assertions.assertEquals(1, loads.get());
+
+    cache.invalidateTable(IDENT);
+    cache.loadTable(IDENT, loader);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testNegativeCache() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 60_000);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader =
+        ident -> {
+          loads.incrementAndGet();
+          throw new NoSuchTableException("Table %s does not exist", ident);
+        };
+
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertEquals(1, loads.get());
+
+    // A table created by this session replaces the negative entry.
+    Table created = newTable(IDENT.name());
+    cache.putTable(IDENT, created);
+    Assertions.assertSame(created, cache.loadTable(IDENT, loader));
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testNegativeCacheDisabled() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 0);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader =
+        ident -> {
+          loads.incrementAndGet();
+          throw new NoSuchTableException("Table %s does not exist", ident);
+        };
+
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertThrows(NoSuchTableException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testForbiddenNotCached() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 60_000);
+    AtomicInteger loads = new AtomicInteger();
+    Function<NameIdentifier, Table> loader =
+        ident -> {
+          loads.incrementAndGet();
+          throw new ForbiddenException("User can't load table %s", ident);
+        };
+
+    Assertions.assertThrows(ForbiddenException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertThrows(ForbiddenException.class, () -> cache.loadTable(IDENT, loader));
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testLoadTableForWriting() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 60_000);
+    AtomicInteger writeLoads = new AtomicInteger();
+    AtomicInteger readLoads = new AtomicInteger();
+
+    Table table = cache.loadTableForWriting(IDENT, countingLoader(writeLoads));
+    Assertions.assertSame(table, cache.loadTableForWriting(IDENT, countingLoader(writeLoads)));
+    Assertions.assertSame(table, cache.loadTable(IDENT, countingLoader(readLoads)));
+    Assertions.assertEquals(1, writeLoads.get());
+    Assertions.assertEquals(0, readLoads.get());
+
+    // A read doesn't grant the privilege to write.
+    cache.invalidateTable(IDENT);
+    cache.loadTable(IDENT, countingLoader(readLoads));
+    cache.loadTableForWriting(IDENT, countingLoader(writeLoads));
+    Assertions.assertEquals(2, writeLoads.get());
+  }
+
+  @Test
+  void testInvalidateNamespace() {
+    TableMetadataCache cache = new TableMetadataCache(60_000, 60_000);
+    NameIdentifier other = NameIdentifier.of("db2", "t1");
+    cache.loadTable(IDENT, countingLoader(new AtomicInteger()));
+    cache.loadTableForWriting(NameIdentifier.of("db", "t2"), countingLoader(new AtomicInteger()));
+    cache.loadTable(other, countingLoader(new AtomicInteger()));
+    Assertions.assertEquals(3, cache.size());
+
+    cache.invalidateNamespace(IDENT.namespace());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testCacheDisabled() {
+    TableMetadataCache cache = new TableMetadataCache(0, 0);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.loadTable(IDENT, countingLoader(loads));
+    cache.loadTable(IDENT, countingLoader(loads));
+    cache.putTable(IDENT, newTable(IDENT.name()));
+    cache.loadTable(IDENT, countingLoader(loads));
+    Assertions.assertEquals(3, loads.get());
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  private static Function<NameIdentifier, Table> countingLoader(AtomicInteger loads) {
+    return ident -> {
+      loads.incrementAndGet();
+      return newTable(ident.name());
+    };
+  }
+
+  private static Table newTable(String name) {
+    return new Table() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public Column[] columns() {
+        return new Column[0];
+      }
+
+      @Override
+      public Audit auditInfo() {
+        return null;
+      }
+    };
+  }
+}
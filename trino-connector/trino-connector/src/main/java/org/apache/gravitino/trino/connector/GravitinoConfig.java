@@ -127,6 +127,27 @@ public class GravitinoConfig {
           "10",
           false);
 
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_TTL_SECOND =
+      new ConfigEntry(
+          "gravitino.metadata.cache-ttl-seconds",
+          "The time-to-live in seconds of the cached schema and table metadata of a catalog, 0 disables the cache",
+          "0",
+          false);
+
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_SECOND =
+      new ConfigEntry(
+          "gravitino.metadata.cache-negative-ttl-seconds",
+          "The time-to-live in seconds of the cached nonexistent schemas and tables, 0 disables negative caching",
+          "0",
+          false);
+
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_MAX_SIZE =
+      new ConfigEntry(
+          "gravitino.metadata.cache-max-size",
+          "The maximum number of cached schemas and tables of a catalog",
+          "10000",
+          false);
+
   private static final ConfigEntry GRAVITINO_TRINO_SKIP_VERSION_VALIDATION =
       new ConfigEntry(
           "gravitino.trino.skip-version-validation",
@@ -337,6 +358,41 @@ public class GravitinoConfig {
         GRAVITINO_METADATA_REFRESH_INTERVAL_SECOND.defaultValue);
   }
 
+  /**
+   * Retrieves the time-to-live in seconds of the cached catalog metadata.
+   *
+   * @return the time-to-live in seconds, 0 means the cache is disabled
+   */
+  public long getMetadataCacheTtlSecond() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_METADATA_CACHE_TTL_SECOND.key,
+            GRAVITINO_METADATA_CACHE_TTL_SECOND.defaultValue));
+  }
+
+  /**
+   * Retrieves the time-to-live in seconds of the cached nonexistent schemas and tables.
+   *
+   * @return the time-to-live in seconds, 0 means negative caching is disabled
+   */
+  public long getMetadataCacheNegativeTtlSecond() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_SECOND.key,
+            GRAVITINO_METADATA_CACHE_NEGATIVE_TTL_SECOND.defaultValue));
+  }
+
+  /**
+   * Retrieves the maximum number of cached schemas and tables of a catalog.
+   *
+   * @return the maximum number of cached entries
+   */
+  public long getMetadataCacheMaxSize() {
+    return Long.parseLong(
+        config.getOrDefault(
+            GRAVITINO_METADATA_CACHE_MAX_SIZE.key, GRAVITINO_METADATA_CACHE_MAX_SIZE.defaultValue));
+  }
+
   /**
    * Whether skip Trino version validation or not.
    *
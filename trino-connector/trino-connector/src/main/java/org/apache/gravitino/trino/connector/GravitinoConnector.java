@@ -63,7 +63,10 @@ public class GravitinoConnector implements Connector {
     this.catalogIdentifier = catalogConnectorContext.getCatalog().geNameIdentifier();
     this.catalogConnectorContext = catalogConnectorContext;
     this.connectorMetadata =
-        new CatalogConnectorMetadata(catalogConnectorContext.getMetalake(), this.catalogIdentifier);
+        new CatalogConnectorMetadata(
+            catalogConnectorContext.getMetalake(),
+            this.catalogIdentifier,
+            catalogConnectorContext.getConfig());
   }
 
   @Override
@@ -181,6 +184,7 @@ public class GravitinoConnector implements Connector {
   public void shutdown() {
     Connector internalConnector = catalogConnectorContext.getInternalConnector();
     internalConnector.shutdown();
+    connectorMetadata.close();
     catalogConnectorContext.close();
   }
 }
@@ -25,6 +25,7 @@ import io.trino.spi.session.PropertyMetadata;
 import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoConnector;
 import org.apache.gravitino.trino.connector.GravitinoConnectorPluginManager;
 import org.apache.gravitino.trino.connector.metadata.GravitinoCatalog;
@@ -47,6 +48,8 @@ public class CatalogConnectorContext {
 
   private final CatalogConnectorAdapter adapter;
 
+  private final GravitinoConfig config;
+
   /**
    * Constructs a new CatalogConnectorContext.
    *
@@ -60,10 +63,29 @@ public class CatalogConnectorContext {
       GravitinoMetalake metalake,
       Connector internalConnector,
       CatalogConnectorAdapter adapter) {
+    this(catalog, metalake, internalConnector, adapter, null);
+  }
+
+  /**
+   * Constructs a new CatalogConnectorContext.
+   *
+   * @param catalog the Gravitino catalog
+   * @param metalake the Gravitino metalake
+   * @param internalConnector the internal connector
+   * @param adapter the catalog connector adapter
+   * @param config the Gravitino connector configuration, may be null
+   */
+  public CatalogConnectorContext(
+      GravitinoCatalog catalog,
+      GravitinoMetalake metalake,
+      Connector internalConnector,
+      CatalogConnectorAdapter adapter,
+      GravitinoConfig config) {
     this.catalog = catalog;
     this.metalake = metalake;
     this.internalConnector = internalConnector;
     this.adapter = adapter;
+    this.config = config;
   }
 
   /**
@@ -93,6 +115,15 @@ public class CatalogConnectorContext {
     return catalog;
   }
 
+  /**
+   * Returns the Gravitino connector configuration associated with this context.
+   *
+   * @return the Gravitino connector configuration, or null if it is not set
+   */
+  public GravitinoConfig getConfig() {
+    return config;
+  }
+
   /**
    * Returns the Gravitino connector associated with this context.
    *
@@ -158,6 +189,7 @@ public class CatalogConnectorContext {
     private GravitinoCatalog catalog;
     private GravitinoMetalake metalake;
     private ConnectorContext context;
+    private GravitinoConfig config;
 
     /**
      * Constructs a new Builder with the specified connector adapter.
@@ -211,6 +243,17 @@ public class CatalogConnectorContext {
       return this;
     }
 
+    /**
+     * Sets the Gravitino connector configuration to use for the connector.
+     *
+     * @param config the configuration to use
+     * @return the builder
+     */
+    public Builder withConfig(GravitinoConfig config) {
+      this.config = config;
+      return this;
+    }
+
     /**
      * Builds a new CatalogConnectorContext instance.
      *
@@ -227,7 +270,7 @@ public class CatalogConnectorContext {
       Connector connector =
           GravitinoConnectorPluginManager.instance(context.getClass().getClassLoader())
               .createConnector(internalConnectorName, connectorConfig, context);
-      return new CatalogConnectorContext(catalog, metalake, connector, connectorAdapter);
+      return new CatalogConnectorContext(catalog, metalake, connector, connectorAdapter, config);
     }
   }
 }
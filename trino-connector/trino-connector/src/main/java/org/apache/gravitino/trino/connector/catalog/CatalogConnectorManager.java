@@ -18,11 +18,13 @@
  */
 package org.apache.gravitino.trino.connector.catalog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorContext;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
@@ -60,6 +63,10 @@ public class CatalogConnectorManager {
 
   private static final int NUMBER_EXECUTOR_THREAD = 1;
   private static final int LOAD_METALAKE_TIMEOUT = 60;
+  // The catalogs modified within this window before the watermark are fetched again, so a catalog
+  // change committed with an earlier timestamp than an already seen one isn't missed.
+  private static final long WATERMARK_LOOKBACK_MS = 60_000L;
+  private static final long MAX_SYNC_BACKOFF_MS = 300_000L;
 
   private int metadataUpdateIntervalSecond = 10;
 
@@ -72,6 +79,7 @@ public class CatalogConnectorManager {
 
   private String targetMetalake;
   private final Map<String, GravitinoMetalake> metalakes = new ConcurrentHashMap<>();
+  private final Map<String, MetalakeSyncState> syncStates = new ConcurrentHashMap<>();
 
   private GravitinoAdminClient gravitinoClient;
   private GravitinoConfig config;
@@ -161,14 +169,39 @@ public class CatalogConnectorManager {
         }
       }
 
+      syncStates.keySet().retainAll(usedMetalakes);
       for (String usedMetalake : usedMetalakes) {
+        MetalakeSyncState state =
+            syncStates.computeIfAbsent(usedMetalake, k -> new MetalakeSyncState());
+        long now = System.currentTimeMillis();
+        if (now < state.nextSyncTimeMs) {
+          LOG.debug("Skip loading metalake {} until {}.", usedMetalake, state.nextSyncTimeMs);
+          continue;
+        }
+
+        boolean synced = false;
         try {
           GravitinoMetalake metalake = metalakes.get(usedMetalake);
           LOG.debug("Load metalake: {}", usedMetalake);
-          loadCatalogs(metalake);
+          loadCatalogs(metalake, state);
+          synced = true;
         } catch (Exception e) {
           LOG.error("Load Metalake {} failed.", usedMetalake, e);
         }
+
+        if (synced) {
+          state.failures = 0;
+          state.nextSyncTimeMs = 0;
+        } else {
+          state.failures++;
+          long backoffMs = syncBackoffMs(state.failures, metadataUpdateIntervalSecond * 1000L);
+          state.nextSyncTimeMs = now + backoffMs;
+          LOG.warn(
+              "Failed to sync metalake {} {} times in a row, retry in {} ms.",
+              usedMetalake,
+              state.failures,
+              backoffMs);
+        }
       }
     } catch (Exception e) {
       LOG.error("Error when loading metalake", e);
@@ -192,17 +225,33 @@ public class CatalogConnectorManager {
     }
   }
 
-  private void loadCatalogs(GravitinoMetalake metalake) {
-    List<String> catalogNames;
-    try {
-      catalogNames =
-          Arrays.stream(metalake.listCatalogs())
-              .filter(id -> !skipCatalog(getTrinoCatalogName(metalake.name(), id)))
-              .collect(Collectors.toList());
-    } catch (Exception e) {
-      LOG.error("Failed to list catalogs in metalake {}.", metalake.name(), e);
-      return;
-    }
+  /**
+   * Computes the delay before syncing a metalake again after consecutive failures. The delay
+   * doubles with each failure, starting from the refresh interval, and is capped at 5 minutes or
+   * the refresh interval if it's longer.
+   *
+   * @param failures the number of consecutive failures
+   * @param intervalMs the metadata refresh interval in milliseconds
+   * @return the delay in milliseconds
+   */
+  @VisibleForTesting
+  static long syncBackoffMs(int failures, long intervalMs) {
+    long maxBackoffMs = Math.max(intervalMs, MAX_SYNC_BACKOFF_MS);
+    int shift = Math.min(Math.max(failures - 1, 0), 30);
+    return Math.min(intervalMs << shift, maxBackoffMs);
+  }
+
+  /**
+   * Syncs the catalogs of a metalake. Only the catalogs changed since the watermark of the last
+   * successful sync are fetched, the dropped catalogs are detected by listing the catalog names. A
+   * catalog that fails to apply is forgotten, so it's loaded individually by the next sync without
+   * holding back the watermark of the other catalogs.
+   */
+  private void loadCatalogs(GravitinoMetalake metalake, MetalakeSyncState state) {
+    Set<String> catalogNames =
+        Arrays.stream(metalake.listCatalogs())
+            .filter(id -> !skipCatalog(getTrinoCatalogName(metalake.name(), id)))
+            .collect(Collectors.toSet());
 
     LOG.debug("Load metalake {}'s catalogs. catalogs: {}.", metalake.name(), catalogNames);
 
@@ -224,36 +273,63 @@ public class CatalogConnectorManager {
         }
       }
     }
+    state.knownCatalogs.retainAll(catalogNames);
+
+    // Fetch the catalogs changed since the last sync. The servers not supporting the watermark
+    // return all catalogs, which is still correct since the unchanged ones are skipped by the
+    // modified time comparison in reloadCatalog.
+    long since = state.watermark < 0 ? -1 : Math.max(state.watermark - WATERMARK_LOOKBACK_MS, 0);
+    Map<String, Catalog> changedCatalogs = new HashMap<>();
+    for (Catalog catalog : metalake.listCatalogsInfo(since)) {
+      if (catalogNames.contains(catalog.name())) {
+        changedCatalogs.put(catalog.name(), catalog);
+      }
+    }
+
+    // A catalog never seen before or failed to apply, but older than the watermark, load it
+    // individually.
+    for (String catalogName : catalogNames) {
+      if (!state.knownCatalogs.contains(catalogName) && !changedCatalogs.containsKey(catalogName)) {
+        try {
+          changedCatalogs.put(catalogName, metalake.loadCatalog(catalogName));
+        } catch (NoSuchCatalogException e) {
+          LOG.debug("Catalog {} in metalake {} was dropped.", catalogName, metalake.name());
+        }
+      }
+    }
 
     // Load new catalogs belows to the metalake.
-    catalogNames.stream()
-        .forEach(
-            (String catalogName) -> {
-              try {
-                Catalog catalog = metalake.loadCatalog(catalogName);
-                GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
-                if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
-                  // Reload catalogs that have been updated in Gravitino server.
-                  reloadCatalog(gravitinoCatalog);
-                } else {
-                  if (catalog.type() == Catalog.Type.RELATIONAL
-                      && catalogConnectorFactory
-                          .getSupportedCatalogProviders()
-                          .contains(gravitinoCatalog.getProvider())) {
-                    loadCatalog(gravitinoCatalog);
-                  }
-                }
-              } catch (UnsupportedOperationException e) {
-                LOG.warn(
-                    "Unsupported catalog type for catalog {} in metalake {}: {}",
-                    catalogName,
-                    metalake.name(),
-                    e.getMessage());
-              } catch (Exception e) {
-                LOG.error(
-                    "Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
-              }
-            });
+    long watermark = state.watermark;
+    for (Catalog catalog : changedCatalogs.values()) {
+      String catalogName = catalog.name();
+      try {
+        GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
+        if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
+          // Reload catalogs that have been updated in Gravitino server.
+          reloadCatalog(gravitinoCatalog);
+        } else {
+          if (catalog.type() == Catalog.Type.RELATIONAL
+              && catalogConnectorFactory
+                  .getSupportedCatalogProviders()
+                  .contains(gravitinoCatalog.getProvider())) {
+            loadCatalog(gravitinoCatalog);
+          }
+        }
+        state.knownCatalogs.add(catalogName);
+        watermark = Math.max(watermark, gravitinoCatalog.getLastModifiedTime());
+      } catch (UnsupportedOperationException e) {
+        state.knownCatalogs.add(catalogName);
+        LOG.warn(
+            "Unsupported catalog type for catalog {} in metalake {}: {}",
+            catalogName,
+            metalake.name(),
+            e.getMessage());
+      } catch (Exception e) {
+        state.knownCatalogs.remove(catalogName);
+        LOG.error("Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
+      }
+    }
+    state.watermark = watermark;
   }
 
   private void reloadCatalog(GravitinoCatalog catalog) {
@@ -397,7 +473,8 @@ public class CatalogConnectorManager {
           catalogConnectorFactory.createCatalogConnectorContextBuilder(catalog);
       builder
           .withMetalake(metalakes.computeIfAbsent(catalog.getMetalake(), this::retrieveMetalake))
-          .withContext(context);
+          .withContext(context)
+          .withConfig(this.config);
 
       CatalogConnectorContext connectorContext = builder.build();
       String fullCatalogName = getTrinoCatalogName(catalog);
@@ -454,4 +531,13 @@ public class CatalogConnectorManager {
   public interface TrinoCatalogNameHandler {
     String getCatalogName(String metalake, String catalog);
   }
+
+  /** The incremental sync state of a metalake, only accessed by the schedule thread. */
+  private static class MetalakeSyncState {
+    // The latest modified time of the catalogs applied, -1 means all catalogs should be fetched.
+    private long watermark = -1;
+    private final Set<String> knownCatalogs = new HashSet<>();
+    private int failures;
+    private long nextSyncTimeMs;
+  }
 }
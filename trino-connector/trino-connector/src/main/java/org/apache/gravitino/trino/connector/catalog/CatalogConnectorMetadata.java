@@ -18,12 +18,18 @@
  */
 package org.apache.gravitino.trino.connector.catalog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.SchemaTableName;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -40,28 +46,67 @@ import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
 import org.apache.gravitino.trino.connector.metadata.GravitinoColumn;
 import org.apache.gravitino.trino.connector.metadata.GravitinoSchema;
 import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
 
-/** This class implements Apache Gravitino metadata operators. */
+/**
+ * This class implements Apache Gravitino metadata operators.
+ *
+ * <p>When {@code gravitino.metadata.cache-ttl-seconds} is positive, the loaded schemas, tables and
+ * their name lists are cached per catalog, so that the repeated lookups issued while planning a
+ * query don't go to the Gravitino server. With a positive {@code
+ * gravitino.metadata.cache-negative-ttl-seconds} the nonexistent schemas and tables are cached as
+ * well. The DDL issued through this connector invalidates the affected entries, changes made by
+ * other clients become visible after the TTL.
+ */
 public class CatalogConnectorMetadata {
 
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema does not exist";
+  private static final String TABLE_DOES_NOT_EXIST_MSG = "Table does not exist";
+  private static final String ALL_SCHEMAS_KEY = "";
 
   private final String catalogName;
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
 
+  // All the caches are null if the metadata cache is disabled, the negative caches are null if
+  // the negative caching is disabled.
+  private final Cache<String, List<String>> schemaNamesCache;
+  private final Cache<String, GravitinoSchema> schemaCache;
+  private final Cache<String, List<String>> tableNamesCache;
+  private final Cache<SchemaTableName, GravitinoTable> tableCache;
+  private final Cache<String, Boolean> missingSchemaCache;
+  private final Cache<SchemaTableName, Boolean> missingTableCache;
+  private final CatalogConnectorMetadataCacheStats cacheStats =
+      new CatalogConnectorMetadataCacheStats();
+  // Bumped by every invalidation, a load that races with an invalidation doesn't populate the
+  // cache, so it can't re-insert the metadata that the DDL just changed.
+  private final AtomicLong cacheVersion = new AtomicLong();
+
   /**
-   * Constructs a new CatalogConnectorMetadata.
+   * Constructs a new CatalogConnectorMetadata without the metadata cache.
    *
    * @param metalake the Gravitino metalake
    * @param catalogIdentifier the name of the catalog
    */
   public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
+    this(metalake, catalogIdentifier, null);
+  }
+
+  /**
+   * Constructs a new CatalogConnectorMetadata.
+   *
+   * @param metalake the Gravitino metalake
+   * @param catalogIdentifier the name of the catalog
+   * @param config the Gravitino connector configuration, the metadata cache is disabled if it's
+   *     null
+   */
+  public CatalogConnectorMetadata(
+      GravitinoMetalake metalake, NameIdentifier catalogIdentifier, GravitinoConfig config) {
     try {
       this.catalogName = catalogIdentifier.name();
       Catalog catalog = metalake.loadCatalog(catalogName);
@@ -77,6 +122,50 @@ public class CatalogConnectorMetadata {
           "Catalog does not support schema or table operations." + e.getMessage(),
           e);
     }
+
+    long ttlSecond = config == null ? 0 : config.getMetadataCacheTtlSecond();
+    if (ttlSecond > 0) {
+      long maxSize = config.getMetadataCacheMaxSize();
+      this.schemaNamesCache = newCache(ttlSecond, 1);
+      this.schemaCache = newCache(ttlSecond, maxSize);
+      this.tableNamesCache = newCache(ttlSecond, maxSize);
+      this.tableCache = newCache(ttlSecond, maxSize);
+
+      long negativeTtlSecond = config.getMetadataCacheNegativeTtlSecond();
+      this.missingSchemaCache = negativeTtlSecond > 0 ? newCache(negativeTtlSecond, maxSize) : null;
+      this.missingTableCache = negativeTtlSecond > 0 ? newCache(negativeTtlSecond, maxSize) : null;
+      cacheStats.register(metalake.name(), catalogName);
+    } else {
+      this.schemaNamesCache = null;
+      this.schemaCache = null;
+      this.tableNamesCache = null;
+      this.tableCache = null;
+      this.missingSchemaCache = null;
+      this.missingTableCache = null;
+    }
+  }
+
+  private static <K, V> Cache<K, V> newCache(long ttlSecond, long maxSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSecond, TimeUnit.SECONDS)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  /**
+   * Returns the metadata cache statistics of the catalog.
+   *
+   * @return the metadata cache statistics
+   */
+  @VisibleForTesting
+  CatalogConnectorMetadataCacheStats getCacheStats() {
+    return cacheStats;
+  }
+
+  /** Releases the resources held by this metadata, e.g. the registered JMX statistics. */
+  public void close() {
+    cacheStats.unregister();
+    invalidateAll();
   }
 
   /**
@@ -85,12 +174,17 @@ public class CatalogConnectorMetadata {
    * @return a list of schema names
    */
   public List<String> listSchemaNames() {
-    try {
-      return Arrays.asList(schemaCatalog.listSchemas());
-    } catch (NoSuchCatalogException e) {
-      throw new TrinoException(
-          GravitinoErrorCode.GRAVITINO_CATALOG_NOT_EXISTS, CATALOG_DOES_NOT_EXIST_MSG, e);
-    }
+    return loadCached(
+        schemaNamesCache,
+        ALL_SCHEMAS_KEY,
+        () -> {
+          try {
+            return List.of(schemaCatalog.listSchemas());
+          } catch (NoSuchCatalogException e) {
+            throw new TrinoException(
+                GravitinoErrorCode.GRAVITINO_CATALOG_NOT_EXISTS, CATALOG_DOES_NOT_EXIST_MSG, e);
+          }
+        });
   }
 
   /**
@@ -101,13 +195,25 @@ public class CatalogConnectorMetadata {
    * @throws TrinoException if the schema is not found
    */
   public GravitinoSchema getSchema(String schemaName) {
-    try {
-      Schema schema = schemaCatalog.loadSchema(schemaName);
-      return new GravitinoSchema(schema);
-    } catch (NoSuchSchemaException e) {
+    if (isCachedMissing(missingSchemaCache, schemaName)) {
       throw new TrinoException(
-          GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+          GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG);
     }
+
+    long version = cacheVersion.get();
+    return loadCached(
+        schemaCache,
+        schemaName,
+        () -> {
+          try {
+            Schema schema = schemaCatalog.loadSchema(schemaName);
+            return new GravitinoSchema(schema);
+          } catch (NoSuchSchemaException e) {
+            cacheMissing(missingSchemaCache, schemaName, version);
+            throw new TrinoException(
+                GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+          }
+        });
   }
 
   /**
@@ -119,13 +225,26 @@ public class CatalogConnectorMetadata {
    * @throws TrinoException if the table is not found
    */
   public GravitinoTable getTable(String schemaName, String tableName) {
-    try {
-      Table table = tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
-      return new GravitinoTable(schemaName, tableName, table);
-    } catch (NoSuchTableException e) {
+    SchemaTableName schemaTableName = new SchemaTableName(schemaName, tableName);
+    if (isCachedMissing(missingTableCache, schemaTableName)) {
       throw new TrinoException(
-          GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist", e);
+          GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, TABLE_DOES_NOT_EXIST_MSG);
     }
+
+    long version = cacheVersion.get();
+    return loadCached(
+        tableCache,
+        schemaTableName,
+        () -> {
+          try {
+            Table table = tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
+            return new GravitinoTable(schemaName, tableName, table);
+          } catch (NoSuchTableException e) {
+            cacheMissing(missingTableCache, schemaTableName, version);
+            throw new TrinoException(
+                GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, TABLE_DOES_NOT_EXIST_MSG, e);
+          }
+        });
   }
 
   /**
@@ -135,13 +254,25 @@ public class CatalogConnectorMetadata {
    * @return a list of table names
    */
   public List<String> listTables(String schemaName) {
-    try {
-      NameIdentifier[] tables = tableCatalog.listTables(Namespace.of(schemaName));
-      return Arrays.stream(tables).map(NameIdentifier::name).toList();
-    } catch (NoSuchSchemaException e) {
+    if (isCachedMissing(missingSchemaCache, schemaName)) {
       throw new TrinoException(
-          GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+          GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG);
     }
+
+    long version = cacheVersion.get();
+    return loadCached(
+        tableNamesCache,
+        schemaName,
+        () -> {
+          try {
+            NameIdentifier[] tables = tableCatalog.listTables(Namespace.of(schemaName));
+            return Arrays.stream(tables).map(NameIdentifier::name).toList();
+          } catch (NoSuchSchemaException e) {
+            cacheMissing(missingSchemaCache, schemaName, version);
+            throw new TrinoException(
+                GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+          }
+        });
   }
 
   /**
@@ -152,7 +283,26 @@ public class CatalogConnectorMetadata {
    * @return true if the table exists, false otherwise
    */
   public boolean tableExists(String schemaName, String tableName) {
-    return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    if (tableCache == null) {
+      return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    }
+
+    SchemaTableName schemaTableName = new SchemaTableName(schemaName, tableName);
+    if (tableCache.getIfPresent(schemaTableName) != null) {
+      cacheStats.recordHit();
+      return true;
+    }
+    if (isCachedMissing(missingTableCache, schemaTableName)) {
+      return false;
+    }
+
+    cacheStats.recordMiss();
+    long version = cacheVersion.get();
+    boolean exists = tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    if (!exists && missingTableCache != null && version == cacheVersion.get()) {
+      missingTableCache.put(schemaTableName, Boolean.TRUE);
+    }
+    return exists;
   }
 
   /**
@@ -163,6 +313,8 @@ public class CatalogConnectorMetadata {
    */
   public void createTable(GravitinoTable table, boolean ignoreExisting) {
     NameIdentifier identifier = NameIdentifier.of(table.getSchemaName(), table.getName());
+    SchemaTableName schemaTableName = new SchemaTableName(table.getSchemaName(), table.getName());
+    invalidateTable(schemaTableName);
     try {
       tableCatalog.createTable(
           identifier,
@@ -181,6 +333,8 @@ public class CatalogConnectorMetadata {
         throw new TrinoException(
             GravitinoErrorCode.GRAVITINO_TABLE_ALREADY_EXISTS, "Table already exists", e);
       }
+    } finally {
+      invalidateTable(schemaTableName);
     }
   }
 
@@ -190,6 +344,7 @@ public class CatalogConnectorMetadata {
    * @param schema the Gravitino schema
    */
   public void createSchema(GravitinoSchema schema) {
+    invalidateSchema(schema.getName());
     try {
       schemaCatalog.createSchema(schema.getName(), schema.getComment(), schema.getProperties());
     } catch (NoSuchSchemaException e) {
@@ -198,6 +353,8 @@ public class CatalogConnectorMetadata {
     } catch (TableAlreadyExistsException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_SCHEMA_ALREADY_EXISTS, "Schema already exists", e);
+    } finally {
+      invalidateSchema(schema.getName());
     }
   }
 
@@ -208,6 +365,7 @@ public class CatalogConnectorMetadata {
    * @param cascade whether to cascade drop the schema
    */
   public void dropSchema(String schemaName, boolean cascade) {
+    invalidateSchema(schemaName);
     try {
       boolean success = schemaCatalog.dropSchema(schemaName, cascade);
 
@@ -219,6 +377,8 @@ public class CatalogConnectorMetadata {
     } catch (NonEmptySchemaException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EMPTY, "Schema does not empty", e);
+    } finally {
+      invalidateSchema(schemaName);
     }
   }
 
@@ -228,9 +388,15 @@ public class CatalogConnectorMetadata {
    * @param tableName the name of the table
    */
   public void dropTable(SchemaTableName tableName) {
-    boolean dropped =
-        tableCatalog.dropTable(
-            NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    invalidateTable(tableName);
+    boolean dropped;
+    try {
+      dropped =
+          tableCatalog.dropTable(
+              NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    } finally {
+      invalidateTable(tableName);
+    }
     if (!dropped) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_OPERATION_FAILED, "Failed to drop table " + tableName);
@@ -248,6 +414,7 @@ public class CatalogConnectorMetadata {
   }
 
   private void applyAlter(SchemaTableName tableName, TableChange... change) {
+    invalidateAlteredTables(tableName, change);
     try {
       tableCatalog.alterTable(
           NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()), change);
@@ -260,6 +427,17 @@ public class CatalogConnectorMetadata {
       // Gravitino server.
       String message = GravitinoErrorCode.toSimpleErrorMessage(e);
       throw new TrinoException(GravitinoErrorCode.GRAVITINO_ILLEGAL_ARGUMENT, message, e);
+    } finally {
+      invalidateAlteredTables(tableName, change);
+    }
+  }
+
+  private void invalidateAlteredTables(SchemaTableName tableName, TableChange... change) {
+    invalidateTable(tableName);
+    for (TableChange tableChange : change) {
+      if (tableChange instanceof TableChange.RenameTable renameTable) {
+        invalidateTable(new SchemaTableName(tableName.getSchemaName(), renameTable.getNewName()));
+      }
     }
   }
 
@@ -396,4 +574,86 @@ public class CatalogConnectorMetadata {
     String[] columnNames = {columnName};
     applyAlter(schemaTableName, TableChange.updateColumnType(columnNames, type));
   }
+
+  private <K, V> V loadCached(Cache<K, V> cache, K key, Supplier<V> loader) {
+    if (cache == null) {
+      return loader.get();
+    }
+
+    V value = cache.getIfPresent(key);
+    if (value != null) {
+      cacheStats.recordHit();
+      return value;
+    }
+
+    cacheStats.recordMiss();
+    long version = cacheVersion.get();
+    value = loader.get();
+    if (version == cacheVersion.get()) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  private <K> boolean isCachedMissing(Cache<K, Boolean> missingCache, K key) {
+    if (missingCache == null || missingCache.getIfPresent(key) == null) {
+      return false;
+    }
+
+    cacheStats.recordNegativeHit();
+    return true;
+  }
+
+  private <K> void cacheMissing(Cache<K, Boolean> missingCache, K key, long version) {
+    if (missingCache != null && version == cacheVersion.get()) {
+      missingCache.put(key, Boolean.TRUE);
+    }
+  }
+
+  private void invalidateSchema(String schemaName) {
+    if (schemaCache == null) {
+      return;
+    }
+
+    cacheVersion.incrementAndGet();
+    cacheStats.recordInvalidation();
+    schemaNamesCache.invalidateAll();
+    schemaCache.invalidate(schemaName);
+    tableNamesCache.invalidate(schemaName);
+    tableCache.asMap().keySet().removeIf(key -> key.getSchemaName().equals(schemaName));
+    if (missingSchemaCache != null) {
+      missingSchemaCache.invalidate(schemaName);
+      missingTableCache.asMap().keySet().removeIf(key -> key.getSchemaName().equals(schemaName));
+    }
+  }
+
+  private void invalidateTable(SchemaTableName tableName) {
+    if (tableCache == null) {
+      return;
+    }
+
+    cacheVersion.incrementAndGet();
+    cacheStats.recordInvalidation();
+    tableNamesCache.invalidate(tableName.getSchemaName());
+    tableCache.invalidate(tableName);
+    if (missingTableCache != null) {
+      missingTableCache.invalidate(tableName);
+    }
+  }
+
+  private void invalidateAll() {
+    if (schemaCache == null) {
+      return;
+    }
+
+    cacheVersion.incrementAndGet();
+    schemaNamesCache.invalidateAll();
+    schemaCache.invalidateAll();
+    tableNamesCache.invalidateAll();
+    tableCache.invalidateAll();
+    if (missingSchemaCache != null) {
+      missingSchemaCache.invalidateAll();
+      missingTableCache.invalidateAll();
+    }
+  }
 }
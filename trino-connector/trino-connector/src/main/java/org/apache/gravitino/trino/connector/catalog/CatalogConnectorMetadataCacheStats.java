@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The metadata cache statistics of a catalog. It's exported to the platform MBean server, so it can
+ * be queried with the Trino JMX connector, e.g. {@code SELECT * FROM jmx.current."
+ * org.apache.gravitino.trino.connector:type=metadatacache,metalake=<metalake>,name=<catalog>"}.
+ */
+public class CatalogConnectorMetadataCacheStats implements CatalogConnectorMetadataCacheStatsMBean {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(CatalogConnectorMetadataCacheStats.class);
+  private static final String OBJECT_NAME_TEMPLATE =
+      "org.apache.gravitino.trino.connector:type=metadatacache,metalake=%s,name=%s";
+  // The instance registered under each name. A reloaded catalog registers its new statistics
+  // before the old ones are unregistered, so an instance only unregisters the name it still owns.
+  private static final Map<ObjectName, CatalogConnectorMetadataCacheStats> REGISTERED =
+      new HashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder negativeHitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder invalidationCount = new LongAdder();
+  private ObjectName objectName;
+
+  void recordHit() {
+    hitCount.increment();
+  }
+
+  void recordNegativeHit() {
+    negativeHitCount.increment();
+  }
+
+  void recordMiss() {
+    missCount.increment();
+  }
+
+  void recordInvalidation() {
+    invalidationCount.increment();
+  }
+
+  @Override
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  @Override
+  public long getNegativeHitCount() {
+    return negativeHitCount.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  @Override
+  public long getInvalidationCount() {
+    return invalidationCount.sum();
+  }
+
+  /**
+   * Registers the statistics to the platform MBean server, replacing the statistics registered by
+   * a previous instance of the same catalog.
+   *
+   * @param metalakeName the name of the metalake the catalog belongs to
+   * @param catalogName the name of the catalog the statistics belong to
+   */
+  void register(String metalakeName, String catalogName) {
+    synchronized (REGISTERED) {
+      try {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name =
+            new ObjectName(
+                String.format(
+                    OBJECT_NAME_TEMPLATE,
+                    ObjectName.quote(String.valueOf(metalakeName)),
+                    ObjectName.quote(catalogName)));
+        if (server.isRegistered(name)) {
+          server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        REGISTERED.put(name, this);
+        this.objectName = name;
+      } catch (Exception e) {
+        LOG.warn(
+            "Failed to register metadata cache stats of catalog {}.{} to JMX",
+            metalakeName,
+            catalogName,
+            e);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the statistics from the platform MBean server, unless another instance has been
+   * registered under the same name since.
+   */
+  void unregister() {
+    synchronized (REGISTERED) {
+      if (objectName == null) {
+        return;
+      }
+
+      try {
+        if (REGISTERED.remove(objectName, this)) {
+          MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+          if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+          }
+        }
+      } catch (Exception e) {
+        LOG.warn("Failed to unregister metadata cache stats {} from JMX", objectName, e);
+      } finally {
+        objectName = null;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  ObjectName getObjectName() {
+    synchronized (REGISTERED) {
+      return objectName;
+    }
+  }
+}
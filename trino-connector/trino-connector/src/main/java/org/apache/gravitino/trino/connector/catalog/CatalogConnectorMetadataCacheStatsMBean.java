@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+/** JMX interface of the metadata cache statistics of a catalog. */
+public interface CatalogConnectorMetadataCacheStatsMBean {
+
+  /**
+   * Returns the number of lookups served from the cache.
+   *
+   * @return the number of cache hits
+   */
+  long getHitCount();
+
+  /**
+   * Returns the number of lookups that were served from the cached nonexistent objects.
+   *
+   * @return the number of negative cache hits
+   */
+  long getNegativeHitCount();
+
+  /**
+   * Returns the number of lookups that were sent to the Gravitino server.
+   *
+   * @return the number of cache misses
+   */
+  long getMissCount();
+
+  /**
+   * Returns the number of invalidations triggered by the DDL of the connector.
+   *
+   * @return the number of invalidations
+   */
+  long getInvalidationCount();
+}
@@ -22,6 +22,7 @@ import static java.util.Collections.emptyMap;
 import static org.apache.gravitino.trino.connector.TestGravitinoConnector.SPI_VERSION_SUPPORT_ADD_COLUMN_WITH_POSITION;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -229,6 +230,17 @@ public class GravitinoMockServer implements AutoCloseable {
                 return metalakes.get(metalakeName).catalogs.values().toArray(new Catalog[0]);
               }
             });
+    when(metaLake.listCatalogsInfo(anyLong()))
+        .thenAnswer(
+            new Answer<Catalog[]>() {
+              @Override
+              public Catalog[] answer(InvocationOnMock invocation) throws Throwable {
+                long modifiedSince = invocation.getArgument(0);
+                return metalakes.get(metalakeName).catalogs.values().stream()
+                    .filter(c -> c.auditInfo().createTime().toEpochMilli() > modifiedSince)
+                    .toArray(Catalog[]::new);
+              }
+            });
 
     metalakes.put(metalakeName, new Metalake(metaLake));
     return metaLake;
@@ -24,13 +24,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorContext;
+import java.time.Instant;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
+import org.apache.gravitino.client.GravitinoMetalake;
 import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
 import org.apache.gravitino.trino.connector.metadata.GravitinoCatalog;
@@ -140,6 +151,129 @@ public class TestCatalogConnectorManager {
     assertFalse(manager.skipCatalog("b2"));
   }
 
+  @Test
+  public void testIncrementalCatalogSync() throws Exception {
+    CatalogRegister catalogRegister = mock(CatalogRegister.class);
+    when(catalogRegister.isTrinoStarted()).thenReturn(true);
+    CatalogConnectorFactory catalogFactory = createCatalogConnectorFactory();
+    when(catalogFactory.getSupportedCatalogProviders()).thenReturn(ImmutableSet.of("memory"));
+
+    Catalog catalog = mockCatalog("memory", 100_000L);
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.name()).thenReturn("test");
+    when(metalake.listCatalogs()).thenReturn(new String[] {"memory"});
+    when(metalake.listCatalogsInfo(anyLong())).thenReturn(new Catalog[0]);
+    when(metalake.listCatalogsInfo(-1L)).thenReturn(new Catalog[] {catalog});
+    GravitinoAdminClient client = mock(GravitinoAdminClient.class);
+    when(client.loadMetalake("test")).thenReturn(metalake);
+
+    CatalogConnectorManager manager =
+        new CatalogConnectorManager(catalogRegister, catalogFactory, null);
+    manager.config(
+        new GravitinoConfig(
+            ImmutableMap.of(
+                "gravitino.uri", "http://127.0.0.1:8090", "gravitino.metalake", "test")),
+        client);
+
+    manager.loadMetalakeSync();
+    manager.loadMetalakeSync();
+
+    // The first sync fetches all catalogs, the next one only fetches the catalogs changed since
+    // the watermark minus the lookback window.
+    verify(metalake, times(1)).listCatalogsInfo(-1L);
+    verify(metalake, times(1)).listCatalogsInfo(40_000L);
+    verify(metalake, never()).loadCatalog(any());
+    verify(catalogRegister, times(1)).registerCatalog(eq("memory"), any());
+    manager.shutdown();
+  }
+
+  @Test
+  public void testFailedCatalogIsRetriedIndividually() throws Exception {
+    CatalogRegister catalogRegister = mock(CatalogRegister.class);
+    when(catalogRegister.isTrinoStarted()).thenReturn(true);
+    doThrow(new RuntimeException("mock error"))
+        .doNothing()
+        .when(catalogRegister)
+        .registerCatalog(eq("bad"), any());
+    CatalogConnectorFactory catalogFactory = createCatalogConnectorFactory();
+    when(catalogFactory.getSupportedCatalogProviders()).thenReturn(ImmutableSet.of("memory"));
+
+    Catalog catalog = mockCatalog("memory", 100_000L);
+    Catalog badCatalog = mockCatalog("bad", 50_000L);
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.name()).thenReturn("test");
+    when(metalake.listCatalogs()).thenReturn(new String[] {"memory", "bad"});
+    when(metalake.listCatalogsInfo(anyLong())).thenReturn(new Catalog[0]);
+    when(metalake.listCatalogsInfo(-1L)).thenReturn(new Catalog[] {catalog, badCatalog});
+    when(metalake.loadCatalog("bad")).thenReturn(badCatalog);
+    GravitinoAdminClient client = mock(GravitinoAdminClient.class);
+    when(client.loadMetalake("test")).thenReturn(metalake);
+
+    CatalogConnectorManager manager =
+        new CatalogConnectorManager(catalogRegister, catalogFactory, null);
+    manager.config(
+        new GravitinoConfig(
+            ImmutableMap.of(
+                "gravitino.uri", "http://127.0.0.1:8090", "gravitino.metalake", "test")),
+        client);
+
+    manager.loadMetalakeSync();
+    manager.loadMetalakeSync();
+
+    // The failed catalog neither backs off the metalake nor holds back the watermark, it's loaded
+    // individually by the next sync.
+    verify(metalake, times(1)).listCatalogsInfo(40_000L);
+    verify(metalake, times(1)).loadCatalog("bad");
+    verify(metalake, never()).loadCatalog("memory");
+    verify(catalogRegister, times(2)).registerCatalog(eq("bad"), any());
+    verify(catalogRegister, times(1)).registerCatalog(eq("memory"), any());
+    manager.shutdown();
+  }
+
+  @Test
+  public void testSyncBackoff() throws Exception {
+    CatalogRegister catalogRegister = mock(CatalogRegister.class);
+    when(catalogRegister.isTrinoStarted()).thenReturn(true);
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.name()).thenReturn("test");
+    when(metalake.listCatalogs()).thenThrow(new RuntimeException("mock error"));
+    GravitinoAdminClient client = mock(GravitinoAdminClient.class);
+    when(client.loadMetalake("test")).thenReturn(metalake);
+
+    CatalogConnectorManager manager =
+        new CatalogConnectorManager(catalogRegister, createCatalogConnectorFactory(), null);
+    manager.config(
+        new GravitinoConfig(
+            ImmutableMap.of(
+                "gravitino.uri", "http://127.0.0.1:8090", "gravitino.metalake", "test")),
+        client);
+
+    // The failed metalake is skipped until the backoff elapses.
+    manager.loadMetalakeSync();
+    manager.loadMetalakeSync();
+    verify(metalake, times(1)).listCatalogs();
+    manager.shutdown();
+
+    assertEquals(10_000L, CatalogConnectorManager.syncBackoffMs(1, 10_000L));
+    assertEquals(20_000L, CatalogConnectorManager.syncBackoffMs(2, 10_000L));
+    assertEquals(80_000L, CatalogConnectorManager.syncBackoffMs(4, 10_000L));
+    assertEquals(300_000L, CatalogConnectorManager.syncBackoffMs(10, 10_000L));
+    assertEquals(300_000L, CatalogConnectorManager.syncBackoffMs(100, 10_000L));
+    assertEquals(600_000L, CatalogConnectorManager.syncBackoffMs(3, 600_000L));
+  }
+
+  private static Catalog mockCatalog(String name, long modifiedTime) {
+    Audit audit = mock(Audit.class);
+    when(audit.createTime()).thenReturn(Instant.ofEpochMilli(modifiedTime));
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.name()).thenReturn(name);
+    when(catalog.provider()).thenReturn("memory");
+    when(catalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(catalog.properties()).thenReturn(ImmutableMap.of());
+    when(catalog.auditInfo()).thenReturn(audit);
+    return catalog;
+  }
+
   private CatalogConnectorManager createManager(ImmutableMap<String, String> configMap)
       throws Exception {
     return createManager(createCatalogConnectorFactory(), configMap);
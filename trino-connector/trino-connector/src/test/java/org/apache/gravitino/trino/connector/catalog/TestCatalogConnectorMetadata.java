@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.SchemaTableName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SupportsSchemas;
+import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.trino.connector.GravitinoConfig;
+import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogConnectorMetadata {
+
+  private SupportsSchemas schemaCatalog;
+  private TableCatalog tableCatalog;
+  private GravitinoMetalake metalake;
+  private CatalogConnectorMetadata metadata;
+
+  @BeforeEach
+  public void setUp() {
+    schemaCatalog = mock(SupportsSchemas.class);
+    tableCatalog = mock(TableCatalog.class);
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.asSchemas()).thenReturn(schemaCatalog);
+    when(catalog.asTableCatalog()).thenReturn(tableCatalog);
+    metalake = mock(GravitinoMetalake.class);
+    when(metalake.loadCatalog(any())).thenReturn(catalog);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (metadata != null) {
+      metadata.close();
+    }
+  }
+
+  @Test
+  public void testCacheDisabledByDefault() {
+    Table table = mockTable();
+    when(tableCatalog.loadTable(NameIdentifier.of("db", "tb"))).thenReturn(table);
+    metadata = new CatalogConnectorMetadata(metalake, NameIdentifier.of("metalake", "catalog"));
+
+    metadata.getTable("db", "tb");
+    metadata.getTable("db", "tb");
+
+    verify(tableCatalog, times(2)).loadTable(NameIdentifier.of("db", "tb"));
+    assertEquals(0, metadata.getCacheStats().getHitCount());
+  }
+
+  @Test
+  public void testCachedTableAndSchema() {
+    Table table = mockTable();
+    Schema schema = mock(Schema.class);
+    when(schema.name()).thenReturn("db");
+    when(tableCatalog.loadTable(NameIdentifier.of("db", "tb"))).thenReturn(table);
+    when(tableCatalog.listTables(Namespace.of("db")))
+        .thenReturn(new NameIdentifier[] {NameIdentifier.of("db", "tb")});
+    when(schemaCatalog.loadSchema("db")).thenReturn(schema);
+    when(schemaCatalog.listSchemas()).thenReturn(new String[] {"db"});
+    metadata = createMetadata(0);
+
+    GravitinoTable first = metadata.getTable("db", "tb");
+    GravitinoTable second = metadata.getTable("db", "tb");
+    assertEquals(first, second);
+    assertTrue(metadata.tableExists("db", "tb"));
+    assertEquals(List.of("tb"), metadata.listTables("db"));
+    assertEquals(List.of("tb"), metadata.listTables("db"));
+    assertEquals("db", metadata.getSchema("db").getName());
+    assertEquals("db", metadata.getSchema("db").getName());
+    assertEquals(List.of("db"), metadata.listSchemaNames());
+    assertEquals(List.of("db"), metadata.listSchemaNames());
+
+    verify(tableCatalog, times(1)).loadTable(NameIdentifier.of("db", "tb"));
+    verify(tableCatalog, times(0)).tableExists(any());
+    verify(tableCatalog, times(1)).listTables(Namespace.of("db"));
+    verify(schemaCatalog, times(1)).loadSchema("db");
+    verify(schemaCatalog, times(1)).listSchemas();
+    assertEquals(4, metadata.getCacheStats().getMissCount());
+    assertEquals(5, metadata.getCacheStats().getHitCount());
+  }
+
+  @Test
+  public void testNegativeCache() {
+    when(tableCatalog.loadTable(NameIdentifier.of("db", "missing")))
+        .thenThrow(new NoSuchTableException("missing"));
+    when(schemaCatalog.loadSchema("missing")).thenThrow(new NoSuchSchemaException("missing"));
+    metadata = createMetadata(60);
+
+    assertThrows(TrinoException.class, () -> metadata.getTable("db", "missing"));
+    assertThrows(TrinoException.class, () -> metadata.getTable("db", "missing"));
+    assertFalse(metadata.tableExists("db", "missing"));
+    assertThrows(TrinoException.class, () -> metadata.getSchema("missing"));
+    assertThrows(TrinoException.class, () -> metadata.listTables("missing"));
+
+    verify(tableCatalog, times(1)).loadTable(NameIdentifier.of("db", "missing"));
+    verify(tableCatalog, times(0)).tableExists(any());
+    verify(tableCatalog, times(0)).listTables(any());
+    verify(schemaCatalog, times(1)).loadSchema("missing");
+    assertEquals(3, metadata.getCacheStats().getNegativeHitCount());
+  }
+
+  @Test
+  public void testInvalidateByDdl() {
+    Table table = mockTable();
+    when(tableCatalog.loadTable(NameIdentifier.of("db", "tb"))).thenReturn(table);
+    when(tableCatalog.loadTable(NameIdentifier.of("db", "tb2")))
+        .thenThrow(new NoSuchTableException("tb2"))
+        .thenReturn(table);
+    when(tableCatalog.dropTable(any())).thenReturn(true);
+    metadata = createMetadata(60);
+
+    metadata.getTable("db", "tb");
+    assertThrows(TrinoException.class, () -> metadata.getTable("db", "tb2"));
+
+    // The rename invalidates both the source and the target table.
+    metadata.renameTable(new SchemaTableName("db", "tb"), new SchemaTableName("db", "tb2"));
+    metadata.getTable("db", "tb");
+    metadata.getTable("db", "tb2");
+    verify(tableCatalog, times(2)).loadTable(NameIdentifier.of("db", "tb"));
+    verify(tableCatalog, times(2)).loadTable(NameIdentifier.of("db", "tb2"));
+
+    metadata.setTableComment(new SchemaTableName("db", "tb"), "comment");
+    metadata.getTable("db", "tb");
+    verify(tableCatalog, times(3)).loadTable(NameIdentifier.of("db", "tb"));
+
+    metadata.dropTable(new SchemaTableName("db", "tb"));
+    metadata.getTable("db", "tb");
+    verify(tableCatalog, times(4)).loadTable(NameIdentifier.of("db", "tb"));
+
+    when(schemaCatalog.dropSchema("db", true)).thenReturn(true);
+    metadata.dropSchema("db", true);
+    metadata.getTable("db", "tb");
+    metadata.getTable("db", "tb2");
+    verify(tableCatalog, times(5)).loadTable(NameIdentifier.of("db", "tb"));
+    verify(tableCatalog, times(3)).loadTable(NameIdentifier.of("db", "tb2"));
+  }
+
+  @Test
+  public void testCacheStatsRegistration() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    CatalogConnectorMetadataCacheStats oldStats = new CatalogConnectorMetadataCacheStats();
+    CatalogConnectorMetadataCacheStats newStats = new CatalogConnectorMetadataCacheStats();
+    CatalogConnectorMetadataCacheStats otherStats = new CatalogConnectorMetadataCacheStats();
+    try {
+      oldStats.register("metalake1", "catalog");
+      otherStats.register("metalake2", "catalog");
+      assertNotEquals(oldStats.getObjectName(), otherStats.getObjectName());
+      assertTrue(server.isRegistered(otherStats.getObjectName()));
+
+      // A reloaded catalog registers its statistics before the old ones are unregistered.
+      newStats.register("metalake1", "catalog");
+      ObjectName name = newStats.getObjectName();
+      oldStats.unregister();
+      assertTrue(server.isRegistered(name));
+
+      newStats.unregister();
+      assertFalse(server.isRegistered(name));
+    } finally {
+      oldStats.unregister();
+      newStats.unregister();
+      otherStats.unregister();
+    }
+  }
+
+  private CatalogConnectorMetadata createMetadata(long negativeTtlSecond) {
+    Map<String, String> config =
+        ImmutableMap.of(
+            "gravitino.uri",
+            "http://127.0.0.1:8090",
+            "gravitino.metalake",
+            "metalake",
+            "gravitino.metadata.cache-ttl-seconds",
+            "60",
+            "gravitino.metadata.cache-negative-ttl-seconds",
+            String.valueOf(negativeTtlSecond));
+    return new CatalogConnectorMetadata(
+        metalake, NameIdentifier.of("metalake", "catalog"), new GravitinoConfig(config));
+  }
+
+  private static Table mockTable() {
+    Table table = mock(Table.class);
+    when(table.columns()).thenReturn(new Column[0]);
+    return table;
+  }
+}